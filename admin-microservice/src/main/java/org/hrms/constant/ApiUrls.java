@@ -8,6 +8,9 @@ public class ApiUrls {
     public static final String UPDATE="/update";
     public static final String DELETE_BY_ID = "/delete-by-id/{id}";
     public static final String FIND_ALL = "/find-all";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     public static final String FIND_BY_ID = "/find-by-id/{id}";
     public static final String FIND_BY_AUTH_ID = "/find-by-auth-id/{authId}";
+    public static final String PARKING_LOT = "/parking-lot/{eventType}";
+    public static final String PARKING_LOT_REPLAY = "/parking-lot/{eventType}/replay";
 }
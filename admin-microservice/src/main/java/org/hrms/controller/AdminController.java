@@ -7,6 +7,7 @@ import org.hrms.dto.response.AdminSaveResponseDto;
 import org.hrms.dto.response.FindAdminByIdResponseDto;
 import org.hrms.dto.response.FindAllAdminsResponseDto;
 import org.hrms.service.AdminService;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -76,9 +77,16 @@ public class AdminController {
         return ResponseEntity.ok(adminService.softDelete(id));
     }
 
+    //after ve size gönderilmezse bütün aktif kayıtlar dönülüyor. Gönderilirse sonraki sayfanın after değeri X-Next-Cursor başlığında gönderiliyor, başlık yoksa son sayfaya gelinmiştir.
     @GetMapping(FIND_ALL)
-    public ResponseEntity<List<FindAllAdminsResponseDto>> findAllAdmins(){
-        return ResponseEntity.ok(adminService.findAllAdmins());
+    public ResponseEntity<List<FindAllAdminsResponseDto>> findAllAdmins(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer size){
+        Slice<FindAllAdminsResponseDto> adminPage = adminService.findAllAdmins(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (adminPage.hasNext()) {
+            List<FindAllAdminsResponseDto> content = adminPage.getContent();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(content.get(content.size() - 1).getId()));
+        }
+        return response.body(adminPage.getContent());
     }
 
     @GetMapping(FIND_BY_ID)
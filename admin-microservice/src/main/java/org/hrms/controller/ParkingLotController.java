@@ -0,0 +1,62 @@
+package org.hrms.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.hrms.dto.response.ParkingLotResponseDto;
+import org.hrms.exception.AdminServiceException;
+import org.hrms.exception.ErrorType;
+import org.hrms.messaging.EventType;
+import org.hrms.messaging.ParkingLotService;
+import org.hrms.repository.enums.ERole;
+import org.hrms.security.RequestPrincipal;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import static org.hrms.constant.ApiUrls.*;
+
+/*
+ * Servislerde bütün tekrar denemeleri tükenen ya da kalıcı hata alan mesajlar olayın parking kuyruğunda(örneğin mailQueue.parking) bekliyor.
+ * Bu controller ile parking kuyruğundaki mesaj sayısına bakılabiliyor ve hatanın sebebi giderildikten sonra mesajlar toplu olarak ana kuyruğa geri gönderilebiliyor.
+ * Bütün servisler aynı RabbitMQ'yu kullandığı için admin-microservice diğer servislerin parking kuyruklarına da kuyruk adı üzerinden ulaşabiliyor.
+ * İstekleri sadece ADMIN rolündeki kullanıcılar yapabiliyor, rol bilgisini token içinden RequestPrincipal ile alıyoruz.
+ */
+@CrossOrigin(maxAge = 3600, allowedHeaders = "*")
+@RestController
+@RequestMapping(ADMIN)
+@RequiredArgsConstructor
+public class ParkingLotController {
+
+    private final ParkingLotService parkingLotService;
+    private final RequestPrincipal requestPrincipal;
+
+    @GetMapping(PARKING_LOT)
+    public ResponseEntity<ParkingLotResponseDto> parkedCount(@PathVariable EventType eventType) {
+        checkAdmin();
+        return ResponseEntity.ok(response(eventType, 0));
+    }
+
+    //@RequestParam ile gönderilecek en fazla mesaj sayısını alıyoruz, verilmezse 100 mesaj gönderiliyor.
+    @PostMapping(PARKING_LOT_REPLAY)
+    public ResponseEntity<ParkingLotResponseDto> replay(@PathVariable EventType eventType, @RequestParam(defaultValue = "100") int limit) {
+        checkAdmin();
+        if (limit <= 0) {
+            throw new AdminServiceException(ErrorType.PARAMETER_NOT_VALID);
+        }
+        return ResponseEntity.ok(response(eventType, parkingLotService.replay(eventType, limit)));
+    }
+
+    private ParkingLotResponseDto response(EventType eventType, int replayed) {
+        return ParkingLotResponseDto.builder()
+                .eventType(eventType)
+                .parkingQueue(eventType.parkingQueue())
+                .replayed(replayed)
+                .remaining(parkingLotService.parkedCount(eventType))
+                .build();
+    }
+
+    private void checkAdmin() {
+        if (!requestPrincipal.hasRole(ERole.ADMIN.name())) {
+            throw new AdminServiceException(ErrorType.ACCESS_DENIED);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.hrms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hrms.messaging.EventType;
+
+/*
+ * Parking kuyruğu isteklerinde dönülen cevap. replayed ana kuyruğa geri gönderilen, remaining ise parking kuyruğunda kalan mesaj sayısıdır.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ParkingLotResponseDto {
+    private EventType eventType;
+    private String parkingQueue;
+    private int replayed;
+    private long remaining;
+}
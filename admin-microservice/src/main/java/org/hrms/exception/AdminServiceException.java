@@ -2,6 +2,8 @@ package org.hrms.exception;
 
 import lombok.Getter;
 
+import java.util.List;
+
 /*
  * Getter metotlarını otomatik oluşturmak için @Getter anotasyonunu kullanıyoruz.
  * AdminServiceException sınıfımızı microservice ayağa kalktığında oluşabilecek hataları yakalaması için kullanacağız.
@@ -11,15 +13,25 @@ import lombok.Getter;
 public class AdminServiceException extends RuntimeException {
 
     private final ErrorType errorType;
+    private final List<String> fields;
 
     public AdminServiceException(ErrorType errorType) {
         super(errorType.getMessage());
         this.errorType = errorType;
+        this.fields = null;
     }
 
     public AdminServiceException(ErrorType errorType, String message) {
         super(message);
         this.errorType = errorType;
+        this.fields = null;
+    }
+
+    //Hatanın hangi alanlardan kaynaklandığını da istemciye dönmek için kullanıyoruz.
+    public AdminServiceException(ErrorType errorType, List<String> fields) {
+        super(errorType.getMessage());
+        this.errorType = errorType;
+        this.fields = fields;
     }
 
 }
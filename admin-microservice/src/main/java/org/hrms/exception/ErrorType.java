@@ -41,7 +41,8 @@ public enum ErrorType {
     INVALID_TOKEN(6002,"Invalid Token..." , HttpStatus.BAD_REQUEST),
     INVALID_TOKEN_FORMAT(6003,"Invalid token format...",HttpStatus.BAD_REQUEST),
     TOKEN_NOT_CREATED(6004,"Token could not be created...",HttpStatus.BAD_REQUEST),
-    INVALID_ROLE(6005,"Invalid Role: Password could not update in other database..." , HttpStatus.BAD_REQUEST);
+    INVALID_ROLE(6005,"Invalid Role: Password could not update in other database..." , HttpStatus.BAD_REQUEST),
+    ACCESS_DENIED(6006,"You are not authorized for this operation...", HttpStatus.FORBIDDEN);
 
     private int code;
     private String message;
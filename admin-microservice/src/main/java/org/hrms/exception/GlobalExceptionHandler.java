@@ -33,6 +33,7 @@ public class GlobalExceptionHandler {
         ErrorType errorType=ex.getErrorType();
         ErrorMessage errorMessage=createError(errorType,ex);
         errorMessage.setMessage(ex.getMessage());
+        errorMessage.setFields(ex.getFields());
         return new ResponseEntity<>(errorMessage,httpStatus);
     }
 
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.AdminSaveModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,27 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class AdminSaveProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public AdminSaveProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public AdminSaveProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.auth-exchange}")
-    private String authExchange;
-
-    @Value("${rabbitmq.admin-save-bindingKey}")
-    private String adminSaveBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * AdminSaveProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için authExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan authExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan adminSaveBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan AdminSaveModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.ADMIN_SAVE içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz AdminSaveModel'imizi ilgili kuyruk olan adminSaveQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(AdminSaveModel adminSaveModel){
-        rabbitTemplate.convertAndSend(authExchange,adminSaveBindingKey,adminSaveModel);
+        eventPublisher.publish(EventType.ADMIN_SAVE,adminSaveModel);
     }
+
 }
@@ -1,9 +1,12 @@
 package org.hrms.repository;
 
 import org.hrms.repository.entity.Admin;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hrms.repository.view.UniqueFieldView;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /*
@@ -18,11 +21,31 @@ import java.util.Optional;
  * Aşağıda yazılan metotlarda JpaRepository anlayacak şekilde doğru bir biçimde metot isimlendirilirse JpaRepository metot ismine göre veritabanında arama yaparak geriye istenilen değeri dönebilir.
  */
 @Repository
-public interface IAdminRepository extends JpaRepository<Admin,Long> {
+public interface IAdminRepository extends ISoftDeleteRepository<Admin,Long> {
 
     Boolean existsByEmail(String email);  //Parametre olarak girilen emailin veritabanında olup olmadığını kontrol ediyoruz.
     Boolean existsByPhoneNumber(String phoneNumber); //Parametre olarak girilen telefon numarasının veritabanında olup olmadığını kontrol ediyoruz.
     Boolean existsByIdentityNumber(String identityNumber); //Parametre olarak girilen kimlik numarasının veritabanında olup olmadığını kontrol ediyoruz.
+    Boolean existsByAuthId(Long authId); //Parametre olarak girilen authId veritabanında olup olmadığını kontrol ediyoruz.
     Optional<Admin> findOptionalByAuthId(Long authId); //Parametre olarak girilen authId'ye göre veritabanını kontrol edip geriye optional olarak bir Admin dönüyor.
     Optional<Admin> findOptionalByEmail(String email); //Parametre olarak girilen email'e göre veritabanını kontrol edip geriye optional olarak bir Admin dönüyor.
+
+    /*
+     * Email, telefon numarası ve kimlik numarasından herhangi biri eşleşen kayıtları tek sorguda dönüyoruz.
+     * Güncelleme işleminde kaydın kendisini excludedId ile sorgudan çıkarıyoruz, böylece kullanıcının kendi değerleri çakışma olarak görülmüyor.
+     * Yeni kayıtta excludedId null olarak gönderilmelidir. null gönderilen alanlar hiçbir kayıtla eşleşmiyor.
+     */
+    @Query("select a.email as email, a.phoneNumber as phoneNumber, a.identityNumber as identityNumber from Admin a " +
+            "where (a.email = :email or a.phoneNumber = :phoneNumber or a.identityNumber = :identityNumber) " +
+            "and (:excludedId is null or a.id <> :excludedId)")
+    List<UniqueFieldView> findUniqueFieldConflicts(@Param("email") String email, @Param("phoneNumber") String phoneNumber,
+                                                   @Param("identityNumber") String identityNumber, @Param("excludedId") Long excludedId);
+
+    /*
+     * Aşağıdaki sorgular sadece aktif(ACTIVE) kayıtları dönüyor. Status değeri sabit olarak yazıldığı için sorgular db/active-indexes.sql içindeki koşullu indeksleri kullanıyor.
+     * Kayıt bulunamazsa kaydın hiç olmadığını mı yoksa aktif olmadığını mı ayırt etmek için servis katmanında exists sorgusu kullanılıyor.
+     */
+    @Query("select a from Admin a where a.authId = :authId and a.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    Optional<Admin> findActiveByAuthId(@Param("authId") Long authId);
+
 }
@@ -0,0 +1,34 @@
+package org.hrms.repository;
+
+import org.hrms.repository.enums.EStatus;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/*
+ * Silinmiş(DELETED), onay bekleyen(PENDING) ya da engellenmiş kayıtları okuma sorgularından dışarıda bırakan ortak repository interface'imiz.
+ * @NoRepositoryBean anotasyonu ile Spring Data'nın bu interface için ayrı bir bean oluşturmasını engelliyoruz, sadece entity repository'leri bu interface'i miras alıyor.
+ * Sorgularda status değerini parametre olarak değil sabit(literal) olarak yazıyoruz. Böylece sorgu veritabanına "status = 'ACTIVE'" olarak gidiyor
+ * ve PostgreSQL db/active-indexes.sql içinde tanımlanan "WHERE status = 'ACTIVE'" koşullu(partial) indeksleri kullanabiliyor.
+ * Parametre olarak gönderilen bir status değeriyle planner sorgu planını önceden hazırlarken bu indeksleri seçemiyor.
+ * Aktivasyon, silme ve güncelleme işlemleri bütün kayıtlara ihtiyaç duyduğu için filtreyi entity'e değil sadece bu okuma metotlarına koyuyoruz.
+ * #{#entityName} ifadesi bu interface'i miras alan repository'nin entity adıyla değiştiriliyor.
+ */
+@NoRepositoryBean
+public interface ISoftDeleteRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    //Parametre olarak girilen id değerine sahip kayıt aktifse optional olarak dönüyoruz, aktif değilse ya da yoksa boş optional dönüyor.
+    @Query("select e from #{#entityName} e where e.id = :id and e.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    Optional<T> findActiveById(@Param("id") ID id);
+
+    //Specification ile yapılan sorgularda(ServiceManager.findSlice, stream, count) kullanılacak aktiflik koşulu. criteriaBuilder.literal sayesinde status değeri sorguya sabit olarak yazılıyor.
+    static <T> Specification<T> active() {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), criteriaBuilder.literal(EStatus.ACTIVE));
+    }
+
+}
@@ -3,9 +3,14 @@ package org.hrms.repository.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.hrms.repository.enums.EGender;
 import org.hrms.repository.enums.ERole;
 import org.hrms.repository.enums.EStatus;
+import org.hrms.utility.PooledSequenceGenerator;
 
 /*
  * @EqualsAndHashCode sınıfın üst sınıfının(superclass) alanlarını da dahil ederek equals() ve hashCode() metotlarını otomatik olarak oluşturan bir anotasyondur.
@@ -30,19 +35,23 @@ import org.hrms.repository.enums.EStatus;
  *
  * @Table anotasyonu JPA (Java Persistence API) entegrasyonu ile kullanılan bir Java anotasyonudur ve postgre veritabanı tablolarıyla eşleştirmek için kullanılır ve sınıfın hangi veritabanı tablosuna karşılık geldiğini belirtir.
  * name = "tbl_admin" diyerek veritabanında tbl_admin adında bir tablo oluşturur ve sınıfın verilerini o tabloya kaydeder ve bu tablodan veri çeker.
+ *
+ * @DynamicUpdate anotasyonu Hibernate'in UPDATE sorgusuna sadece değeri değişen kolonları eklemesini sağlar.
  */
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Entity
+@DynamicUpdate
 @SuperBuilder
 @Table(name = "tbl_admin")
 public class Admin extends BaseEntity {
 
-    //Bu iki anotasyonu kullanarak kullanıcıların veritabanı tarafından yönetilen otomatik artan eşsiz bir kimliğe sahip olmasını sağlıyoruz.
+    //Id değerleri tbl_admin_seq sequence'inden PooledSequenceGenerator ile blok blok alınıyor, böylece toplu kayıtlar JDBC batch ile tek seferde gönderilebiliyor.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "admin_id")
+    @GenericGenerator(name = "admin_id", type = PooledSequenceGenerator.class, parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tbl_admin_seq"))
     private Long id;
 
     @Column(unique = true)
@@ -7,15 +7,19 @@ import org.hrms.mapper.IAdminMapper;
 import org.hrms.rabbitmq.model.*;
 import org.hrms.rabbitmq.producer.*;
 import org.hrms.repository.IAdminRepository;
+import org.hrms.repository.ISoftDeleteRepository;
 import org.hrms.repository.entity.Admin;
+import org.hrms.repository.view.UniqueFieldView;
 import org.hrms.repository.enums.ERole;
 import org.hrms.repository.enums.EStatus;
 import org.hrms.utility.ServiceManager;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /*
  * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
@@ -28,24 +32,25 @@ import java.util.stream.Collectors;
 @Service
 public class AdminService extends ServiceManager<Admin, Long> {
 
+    private static final Specification<Admin> ACTIVE = ISoftDeleteRepository.active();
+
     public final IAdminRepository repository;
     public final AdminSaveProducer adminSaveProducer;
     private final AuthUpdateProducer authUpdateProducer;
     private final AuthDeleteProducer authDeleteProducer;
 
-    public AdminService(JpaRepository<Admin, Long> jpaRepository, IAdminRepository repository, AdminSaveProducer adminSaveProducer, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer) {
-        super(jpaRepository);
+    public AdminService(IAdminRepository repository, AdminSaveProducer adminSaveProducer, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer) {
+        super(repository);
         this.repository = repository;
         this.adminSaveProducer = adminSaveProducer;
         this.authUpdateProducer = authUpdateProducer;
         this.authDeleteProducer = authDeleteProducer;
     }
 
+    @Transactional
     public AdminSaveResponseDto saveAdmin(AdminSaveRequestDto dto) {
 
-        if (repository.existsByEmail(dto.getEmail()) || repository.existsByPhoneNumber(dto.getPhoneNumber()) || repository.existsByIdentityNumber(dto.getIdentityNumber())) {
-            throw new AdminServiceException(ErrorType.PARAMETER_ALREADY_EXISTS);
-        }
+        validateUniqueFields(dto.getEmail(), dto.getPhoneNumber(), dto.getIdentityNumber(), null);
 
         Admin admin = IAdminMapper.INSTANCE.adminSaveRequestDtoToAdmin(dto);
         admin.setRole(ERole.ADMIN);
@@ -70,6 +75,7 @@ public class AdminService extends ServiceManager<Admin, Long> {
         update(optionalAdmin.get());
     }
 
+    @Transactional
     public String softUpdate(AdminUpdateRequestDto dto) {
 
         Optional<Admin> optionalAdmin = findById(dto.getId());
@@ -82,9 +88,7 @@ public class AdminService extends ServiceManager<Admin, Long> {
             throw new AdminServiceException(ErrorType.USER_ALREADY_DELETED);
         }
 
-        if (repository.existsByEmail(dto.getEmail()) || repository.existsByPhoneNumber(dto.getPhoneNumber()) || repository.existsByIdentityNumber(dto.getIdentityNumber())) {
-            throw new AdminServiceException(ErrorType.PARAMETER_ALREADY_EXISTS);
-        }
+        validateUniqueFields(dto.getEmail(), dto.getPhoneNumber(), dto.getIdentityNumber(), dto.getId());
 
         if (dto.getName() != null) {
             updatedAdmin.setName(dto.getName());
@@ -114,11 +118,14 @@ public class AdminService extends ServiceManager<Admin, Long> {
         update(updatedAdmin);
 
         AuthUpdateModel authUpdateModel = IAdminMapper.INSTANCE.adminToAuthUpdateModel(updatedAdmin);
+        //Şifre sadece istekte yeni bir şifre varsa gönderiliyor, değişmeyen şifre auth servisinde tekrar hashlenmiyor.
+        authUpdateModel.setPassword(dto.getPassword());
         authUpdateProducer.convertAndSend(authUpdateModel);
 
         return "Successfully updated.";
     }
 
+    @Transactional
     public String softDelete(Long id) {
 
         Optional<Admin> optionalAdmin = findById(id);
@@ -142,41 +149,65 @@ public class AdminService extends ServiceManager<Admin, Long> {
         return deletedAdmin.getName() + " " + deletedAdmin.getSurname() + " user named has been deleted";
     }
 
-    public List<FindAllAdminsResponseDto> findAllAdmins() {
-        return findAll().stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
-                .map(IAdminMapper.INSTANCE::adminToFindAllAdminsResponseDto)
-                .collect(Collectors.toList());
+    /*
+     * Aktif kayıtlar id sırasına göre dönülüyor. after ve size gönderilmezse eskisi gibi bütün aktif kayıtlar tek listede dönüyor.
+     * Parametrelerden biri gönderilirse sayfa sayfa dönülüyor, filtre veritabanına gönderildiği için bütün tablo belleğe yüklenmiyor.
+     * after, bir önceki sayfanın son id değeridir. İlk sayfa için boş bırakılır.
+     */
+    public Slice<FindAllAdminsResponseDto> findAllAdmins(Long after, Integer size) {
+        return findSliceOrAll(ACTIVE, after, size)
+                .map(IAdminMapper.INSTANCE::adminToFindAllAdminsResponseDto);
     }
 
     public FindAdminByIdResponseDto findAdminById(Long id) {
 
-        Optional<Admin> optionalAdmin = findById(id);
+        Optional<Admin> optionalAdmin = repository.findActiveById(id);
         if (optionalAdmin.isEmpty()) {
-            throw new AdminServiceException(ErrorType.USER_NOT_FOUND);
+            throw new AdminServiceException(repository.existsById(id) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalAdmin.get().getStatus() == EStatus.ACTIVE) {
-            return IAdminMapper.INSTANCE.adminToFindAdminByIdResponseDto(optionalAdmin.get());
-        } else {
-            throw new AdminServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IAdminMapper.INSTANCE.adminToFindAdminByIdResponseDto(optionalAdmin.get());
     }
 
     public FindAdminByIdResponseDto findAdminByAuthId(Long authId) {
 
-        Optional<Admin> optionalAdmin = repository.findOptionalByAuthId(authId);
+        Optional<Admin> optionalAdmin = repository.findActiveByAuthId(authId);
         if (optionalAdmin.isEmpty()) {
-            throw new AdminServiceException(ErrorType.USER_NOT_FOUND);
+            throw new AdminServiceException(repository.existsByAuthId(authId) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalAdmin.get().getStatus() == EStatus.ACTIVE) {
-            return IAdminMapper.INSTANCE.adminToFindAdminByIdResponseDto(optionalAdmin.get());
-        } else {
-            throw new AdminServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IAdminMapper.INSTANCE.adminToFindAdminByIdResponseDto(optionalAdmin.get());
     }
 
+    /*
+     * Eşsiz olması gereken alanları tek bir sorguyla kontrol ediyoruz ve çakışan alanları hata ile birlikte dönüyoruz.
+     * Tek bir alan çakışıyorsa o alana ait hata tipini, birden fazla alan çakışıyorsa PARAMETER_ALREADY_EXISTS hata tipini kullanıyoruz.
+     */
+    private void validateUniqueFields(String email, String phoneNumber, String identityNumber, Long excludedId) {
 
+        List<UniqueFieldView> conflicts = repository.findUniqueFieldConflicts(email, phoneNumber, identityNumber, excludedId);
+        if (conflicts.isEmpty()) {
+            return;
+        }
+
+        List<String> fields = new ArrayList<>();
+        if (email != null && conflicts.stream().anyMatch(item -> email.equals(item.getEmail()))) {
+            fields.add("email");
+        }
+        if (phoneNumber != null && conflicts.stream().anyMatch(item -> phoneNumber.equals(item.getPhoneNumber()))) {
+            fields.add("phoneNumber");
+        }
+        if (identityNumber != null && conflicts.stream().anyMatch(item -> identityNumber.equals(item.getIdentityNumber()))) {
+            fields.add("identityNumber");
+        }
+
+        ErrorType errorType = switch (fields.size() == 1 ? fields.get(0) : "") {
+            case "email" -> ErrorType.EMAIL_ALREADY_EXISTS;
+            case "phoneNumber" -> ErrorType.PHONE_NUMBER_ALREADY_EXISTS;
+            case "identityNumber" -> ErrorType.IDENTITY_NUMBER_ALREADY_EXISTS;
+            default -> ErrorType.PARAMETER_ALREADY_EXISTS;
+        };
+        throw new AdminServiceException(errorType, fields);
+    }
 
 }
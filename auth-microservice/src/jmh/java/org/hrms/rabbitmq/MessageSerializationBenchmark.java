@@ -0,0 +1,101 @@
+package org.hrms.rabbitmq;
+
+import org.hrms.messaging.CborMessageConverter;
+import org.hrms.rabbitmq.model.CompanyRegisterModel;
+import org.hrms.rabbitmq.model.EmployeeCreateModel;
+import org.hrms.repository.enums.EGender;
+import org.hrms.repository.enums.ERole;
+import org.hrms.repository.enums.EStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * RabbitMQ mesajlarının CBOR, JSON ve Java serileştirmesi ile dönüştürülme maliyetini ölçen benchmark.
+ * Dönüştürücüler MessagingAutoConfiguration'daki ayarlarla oluşturuluyor, yani servislerin gerçekte kullandığı yol ölçülüyor.
+ * toMessage: modeli mesaja(byte dizisi ve başlıklar) çeviriyor. fromMessage: aynı mesajı tekrar modele çeviriyor.
+ * Çalıştırmak için: gradle :auth-microservice:jmh -PjmhArgs="MessageSerializationBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageSerializationBenchmark {
+
+    private static final List<String> TRUSTED_PACKAGES = List.of("org.hrms.rabbitmq.model");
+
+    @Param({"CompanyRegisterModel", "EmployeeCreateModel"})
+    private String model;
+
+    @Param({"cbor", "json", "java"})
+    private String format;
+
+    private MessageConverter converter;
+    private Object payload;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        converter = switch (format) {
+            case "cbor" -> new CborMessageConverter(TRUSTED_PACKAGES);
+            case "json" -> new Jackson2JsonMessageConverter(TRUSTED_PACKAGES.toArray(String[]::new));
+            default -> {
+                SimpleMessageConverter simpleMessageConverter = new SimpleMessageConverter();
+                simpleMessageConverter.setAllowedListPatterns(List.of("java.lang.*", "java.time.*", "org.hrms.*"));
+                yield simpleMessageConverter;
+            }
+        };
+        payload = model.equals("CompanyRegisterModel") ? companyRegisterModel() : employeeCreateModel();
+        message = converter.toMessage(payload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message toMessage() {
+        return converter.toMessage(payload, new MessageProperties());
+    }
+
+    @Benchmark
+    public Object fromMessage() {
+        return converter.fromMessage(message);
+    }
+
+    private static CompanyRegisterModel companyRegisterModel() {
+        return CompanyRegisterModel.builder()
+                .authId(42L)
+                .name("Ayşe")
+                .surname("Yılmaz")
+                .email("ayse.yilmaz@example.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5Y5n0Wv5l6QkP5p4jvN0cG2")
+                .phoneNumber("05321234567")
+                .identityNumber("12345678901")
+                .address("Atatürk Caddesi No:1 Kadıköy İstanbul")
+                .companyName("Örnek Yazılım A.Ş.")
+                .dateOfBirth(LocalDate.of(1990, 5, 17))
+                .gender(EGender.FEMALE)
+                .role(ERole.MANAGER)
+                .build();
+    }
+
+    private static EmployeeCreateModel employeeCreateModel() {
+        return EmployeeCreateModel.builder()
+                .name("Mehmet")
+                .surname("Demir")
+                .email("mehmet.demir@example.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5Y5n0Wv5l6QkP5p4jvN0cG2")
+                .phoneNumber("05329876543")
+                .role(ERole.EMPLOYEE)
+                .gender(EGender.MALE)
+                .status(EStatus.PENDING)
+                .build();
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.hrms.utility;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * PasswordHasher'ın farklı bcrypt maliyet(strength) değerlerinde hash ve doğrulama sürelerini ölçen benchmark. bcrypt-strength değeri bu sonuçlara göre seçiliyor.
+ * hash ve matches tek istekte geçen süreyi, hashConcurrent ise hashleme thread'lerinden(varsayılan olarak işlemci sayısı kadar) fazla istek geldiğinde havuzda bekleme dahil geçen süreyi ölçüyor.
+ * hashConcurrent sonucu wait-timeout değerinin yoğun trafikte yetip yetmeyeceğini gösteriyor.
+ * Çalıştırmak için: gradle :auth-microservice:jmh -PjmhArgs="PasswordHasherBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHasherBenchmark {
+
+    private static final String PASSWORD = "Benchmark-Password-2024";
+
+    @Param({"10", "11", "12", "13", "14"})
+    private int strength;
+
+    private PasswordHasher passwordHasher;
+    private String storedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordHasher = new PasswordHasher(strength, 0, 1000, Duration.ofMinutes(5), null);
+        storedPassword = passwordHasher.hash(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Benchmark
+    public String hash() {
+        return passwordHasher.hash(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordHasher.matches(PASSWORD, storedPassword);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String hashConcurrent() {
+        return passwordHasher.hash(PASSWORD);
+    }
+
+}
@@ -2,6 +2,7 @@ package org.hrms;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /*
  * @SpringBootApplication bir Spring Boot uygulamasının ana bileşenini işaret eden bir anotasyondur.
@@ -10,8 +11,11 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *
  * main metodumuzun içinde Spring Boot uygulamalarını başlatmak için kullanılan SpringApplication sınıfı üzerinden run metodunu cağırarak başlatılacak olan sınıfımızı veriyoruz.
  * Bu şekilde uygulamanın başlangıç yani giriş noktasını belirtmiş oluyoruz.
+ *
+ * @EnableScheduling anotasyonu, @Scheduled ile işaretlenen metotların belirtilen aralıklarla otomatik olarak çalıştırılmasını sağlar.
  */
 @SpringBootApplication
+@EnableScheduling
 public class AuthMicroserviceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,22 @@
+package org.hrms.config.security;
+
+import org.hrms.security.SecurityProperties;
+import org.hrms.security.TokenRevocationList;
+import org.hrms.security.TokenVerifier;
+import org.hrms.utility.SigningKeyManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration //Bir konfigürasyon sınıfı olduğunu belirtiyoruz yani bu sınıfın Spring Container'ında yapılandırma sınıfı olarak kullanılacağını belirtmiş oluyoruz.
+public class TokenVerifierConfig {
+
+    /*
+     * Diğer servisler açık anahtarları JWKS endpoint'inden çekerken auth-microservice token'ları imzaladığı anahtarlarla doğrudan doğruluyor.
+     * Bu bean tanımlandığı için common-security kütüphanesindeki varsayılan TokenVerifier bean'i oluşturulmuyor.
+     */
+    @Bean
+    public TokenVerifier tokenVerifier(SigningKeyManager signingKeyManager, SecurityProperties securityProperties, TokenRevocationList revocationList) {
+        return new TokenVerifier(signingKeyManager.algorithm(), securityProperties.getIssuer(), securityProperties.getTokenCacheSize(), revocationList);
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.hrms.config.webmvc;
 
+import org.hrms.constant.ApiUrls;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
@@ -23,6 +24,7 @@ public class CorsConfig implements WebMvcConfigurer { //WebMvcConfigurer interfa
                 .allowedOrigins("*")
                 .allowedMethods("GET", "POST", "PUT", "DELETE")
                 .allowedHeaders("*")
+                .exposedHeaders(ApiUrls.NEXT_CURSOR_HEADER) //Tarayıcının sayfalama başlığını okuyabilmesi için dışarı açıyoruz.
                 .allowCredentials(false);
     }
 
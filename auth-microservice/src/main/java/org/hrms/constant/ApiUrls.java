@@ -7,13 +7,18 @@ public class ApiUrls {
     public static final String GUEST_REGISTER = "/guest-register";
     public static final String COMPANY_REGISTER = "/company-register";
     public static final String LOGIN = "/login";
+    public static final String REFRESH = "/refresh";
+    public static final String LOGOUT = "/logout";
+    public static final String REVOCATIONS = "/revocations";
     public static final String USER_ACTIVE = "/user-active";
     public static final String FORGOT_PASSWORD = "/forgot-password";
     public static final String DELETE_BY_ID = "/delete-by-id/{id}";
     public static final String FIND_ALL = "/find-all";
     public static final String FIND_BY_ID = "/find-by-id/{id}";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     public static final String ACTIVATE = "/activate";
     public static final String UPDATE_PASSWORD = "/update-password";
     public static final String SAVE="/save";
     public static final String UPDATE="/update";
+    public static final String JWKS = "/.well-known/jwks.json";
 }
@@ -1,20 +1,32 @@
 package org.hrms.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.hrms.dto.request.AuthForgotPasswordRequestDto;
 import org.hrms.dto.request.AuthLoginRequestDto;
+import org.hrms.dto.request.AuthLogoutRequestDto;
+import org.hrms.dto.request.AuthRefreshRequestDto;
 import org.hrms.dto.request.CompanyRegisterRequestDto;
 import org.hrms.dto.request.GuestRegisterRequestDto;
 import org.hrms.dto.response.*;
 import org.hrms.exception.AuthServiceException;
 import org.hrms.exception.ErrorType;
 import org.hrms.service.AuthService;
+import org.hrms.service.RateLimitService;
+import org.hrms.service.TokenRevocationService;
 import org.hrms.repository.enums.EStatus;
+import org.hrms.security.SecurityProperties;
+import org.hrms.utility.ServiceManager;
+import org.hrms.utility.SigningKeyManager;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.hrms.constant.ApiUrls.*; //Endpointleri tek tek import etmek yerine direkt sınıfı static olarak import ediyoruz ve sonuna .* diyerek hepsine ulaşabiliyoruz.
 
@@ -53,6 +65,9 @@ import static org.hrms.constant.ApiUrls.*; //Endpointleri tek tek import etmek y
 public class AuthController {
 
     private final AuthService authService;
+    private final SigningKeyManager signingKeyManager;
+    private final TokenRevocationService tokenRevocationService;
+    private final RateLimitService rateLimitService;
 
     /*
      * @RequestBody anotasyonu HTTP isteğinin gövdesindeki (request body) verilerin, bir metot parametresine otomatik olarak bağlanmasını sağlar. POST ve PUT isteklerinde kullanılır.
@@ -80,12 +95,34 @@ public class AuthController {
     }
 
     @PostMapping(LOGIN)
-    public ResponseEntity<AuthLoginResponseDto> login(@RequestBody AuthLoginRequestDto dto) {
+    public ResponseEntity<AuthLoginResponseDto> login(@RequestBody AuthLoginRequestDto dto, HttpServletRequest request) {
+        rateLimitService.checkLogin(dto.getEmail(), request.getRemoteAddr());
         return ResponseEntity.ok(authService.login(dto));
     }
 
+    @PostMapping(REFRESH)
+    public ResponseEntity<AuthLoginResponseDto> refresh(@RequestBody @Valid AuthRefreshRequestDto dto) {
+        return ResponseEntity.ok(authService.refresh(dto));
+    }
+
+    /*
+     * Access token'ı iptal etmek için kullanılıyor. Token Authorization başlığında "Bearer <token>" şeklinde gönderilmelidir.
+     * Refresh token uzun ömürlü bir kimlik bilgisi olduğu için URL'de değil istek gövdesinde gönderiliyor, URL'ler erişim loglarına ve tarayıcı geçmişine yazılıyor.
+     */
+    @PostMapping(LOGOUT)
+    public ResponseEntity<String> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization, @RequestBody(required = false) AuthLogoutRequestDto dto) {
+        return ResponseEntity.ok(authService.logout(authorization.replaceFirst("^Bearer ", ""), dto == null ? null : dto.getRefreshToken()));
+    }
+
+    //Diğer servisler açılırken süresi dolmamış token iptallerini buradan çekiyor. İstek X-Internal-Token başlığında servisler arası ortak anahtarı göndermelidir.
+    @GetMapping(REVOCATIONS)
+    public ResponseEntity<Map<String, Long>> findActiveRevocations(@RequestHeader(value = SecurityProperties.INTERNAL_TOKEN_HEADER, required = false) String internalToken) {
+        return ResponseEntity.ok(tokenRevocationService.findActiveRevocations(internalToken));
+    }
+
     @PostMapping(FORGOT_PASSWORD)
-    public ResponseEntity<String> forgotPassword(@RequestBody AuthForgotPasswordRequestDto dto) {
+    public ResponseEntity<String> forgotPassword(@RequestBody AuthForgotPasswordRequestDto dto, HttpServletRequest request) {
+        rateLimitService.checkForgotPassword(dto.getEmail(), request.getRemoteAddr());
         return ResponseEntity.ok(authService.forgotPassword(dto));
     }
 
@@ -97,9 +134,18 @@ public class AuthController {
      * Burada da findAll() metodu çağırıldığında EStatus status parametresini girmek zorunlu değildir yani girilmemişse null alınır ve metot çalışmaya devam eder.
      * findAll(String token, @RequestParam(required = false) EStatus status)
      */
+    /*
+     * after ve size gönderilmezse bütün aktif kullanıcılar dönülüyor. Gönderilirse kullanıcılar sayfa sayfa dönülüyor,
+     * sonraki sayfanın after değeri X-Next-Cursor başlığında gönderiliyor, başlık yoksa son sayfaya gelinmiştir.
+     */
     @GetMapping(FIND_ALL)
-    public ResponseEntity<List<FindAllResponseDto>> findAllUsers(String token){
-        return ResponseEntity.ok(authService.findAllUsers(token));
+    public ResponseEntity<List<FindAllResponseDto>> findAllUsers(String token, @RequestParam(required = false) Long after, @RequestParam(required = false) Integer size){
+        List<FindAllResponseDto> users = authService.findAllUsers(token, after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (ServiceManager.isPaged(after, size) && !users.isEmpty() && users.size() >= ServiceManager.resolvePageSize(size)) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(users.get(users.size() - 1).getId()));
+        }
+        return response.body(users);
     }
 
     /*
@@ -123,6 +169,14 @@ public class AuthController {
         return ResponseEntity.ok(authService.activateCode(token));
     }
 
+    //Token'ları doğrulayan servislerin kullanacağı açık anahtarları JWKS formatında yayınlıyoruz. Cevap kısa süreliğine önbelleğe alınabilir.
+    @GetMapping(JWKS)
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(signingKeyManager.jwks());
+    }
+
     //Delete işlemini diğer service'lerden yapıp sadece auth-microservice tarafında güncelleme yapacağımız için buradan kaldırıyoruz.
     /*@DeleteMapping(DELETE_BY_ID)
     public ResponseEntity<String> softDelete(@PathVariable Long id){
@@ -0,0 +1,17 @@
+package org.hrms.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//Çıkış yaparken refresh token da gönderilirse aynı oturumdan üretilmiş bütün refresh token'lar iptal ediliyor. Göndermek zorunlu değildir.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthLogoutRequestDto {
+
+    private String refreshToken;
+
+}
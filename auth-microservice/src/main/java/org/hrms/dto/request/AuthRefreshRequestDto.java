@@ -0,0 +1,18 @@
+package org.hrms.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuthRefreshRequestDto {
+
+    @NotBlank(message = "Refresh token field cannot be blank.")
+    private String refreshToken;
+
+}
@@ -24,5 +24,6 @@ import org.hrms.repository.enums.ERole;
 public class AuthLoginResponseDto {
     private Long id;
     private String token;
+    private String refreshToken;
     private ERole role;
 }
@@ -33,4 +33,9 @@ public class FindAllResponseDto {
     private ERole role;
     private EGender gender;
     private EStatus status;
+
+    //Auth tablosunda kimlik numarası tutulmadığı için sorgu içinden(select new ...) bu constructor ile sadece ihtiyaç duyulan sütunları çekiyoruz.
+    public FindAllResponseDto(Long id, String name, String surname, String email, String phoneNumber, ERole role, EGender gender, EStatus status) {
+        this(id, name, surname, email, phoneNumber, null, role, gender, status);
+    }
 }
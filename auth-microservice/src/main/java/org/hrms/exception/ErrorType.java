@@ -36,12 +36,17 @@ public enum ErrorType {
     USER_NOT_FOUND(4004,"User not found..." ,HttpStatus.BAD_REQUEST),
 
     INTERNAL_SERVER_ERROR(5001,"Internal Server Error...",HttpStatus.INTERNAL_SERVER_ERROR),
+    SERVER_BUSY(5002,"Server is busy, please try again later...",HttpStatus.SERVICE_UNAVAILABLE),
 
     PARAMETER_NOT_VALID(6001,"Parameter incorrect...",HttpStatus.BAD_REQUEST),
     INVALID_TOKEN(6002,"Invalid Token..." , HttpStatus.BAD_REQUEST),
     INVALID_TOKEN_FORMAT(6003,"Invalid token format...",HttpStatus.BAD_REQUEST),
     TOKEN_NOT_CREATED(6004,"Token could not be created...",HttpStatus.BAD_REQUEST),
-    INVALID_ROLE(6005,"Invalid Role: Password could not update in other database..." , HttpStatus.BAD_REQUEST);
+    INVALID_ROLE(6005,"Invalid Role: Password could not update in other database..." , HttpStatus.BAD_REQUEST),
+    INVALID_REFRESH_TOKEN(6006,"Invalid or expired refresh token...",HttpStatus.UNAUTHORIZED),
+    REFRESH_TOKEN_REUSED(6007,"Refresh token has already been used, please login again...",HttpStatus.UNAUTHORIZED),
+    TOO_MANY_REQUESTS(6008,"Too many attempts, please try again later...",HttpStatus.TOO_MANY_REQUESTS),
+    INTERNAL_ACCESS_DENIED(6009,"This endpoint is only available to internal services...",HttpStatus.FORBIDDEN);
 
     private int code;
     private String message;
@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.AdminSaveModel;
 import org.hrms.repository.entity.Auth;
@@ -23,10 +24,10 @@ public class AdminSaveConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.admin-save-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.ADMIN_SAVE) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.admin-save-queue}")
+    @RabbitListener(queues = EventQueues.ADMIN_SAVE)
     public void saveAdminFromQueue(AdminSaveModel model){
         authService.saveAdmin(model);
     }
@@ -1,31 +1,44 @@
 package org.hrms.rabbitmq.consumer;
 
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
+import org.hrms.messaging.EventQueues;
+import org.hrms.messaging.EventTopologyAutoConfiguration;
 import org.hrms.rabbitmq.model.AuthDeleteModel;
 import org.hrms.service.AuthService;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.List;
+
 /*
  * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
  * Bu annotasyon, Spring uygulamalarında servis katmanı bileşenlerini tanımlamak ve işaretlemek için kullanılır.
  *
- * @RequiredArgsConstructor anotasyonu dependencies injection edilen final fieldlara(GuestService) constructor oluşturmak için kullanılan bir anotasyondur.
+ * @RequiredArgsConstructor anotasyonu dependencies injection edilen final fieldlara(AuthService) constructor oluşturmak için kullanılan bir anotasyondur.
  */
 @Service
 @RequiredArgsConstructor
 public class AuthDeleteConsumer {
 
     private final AuthService authService;
+    private final BatchMessageHandler batchMessageHandler;
 
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.auth-delete-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
-     * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
+     * (queues = EventQueues.AUTH_DELETE) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * batchListenerContainerFactory kullandığımız için mesajlar tek tek değil, batch-size kadar ya da batch-timeout süresi dolunca toplu olarak geliyor.
+     * Bütün silme işlemleri BatchMessageHandler ile tek transaction içinde softDeleteAll'a veriliyor. Transaction başarısız olursa mesajlar softDelete ile tek tek işleniyor.
+     * Tekrar gelen mesaj kontrolü, onaylama ve hata alan mesajların yönlendirilmesi de BatchMessageHandler'da yapılıyor.
      */
-    @RabbitListener(queues = "${rabbitmq.auth-delete-queue}")
-    public void deleteAuthFromQueue(AuthDeleteModel authDeleteModel){
-        authService.softDelete(authDeleteModel.getAuthId());
+    @RabbitListener(queues = EventQueues.AUTH_DELETE, containerFactory = EventTopologyAutoConfiguration.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void deleteAuthFromQueue(List<Message<AuthDeleteModel>> messages, Channel channel) throws IOException {
+        batchMessageHandler.handle(messages, channel,
+                models -> authService.softDeleteAll(models.stream().map(AuthDeleteModel::getAuthId).toList()),
+                model -> authService.softDelete(model.getAuthId()));
     }
+
 }
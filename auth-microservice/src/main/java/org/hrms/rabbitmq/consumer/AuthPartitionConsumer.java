@@ -0,0 +1,76 @@
+package org.hrms.rabbitmq.consumer;
+
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.messaging.EventStream;
+import org.hrms.messaging.EventType;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.hrms.messaging.partition.PartitionedEventListener;
+import org.hrms.rabbitmq.model.AuthDeleteModel;
+import org.hrms.rabbitmq.model.AuthUpdateModel;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
+ * Bu annotasyon, Spring uygulamalarında servis katmanı bileşenlerini tanımlamak ve işaretlemek için kullanılır.
+ *
+ * @RequiredArgsConstructor anotasyonu dependencies injection edilen final fieldlara(AuthUpdateConsumer, AuthDeleteConsumer) constructor oluşturmak için kullanılan bir anotasyondur.
+ *
+ * authPartition kuyruklarını dinleyen consumer sınıfımız. Aynı authId için gönderilen güncelleme ve silme olayları aynı partition kuyruğuna geldiği için sırası korunuyor.
+ * Gelen listeyi sırasını bozmadan aynı olaydan oluşan ardışık parçalara ayırıyoruz ve her parçayı ilgili consumer'ın toplu işleme metoduna veriyoruz.
+ * Böylece toplu güncelleme, tekrar gelen mesaj kontrolü ve hata yönetimi authUpdateQueue ve authDeleteQueue kuyruklarıyla aynı şekilde çalışıyor.
+ * Hata alan mesajlar authPartition tekrar kuyruklarına gidiyor ve süre dolunca partition key'e göre aynı partition kuyruğuna dönüyor.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthPartitionConsumer implements PartitionedEventListener {
+
+    private final AuthUpdateConsumer authUpdateConsumer;
+    private final AuthDeleteConsumer authDeleteConsumer;
+
+    @Override
+    public EventStream stream() {
+        return EventStream.AUTH;
+    }
+
+    @Override
+    public void onEvents(List<Message<Object>> messages, Channel channel) throws IOException {
+        List<Message<Object>> run = new ArrayList<>();
+        String runType = null;
+        for (Message<Object> message : messages) {
+            String eventType = message.getHeaders().get(PartitionRouter.EVENT_TYPE_HEADER, String.class);
+            if (runType != null && !runType.equals(eventType)) {
+                dispatch(runType, run, channel);
+                run = new ArrayList<>();
+            }
+            runType = eventType;
+            run.add(message);
+        }
+        if (!run.isEmpty()) {
+            dispatch(runType, run, channel);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void dispatch(String eventType, List<Message<Object>> run, Channel channel) throws IOException {
+        if (EventType.AUTH_UPDATE.name().equals(eventType)) {
+            authUpdateConsumer.updateAuthFromQueue((List<Message<AuthUpdateModel>>) (List) run, channel);
+        } else if (EventType.AUTH_DELETE.name().equals(eventType)) {
+            authDeleteConsumer.deleteAuthFromQueue((List<Message<AuthDeleteModel>>) (List) run, channel);
+        } else {
+            for (Message<Object> message : run) {
+                log.warn("Unknown event {} rejected from {}", eventType, message.getHeaders().get(AmqpHeaders.CONSUMER_QUEUE));
+                channel.basicReject(message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class), false);
+            }
+        }
+    }
+
+}
@@ -1,16 +1,18 @@
 package org.hrms.rabbitmq.consumer;
 
-import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
+import org.hrms.messaging.EventQueues;
+import org.hrms.messaging.EventTopologyAutoConfiguration;
 import org.hrms.rabbitmq.model.AuthUpdateModel;
 import org.hrms.service.AuthService;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.support.AmqpHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.util.List;
+
 /*
  * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
  * Bu annotasyon, Spring uygulamalarında servis katmanı bileşenlerini tanımlamak ve işaretlemek için kullanılır.
@@ -22,16 +24,20 @@ import org.springframework.stereotype.Service;
 public class AuthUpdateConsumer {
 
     private final AuthService authService;
+    private final BatchMessageHandler batchMessageHandler;
 
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.auth-delete-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
-     * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
+     * (queues = EventQueues.AUTH_UPDATE) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * batchListenerContainerFactory kullandığımız için mesajlar tek tek değil, batch-size kadar ya da batch-timeout süresi dolunca toplu olarak geliyor.
+     * Bütün güncellemeler BatchMessageHandler ile tek transaction içinde softUpdateAll'a veriliyor. Transaction başarısız olursa mesajlar softUpdate ile tek tek işleniyor.
+     * Tekrar gelen mesaj kontrolü, onaylama ve hata alan mesajların yönlendirilmesi de BatchMessageHandler'da yapılıyor.
+     * Mesajlardaki şifreler transaction açılmadan önce hashPasswords ile hashleniyor.
      */
-    @RabbitListener(queues = "${rabbitmq.auth-update-queue}")
-    public void updateAuthFromQueue(AuthUpdateModel authUpdateModel){
-            authService.softUpdate(authUpdateModel);
+    @RabbitListener(queues = EventQueues.AUTH_UPDATE, containerFactory = EventTopologyAutoConfiguration.BATCH_LISTENER_CONTAINER_FACTORY)
+    public void updateAuthFromQueue(List<Message<AuthUpdateModel>> messages, Channel channel) throws IOException {
+        batchMessageHandler.handle(messages, channel, authService::hashPasswords, authService::softUpdateAll, authService::softUpdate);
     }
 
 }
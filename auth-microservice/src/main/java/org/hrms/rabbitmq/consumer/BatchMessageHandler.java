@@ -0,0 +1,117 @@
+package org.hrms.rabbitmq.consumer;
+
+import com.rabbitmq.client.Channel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.exception.AuthServiceException;
+import org.hrms.exception.ErrorType;
+import org.hrms.messaging.RetryTierRecoverer;
+import org.hrms.messaging.idempotency.MessageDeduplicator;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/*
+ * Toplu(batch) dinlenen auth kuyruklarındaki mesajları işleyip her mesajı ayrı ayrı onaylayan ortak sınıfımız. AuthUpdateConsumer ve AuthDeleteConsumer bu sınıfı kullanıyor.
+ * Bütün mesajlar batchCall ile tek transaction içinde işleniyor. batchCall hatalı mesajların listedeki sırasını ve hata türünü dönüyor, hatalı mesajlar diğerlerini engellemiyor.
+ * Transaction başarısız olursa hatalı mesajı bulabilmek için mesajlar singleCall ile tek tek ve ayrı transaction'larda işleniyor.
+ * Hata alan mesajlar RetryTierRecoverer ile yönlendirildikten sonra onaylanıyor: iş kuralı hatası(AuthServiceException) alan mesajlar parking kuyruğuna,
+ * veritabanına ulaşılamaması gibi geçici hatalar alan mesajlar ise tekrar kuyruğuna gidiyor.
+ * Daha önce işlenmiş mesajlar(messageId) işlenmeden onaylanıyor. Başarıyla işlenen mesajlar IdempotentListenerAdvice'taki gibi
+ * işlemle aynı transaction içinde MessageDeduplicator'a kaydediliyor, böylece kayıt ve işlem birlikte commit oluyor.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchMessageHandler {
+
+    private final RetryTierRecoverer retryTierRecoverer;
+    private final MessageDeduplicator messageDeduplicator;
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> void handle(List<Message<T>> messages, Channel channel, Function<List<T>, Map<Integer, ErrorType>> batchCall,
+                           Consumer<T> singleCall) throws IOException {
+        handle(messages, channel, payloads -> { }, batchCall, singleCall);
+    }
+
+    //prepare, tekrar gelen mesajlar ayıklandıktan sonra ve transaction açılmadan önce çalışıyor. Şifre hashleme gibi yavaş hazırlıklar burada yapılıyor.
+    public <T> void handle(List<Message<T>> messages, Channel channel, Consumer<List<T>> prepare,
+                           Function<List<T>, Map<Integer, ErrorType>> batchCall, Consumer<T> singleCall) throws IOException {
+        List<Message<T>> pending = messageDeduplicator.removeProcessed(messages, channel);
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<T> payloads = pending.stream().map(Message::getPayload).toList();
+        prepare.accept(payloads);
+
+        Map<Integer, ErrorType> failures;
+        try {
+            failures = transactionTemplate.execute(status -> {
+                Map<Integer, ErrorType> result = batchCall.apply(payloads);
+                messageDeduplicator.markProcessed(succeeded(pending, result));
+                return result;
+            });
+        } catch (RuntimeException e) {
+            handleOneByOne(pending, channel, singleCall);
+            return;
+        }
+
+        for (int i = 0; i < pending.size(); i++) {
+            ErrorType failure = failures.get(i);
+            if (failure == null) {
+                channel.basicAck(deliveryTag(pending.get(i)), false);
+            } else {
+                recover(channel, pending.get(i), new AuthServiceException(failure));
+            }
+        }
+    }
+
+    private <T> void handleOneByOne(List<Message<T>> messages, Channel channel, Consumer<T> singleCall) throws IOException {
+        for (Message<T> message : messages) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    singleCall.accept(message.getPayload());
+                    messageDeduplicator.markProcessed(List.of(message));
+                });
+                channel.basicAck(deliveryTag(message), false);
+            } catch (RuntimeException e) {
+                recover(channel, message, e);
+            }
+        }
+    }
+
+    //Mesaj yönlendirilemezse(örneğin RabbitMQ bağlantısı koptuysa) kaybolmaması için onaylamadan kuyruğa geri bırakıyoruz.
+    private void recover(Channel channel, Message<?> message, RuntimeException cause) throws IOException {
+        try {
+            retryTierRecoverer.recover(message, cause);
+            channel.basicAck(deliveryTag(message), false);
+        } catch (RuntimeException e) {
+            log.warn("Message {} from {} could not be recovered and is requeued: {}", message.getHeaders().get(AmqpHeaders.MESSAGE_ID),
+                    message.getHeaders().get(AmqpHeaders.CONSUMER_QUEUE), e.getMessage());
+            channel.basicNack(deliveryTag(message), false, true);
+        }
+    }
+
+    private static <T> List<Message<T>> succeeded(List<Message<T>> messages, Map<Integer, ErrorType> failures) {
+        List<Message<T>> succeeded = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            if (!failures.containsKey(i)) {
+                succeeded.add(messages.get(i));
+            }
+        }
+        return succeeded;
+    }
+
+    private static long deliveryTag(Message<?> message) {
+        return message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class);
+    }
+
+}
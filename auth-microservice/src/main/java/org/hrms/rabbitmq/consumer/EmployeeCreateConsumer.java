@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.EmployeeCreateModel;
 import org.hrms.service.AuthService;
@@ -21,10 +22,10 @@ public class EmployeeCreateConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.manager-addEmployee-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.EMPLOYEE_CREATE) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.manager-addEmployee-queue}")
+    @RabbitListener(queues = EventQueues.EMPLOYEE_CREATE)
     public void createEmployeeFromQueue(EmployeeCreateModel employeeCreateModel){
         authService.createEmployee(employeeCreateModel);
     }
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hrms.messaging.SchemaVersion;
 import java.io.Serializable;
 
 /*
@@ -26,6 +27,7 @@ import java.io.Serializable;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@SchemaVersion(1)
 public class AuthForgotPasswordModel implements Serializable {
     private Long authId;
     private String password;
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hrms.messaging.SchemaVersion;
 import org.hrms.repository.enums.EGender;
 import org.hrms.repository.enums.ERole;
 
@@ -29,6 +30,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Data
 @Builder
+@SchemaVersion(1)
 public class GuestRegisterModel implements Serializable {
     private Long authId;
     private String name;
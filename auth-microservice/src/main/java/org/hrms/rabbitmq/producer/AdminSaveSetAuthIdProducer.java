@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.AdminSaveSetAuthIdModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,27 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class AdminSaveSetAuthIdProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public AdminSaveSetAuthIdProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public AdminSaveSetAuthIdProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.admin-exchange}")
-    private String adminExchange;
-
-    @Value("${rabbitmq.admin-set-authid-bindingKey}")
-    private String adminSetAuthIdBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * EmployeeCreateProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için adminExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan adminExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan adminSetAuthIdBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan AdminSaveSetAuthIdModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.ADMIN_SET_AUTH_ID içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz AdminSaveSetAuthIdModel'imizi ilgili kuyruk olan adminSetAuthIdQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(AdminSaveSetAuthIdModel adminSaveSetAuthIdModel){
-        rabbitTemplate.convertAndSend(adminExchange,adminSetAuthIdBindingKey,adminSaveSetAuthIdModel);
+        eventPublisher.publish(EventType.ADMIN_SET_AUTH_ID,adminSaveSetAuthIdModel);
     }
+
 }
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.CompanyRegisterModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,28 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class CompanyRegisterProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public CompanyRegisterProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public CompanyRegisterProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.manager-exchange}")
-    private String managerExchange;
-
-    @Value("${rabbitmq.company-register-bindingKey}")
-    private String companyRegisterBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * CompanyRegisterProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için managerExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan companyRegisterBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan CompanyRegisterModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.COMPANY_REGISTER içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz CompanyRegisterModel'imizi ilgili kuyruk olan companyRegisterQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(CompanyRegisterModel companyRegisterModel){
-        rabbitTemplate.convertAndSend(managerExchange,companyRegisterBindingKey,companyRegisterModel);
+        eventPublisher.publish(EventType.COMPANY_REGISTER,companyRegisterModel);
     }
 
 }
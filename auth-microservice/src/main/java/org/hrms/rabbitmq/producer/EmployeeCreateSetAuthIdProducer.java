@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.EmployeeCreateSetAuthIdModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,28 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class EmployeeCreateSetAuthIdProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public EmployeeCreateSetAuthIdProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public EmployeeCreateSetAuthIdProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.employee-exchange}")
-    private String employeeExchange;
-
-    @Value("${rabbitmq.employee-set-authid-bindingKey}")
-    private String employeeSetAuthIdBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * EmployeeCreateProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için employeeExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan employeeExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan employeeSetAuthIdBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan EmployeeCreateSetAuthIdModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.EMPLOYEE_SET_AUTH_ID içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz EmployeeCreateSetAuthIdModel'imizi ilgili kuyruk olan employeeSetAuthIdQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(EmployeeCreateSetAuthIdModel employeeCreateSetAuthIdModel){
-        rabbitTemplate.convertAndSend(employeeExchange,employeeSetAuthIdBindingKey,employeeCreateSetAuthIdModel);
+        eventPublisher.publish(EventType.EMPLOYEE_SET_AUTH_ID,employeeCreateSetAuthIdModel);
     }
 
 }
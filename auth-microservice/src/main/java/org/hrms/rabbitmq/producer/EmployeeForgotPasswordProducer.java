@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.AuthForgotPasswordModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,28 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class EmployeeForgotPasswordProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public EmployeeForgotPasswordProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public EmployeeForgotPasswordProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.employee-exchange}")
-    private String employeeExchange;
-
-    @Value("${rabbitmq.employee-forgot-password-bindingKey}")
-    private String employeeForgotPasswordBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * CompanyRegisterProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için employeeExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan employeeExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan employeeForgotPasswordBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan AuthForgotPasswordModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.EMPLOYEE_FORGOT_PASSWORD içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz AuthForgotPasswordModel'imizi ilgili kuyruk olan employeeForgotPasswordQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(AuthForgotPasswordModel authForgotPasswordModel){
-        rabbitTemplate.convertAndSend(employeeExchange,employeeForgotPasswordBindingKey,authForgotPasswordModel);
+        eventPublisher.publish(EventType.EMPLOYEE_FORGOT_PASSWORD,authForgotPasswordModel);
     }
 
 }
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.ActivateStatusModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,28 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class GuestActivateStatusProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public GuestActivateStatusProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public GuestActivateStatusProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.guest-exchange}")
-    private String guestExchange;
-
-    @Value("${rabbitmq.guest-activate-status-bindingKey}")
-    private String guestActivateStatusBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * ActivateStatusProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için guestExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan guestExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan guestActivateStatusBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan ActivateStatusModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.GUEST_ACTIVATE_STATUS içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz ActivateStatusModel'imizi ilgili kuyruk olan guestActivateStatusQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(ActivateStatusModel activateStatusModel){
-        rabbitTemplate.convertAndSend(guestExchange,guestActivateStatusBindingKey,activateStatusModel);
+        eventPublisher.publish(EventType.GUEST_ACTIVATE_STATUS,activateStatusModel);
     }
 
 }
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.AuthForgotPasswordModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,28 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class GuestForgotPasswordProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public GuestForgotPasswordProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public GuestForgotPasswordProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.guest-exchange}")
-    private String guestExchange;
-
-    @Value("${rabbitmq.guest-forgot-password-bindingKey}")
-    private String guestForgotPasswordBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * GuestForgotPasswordProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için guestExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan guestExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan guestForgotPasswordBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan AuthForgotPasswordModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.GUEST_FORGOT_PASSWORD içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz AuthForgotPasswordModel'imizi ilgili kuyruk olan guestForgotPasswordQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(AuthForgotPasswordModel authForgotPasswordModel){
-        rabbitTemplate.convertAndSend(guestExchange,guestForgotPasswordBindingKey,authForgotPasswordModel);
+        eventPublisher.publish(EventType.GUEST_FORGOT_PASSWORD,authForgotPasswordModel);
     }
 
 }
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.MailForgotPasswordModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,27 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class MailForgotPasswordProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public MailForgotPasswordProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public MailForgotPasswordProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.mail-exchange}")
-    private String mailExchange;
-
-    @Value("${rabbitmq.mail-forgot-password-bindingKey}")
-    private String mailForgotPasswordBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * MailForgotPasswordProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için mailExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan mailExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan mailForgotPasswordBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan MailForgotPasswordModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.MAIL_FORGOT_PASSWORD içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz MailForgotPasswordModel'imizi ilgili kuyruk olan mailForgotPasswordQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(MailForgotPasswordModel mailForgotPasswordModel){
-        rabbitTemplate.convertAndSend(mailExchange,mailForgotPasswordBindingKey,mailForgotPasswordModel);
+        eventPublisher.publish(EventType.MAIL_FORGOT_PASSWORD,mailForgotPasswordModel);
     }
+
 }
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.ActivateStatusModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,27 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class ManagerActivateStatusProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public ManagerActivateStatusProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public ManagerActivateStatusProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.manager-exchange}")
-    private String managerExchange;
-
-    @Value("${rabbitmq.manager-activate-status-bindingKey}")
-    private String managerActivateStatusBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * ActivateStatusProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için managerExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerActivateStatusBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan ActivateStatusModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.MANAGER_ACTIVATE_STATUS içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz ActivateStatusModel'imizi ilgili kuyruk olan managerActivateStatusQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(ActivateStatusModel activateStatusModel){
-        rabbitTemplate.convertAndSend(managerExchange,managerActivateStatusBindingKey,activateStatusModel);
+        eventPublisher.publish(EventType.MANAGER_ACTIVATE_STATUS,activateStatusModel);
     }
+
 }
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.AuthForgotPasswordModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,28 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class ManagerForgotPasswordProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public ManagerForgotPasswordProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public ManagerForgotPasswordProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.manager-exchange}")
-    private String managerExchange;
-
-    @Value("${rabbitmq.manager-forgot-password-bindingKey}")
-    private String managerForgotPasswordBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * CompanyRegisterProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için managerExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerForgotPasswordBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan AuthForgotPasswordModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.MANAGER_FORGOT_PASSWORD içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz AuthForgotPasswordModel'imizi ilgili kuyruk olan managerForgotPasswordQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(AuthForgotPasswordModel authForgotPasswordModel){
-        rabbitTemplate.convertAndSend(managerExchange,managerForgotPasswordBindingKey,authForgotPasswordModel);
+        eventPublisher.publish(EventType.MANAGER_FORGOT_PASSWORD,authForgotPasswordModel);
     }
 
 }
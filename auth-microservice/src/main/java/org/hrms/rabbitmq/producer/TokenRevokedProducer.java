@@ -0,0 +1,28 @@
+package org.hrms.rabbitmq.producer;
+
+import org.hrms.security.TokenRevokedModel;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TokenRevokedProducer {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public TokenRevokedProducer(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    @Value("${hrms.security.revocation-exchange:tokenRevocationExchange}")
+    private String revocationExchange;
+
+    /*
+     * İptal edilen token bilgisini fanout exchange'e gönderiyoruz. Fanout exchange routingKey'e bakmadığı için boş bırakıyoruz.
+     * Bu şekilde mesaj, exchange'e bağlı olan bütün servis örneklerinin kuyruklarına ulaşıyor.
+     */
+    public void convertAndSend(TokenRevokedModel model){
+        rabbitTemplate.convertAndSend(revocationExchange, "", model);
+    }
+
+}
@@ -1,10 +1,18 @@
 package org.hrms.repository;
 
+import org.hrms.dto.response.FindAllResponseDto;
 import org.hrms.repository.entity.Auth;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hrms.repository.enums.EStatus;
+import org.hrms.repository.view.AuthContactView;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /*
  * @Repository anotasyonu, Spring Framework'te veritabanı erişimi için kullanılan sınıfları işaretlemeye yarayan bir anotasyondur.
@@ -18,13 +26,33 @@ import java.util.Optional;
  * Aşağıda yazılan metotlarda JpaRepository anlayacak şekilde doğru bir biçimde metot isimlendirilirse JpaRepository metot ismine göre veritabanında arama yaparak geriye istenilen değeri dönebilir.
  */
 @Repository
-public interface IAuthRepository extends JpaRepository<Auth,Long> {
+public interface IAuthRepository extends ISoftDeleteRepository<Auth,Long> {
 
     Boolean existsByEmail(String email);  //Parametre olarak girilen emailin veritabanında olup olmadığını kontrol ediyoruz.
     Boolean existsByPhoneNumber(String phoneNumber); //Parametre olarak girilen telefon numarasının veritabanında olup olmadığını kontrol ediyoruz.
-    Optional<Auth> findOptionalByEmailAndPassword(String email, String password); //Parametre olarak girilen email ve password'ün veritabanında olup olmadığını kontrol ediyoruz ve optional olarak geriye dönüyoruz.
     Optional<Auth> findOptionalByEmail(String email); //Parametre olarak girilen email'in veritabanında olup olmadığını kontrol ediyoruz ve optional olarak geriye dönüyoruz.
 
+    //Email veya telefon numarası eşleşen kayıtların sadece bu iki sütununu tek sorguda dönüyoruz. Hangisinin çakıştığını dönen sonuca bakarak anlıyoruz.
+    List<AuthContactView> findAllByEmailOrPhoneNumber(String email, String phoneNumber);
+
+    //Toplu güncellemede bir batch'teki bütün email ve telefon numaralarını tek sorguda kontrol ediyoruz. IN listeleri boş gönderilmemelidir.
+    List<AuthContactView> findAllByEmailInOrPhoneNumberIn(Collection<String> emails, Collection<String> phoneNumbers);
+    List<AuthContactView> findAllByEmailIn(Collection<String> emails);
+    List<AuthContactView> findAllByPhoneNumberIn(Collection<String> phoneNumbers);
+
+    /*
+     * Kullanıcıları id sırasına göre sayfa sayfa(keyset pagination) çekiyoruz. OFFSET kullanmak yerine bir önceki sayfanın son id değerinden sonrasını istediğimiz için
+     * sorgu (status, id) indeksi üzerinden doğrudan ilgili noktaya gidiyor ve tablo ne kadar büyük olursa olsun her sayfa aynı sürede geliyor.
+     * Sadece FindAllResponseDto içindeki sütunları seçtiğimiz için entity yüklenmiyor ve mapper'a ihtiyaç kalmıyor.
+     */
+    @Query("select new org.hrms.dto.response.FindAllResponseDto(a.id, a.name, a.surname, a.email, a.phoneNumber, a.role, a.gender, a.status) " +
+            "from Auth a where a.status = :status and a.id > :afterId order by a.id")
+    List<FindAllResponseDto> findPageByStatus(@Param("status") EStatus status, @Param("afterId") Long afterId, Limit limit);
+
+    //Bloom filter'ları doldurmak için bütün email ve telefon numaralarını entity yüklemeden akış(stream) olarak okuyoruz.
+    @Query("select a.id as id, a.email as email, a.phoneNumber as phoneNumber from Auth a")
+    Stream<AuthContactView> streamAllContacts();
+
 
 
     //Parametre olarak girilen id değerinin veritabanında olup olmadığını kontrol edecek ve optional olarak geriye dönecek metot:
@@ -0,0 +1,36 @@
+package org.hrms.repository;
+
+import org.hrms.repository.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface IRefreshTokenRepository extends JpaRepository<RefreshToken, Long>, JpaSpecificationExecutor<RefreshToken> {
+
+    Optional<RefreshToken> findOptionalByTokenHash(String tokenHash); //Parametre olarak girilen token özetine sahip refresh token'ı optional olarak dönüyoruz.
+
+    /*
+     * Token'ı kullanıldı olarak işaretleyen sorgumuz. "used = false" koşulu sayesinde aynı token ile aynı anda gelen iki istekten sadece biri 1 değerini alıyor.
+     * 0 dönerse token daha önce kullanılmış demektir ve bu durum tekrar kullanım(reuse) olarak değerlendiriliyor.
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.used = true, r.updatedDate = :now where r.id = :id and r.used = false")
+    int markUsed(@Param("id") Long id, @Param("now") Long now);
+
+    //Aynı login işleminden türeyen bütün refresh token'ları iptal ediyoruz.
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true, r.updatedDate = :now where r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") Long now);
+
+    //Süresi dolmuş refresh token'ları tablodan siliyoruz.
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Long now);
+
+}
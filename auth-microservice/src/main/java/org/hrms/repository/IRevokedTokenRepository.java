@@ -0,0 +1,22 @@
+package org.hrms.repository;
+
+import org.hrms.repository.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface IRevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    List<RevokedToken> findAllByExpiresAtGreaterThan(Long now); //Süresi henüz dolmamış iptal kayıtlarını dönüyoruz.
+
+    //Süresi dolmuş iptal kayıtlarını tablodan siliyoruz.
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Long now);
+
+}
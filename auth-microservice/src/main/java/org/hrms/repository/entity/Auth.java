@@ -4,7 +4,11 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.hrms.repository.enums.*;
+import org.hrms.utility.PooledSequenceGenerator;
 
 import java.time.LocalDate;
 
@@ -31,6 +35,10 @@ import java.time.LocalDate;
  *
  * @Table anotasyonu JPA (Java Persistence API) entegrasyonu ile kullanılan bir Java anotasyonudur ve postgre veritabanı tablolarıyla eşleştirmek için kullanılır ve sınıfın hangi veritabanı tablosuna karşılık geldiğini belirtir.
  * name = "tbl_auth" diyerek veritabanında tbl_auth adında bir tablo oluşturur ve sınıfın verilerini o tabloya kaydeder ve bu tablodan veri çeker.
+ * indexes ile (status, id) sütunlarına birleşik bir indeks ekliyoruz. Aktif kullanıcıların sayfa sayfa listelenmesi bu indeks üzerinden yapılıyor.
+ *
+ * Auth'ta @DynamicUpdate kullanılmıyor. AuthService.softUpdateAll ve softDeleteAll kayıtları toplu güncelliyor, bütün kolonları yazan UPDATE sorgusu her kayıt için aynı olduğu için
+ * bu güncellemeler JDBC batch ile gruplar halinde gönderilebiliyor. Değişen kolona göre farklı sorgu üreten @DynamicUpdate her kaydı ayrı bir sorguyla göndermeye zorluyordu.
  */
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -38,12 +46,13 @@ import java.time.LocalDate;
 @Data
 @Entity
 @SuperBuilder
-@Table(name = "tbl_auth")
+@Table(name = "tbl_auth", indexes = @Index(name = "idx_auth_status_id", columnList = "status, id"))
 public class Auth extends BaseEntity{
 
-    //Bu iki anotasyonu kullanarak kullanıcıların veritabanı tarafından yönetilen otomatik artan eşsiz bir kimliğe sahip olmasını sağlıyoruz.
+    //Id değerleri tbl_auth_seq sequence'inden PooledSequenceGenerator ile blok blok alınıyor, böylece toplu kayıtlar JDBC batch ile tek seferde gönderilebiliyor.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "auth_id")
+    @GenericGenerator(name = "auth_id", type = PooledSequenceGenerator.class, parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tbl_auth_seq"))
     private Long id;
 
     /*
@@ -64,7 +73,8 @@ public class Auth extends BaseEntity{
     @Column(nullable = false, length = 40)
     private String surname;
 
-    @Column(nullable = false, length = 32)
+    //Şifreyi bcrypt hash'i olarak tutuyoruz. bcrypt hash'i 60 karakter olduğu için sütun uzunluğunu buna göre belirledik.
+    @Column(nullable = false, length = 100)
     private String password;
 
     /*
@@ -0,0 +1,47 @@
+package org.hrms.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/*
+ * Refresh token'ları tutan tablomuz. Token'ın kendisini değil sadece SHA-256 özetini(tokenHash) saklıyoruz, bu sayede tablo ele geçirilse bile token'lar kullanılamıyor.
+ * Her login işleminde yeni bir familyId oluşturuluyor ve o login'den türeyen bütün refresh token'lar aynı familyId'yi taşıyor.
+ * Kullanılmış(used = true) bir token tekrar gelirse token çalınmış kabul ediliyor ve aynı familyId'ye sahip bütün token'lar iptal(revoked) ediliyor.
+ * Sorgularda kullandığımız authId ve familyId sütunlarına index ekliyoruz.
+ */
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@SuperBuilder
+@Table(name = "tbl_refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_family_id", columnList = "familyId"),
+        @Index(name = "idx_refresh_token_auth_id", columnList = "authId")
+})
+public class RefreshToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long authId;
+
+    @Column(unique = true, nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private Long expiresAt;
+
+    @Builder.Default
+    private boolean used = false;
+
+    @Builder.Default
+    private boolean revoked = false;
+
+}
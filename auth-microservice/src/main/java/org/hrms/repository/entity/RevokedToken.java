@@ -0,0 +1,26 @@
+package org.hrms.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/*
+ * Süresi dolmadan iptal edilen token'ların code değerlerini tutan tablomuz.
+ * Servis yeniden başladığında bellekteki iptal listesi bu tablodan tekrar dolduruluyor.
+ * expiresAt sütunu token'ın bitiş süresini tutuyor, süresi dolan kayıtlar tablodan siliniyor.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Builder
+@Table(name = "tbl_revoked_token", indexes = @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"))
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String code;
+
+    @Column(nullable = false)
+    private Long expiresAt;
+
+}
@@ -0,0 +1,14 @@
+package org.hrms.repository.view;
+
+/*
+ * Auth tablosundan sadece id, email ve telefon numarası sütunlarını çekmek için kullandığımız projection interface'imiz.
+ * Spring Data JPA sorgu sonucunu bu interface'e eşlediği için bütün entity'yi yüklemeye gerek kalmıyor.
+ * id değeri güncellemelerde bulunan değerin güncellenen kaydın kendisine ait olup olmadığını anlamak için kullanılıyor.
+ */
+public interface AuthContactView {
+
+    Long getId();
+    String getEmail();
+    String getPhoneNumber();
+
+}
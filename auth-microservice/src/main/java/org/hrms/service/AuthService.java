@@ -8,12 +8,16 @@ import org.hrms.rabbitmq.model.*;
 import org.hrms.rabbitmq.producer.*;
 import org.hrms.repository.IAuthRepository;
 import org.hrms.repository.entity.Auth;
+import org.hrms.repository.entity.RefreshToken;
 import org.hrms.repository.enums.ERole;
 import org.hrms.repository.enums.EStatus;
+import org.hrms.security.TokenClaims;
 import org.hrms.utility.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import java.util.List;
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /*
@@ -40,8 +44,13 @@ public class AuthService extends ServiceManager<Auth, Long> {
     private final GuestActivateStatusProducer guestActivateStatusProducer;
     private final MailForgotPasswordProducer mailForgotPasswordProducer;
     private final AdminSaveSetAuthIdProducer adminSaveSetAuthIdProducer;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final ContactUniquenessService contactUniquenessService;
+    private final PasswordHasher passwordHasher;
 
-    public AuthService(IAuthRepository repository, JwtTokenManager jwtTokenManager, GuestRegisterProducer guestRegisterProducer, CompanyRegisterProducer companyRegisterProducer, GuestForgotPasswordProducer guestForgotPasswordProducer, EmployeeForgotPasswordProducer employeeForgotPasswordProducer, ManagerForgotPasswordProducer managerForgotPasswordProducer, EmployeeCreateSetAuthIdProducer employeeCreateSetAuthIdProducer, MailSenderProducer mailSenderProducer, ManagerActivateStatusProducer managerActivateStatusProducer, GuestActivateStatusProducer guestActivateStatusProducer, MailForgotPasswordProducer mailForgotPasswordProducer, AdminSaveSetAuthIdProducer adminSaveSetAuthIdProducer) {
+
+    public AuthService(IAuthRepository repository, JwtTokenManager jwtTokenManager, GuestRegisterProducer guestRegisterProducer, CompanyRegisterProducer companyRegisterProducer, GuestForgotPasswordProducer guestForgotPasswordProducer, EmployeeForgotPasswordProducer employeeForgotPasswordProducer, ManagerForgotPasswordProducer managerForgotPasswordProducer, EmployeeCreateSetAuthIdProducer employeeCreateSetAuthIdProducer, MailSenderProducer mailSenderProducer, ManagerActivateStatusProducer managerActivateStatusProducer, GuestActivateStatusProducer guestActivateStatusProducer, MailForgotPasswordProducer mailForgotPasswordProducer, AdminSaveSetAuthIdProducer adminSaveSetAuthIdProducer, RefreshTokenService refreshTokenService, TokenRevocationService tokenRevocationService, ContactUniquenessService contactUniquenessService, PasswordHasher passwordHasher) {
         super(repository);
         this.repository = repository;
         this.jwtTokenManager = jwtTokenManager;
@@ -56,33 +65,40 @@ public class AuthService extends ServiceManager<Auth, Long> {
         this.guestActivateStatusProducer = guestActivateStatusProducer;
         this.mailForgotPasswordProducer = mailForgotPasswordProducer;
         this.adminSaveSetAuthIdProducer = adminSaveSetAuthIdProducer;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.contactUniquenessService = contactUniquenessService;
+        this.passwordHasher = passwordHasher;
     }
 
     /*
      * @Transactional anotasyonu, Spring Framework içinde işlem yönetimi (transaction management) için kullanılan bir anotasyondur.
      * @Transactional ile metodumuzu işaretleyerek bazı işlemler tamamlanır ve daha sonrakilerde hata meydana gelirse, Spring otomatik olarak yapıln tüm işlemi geri alıyor.
      * Bu şekilde veritabanı önceki durumuna dönüyor yani ilgili servislerde bir tarafa kaydedilip öbür tarafa kaydedilmeme gibi durumların önüne geçiyor.
+     * Producer'lar mesajı outbox tablosuna yazdığı için Auth kaydı ile gönderilecek mesaj aynı transaction içinde kaydediliyor ya da birlikte geri alınıyor.
      */
-    //@Transactional
+    @Transactional
     public GuestRegisterResponseDto guestRegister(GuestRegisterRequestDto dto) {
 
-        if (repository.existsByEmail(dto.getEmail())){
-            throw new AuthServiceException(ErrorType.EMAIL_ALREADY_EXISTS);
-        }
-        if (repository.existsByPhoneNumber(dto.getPhoneNumber())){
-            throw new AuthServiceException(ErrorType.PHONE_NUMBER_ALREADY_EXISTS);
+        //Email ve telefon numarası kontrolünü önce bellekteki filtrelerle yapıyoruz, gerekirse tek sorguyla veritabanına soruyoruz.
+        Optional<ErrorType> conflict = contactUniquenessService.findConflict(dto.getEmail(), dto.getPhoneNumber());
+        if (conflict.isPresent()){
+            throw new AuthServiceException(conflict.get());
         }
 
         Auth auth = IAuthMapper.INSTANCE.guestRegisterRequestDtoToAuth(dto);
         auth.setRole(ERole.GUEST);
+        auth.setPassword(passwordHasher.hash(dto.getPassword()));
         save(auth);
+        contactUniquenessService.register(auth.getEmail(), auth.getPhoneNumber());
 
+        //Mesaj outbox tablosuna yazıldığı için şifrenin açık hali yerine bcrypt hash'ini gönderiyoruz.
         GuestRegisterModel guestRegisterModel = GuestRegisterModel.builder()
                 .authId(auth.getId())
                 .name(dto.getName())
                 .surname(dto.getSurname())
                 .email(dto.getEmail())
-                .password(dto.getPassword())
+                .password(auth.getPassword())
                 .phoneNumber(dto.getPhoneNumber())
                 .gender(dto.getGender())
                 .role(auth.getRole())
@@ -94,26 +110,28 @@ public class AuthService extends ServiceManager<Auth, Long> {
         return IAuthMapper.INSTANCE.authToGuestRegisterResponseDto(auth);
     }
 
-    //@Transactional
+    @Transactional
     public CompanyRegisterResponseDto companyRegister(CompanyRegisterRequestDto dto) {
 
-        if (repository.existsByEmail(dto.getEmail())){
-            throw new AuthServiceException(ErrorType.EMAIL_ALREADY_EXISTS);
-        }
-        if (repository.existsByPhoneNumber(dto.getPhoneNumber())){
-            throw new AuthServiceException(ErrorType.PHONE_NUMBER_ALREADY_EXISTS);
+        //Email ve telefon numarası kontrolünü önce bellekteki filtrelerle yapıyoruz, gerekirse tek sorguyla veritabanına soruyoruz.
+        Optional<ErrorType> conflict = contactUniquenessService.findConflict(dto.getEmail(), dto.getPhoneNumber());
+        if (conflict.isPresent()){
+            throw new AuthServiceException(conflict.get());
         }
 
         Auth auth = IAuthMapper.INSTANCE.companyRegisterRequestDtoToAuth(dto);
         auth.setRole(ERole.MANAGER);
+        auth.setPassword(passwordHasher.hash(dto.getPassword()));
         save(auth);
+        contactUniquenessService.register(auth.getEmail(), auth.getPhoneNumber());
 
+        //Şifre GUEST_REGISTER'da olduğu gibi hash olarak gönderiliyor, açık hali veritabanına ve kuyruğa hiç yazılmıyor.
         CompanyRegisterModel companyRegisterModel = CompanyRegisterModel.builder()
                 .authId(auth.getId())
                 .name(dto.getName())
                 .surname(dto.getSurname())
                 .email(dto.getEmail())
-                .password(dto.getPassword())
+                .password(auth.getPassword())
                 .phoneNumber(dto.getPhoneNumber())
                 .identityNumber(dto.getIdentityNumber())
                 .address(dto.getAddress())
@@ -150,6 +168,7 @@ public class AuthService extends ServiceManager<Auth, Long> {
         System.out.println(activationLink);
     }
 
+    @Transactional
     public String activateCode(String token) {
 
         Optional<Long> optionalIdFromToken = jwtTokenManager.decodeToken(token);
@@ -202,15 +221,53 @@ public class AuthService extends ServiceManager<Auth, Long> {
 
     public AuthLoginResponseDto login(AuthLoginRequestDto dto) {
 
-        Optional<Auth> optionalAuth = repository.findOptionalByEmailAndPassword(dto.getEmail(), dto.getPassword());
+        //Kullanıcıyı sadece email ile bulup şifreyi hash üzerinden doğruluyoruz. Kullanıcı yoksa da aynı sürede cevap dönmek için sahte bir doğrulama yapıyoruz.
+        Optional<Auth> optionalAuth = repository.findOptionalByEmail(dto.getEmail());
         if (optionalAuth.isEmpty()){
+            passwordHasher.simulateMatch(dto.getPassword());
             throw new AuthServiceException(ErrorType.EMAIL_OR_PASSWORD_NOT_EXISTS);
         }
+        if (!passwordHasher.matches(dto.getPassword(), optionalAuth.get().getPassword())){
+            throw new AuthServiceException(ErrorType.EMAIL_OR_PASSWORD_NOT_EXISTS);
+        }
+        //Şifre eski maliyet değeriyle ya da düz metin olarak kaydedildiyse güncel maliyet değeriyle tekrar hashliyoruz.
+        if (passwordHasher.needsRehash(optionalAuth.get().getPassword())){
+            optionalAuth.get().setPassword(passwordHasher.hash(dto.getPassword()));
+            update(optionalAuth.get());
+        }
         if (optionalAuth.get().getStatus() != EStatus.ACTIVE) {
             throw new AuthServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
         }
 
-        Optional<String> optionalToken = jwtTokenManager.createToken(optionalAuth.get().getId(), optionalAuth.get().getRole(), CodeGenerator.generateCode());
+        Optional<String> optionalToken = jwtTokenManager.createToken(optionalAuth.get().getId(), optionalAuth.get().getRole(), CodeGenerator.generateTokenCode());
+        if (optionalToken.isEmpty()){
+            throw new AuthServiceException(ErrorType.TOKEN_NOT_CREATED);
+        }
+
+        return AuthLoginResponseDto.builder()
+                .id(optionalAuth.get().getId())
+                .token(optionalToken.get())
+                .refreshToken(refreshTokenService.createRefreshToken(optionalAuth.get().getId()))
+                .role(optionalAuth.get().getRole())
+                .build();
+    }
+
+    /*
+     * Refresh token ile email ve şifre kontrolü yapmadan yeni bir access token veriyoruz.
+     * Gelen refresh token tüketiliyor ve yerine aynı aileden yeni bir refresh token dönülüyor.
+     * Kullanıcı silinmiş ya da engellenmişse token ailesini iptal ediyoruz.
+     */
+    public AuthLoginResponseDto refresh(AuthRefreshRequestDto dto) {
+
+        RefreshToken refreshToken = refreshTokenService.consume(dto.getRefreshToken());
+
+        Optional<Auth> optionalAuth = repository.findActiveById(refreshToken.getAuthId());
+        if (optionalAuth.isEmpty()) {
+            refreshTokenService.revokeFamily(refreshToken.getFamilyId());
+            throw new AuthServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
+        }
+
+        Optional<String> optionalToken = jwtTokenManager.createToken(optionalAuth.get().getId(), optionalAuth.get().getRole(), CodeGenerator.generateTokenCode());
         if (optionalToken.isEmpty()){
             throw new AuthServiceException(ErrorType.TOKEN_NOT_CREATED);
         }
@@ -218,10 +275,35 @@ public class AuthService extends ServiceManager<Auth, Long> {
         return AuthLoginResponseDto.builder()
                 .id(optionalAuth.get().getId())
                 .token(optionalToken.get())
+                .refreshToken(refreshTokenService.issue(refreshToken.getAuthId(), refreshToken.getFamilyId()))
                 .role(optionalAuth.get().getRole())
                 .build();
     }
 
+    /*
+     * Çıkış yapan kullanıcının access token'ını süresi dolmadan iptal ediyoruz. Token'ın code değeri iptal listesine ekleniyor
+     * ve bu bilgi bütün servislere yayınlanıyor. Refresh token gönderildiyse o token ailesi de iptal ediliyor.
+     */
+    public String logout(String token, String refreshToken) {
+
+        Optional<TokenClaims> optionalClaims = jwtTokenManager.verifyAndDecode(token);
+        if (optionalClaims.isEmpty()) {
+            throw new AuthServiceException(ErrorType.INVALID_TOKEN);
+        }
+        tokenRevocationService.revoke(optionalClaims.get().getCode(), optionalClaims.get().getExpiresAt());
+
+        if (refreshToken != null) {
+            try {
+                refreshTokenService.revokeFamily(refreshTokenService.consume(refreshToken).getFamilyId());
+            } catch (AuthServiceException e) {
+                //Refresh token zaten geçersizse çıkış işlemini engellemiyoruz.
+            }
+        }
+
+        return "Logout successful.";
+    }
+
+    @Transactional
     public String forgotPassword(AuthForgotPasswordRequestDto dto) {
 
         Optional<Auth> optionalAuth = repository.findOptionalByEmail(dto.getEmail());
@@ -231,9 +313,10 @@ public class AuthService extends ServiceManager<Auth, Long> {
         Auth auth = optionalAuth.get();
 
         String randomPassword = PasswordGenerator.generatePassword();
-        auth.setPassword(randomPassword);
+        auth.setPassword(passwordHasher.hash(randomPassword));
         update(auth);
 
+        //Yeni şifrenin açık hali sadece outbox'a yazılmayan mail olayında gidiyor, diğer servislere hash'i gönderiliyor.
         AuthForgotPasswordModel authForgotPasswordModel = AuthForgotPasswordModel.builder()
                 .authId(auth.getId())
                 .password(auth.getPassword())
@@ -251,42 +334,39 @@ public class AuthService extends ServiceManager<Auth, Long> {
 
         MailForgotPasswordModel mailForgotPasswordModel = MailForgotPasswordModel.builder()
                 .email(auth.getEmail())
-                .password(auth.getPassword())
+                .password(randomPassword)
                 .build();
         mailForgotPasswordProducer.convertAndSend(mailForgotPasswordModel);
 
         return "Password reset successful. Your new password has been sent to your e-mail address.";
     }
 
-    public List<FindAllResponseDto> findAllUsers(String token) {
-
-        Optional<Long> optionalIdFromToken = jwtTokenManager.decodeToken(token);
-        if (optionalIdFromToken.isEmpty()) {
-            throw new AuthServiceException(ErrorType.INVALID_TOKEN_FORMAT);
-        }
+    /*
+     * Aktif kullanıcıları id sırasına göre dönüyoruz. after ve size parametreleri gönderilmezse eskisi gibi bütün aktif kullanıcılar tek listede dönüyor.
+     * Parametrelerden biri gönderilirse sayfa sayfa dönüyoruz. after bir önceki sayfanın son id değeridir, ilk sayfa için gönderilmez.
+     * size değeri en fazla MAX_PAGE_SIZE olabilir, gönderilmezse DEFAULT_PAGE_SIZE kullanılıyor. Dönen liste size değerinden küçükse son sayfaya gelinmiştir.
+     */
+    public List<FindAllResponseDto> findAllUsers(String token, Long after, Integer size) {
 
-        if (!repository.existsById(optionalIdFromToken.get())){
+        //Token imzası ve süresi yerel olarak doğrulanıyor, bu yüzden kullanıcının varlığını veritabanından tekrar kontrol etmiyoruz.
+        if (!jwtTokenManager.verifyToken(token)) {
             throw new AuthServiceException(ErrorType.INVALID_TOKEN);
         }
 
-        return findAll().stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
-                .map(IAuthMapper.INSTANCE::authToFindAllResponseDto)
-                .collect(Collectors.toList());
+        if (!isPaged(after, size)) {
+            return repository.findPageByStatus(EStatus.ACTIVE, 0L, Limit.unlimited());
+        }
+        return repository.findPageByStatus(EStatus.ACTIVE, after == null ? 0L : after, Limit.of(resolvePageSize(size)));
     }
 
     public FindByIdResponseDto findUserById(Long id) {
 
-        Optional<Auth> optionalAuth = findById(id);
+        Optional<Auth> optionalAuth = repository.findActiveById(id);
         if (optionalAuth.isEmpty()) {
-            throw new AuthServiceException(ErrorType.USER_NOT_FOUND);
+            throw new AuthServiceException(repository.existsById(id) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalAuth.get().getStatus() == EStatus.ACTIVE) {
-            return IAuthMapper.INSTANCE.authToFindByIdResponseDto(optionalAuth.get());
-        } else {
-            throw new AuthServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IAuthMapper.INSTANCE.authToFindByIdResponseDto(optionalAuth.get());
     }
 
     public void softDelete(Long id) {
@@ -313,11 +393,125 @@ public class AuthService extends ServiceManager<Auth, Long> {
         }
         Auth updatedAuth = optionalAuth.get();
 
+        applyUpdate(updatedAuth, authUpdateModel,
+                contactUniquenessService.findConflict(authUpdateModel.getAuthId(), authUpdateModel.getEmail(), authUpdateModel.getPhoneNumber()).isPresent());
+
+        update(updatedAuth);
+        contactUniquenessService.register(updatedAuth.getEmail(), updatedAuth.getPhoneNumber());
+    }
+
+    /*
+     * AuthDeleteConsumer'ın toplu gelen mesajları için kullandığı metot. Bütün Auth kayıtları tek sorguyla(findAllById) çekiliyor,
+     * durumları bellekte değiştiriliyor ve transaction sonunda JDBC batch ile birlikte veritabanına yazılıyor.
+     * Hatalı mesajlar diğerlerini engellemiyor, dönen map'te hatalı mesajların listedeki sırası ve hata türü bulunuyor.
+     */
+    @Transactional
+    public Map<Integer, ErrorType> softDeleteAll(List<Long> ids) {
+
+        Map<Long, Auth> auths = findAllByIds(ids);
+        Map<Integer, ErrorType> failures = new HashMap<>();
+        Long time = System.currentTimeMillis();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Auth auth = auths.get(ids.get(i));
+            if (auth == null) {
+                failures.put(i, ErrorType.USER_NOT_FOUND);
+            } else if (auth.getStatus().equals(EStatus.DELETED)) {
+                failures.put(i, ErrorType.USER_ALREADY_DELETED);
+            } else {
+                auth.setStatus(EStatus.DELETED);
+                auth.setUpdatedDate(time);
+            }
+        }
+        return failures;
+    }
+
+    /*
+     * AuthUpdateConsumer'ın toplu gelen mesajları için kullandığı metot. softDeleteAll gibi kayıtlar tek sorguyla çekilip bellekte güncelleniyor.
+     * Aynı batch içinde iki farklı kayıt aynı email ya da telefon numarasını almaya çalışırsa ikinci mesaj hatalı sayılıyor. Aynı kaydın ardışık güncellemeleri birbirini engellemiyor.
+     * Batch'teki bütün email ve telefon numaraları döngüden önce ContactUniquenessService.findTakenContacts ile tek sorguda kontrol ediliyor.
+     */
+    @Transactional
+    public Map<Integer, ErrorType> softUpdateAll(List<AuthUpdateModel> models) {
+
+        Map<Long, Auth> auths = findAllByIds(models.stream().map(AuthUpdateModel::getAuthId).toList());
+        ContactUniquenessService.TakenContacts takenContacts = contactUniquenessService.findTakenContacts(
+                models.stream().map(AuthUpdateModel::getEmail).filter(Objects::nonNull).toList(),
+                models.stream().map(AuthUpdateModel::getPhoneNumber).filter(Objects::nonNull).toList());
+        Map<Integer, ErrorType> failures = new HashMap<>();
+        Map<String, Long> claimedContacts = new HashMap<>();
+        List<Auth> updatedAuths = new ArrayList<>();
+        Long time = System.currentTimeMillis();
+
+        for (int i = 0; i < models.size(); i++) {
+            AuthUpdateModel model = models.get(i);
+            Auth auth = auths.get(model.getAuthId());
+            if (auth == null) {
+                failures.put(i, ErrorType.USER_NOT_FOUND);
+                continue;
+            }
+            if (isClaimedByOther(claimedContacts, model.getEmail(), model.getAuthId()) || isClaimedByOther(claimedContacts, model.getPhoneNumber(), model.getAuthId())) {
+                failures.put(i, ErrorType.EMAIL_OR_PHONE_ALREADY_EXISTS);
+                continue;
+            }
+            try {
+                applyUpdate(auth, model, takenContacts.containsAny(model.getAuthId(), model.getEmail(), model.getPhoneNumber()));
+                //Değerler sadece güncelleme uygulandıktan sonra sahiplenmiş sayılıyor, hatalı mesaj batch'teki diğer mesajları engellemiyor.
+                claimedContacts.put(auth.getEmail(), auth.getId());
+                claimedContacts.put(auth.getPhoneNumber(), auth.getId());
+                auth.setUpdatedDate(time);
+                updatedAuths.add(auth);
+            } catch (AuthServiceException e) {
+                failures.put(i, e.getErrorType());
+            }
+        }
+
+        updatedAuths.forEach(auth -> contactUniquenessService.register(auth.getEmail(), auth.getPhoneNumber()));
+        return failures;
+    }
+
+    private Map<Long, Auth> findAllByIds(List<Long> ids) {
+        return repository.findAllById(new HashSet<>(ids)).stream()
+                .collect(Collectors.toMap(Auth::getId, Function.identity()));
+    }
+
+    private static boolean isClaimedByOther(Map<String, Long> claimedContacts, String contact, Long authId) {
+        Long owner = contact == null ? null : claimedContacts.get(contact);
+        return owner != null && !owner.equals(authId);
+    }
+
+    /*
+     * bcrypt yavaş çalıştığı için AuthUpdateConsumer mesajlardaki şifreleri transaction açılmadan önce bu metotla hashliyor.
+     * Böylece hashleme süresince veritabanı bağlantısı ve güncellenen kayıtların kilitleri tutulmuyor. Şifreler havuzda paralel hashleniyor.
+     * Havuz dolu olduğu için hashlenemeyen şifreler olduğu gibi bırakılıyor, bu şifreler applyUpdate içinde hashleniyor.
+     */
+    public void hashPasswords(List<AuthUpdateModel> models) {
+        List<AuthUpdateModel> withPassword = models.stream()
+                .filter(model -> model.getPassword() != null && !passwordHasher.isHash(model.getPassword()))
+                .toList();
+        if (withPassword.isEmpty()) {
+            return;
+        }
+        List<String> hashes = passwordHasher.hashAll(withPassword.stream().map(AuthUpdateModel::getPassword).toList());
+        for (int i = 0; i < withPassword.size(); i++) {
+            if (hashes.get(i) != null) {
+                withPassword.get(i).setPassword(hashes.get(i));
+            }
+        }
+    }
+
+    /*
+     * Mesajdaki dolu alanları Auth nesnesine aktarıyoruz. Kontroller alanlar değiştirilmeden önce yapıldığı için hata durumunda nesne değişmemiş oluyor.
+     * contactTaken değeri çağıran metot tarafından hesaplanıyor, tekli güncellemede findConflict, toplu güncellemede findTakenContacts kullanılıyor.
+     * Şifre hashPasswords ile önceden hashlendiyse hash olduğu gibi kaydediliyor, kayıttaki şifreyle aynıysa dokunulmuyor.
+     */
+    private void applyUpdate(Auth updatedAuth, AuthUpdateModel authUpdateModel, boolean contactTaken) {
+
         if (updatedAuth.getStatus().equals(EStatus.DELETED)) {
             throw new AuthServiceException(ErrorType.USER_ALREADY_DELETED);
         }
 
-        if (repository.existsByEmail(authUpdateModel.getEmail()) || repository.existsByPhoneNumber(authUpdateModel.getPhoneNumber())) {
+        if (contactTaken) {
             throw new AuthServiceException(ErrorType.EMAIL_OR_PHONE_ALREADY_EXISTS);
         }
 
@@ -333,25 +527,27 @@ public class AuthService extends ServiceManager<Auth, Long> {
         if (authUpdateModel.getEmail() != null) {
             updatedAuth.setEmail(authUpdateModel.getEmail());
         }
-        if (authUpdateModel.getPassword() != null) {
-            updatedAuth.setPassword(authUpdateModel.getPassword());
+        if (authUpdateModel.getPassword() != null && !authUpdateModel.getPassword().equals(updatedAuth.getPassword())) {
+            updatedAuth.setPassword(passwordHasher.isHash(authUpdateModel.getPassword())
+                    ? authUpdateModel.getPassword() : passwordHasher.hash(authUpdateModel.getPassword()));
         }
         if (authUpdateModel.getGender() != null) {
             updatedAuth.setGender(authUpdateModel.getGender());
         }
-
-        update(updatedAuth);
     }
 
 
+    @Transactional
     public void createEmployee(EmployeeCreateModel employeeCreateModel) {
 
-        if (repository.existsByEmail(employeeCreateModel.getEmail()) || repository.existsByPhoneNumber(employeeCreateModel.getPhoneNumber())) {
+        if (contactUniquenessService.findConflict(employeeCreateModel.getEmail(), employeeCreateModel.getPhoneNumber()).isPresent()) {
             throw new AuthServiceException(ErrorType.EMAIL_OR_PHONE_ALREADY_EXISTS);
         }
 
         Auth auth = IAuthMapper.INSTANCE.employeeCreateModelToAuth(employeeCreateModel);
+        auth.setPassword(passwordHasher.hash(employeeCreateModel.getPassword()));
         save(auth);
+        contactUniquenessService.register(auth.getEmail(), auth.getPhoneNumber());
 
         EmployeeCreateSetAuthIdModel employeeCreateSetAuthIdModel = EmployeeCreateSetAuthIdModel.builder()
                 .authId(auth.getId())
@@ -360,14 +556,17 @@ public class AuthService extends ServiceManager<Auth, Long> {
         employeeCreateSetAuthIdProducer.convertAndSend(employeeCreateSetAuthIdModel);
     }
 
+    @Transactional
     public void saveAdmin(AdminSaveModel adminSaveModel) {
 
-        if (repository.existsByEmail(adminSaveModel.getEmail()) || repository.existsByPhoneNumber(adminSaveModel.getPhoneNumber())) {
+        if (contactUniquenessService.findConflict(adminSaveModel.getEmail(), adminSaveModel.getPhoneNumber()).isPresent()) {
             throw new AuthServiceException(ErrorType.EMAIL_OR_PHONE_ALREADY_EXISTS);
         }
 
         Auth auth = IAuthMapper.INSTANCE.adminSaveModelToAuth(adminSaveModel);
+        auth.setPassword(passwordHasher.hash(adminSaveModel.getPassword()));
         save(auth);
+        contactUniquenessService.register(auth.getEmail(), auth.getPhoneNumber());
 
         AdminSaveSetAuthIdModel adminSaveSetAuthIdModel = AdminSaveSetAuthIdModel.builder()
                 .authId(auth.getId())
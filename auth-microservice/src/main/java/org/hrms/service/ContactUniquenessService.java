@@ -0,0 +1,259 @@
+package org.hrms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hrms.exception.ErrorType;
+import org.hrms.repository.IAuthRepository;
+import org.hrms.repository.view.AuthContactView;
+import org.hrms.utility.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/*
+ * Kayıt ve güncelleme işlemlerinde email ve telefon numarasının daha önce kullanılıp kullanılmadığını kontrol eden servis sınıfımız.
+ * Her sütun için bellekte bir Bloom filter tutuyoruz. İki filtre de değerin olmadığını söylerse veritabanına hiç gitmiyoruz.
+ * Filtrelerden biri değerin olabileceğini söylerse email ve telefon numarasını tek bir sorguyla kontrol ediyoruz.
+ * Filtreler uygulama açılışında veritabanından dolduruluyor, her kayıtta güncelleniyor ve belirli aralıklarla yeniden oluşturuluyor.
+ * Silinen veya değiştirilen değerler filtreden çıkarılamadığı için yeniden oluşturma işlemi yanlış pozitif oranının artmasını engelliyor.
+ * Kullanılan filtreler ve yeniden oluşturma sırasında doldurulan yeni filtreler tek bir değişmez Filters nesnesinde tutuluyor ve her işlemde bir kez okunuyor.
+ * Filters nesnesi sadece yazma kilidi(write lock) altında değiştiriliyor, register ise okuma kilidi(read lock) altında çalışıyor.
+ * Böylece register eski filtreleri okuduktan sonra yeni filtreler devreye alınamıyor ve eklenen değer atılan filtrede kalmıyor.
+ */
+@Service
+public class ContactUniquenessService {
+
+    private final IAuthRepository repository;
+    private final Counter skippedQueries;
+    private final Counter confirmedMatches;
+    private final Counter falsePositives;
+
+    @Value("${authserviceconfig.uniqueness-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+    @Value("${authserviceconfig.uniqueness-filter.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Filters filters = new Filters(null, null, null, null);
+
+    public ContactUniquenessService(IAuthRepository repository, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.skippedQueries = Counter.builder("hrms.auth.uniqueness.checks").tag("result", "skipped")
+                .description("Checks answered by the bloom filter without a database query").register(meterRegistry);
+        this.confirmedMatches = Counter.builder("hrms.auth.uniqueness.checks").tag("result", "match")
+                .description("Filter positives confirmed by the database").register(meterRegistry);
+        this.falsePositives = Counter.builder("hrms.auth.uniqueness.checks").tag("result", "false_positive")
+                .description("Filter positives not found in the database").register(meterRegistry);
+        Gauge.builder("hrms.auth.uniqueness.filter.expected_fpp", this, service -> expectedFalsePositiveProbability(service.filters.email()))
+                .tag("column", "email").register(meterRegistry);
+        Gauge.builder("hrms.auth.uniqueness.filter.expected_fpp", this, service -> expectedFalsePositiveProbability(service.filters.phoneNumber()))
+                .tag("column", "phoneNumber").register(meterRegistry);
+    }
+
+    /*
+     * Çakışma varsa ilgili hata tipini dönüyoruz, yoksa boş Optional dönüyoruz.
+     * Filtreler henüz doldurulmadıysa doğrudan veritabanına soruyoruz.
+     */
+    public Optional<ErrorType> findConflict(String email, String phoneNumber) {
+        return findConflict(null, email, phoneNumber);
+    }
+
+    /*
+     * Güncellemelerde kullanılan hali. Diğer servisler güncellemede kaydın bütün alanlarını gönderdiği için mesajda çoğunlukla kullanıcının kendi email ve telefon numarası bulunuyor.
+     * Bu yüzden authId değerine sahip kaydın kendi değerleri çakışma sayılmıyor.
+     */
+    public Optional<ErrorType> findConflict(Long authId, String email, String phoneNumber) {
+        Filters current = filters;
+        boolean emailMightExist = email != null && (!current.isReady() || current.email().mightContain(email));
+        boolean phoneNumberMightExist = phoneNumber != null && (!current.isReady() || current.phoneNumber().mightContain(phoneNumber));
+        if (!emailMightExist && !phoneNumberMightExist) {
+            skippedQueries.increment();
+            return Optional.empty();
+        }
+
+        List<AuthContactView> contacts = repository.findAllByEmailOrPhoneNumber(emailMightExist ? email : null, phoneNumberMightExist ? phoneNumber : null);
+        if (contacts.isEmpty()) {
+            falsePositives.increment();
+            return Optional.empty();
+        }
+        confirmedMatches.increment();
+        contacts = contacts.stream().filter(contact -> authId == null || !authId.equals(contact.getId())).toList();
+        if (contacts.isEmpty()) {
+            return Optional.empty();
+        }
+        if (emailMightExist && contacts.stream().anyMatch(contact -> email.equals(contact.getEmail()))) {
+            return Optional.of(ErrorType.EMAIL_ALREADY_EXISTS);
+        }
+        return Optional.of(ErrorType.PHONE_NUMBER_ALREADY_EXISTS);
+    }
+
+    /*
+     * findConflict'in toplu hali. Filtrelerin olabilir dediği bütün email ve telefon numaraları tek sorguyla kontrol ediliyor,
+     * dönen TakenContacts veritabanında bulunan değerleri ve sahibi olan kaydın id değerini içeriyor. Metrikler bu metotta mesaj başına değil değer başına artırılıyor.
+     */
+    public TakenContacts findTakenContacts(Collection<String> emails, Collection<String> phoneNumbers) {
+        Filters current = filters;
+        Set<String> candidateEmails = candidates(emails, current.isReady() ? current.email() : null);
+        Set<String> candidatePhoneNumbers = candidates(phoneNumbers, current.isReady() ? current.phoneNumber() : null);
+        skippedQueries.increment(emails.size() + phoneNumbers.size() - candidateEmails.size() - candidatePhoneNumbers.size());
+        if (candidateEmails.isEmpty() && candidatePhoneNumbers.isEmpty()) {
+            return new TakenContacts(Map.of(), Map.of());
+        }
+
+        List<AuthContactView> contacts = candidatePhoneNumbers.isEmpty() ? repository.findAllByEmailIn(candidateEmails)
+                : candidateEmails.isEmpty() ? repository.findAllByPhoneNumberIn(candidatePhoneNumbers)
+                : repository.findAllByEmailInOrPhoneNumberIn(candidateEmails, candidatePhoneNumbers);
+        Map<String, Long> takenEmails = new HashMap<>();
+        Map<String, Long> takenPhoneNumbers = new HashMap<>();
+        for (AuthContactView contact : contacts) {
+            if (candidateEmails.contains(contact.getEmail())) {
+                takenEmails.put(contact.getEmail(), contact.getId());
+            }
+            if (candidatePhoneNumbers.contains(contact.getPhoneNumber())) {
+                takenPhoneNumbers.put(contact.getPhoneNumber(), contact.getId());
+            }
+        }
+        int taken = takenEmails.size() + takenPhoneNumbers.size();
+        confirmedMatches.increment(taken);
+        falsePositives.increment(candidateEmails.size() + candidatePhoneNumbers.size() - taken);
+        return new TakenContacts(takenEmails, takenPhoneNumbers);
+    }
+
+    /*
+     * Kayıt veritabanına yazıldıktan sonra çağrılmalıdır. Yeniden oluşturma devam ediyorsa değer yeni filtrelere de ekleniyor.
+     * Metot bir transaction içinde çağrıldıysa değer commit sonrasında bir kez daha ekleniyor. Yeniden oluşturma commit'ten önce başlayıp
+     * kaydı veritabanından okuyamazsa değer yeni filtreye bu ikinci eklemeyle giriyor. Aynı değeri tekrar eklemek filtreyi değiştirmiyor.
+     */
+    public void register(String email, String phoneNumber) {
+        put(email, phoneNumber);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(email, phoneNumber);
+                }
+            });
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadFilters() {
+        rebuild();
+    }
+
+    /*
+     * Filtreleri arka planda yeniden oluşturup hazır olduğunda eskileriyle değiştiriyoruz. Bu sırada kontroller eski filtrelerle devam ediyor.
+     * Yeni filtreler okuma başlamadan önce pending alanlarına atandığı için okuma sırasında yapılan kayıtlar kaybolmuyor.
+     */
+    @Scheduled(fixedDelayString = "${authserviceconfig.uniqueness-filter.rebuild-interval:PT6H}", initialDelayString = "${authserviceconfig.uniqueness-filter.rebuild-interval:PT6H}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long expected = Math.max(expectedInsertions, repository.count() * 2);
+        BloomFilter newEmailFilter = new BloomFilter(expected, falsePositiveProbability);
+        BloomFilter newPhoneNumberFilter = new BloomFilter(expected, falsePositiveProbability);
+        Filters previous = filters;
+        swap(new Filters(previous.email(), previous.phoneNumber(), newEmailFilter, newPhoneNumberFilter));
+        boolean rebuilt = false;
+        try (Stream<AuthContactView> contacts = repository.streamAllContacts()) {
+            contacts.forEach(contact -> {
+                put(contact.getEmail(), newEmailFilter, null);
+                put(contact.getPhoneNumber(), newPhoneNumberFilter, null);
+            });
+            swap(new Filters(newEmailFilter, newPhoneNumberFilter, null, null));
+            rebuilt = true;
+        } finally {
+            if (!rebuilt) {
+                swap(new Filters(previous.email(), previous.phoneNumber(), null, null));
+            }
+        }
+    }
+
+    private void put(String email, String phoneNumber) {
+        swapLock.readLock().lock();
+        try {
+            Filters current = filters;
+            put(email, current.email(), current.pendingEmail());
+            put(phoneNumber, current.phoneNumber(), current.pendingPhoneNumber());
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private void swap(Filters newFilters) {
+        swapLock.writeLock().lock();
+        try {
+            filters = newFilters;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    //Filtre henüz doldurulmadıysa(null) bütün değerler veritabanında kontrol ediliyor.
+    private static Set<String> candidates(Collection<String> values, BloomFilter filter) {
+        Set<String> candidates = new HashSet<>();
+        for (String value : values) {
+            if (value != null && (filter == null || filter.mightContain(value))) {
+                candidates.add(value);
+            }
+        }
+        return candidates;
+    }
+
+    private static double expectedFalsePositiveProbability(BloomFilter filter) {
+        return filter == null ? 0 : filter.expectedFalsePositiveProbability();
+    }
+
+    private static void put(String value, BloomFilter filter, BloomFilter pendingFilter) {
+        if (value == null) {
+            return;
+        }
+        if (filter != null) {
+            filter.put(value);
+        }
+        if (pendingFilter != null) {
+            pendingFilter.put(value);
+        }
+    }
+
+    //Değerler veritabanında kullanan kaydın id değeriyle tutuluyor. Değer güncellenen kaydın kendisine aitse çakışma sayılmıyor.
+    public record TakenContacts(Map<String, Long> emails, Map<String, Long> phoneNumbers) {
+
+        public boolean containsAny(Long authId, String email, String phoneNumber) {
+            return isTakenByOther(emails, email, authId) || isTakenByOther(phoneNumbers, phoneNumber, authId);
+        }
+
+        private static boolean isTakenByOther(Map<String, Long> owners, String value, Long authId) {
+            Long owner = value == null ? null : owners.get(value);
+            return owner != null && !owner.equals(authId);
+        }
+
+    }
+
+    //email ve phoneNumber kullanılan filtreler, pending olanlar ise yeniden oluşturma sırasında doldurulan yeni filtreler. Kullanılan filtreler ilk yüklemeden önce null.
+    private record Filters(BloomFilter email, BloomFilter phoneNumber, BloomFilter pendingEmail, BloomFilter pendingPhoneNumber) {
+
+        private boolean isReady() {
+            return email != null && phoneNumber != null;
+        }
+
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.hrms.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hrms.exception.AuthServiceException;
+import org.hrms.exception.ErrorType;
+import org.hrms.utility.KeyedRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Login ve şifre sıfırlama isteklerini email ve istemci ip adresine göre sınırlayan servis sınıfımız.
+ * Kontroller controller katmanında, veritabanına ya da RabbitMQ'ya gitmeden önce yapılıyor. Sınır aşılırsa istek hemen 429 hatası ile reddediliyor.
+ * Kabul edilen ve reddedilen istek sayıları Actuator üzerinden hrms.auth.rate_limit metriği ile izlenebiliyor.
+ * Counter'lar her istekte builder ile yeniden aranmasın diye ilk kullanımda oluşturulup map içinde tutuluyor.
+ */
+@Service
+public class RateLimitService {
+
+    private final KeyedRateLimiter loginByEmail;
+    private final KeyedRateLimiter loginByIp;
+    private final KeyedRateLimiter forgotPasswordByEmail;
+    private final KeyedRateLimiter forgotPasswordByIp;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public RateLimitService(MeterRegistry meterRegistry,
+                            @Value("${authserviceconfig.rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${authserviceconfig.rate-limit.login.email.capacity:5}") int loginEmailCapacity,
+                            @Value("${authserviceconfig.rate-limit.login.email.refill-per-minute:5}") int loginEmailRefill,
+                            @Value("${authserviceconfig.rate-limit.login.ip.capacity:30}") int loginIpCapacity,
+                            @Value("${authserviceconfig.rate-limit.login.ip.refill-per-minute:30}") int loginIpRefill,
+                            @Value("${authserviceconfig.rate-limit.forgot-password.email.capacity:2}") int forgotEmailCapacity,
+                            @Value("${authserviceconfig.rate-limit.forgot-password.email.refill-per-minute:1}") int forgotEmailRefill,
+                            @Value("${authserviceconfig.rate-limit.forgot-password.ip.capacity:10}") int forgotIpCapacity,
+                            @Value("${authserviceconfig.rate-limit.forgot-password.ip.refill-per-minute:5}") int forgotIpRefill) {
+        this.meterRegistry = meterRegistry;
+        this.loginByEmail = new KeyedRateLimiter(loginEmailCapacity, loginEmailRefill, maxKeys);
+        this.loginByIp = new KeyedRateLimiter(loginIpCapacity, loginIpRefill, maxKeys);
+        this.forgotPasswordByEmail = new KeyedRateLimiter(forgotEmailCapacity, forgotEmailRefill, maxKeys);
+        this.forgotPasswordByIp = new KeyedRateLimiter(forgotIpCapacity, forgotIpRefill, maxKeys);
+        trackedKeysGauge("login", "email", loginByEmail);
+        trackedKeysGauge("login", "ip", loginByIp);
+        trackedKeysGauge("forgot_password", "email", forgotPasswordByEmail);
+        trackedKeysGauge("forgot_password", "ip", forgotPasswordByIp);
+    }
+
+    //Önce ip adresini kontrol ediyoruz, böylece tek bir ip'den farklı email'lerle yapılan denemeler email kovalarını tüketmiyor.
+    public void checkLogin(String email, String clientIp) {
+        check("login", "ip", loginByIp, clientIp);
+        check("login", "email", loginByEmail, normalize(email));
+    }
+
+    public void checkForgotPassword(String email, String clientIp) {
+        check("forgot_password", "ip", forgotPasswordByIp, clientIp);
+        check("forgot_password", "email", forgotPasswordByEmail, normalize(email));
+    }
+
+    private void check(String endpoint, String keyType, KeyedRateLimiter limiter, String key) {
+        boolean allowed = limiter.tryAcquire(key == null ? "" : key);
+        counter(endpoint, keyType, allowed ? "allowed" : "rejected").increment();
+        if (!allowed) {
+            throw new AuthServiceException(ErrorType.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private Counter counter(String endpoint, String keyType, String result) {
+        return counters.computeIfAbsent(endpoint + ':' + keyType + ':' + result, ignored -> Counter.builder("hrms.auth.rate_limit")
+                .tag("endpoint", endpoint)
+                .tag("key", keyType)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    //Takip edilen anahtar sayısı max-keys değerine yaklaşıyorsa değer artırılmalıdır.
+    private void trackedKeysGauge(String endpoint, String keyType, KeyedRateLimiter limiter) {
+        Gauge.builder("hrms.auth.rate_limit.tracked_keys", limiter, KeyedRateLimiter::trackedKeys)
+                .tag("endpoint", endpoint)
+                .tag("key", keyType)
+                .register(meterRegistry);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+}
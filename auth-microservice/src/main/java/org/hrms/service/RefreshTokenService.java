@@ -0,0 +1,111 @@
+package org.hrms.service;
+
+import org.hrms.exception.AuthServiceException;
+import org.hrms.exception.ErrorType;
+import org.hrms.repository.IRefreshTokenRepository;
+import org.hrms.repository.entity.RefreshToken;
+import org.hrms.utility.ServiceManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/*
+ * Uzun ömürlü refresh token'ları oluşturan, döndüren(rotation) ve iptal eden servis sınıfımız.
+ * Kullanıcı access token'ının süresi bittiğinde email ve şifre ile tekrar login olmak yerine refresh token ile yeni bir access token alıyor.
+ * Her kullanımda refresh token tek kullanımlık olarak işaretleniyor ve yerine aynı aileden(familyId) yeni bir refresh token veriliyor.
+ */
+@Service
+public class RefreshTokenService extends ServiceManager<RefreshToken, Long> {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final IRefreshTokenRepository repository;
+
+    @Value("${authserviceconfig.refresh-token.expiration:P14D}")
+    private Duration expiration;
+
+    public RefreshTokenService(IRefreshTokenRepository repository) {
+        super(repository);
+        this.repository = repository;
+    }
+
+    //Login işleminde yeni bir token ailesi başlatıyoruz.
+    public String createRefreshToken(Long authId) {
+        return issue(authId, UUID.randomUUID().toString());
+    }
+
+    /*
+     * Rastgele 32 byte'lık bir token üretip kullanıcıya ham halini dönüyoruz, veritabanına ise sadece SHA-256 özetini kaydediyoruz.
+     */
+    public String issue(Long authId, String familyId) {
+        byte[] randomBytes = new byte[32];
+        SECURE_RANDOM.nextBytes(randomBytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(randomBytes);
+
+        save(RefreshToken.builder()
+                .authId(authId)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(System.currentTimeMillis() + expiration.toMillis())
+                .build());
+
+        return rawToken;
+    }
+
+    /*
+     * Gelen refresh token'ı tek kullanımlık olarak tüketiyoruz ve geriye token kaydını dönüyoruz.
+     * Token daha önce kullanılmışsa aynı aileye ait bütün token'ları iptal ediyoruz ve hata fırlatıyoruz.
+     * noRollbackFor ile hata fırlatılsa bile iptal işleminin veritabanına yazılmasını sağlıyoruz.
+     */
+    @Transactional(noRollbackFor = AuthServiceException.class)
+    public RefreshToken consume(String rawToken) {
+        Optional<RefreshToken> optionalRefreshToken = repository.findOptionalByTokenHash(hash(rawToken));
+        if (optionalRefreshToken.isEmpty()) {
+            throw new AuthServiceException(ErrorType.INVALID_REFRESH_TOKEN);
+        }
+        RefreshToken refreshToken = optionalRefreshToken.get();
+        long now = System.currentTimeMillis();
+
+        if (refreshToken.isRevoked() || refreshToken.getExpiresAt() < now) {
+            throw new AuthServiceException(ErrorType.INVALID_REFRESH_TOKEN);
+        }
+        if (refreshToken.isUsed() || repository.markUsed(refreshToken.getId(), now) == 0) {
+            repository.revokeFamily(refreshToken.getFamilyId(), now);
+            throw new AuthServiceException(ErrorType.REFRESH_TOKEN_REUSED);
+        }
+        return refreshToken;
+    }
+
+    @Transactional
+    public void revokeFamily(String familyId) {
+        repository.revokeFamily(familyId, System.currentTimeMillis());
+    }
+
+    //Süresi dolmuş refresh token'ları her saat başı tablodan temizleyerek tablonun küçük kalmasını sağlıyoruz.
+    @Scheduled(cron = "0 0 * * * *")
+    @Transactional
+    public void deleteExpiredTokens() {
+        repository.deleteExpired(System.currentTimeMillis());
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
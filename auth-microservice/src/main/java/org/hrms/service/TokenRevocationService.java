@@ -0,0 +1,78 @@
+package org.hrms.service;
+
+import lombok.RequiredArgsConstructor;
+import org.hrms.exception.AuthServiceException;
+import org.hrms.exception.ErrorType;
+import org.hrms.rabbitmq.producer.TokenRevokedProducer;
+import org.hrms.repository.IRevokedTokenRepository;
+import org.hrms.repository.entity.RevokedToken;
+import org.hrms.security.SecurityProperties;
+import org.hrms.security.TokenRevocationList;
+import org.hrms.security.TokenRevokedModel;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+
+/*
+ * Token iptal işlemlerini yöneten servis sınıfımız.
+ * İptal edilen code önce veritabanına yazılıyor, sonra bellekteki listeye ekleniyor ve son olarak RabbitMQ ile bütün servislere yayınlanıyor.
+ * Doğrulama sırasında sadece bellekteki liste kontrol edildiği için her istekte veritabanına gidilmiyor.
+ */
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final IRevokedTokenRepository repository;
+    private final TokenRevocationList revocationList;
+    private final TokenRevokedProducer tokenRevokedProducer;
+    private final SecurityProperties securityProperties;
+
+    public void revoke(String code, Long expiresAt) {
+        if (code == null || expiresAt == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        repository.save(RevokedToken.builder()
+                .code(code)
+                .expiresAt(expiresAt)
+                .build());
+        revocationList.revoke(code, expiresAt);
+        tokenRevokedProducer.convertAndSend(TokenRevokedModel.builder()
+                .code(code)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    /*
+     * Diğer servisler açılırken süresi dolmamış iptalleri bu metot üzerinden çekiyor.
+     * Liste sadece hrms.security.internal-token değerini gönderen servislere veriliyor. Anahtar tanımlı değilse liste hiç kimseye verilmiyor.
+     * Karşılaştırmayı MessageDigest.isEqual ile yapıyoruz, bu metot eşleşen karakter sayısına göre farklı sürede dönmediği için anahtar tahmin edilemiyor.
+     */
+    public Map<String, Long> findActiveRevocations(String internalToken) {
+        String expectedToken = securityProperties.getInternalToken();
+        if (expectedToken == null || expectedToken.isBlank() || internalToken == null
+                || !MessageDigest.isEqual(expectedToken.getBytes(StandardCharsets.UTF_8), internalToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new AuthServiceException(ErrorType.INTERNAL_ACCESS_DENIED);
+        }
+        return revocationList.snapshot();
+    }
+
+    //Uygulama ayağa kalktığında süresi dolmamış iptal kayıtlarını veritabanından bellekteki listeye yüklüyoruz.
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        repository.findAllByExpiresAtGreaterThan(System.currentTimeMillis())
+                .forEach(item -> revocationList.revoke(item.getCode(), item.getExpiresAt()));
+    }
+
+    @Scheduled(cron = "0 30 * * * *")
+    @Transactional
+    public void deleteExpiredRevocations() {
+        repository.deleteExpired(System.currentTimeMillis());
+    }
+
+}
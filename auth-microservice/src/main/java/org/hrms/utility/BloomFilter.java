@@ -0,0 +1,79 @@
+package org.hrms.utility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Bir değerin daha önce eklenip eklenmediğini bellekte çok az yer kaplayarak cevaplayan olasılıksal veri yapımız(Bloom filter).
+ * mightContain false dönerse değer kesinlikle eklenmemiştir. true dönerse değer büyük ihtimalle eklenmiştir ama düşük bir olasılıkla yanlış pozitif olabilir.
+ * Bu yüzden false cevabında veritabanına gitmeden devam edebiliyoruz, true cevabında ise veritabanından kontrol etmemiz gerekiyor.
+ * Bitleri AtomicLongArray içinde tuttuğumuz için aynı anda birden fazla thread güvenle ekleme ve sorgulama yapabiliyor.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    //Beklenen eleman sayısına ve istenen yanlış pozitif oranına göre bit dizisinin boyutunu ve hash fonksiyonu sayısını hesaplıyoruz.
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+        long expected = Math.max(1, expectedInsertions);
+        long size = (long) Math.ceil(-expected * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, size);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expected * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    public void put(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(hash1 + (long) i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                //compareAndSet başarısız olursa başka bir thread aynı kelimeyi değiştirmiştir, tekrar deniyoruz.
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash(value);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = Math.floorMod(hash1 + (long) i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //Dolu bit oranına göre o anki tahmini yanlış pozitif olasılığını hesaplıyoruz.
+    public double expectedFalsePositiveProbability() {
+        long setBits = 0;
+        for (int i = 0; i < bits.length(); i++) {
+            setBits += Long.bitCount(bits.get(i));
+        }
+        return Math.pow((double) setBits / bitSize, hashCount);
+    }
+
+    //64 bitlik FNV-1a hash'ini murmur3'ün son karıştırma adımıyla dağıtıyoruz. İki ayrı hash değerini bu sonucun alt ve üst 32 bitinden alıyoruz.
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte item : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= item;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+}
@@ -23,4 +23,9 @@ public class CodeGenerator {
         return activationCode.toString();
     }
 
+    //Login token'larına yazılan code değeri iptal listesinde anahtar olarak kullanıldığı için çakışmaması gerekiyor. Bu yüzden UUID'nin tamamını kullanıyoruz.
+    public static String generateTokenCode(){
+        return UUID.randomUUID().toString();
+    }
+
 }
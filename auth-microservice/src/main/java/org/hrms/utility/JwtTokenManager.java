@@ -1,12 +1,12 @@
 package org.hrms.utility;
 
 import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTVerifier;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.DecodedJWT;
+import lombok.RequiredArgsConstructor;
 import org.hrms.exception.AuthServiceException;
 import org.hrms.exception.ErrorType;
 import org.hrms.repository.enums.ERole;
+import org.hrms.security.TokenClaims;
+import org.hrms.security.TokenVerifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import java.util.Date;
@@ -19,19 +19,25 @@ import java.util.Optional;
  * @Service, @Repository ve @Controller gibi diğer spesifik bileşen anotasyonları bünyesinde @Component anotasyonuna sahiptir.
  */
 @Component
+@RequiredArgsConstructor
 public class JwtTokenManager {
 
     /*
      * @Value annotasyonu, Spring uygulamalarında dış yapılandırma dosyalarından değerleri doğrudan enjekte etmek için kullanılır.
-     * Parantez içinde yml dosyamızdaki yolu vererek o yola karşılık gelen değerleri SecretKey ve Issuer değişkenlerimize enjekte etmiş oluyoruz.
+     * Parantez içinde yml dosyamızdaki yolu vererek o yola karşılık gelen değeri Issuer değişkenimize enjekte etmiş oluyoruz.
      */
-    @Value("${authserviceconfig.secrets.secret-key}")
-    String secretKey;
     @Value("${authserviceconfig.secrets.issuer}")
     String issuer;
 
     private final Long expirationTime=1000L*60*13; // 13 dakika boyunca token'imiz aktif olacak süre bittiğinde token'ın geçerliliği bitecek.
 
+    /*
+     * İmzalama algoritmasını ve anahtarlarını SigningKeyManager sınıfından alıyoruz. RS256 kullanıldığında token başlığına anahtarın kid değeri de yazılıyor.
+     * Token doğrulama işini ise bütün servislerin ortak kullandığı common-security kütüphanesindeki TokenVerifier sınıfına bırakıyoruz.
+     */
+    private final SigningKeyManager signingKeyManager;
+    private final TokenVerifier tokenVerifier;
+
     //JWT sınıfı üzerinden create() metodunu çağırarak gerekli parametreleri veriyoruz ve geriye optional olarak String bir token dönüyoruz.
     public Optional<String> createToken(Long id) {
         try {
@@ -41,7 +47,7 @@ public class JwtTokenManager {
                     .withIssuer(issuer)
                     .withIssuedAt(new Date(System.currentTimeMillis())) //Token'ın oluştuğu zaman
                     .withExpiresAt(new Date(System.currentTimeMillis() + expirationTime)) //Token'ın geçerlilik süresinin bittiği zaman
-                    .sign(Algorithm.HMAC512(secretKey)));
+                    .sign(signingKeyManager.signingAlgorithm()));
         } catch (Exception e) {
             return Optional.empty();
         }
@@ -56,7 +62,7 @@ public class JwtTokenManager {
                     .withIssuer(issuer)
                     .withIssuedAt(new Date(System.currentTimeMillis()))
                     .withExpiresAt(new Date(System.currentTimeMillis()+expirationTime))
-                    .sign(Algorithm.HMAC512(secretKey)));
+                    .sign(signingKeyManager.signingAlgorithm()));
         }catch (Exception e){
             throw new AuthServiceException(ErrorType.TOKEN_NOT_CREATED);
         }
@@ -72,73 +78,37 @@ public class JwtTokenManager {
                     .withIssuer(issuer)
                     .withIssuedAt(new Date(System.currentTimeMillis()))
                     .withExpiresAt(new Date(System.currentTimeMillis()+expirationTime))
-                    .sign(Algorithm.HMAC512(secretKey)));
+                    .sign(signingKeyManager.signingAlgorithm()));
         }catch (Exception e){
             throw new AuthServiceException(ErrorType.TOKEN_NOT_CREATED);
         }
     }
 
-    //Token'ın doğrulunu kontrol ediyoruz. Oluşturduğumuz token'ı verify ederek null olup olmadığını kontrol ediyoruz.
-    public Boolean verifyToken(String token){
-        try {
-            Algorithm algorithm=Algorithm.HMAC512(secretKey);
-            JWTVerifier verifier=JWT.require(algorithm).withIssuer(issuer).build();
-            DecodedJWT decodedJWT = verifier.verify(token);
-
-            if (decodedJWT==null){
-                return false;
-            }
+    //Token'ı doğrulayıp içindeki claim'leri tek seferde çıkardığımız metot. Diğer bütün okuma metotları bu metodu kullanıyor.
+    public Optional<TokenClaims> verifyAndDecode(String token){
+        return tokenVerifier.verify(token);
+    }
 
-        }catch (Exception e){
-            return false;
-        }
-        return true;
+    //Token'ın doğrulunu kontrol ediyoruz. Token doğrulanabiliyorsa true, doğrulanamıyorsa false dönüyoruz.
+    public Boolean verifyToken(String token){
+        return verifyAndDecode(token).isPresent();
     }
 
-    //Token içinden bilgi çıkarımı yapıyoruz. Eğer token boş değilse getClaim() metoduyla içinden id değerini çekiyoruz.
+    //Token içinden bilgi çıkarımı yapıyoruz. Eğer token doğrulanabiliyorsa içinden id değerini dönüyoruz.
     public Optional<Long> decodeToken(String token){
-        try {
-            Algorithm algorithm=Algorithm.HMAC512(secretKey);
-            JWTVerifier verifier=JWT.require(algorithm).withIssuer(issuer).build();
-            DecodedJWT decodedJWT = verifier.verify(token);
-
-            if (decodedJWT==null){
-                return Optional.empty();
-            }
-
-            Long id = decodedJWT.getClaim("id").asLong();
-            return Optional.of(id);
-        }catch (Exception e){
-            return Optional.empty();
-        }
+        return verifyAndDecode(token).map(TokenClaims::getId);
     }
 
-    //Token içinden bilgi çıkarımı yapıyoruz. Eğer token boş değilse getClaim() metoduyla içinden id değerini çekiyoruz.
+    //Token içinden bilgi çıkarımı yapıyoruz. Eğer token doğrulanamıyorsa hata fırlatıyoruz, doğrulanabiliyorsa içinden id değerini dönüyoruz.
     public Optional<Long> getIdFromToken(String token){
-        Algorithm algorithm=Algorithm.HMAC512(secretKey);
-        JWTVerifier verifier= JWT.require(algorithm).withIssuer(issuer).build();
-        DecodedJWT decodedJWT= verifier.verify(token);
-
-        if (decodedJWT==null){
-            throw new AuthServiceException(ErrorType.INVALID_TOKEN);
-        }
-
-        Long id=decodedJWT.getClaim("id").asLong();
-        return Optional.of(id);
+        TokenClaims claims = verifyAndDecode(token).orElseThrow(() -> new AuthServiceException(ErrorType.INVALID_TOKEN));
+        return Optional.ofNullable(claims.getId());
     }
 
-    //Token içinden bilgi çıkarımı yapıyoruz. Eğer token boş değilse getClaim() metoduyla içinden role değerini çekiyoruz.
+    //Token içinden bilgi çıkarımı yapıyoruz. Eğer token doğrulanamıyorsa hata fırlatıyoruz, doğrulanabiliyorsa içinden role değerini dönüyoruz.
     public Optional<String> getRoleFromToken(String token){
-        Algorithm algorithm=Algorithm.HMAC512(secretKey);
-        JWTVerifier verifier= JWT.require(algorithm).withIssuer(issuer).build();
-        DecodedJWT decodedJWT= verifier.verify(token);
-
-        if (decodedJWT==null){
-            throw new AuthServiceException(ErrorType.INVALID_TOKEN);
-        }
-
-        String role=decodedJWT.getClaim("role").asString();
-        return Optional.of(role);
+        TokenClaims claims = verifyAndDecode(token).orElseThrow(() -> new AuthServiceException(ErrorType.INVALID_TOKEN));
+        return Optional.ofNullable(claims.getRole());
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package org.hrms.utility;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Anahtar bazlı(email, ip adresi gibi) istek sınırlaması yapan token bucket sınıfımız.
+ * Her anahtarın kendi kovası var, bu yüzden farklı kullanıcıların denemeleri birbirinin sınırını tüketmiyor.
+ * Kovanın durumu tek bir AtomicLong değerinde tutuluyor: üst 22 bit kalan token sayısı(binde bir hassasiyetle), alt 42 bit son doldurma zamanı.
+ * Bu sayede token hesaplama ve düşme işlemi tek bir compareAndSet ile kilitsiz(lock-free) yapılıyor ve hiçbir global kilit kullanılmıyor.
+ * Kovalar en fazla maxKeys kayıt tutan bir Caffeine önbelleğinde duruyor. Bir kova boş bir kovanın tamamen dolması için gereken süre boyunca
+ * kullanılmazsa zaten dolu hale geldiği için önbellekten siliniyor, yani silinmesi sınırlamayı değiştirmiyor.
+ * Önbellek dolarsa(dakikada maxKeys'ten fazla farklı anahtar gelirse) en az kullanılan kovalar silinir ve bu anahtarlar dolu bir kovayla yeniden başlar.
+ */
+public class KeyedRateLimiter {
+
+    private static final int SCALE = 1000;
+    private static final int TIME_BITS = 42;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+    private static final long MAX_TOKENS = (1L << (Long.SIZE - TIME_BITS)) - 1;
+
+    private final Cache<String, AtomicLong> buckets;
+    private final long capacity;
+    private final double refillPerMilli;
+    private final long epoch = System.currentTimeMillis();
+
+    /*
+     * capacity: Kovanın alabileceği en fazla token sayısı yani art arda yapılabilecek istek sayısı.
+     * refillPerMinute: Dakikada kovaya eklenen token sayısı.
+     * maxKeys: Aynı anda takip edilen en fazla anahtar sayısı.
+     * Kovanın değeri 0 ise kova yeni oluşturulmuştur ve dolu kabul ediliyor.
+     */
+    public KeyedRateLimiter(int capacity, int refillPerMinute, long maxKeys) {
+        if (capacity <= 0 || (long) capacity * SCALE > MAX_TOKENS) {
+            throw new IllegalArgumentException("Rate limit capacity must be between 1 and " + MAX_TOKENS / SCALE);
+        }
+        this.capacity = (long) capacity * SCALE;
+        this.refillPerMilli = Math.max(1, refillPerMinute) * (double) SCALE / 60_000;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofMillis((long) Math.ceil(this.capacity / refillPerMilli)).plusSeconds(1))
+                .build();
+    }
+
+    public boolean tryAcquire(String key) {
+        AtomicLong bucket = buckets.get(key, ignored -> new AtomicLong());
+        long now = (System.currentTimeMillis() - epoch) & TIME_MASK;
+        while (true) {
+            long state = bucket.get();
+            long tokens;
+            long refilledAt;
+            if (state == 0) {
+                tokens = capacity;
+                refilledAt = now;
+            } else {
+                long lastRefill = state & TIME_MASK;
+                long elapsed = Math.max(0, now - lastRefill);
+                long refill = (long) (elapsed * refillPerMilli);
+                tokens = (state >>> TIME_BITS) + refill;
+                if (tokens >= capacity) {
+                    tokens = capacity;
+                    refilledAt = now;
+                } else {
+                    //Kesirli kısım kaybolmasın diye zamanı sadece eklenen token'lara karşılık gelen süre kadar ilerletiyoruz.
+                    refilledAt = lastRefill + (long) (refill / refillPerMilli);
+                }
+            }
+            if (tokens < SCALE) {
+                return false;
+            }
+            long newState = ((tokens - SCALE) << TIME_BITS) | refilledAt;
+            if (bucket.compareAndSet(state, newState == 0 ? 1 : newState)) {
+                return true;
+            }
+        }
+    }
+
+    public long trackedKeys() {
+        return buckets.estimatedSize();
+    }
+
+}
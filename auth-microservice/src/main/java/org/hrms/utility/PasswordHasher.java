@@ -0,0 +1,168 @@
+package org.hrms.utility;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.exception.AuthServiceException;
+import org.hrms.exception.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/*
+ * Şifreleri bcrypt ile tuzlayarak(salt) hashleyen ve doğrulayan sınıfımız.
+ * bcrypt bilerek yavaş çalışan bir algoritma olduğu için hashleme işlemlerini Tomcat'in istek thread'lerinde değil, sınırlı sayıda thread'i olan ayrı bir havuzda çalıştırıyoruz.
+ * Havuzun kuyruğu dolarsa yeni istekleri bekletmeden reddediyoruz, böylece yoğun login trafiği bütün istek thread'lerini tüketemiyor.
+ * Maliyet(strength) değeri yml dosyasından ayarlanabiliyor. Değer artırıldığında eski hash'ler kullanıcı başarılı login olduğunda yeni maliyetle tekrar hashleniyor.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final String BCRYPT_PREFIX = "$2";
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration waitTimeout;
+    private final Duration targetLatency;
+    private final String dummyHash;
+
+    public PasswordHasher(@Value("${authserviceconfig.password.bcrypt-strength:12}") int strength,
+                          @Value("${authserviceconfig.password.hashing-threads:0}") int hashingThreads,
+                          @Value("${authserviceconfig.password.queue-capacity:100}") int queueCapacity,
+                          @Value("${authserviceconfig.password.wait-timeout:PT5S}") Duration waitTimeout,
+                          @Value("${authserviceconfig.password.target-latency:}") Duration targetLatency) {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = new BCryptPasswordEncoder(BCryptPasswordEncoder.BCryptVersion.$2B, strength);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "password-hasher");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeout = waitTimeout;
+        this.targetLatency = targetLatency;
+        this.dummyHash = passwordEncoder.encode("dummy-password");
+    }
+
+    public String hash(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /*
+     * Toplu güncellemelerde şifreleri tek tek beklemek yerine hepsini havuza bırakıp birlikte bekliyoruz, böylece havuzdaki bütün thread'ler aynı anda çalışıyor.
+     * Havuz dolduğu ya da süre aşıldığı için hashlenemeyen şifrelerin yerine null dönüyor, çağıran metot bu şifreleri daha sonra hash ile tekrar deneyebiliyor.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            try {
+                futures.add(executor.submit(() -> passwordEncoder.encode(rawPassword)));
+            } catch (RejectedExecutionException e) {
+                futures.add(null);
+            }
+        }
+        List<String> hashes = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            try {
+                hashes.add(future == null ? null : await(future));
+            } catch (AuthServiceException e) {
+                hashes.add(null);
+            }
+        }
+        return hashes;
+    }
+
+    public boolean isHash(String password) {
+        return password != null && BCRYPT_PATTERN.matcher(password).matches();
+    }
+
+    /*
+     * Veritabanındaki değer bcrypt hash'i değilse bu değer eski sürümden kalan düz metin bir şifredir. Bu durumda sabit süreli karşılaştırma yapıyoruz
+     * ve kullanıcı başarılı login olduğunda needsRehash true döndüğü için şifresi hashlenerek kaydediliyor.
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        if (!storedPassword.startsWith(BCRYPT_PREFIX)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8), storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> passwordEncoder.matches(rawPassword, storedPassword));
+    }
+
+    //Kullanıcı bulunamadığında da aynı sürede cevap dönmek için sahte bir hash ile karşılaştırma yapıyoruz. Böylece cevap süresinden kayıtlı email'ler tahmin edilemiyor.
+    public void simulateMatch(String rawPassword) {
+        matches(rawPassword == null ? "" : rawPassword, dummyHash);
+    }
+
+    public boolean needsRehash(String storedPassword) {
+        return storedPassword == null || !storedPassword.startsWith(BCRYPT_PREFIX) || passwordEncoder.upgradeEncoding(storedPassword);
+    }
+
+    /*
+     * target-latency tanımlanmışsa uygulama açılışında çalıştığımız donanımda farklı maliyet değerlerinin ne kadar sürdüğünü ölçüyoruz
+     * ve hedef süreyi aşmayan en yüksek maliyet değerini log olarak yazıyoruz. bcrypt-strength değeri bu sonuca göre ayarlanabilir.
+     * Eş zamanlı isteklerde havuzda bekleme dahil süreler PasswordHasherBenchmark ile ölçülüyor.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+        if (targetLatency == null || targetLatency.isZero()) {
+            return;
+        }
+        int recommendedStrength = 4;
+        for (int strength = 4; strength <= 16; strength++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(BCryptPasswordEncoder.BCryptVersion.$2B, strength);
+            encoder.encode("calibration-password");
+            long start = System.nanoTime();
+            encoder.encode("calibration-password");
+            long elapsed = System.nanoTime() - start;
+            log.debug("bcrypt strength {}: {} ms", strength, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            if (elapsed > targetLatency.toNanos()) {
+                break;
+            }
+            recommendedStrength = strength;
+        }
+        log.info("Recommended bcrypt strength for {} ms target: {}", targetLatency.toMillis(), recommendedStrength);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            throw new AuthServiceException(ErrorType.SERVER_BUSY);
+        }
+        return await(future);
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new AuthServiceException(ErrorType.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AuthServiceException(ErrorType.INTERNAL_SERVER_ERROR);
+        } catch (ExecutionException e) {
+            throw new AuthServiceException(ErrorType.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+package org.hrms.utility;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * Token imzalamada kullanılan anahtarları yöneten sınıfımız.
+ * hrms.security.algorithm değeri HS512 ise eskisi gibi ortak secretKey ile imzalıyoruz. secretKey sadece bu durumda zorunludur.
+ * RS256 ise her anahtarın bir kid(key id) değeri oluyor ve bu değer token'ın başlığına(header) yazılıyor. Doğrulayan servisler hangi açık anahtarı kullanacaklarını kid üzerinden buluyor.
+ * Anahtar rotationInterval süresi dolunca yenisiyle değiştiriliyor ama eski anahtar, onunla imzalanmış token'ların süresi bitene kadar JWKS listesinde yayınlanmaya devam ediyor.
+ * 2048 bitlik bir RSA anahtarı üretmek yüzlerce milisaniye sürebildiği için sıradaki anahtar login isteklerinde değil zamanlanmış görevde önceden üretiliyor.
+ * Sıradaki anahtar kullanılmaya başlamadan önce JWKS listesine eklendiği için doğrulayan servisler onu rotasyondan önce öğrenebiliyor.
+ * Birden fazla auth-microservice çalıştırılacaksa bütün örneklerin aynı anahtarla imzalaması için private-key değeri(Base64 PKCS#8) tanımlanmalıdır. Bu durumda rotasyon yapılmaz.
+ */
+@Component
+public class SigningKeyManager implements RSAKeyProvider {
+
+    @Value("${hrms.security.algorithm:HS512}")
+    String algorithmName;
+    @Value("${authserviceconfig.secrets.secret-key:}")
+    String secretKey;
+    @Value("${authserviceconfig.signing.private-key:}")
+    String configuredPrivateKey;
+    @Value("${authserviceconfig.signing.rotation-interval:P1D}")
+    Duration rotationInterval;
+    @Value("${authserviceconfig.signing.retention:PT30M}")
+    Duration retention;
+
+    private final List<SigningKey> keys = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> retiredKeys = new ConcurrentHashMap<>();
+    private volatile SigningKey currentKey;
+    private volatile long currentKeyActivatedAt;
+    private SigningKey nextKey;
+    private Algorithm algorithm;
+
+    @PostConstruct
+    public void init() {
+        switch (algorithmName) {
+            case "HS512" -> {
+                if (secretKey.isBlank()) {
+                    throw new IllegalStateException("authserviceconfig.secrets.secret-key must be set when the token algorithm is HS512");
+                }
+                algorithm = Algorithm.HMAC512(secretKey);
+            }
+            case "RS256" -> {
+                currentKey = configuredPrivateKey.isBlank() ? generateKey() : readConfiguredKey();
+                currentKeyActivatedAt = System.currentTimeMillis();
+                keys.add(currentKey);
+                algorithm = Algorithm.RSA256(this);
+            }
+            default -> throw new IllegalStateException("Unsupported token algorithm: " + algorithmName);
+        }
+    }
+
+    //Token doğrulamada kullanılan algoritma. RS256'da açık anahtar token başlığındaki kid değeriyle bulunuyor.
+    public Algorithm algorithm() {
+        return algorithm;
+    }
+
+    /*
+     * Token imzalamada kullanılan algoritma. java-jwt kid değerini ve özel anahtarı ayrı ayrı istediği için tek bir anahtarın değerlerini dönen algoritmayı veriyoruz.
+     * Böylece imzalama sırasında rotasyon olsa bile token'ın başlığındaki kid ile imzayı atan anahtar her zaman aynı oluyor.
+     */
+    public Algorithm signingAlgorithm() {
+        SigningKey key = currentKey;
+        return key == null ? algorithm : key.signer();
+    }
+
+    public boolean isAsymmetric() {
+        return currentKey != null;
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) {
+        for (SigningKey key : keys) {
+            if (key.kid().equals(keyId)) {
+                return key.publicKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return currentKey.privateKey();
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return currentKey.kid();
+    }
+
+    /*
+     * JWKS(JSON Web Key Set) formatında yayınlanan açık anahtar listesini oluşturuyoruz.
+     * Listede o an kullanılan anahtarın yanında sıradaki anahtar ve süresi henüz dolmamış token'ları doğrulayabilmek için eski anahtarlar da bulunuyor.
+     */
+    public Map<String, Object> jwks() {
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        for (SigningKey key : keys) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "RSA");
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", key.kid());
+            jwk.put("n", base64Url(key.publicKey().getModulus()));
+            jwk.put("e", base64Url(key.publicKey().getPublicExponent()));
+            jwkList.add(jwk);
+        }
+        return Map.of("keys", jwkList);
+    }
+
+    /*
+     * Sıradaki anahtarı önceden üretip yayınlıyor, kullanılan anahtarın süresi dolduysa sıradaki anahtarla değiştiriyor ve retention süresi geçen eski anahtarları siliyor.
+     * Değişim tek bir volatile atamayla yapıldığı için imzalayan istekler hiçbir zaman beklemiyor.
+     */
+    @Scheduled(fixedDelayString = "${authserviceconfig.signing.rotation-check-interval:PT1M}")
+    public synchronized void rotateKeys() {
+        if (currentKey == null || !configuredPrivateKey.isBlank()) {
+            return;
+        }
+        if (nextKey == null) {
+            nextKey = generateKey();
+            keys.add(nextKey);
+        }
+        long now = System.currentTimeMillis();
+        if (now - currentKeyActivatedAt >= rotationInterval.toMillis()) {
+            retiredKeys.put(currentKey.kid(), now);
+            currentKey = nextKey;
+            currentKeyActivatedAt = now;
+            nextKey = generateKey();
+            keys.add(nextKey);
+        }
+        retiredKeys.entrySet().removeIf(entry -> {
+            boolean expired = now - entry.getValue() > retention.toMillis();
+            if (expired) {
+                keys.removeIf(key -> key.kid().equals(entry.getKey()));
+            }
+            return expired;
+        });
+    }
+
+    private SigningKey generateKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair keyPair = generator.generateKeyPair();
+            return signingKey((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+        } catch (Exception e) {
+            throw new IllegalStateException("Signing key could not be created...", e);
+        }
+    }
+
+    private SigningKey readConfiguredKey() {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            RSAPrivateCrtKey privateKey = (RSAPrivateCrtKey) keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(configuredPrivateKey)));
+            RSAPublicKey publicKey = (RSAPublicKey) keyFactory.generatePublic(new RSAPublicKeySpec(privateKey.getModulus(), privateKey.getPublicExponent()));
+            return signingKey(publicKey, privateKey);
+        } catch (Exception e) {
+            throw new IllegalStateException("Signing key could not be read...", e);
+        }
+    }
+
+    //Her anahtar kendi kid değerini ve özel anahtarını dönen bir imzalama algoritmasıyla birlikte tutuluyor.
+    private static SigningKey signingKey(RSAPublicKey publicKey, RSAPrivateKey privateKey) throws Exception {
+        String kid = keyId(publicKey);
+        Algorithm signer = Algorithm.RSA256(new RSAKeyProvider() {
+            @Override
+            public RSAPublicKey getPublicKeyById(String keyId) {
+                return publicKey;
+            }
+
+            @Override
+            public RSAPrivateKey getPrivateKey() {
+                return privateKey;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return kid;
+            }
+        });
+        return new SigningKey(kid, publicKey, privateKey, signer);
+    }
+
+    //kid değerini açık anahtarın SHA-256 özetinden üretiyoruz, böylece aynı anahtar her zaman aynı kid değerini alıyor.
+    private static String keyId(RSAPublicKey publicKey) throws Exception {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update(publicKey.getModulus().toByteArray());
+        messageDigest.update(publicKey.getPublicExponent().toString().getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(messageDigest.digest()).substring(0, 16);
+    }
+
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private record SigningKey(String kid, RSAPublicKey publicKey, RSAPrivateKey privateKey, Algorithm signer) {
+    }
+
+}
@@ -0,0 +1,6 @@
+-- Sadece aktif(ACTIVE) kayıtları içeren koşullu(partial) indeksler.
+-- Silinmiş ve onay bekleyen kayıtlar indekse girmediği için indeksler küçük kalıyor ve ISoftDeleteRepository sorguları sadece canlı kayıtlara dokunuyor.
+-- Tablolar Hibernate(ddl-auto: update) tarafından oluşturulduktan sonra spring.sql.init ile çalıştırılıyor, IF NOT EXISTS sayesinde her açılışta tekrar çalışabiliyor.
+
+-- Listeleme sorgusu için (status, id) indeksi zaten Auth entity sınıfında tanımlı.
+CREATE INDEX IF NOT EXISTS idx_auth_active_email ON tbl_auth (email) WHERE status = 'ACTIVE';
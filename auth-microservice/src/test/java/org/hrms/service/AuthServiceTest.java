@@ -0,0 +1,189 @@
+package org.hrms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hrms.exception.ErrorType;
+import org.hrms.dto.request.GuestRegisterRequestDto;
+import org.hrms.rabbitmq.model.AuthUpdateModel;
+import org.hrms.rabbitmq.model.GuestRegisterModel;
+import org.hrms.rabbitmq.producer.*;
+import org.hrms.repository.IAuthRepository;
+import org.hrms.repository.entity.Auth;
+import org.hrms.repository.enums.EGender;
+import org.hrms.repository.enums.EStatus;
+import org.hrms.repository.view.AuthContactView;
+import org.hrms.utility.JwtTokenManager;
+import org.hrms.utility.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private final IAuthRepository repository = mock(IAuthRepository.class);
+    private final PasswordHasher passwordHasher = new PasswordHasher(4, 1, 10, Duration.ofSeconds(5), null);
+    private final JwtTokenManager jwtTokenManager = mock(JwtTokenManager.class);
+    private final GuestRegisterProducer guestRegisterProducer = mock(GuestRegisterProducer.class);
+    private ContactUniquenessService contactUniquenessService;
+    private AuthService authService;
+    private Auth ayse;
+    private Auth mehmet;
+
+    //Bloom filter'lar doldurulmadığı için bütün değerler veritabanında(mock) kontrol ediliyor.
+    @BeforeEach
+    void setUp() {
+        contactUniquenessService = new ContactUniquenessService(repository, new SimpleMeterRegistry());
+        authService = new AuthService(repository, jwtTokenManager, guestRegisterProducer, mock(CompanyRegisterProducer.class),
+                mock(GuestForgotPasswordProducer.class), mock(EmployeeForgotPasswordProducer.class), mock(ManagerForgotPasswordProducer.class),
+                mock(EmployeeCreateSetAuthIdProducer.class), mock(MailSenderProducer.class), mock(ManagerActivateStatusProducer.class),
+                mock(GuestActivateStatusProducer.class), mock(MailForgotPasswordProducer.class), mock(AdminSaveSetAuthIdProducer.class),
+                mock(RefreshTokenService.class), mock(TokenRevocationService.class), contactUniquenessService, passwordHasher);
+
+        ayse = auth(1L, "ayse@example.com", "05550000001");
+        mehmet = auth(2L, "mehmet@example.com", "05550000002");
+        when(repository.findAllById(any())).thenReturn(List.of(ayse, mehmet));
+        List<AuthContactView> contacts = List.of(contact(ayse), contact(mehmet));
+        when(repository.findAllByEmailInOrPhoneNumberIn(anyCollection(), anyCollection())).thenReturn(contacts);
+        when(repository.findAllByEmailOrPhoneNumber(any(), any())).thenReturn(List.of(contact(ayse)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    //Diğer servisler güncellemede kaydın bütün alanlarını gönderdiği için kullanıcının kendi email ve telefon numarası çakışma sayılmamalı.
+    @Test
+    void acceptsBatchWithUnchangedContacts() {
+        Map<Integer, ErrorType> failures = authService.softUpdateAll(List.of(
+                update(1L, "ayse@example.com", "05550000001", "Ayşe Nur"),
+                update(2L, "mehmet@example.com", "05550000002", "Mehmet Ali")));
+
+        assertThat(failures).isEmpty();
+        assertThat(ayse.getName()).isEqualTo("Ayşe Nur");
+        assertThat(mehmet.getName()).isEqualTo("Mehmet Ali");
+    }
+
+    @Test
+    void rejectsContactOfAnotherAuth() {
+        Map<Integer, ErrorType> failures = authService.softUpdateAll(List.of(
+                update(1L, "mehmet@example.com", "05550000001", "Ayşe Nur"),
+                update(2L, "mehmet@example.com", "05550000002", "Mehmet Ali")));
+
+        assertThat(failures).containsExactly(Map.entry(0, ErrorType.EMAIL_OR_PHONE_ALREADY_EXISTS));
+        assertThat(ayse.getEmail()).isEqualTo("ayse@example.com");
+        assertThat(mehmet.getName()).isEqualTo("Mehmet Ali");
+    }
+
+    //Aynı kaydın ardışık güncellemeleri aynı batch'e düşebiliyor, ikinci güncelleme de uygulanmalı.
+    @Test
+    void acceptsRepeatedUpdatesOfSameAuth() {
+        Map<Integer, ErrorType> failures = authService.softUpdateAll(List.of(
+                update(1L, "ayse@example.com", "05550000001", "Ayşe Nur"),
+                update(1L, "ayse@example.com", "05550000001", "Ayşe")));
+
+        assertThat(failures).isEmpty();
+        assertThat(ayse.getName()).isEqualTo("Ayşe");
+    }
+
+    @Test
+    void rejectsSameNewContactClaimedTwiceInBatch() {
+        Map<Integer, ErrorType> failures = authService.softUpdateAll(List.of(
+                update(1L, "new@example.com", "05550000001", "Ayşe"),
+                update(2L, "new@example.com", "05550000002", "Mehmet")));
+
+        assertThat(failures).containsExactly(Map.entry(1, ErrorType.EMAIL_OR_PHONE_ALREADY_EXISTS));
+        assertThat(ayse.getEmail()).isEqualTo("new@example.com");
+    }
+
+    @Test
+    void singleUpdateIgnoresOwnContacts() {
+        assertThat(contactUniquenessService.findConflict(1L, "ayse@example.com", "05550000001")).isEmpty();
+        assertThat(contactUniquenessService.findConflict(2L, "ayse@example.com", "05550000002")).contains(ErrorType.EMAIL_ALREADY_EXISTS);
+        assertThat(contactUniquenessService.findConflict("ayse@example.com", "05550000009")).contains(ErrorType.EMAIL_ALREADY_EXISTS);
+    }
+
+    //Şifreler transaction'dan önce hashleniyor, softUpdateAll hazır hash'i olduğu gibi kaydediyor.
+    @Test
+    void storesPasswordsHashedBeforeBatch() {
+        AuthUpdateModel model = update(1L, "ayse@example.com", "05550000001", "Ayşe");
+        model.setPassword("New-Password-1");
+
+        authService.hashPasswords(List.of(model, update(2L, "mehmet@example.com", "05550000002", "Mehmet")));
+        String hash = model.getPassword();
+        Map<Integer, ErrorType> failures = authService.softUpdateAll(List.of(model));
+
+        assertThat(passwordHasher.isHash(hash)).isTrue();
+        assertThat(passwordHasher.matches("New-Password-1", hash)).isTrue();
+        assertThat(failures).isEmpty();
+        assertThat(ayse.getPassword()).isEqualTo(hash);
+    }
+
+    @Test
+    void keepsUnchangedPassword() {
+        String hash = passwordHasher.hash("Old-Password-1");
+        ayse.setPassword(hash);
+        AuthUpdateModel model = update(1L, "ayse@example.com", "05550000001", "Ayşe");
+        model.setPassword(hash);
+
+        authService.hashPasswords(List.of(model));
+        authService.softUpdateAll(List.of(model));
+
+        assertThat(ayse.getPassword()).isSameAs(hash);
+    }
+
+    //GUEST_REGISTER outbox tablosuna yazıldığı için şifrenin açık hali mesajda bulunmamalı.
+    @Test
+    void guestRegisterSendsPasswordHash() {
+        when(repository.findAllByEmailOrPhoneNumber(any(), any())).thenReturn(List.of());
+        when(jwtTokenManager.createToken(any(), any())).thenReturn(Optional.of("token"));
+
+        authService.guestRegister(GuestRegisterRequestDto.builder().name("Zeynep").surname("Kaya").email("zeynep@example.com")
+                .phoneNumber("05550000003").password("Guest-Password-1").rePassword("Guest-Password-1").gender(EGender.FEMALE).build());
+
+        ArgumentCaptor<GuestRegisterModel> model = ArgumentCaptor.forClass(GuestRegisterModel.class);
+        verify(guestRegisterProducer).convertAndSend(model.capture());
+        assertThat(passwordHasher.isHash(model.getValue().getPassword())).isTrue();
+        assertThat(passwordHasher.matches("Guest-Password-1", model.getValue().getPassword())).isTrue();
+    }
+
+    private static Auth auth(Long id, String email, String phoneNumber) {
+        return Auth.builder().id(id).email(email).phoneNumber(phoneNumber).name("Name").surname("Surname").status(EStatus.ACTIVE).build();
+    }
+
+    private static AuthUpdateModel update(Long authId, String email, String phoneNumber, String name) {
+        return AuthUpdateModel.builder().authId(authId).email(email).phoneNumber(phoneNumber).name(name).build();
+    }
+
+    private static AuthContactView contact(Auth auth) {
+        return new AuthContactView() {
+            @Override
+            public Long getId() {
+                return auth.getId();
+            }
+
+            @Override
+            public String getEmail() {
+                return auth.getEmail();
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return auth.getPhoneNumber();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.hrms.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int VALUES = 10_000;
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter bloomFilter = new BloomFilter(VALUES, 0.01);
+
+        assertThat(bloomFilter.mightContain("ayse@example.com")).isFalse();
+        assertThat(bloomFilter.expectedFalsePositiveProbability()).isZero();
+    }
+
+    //Eklenen bir değer için false dönmesi(yanlış negatif) hiçbir durumda olmamalı.
+    @Test
+    void hasNoFalseNegatives() {
+        BloomFilter bloomFilter = new BloomFilter(VALUES, 0.01);
+        IntStream.range(0, VALUES).forEach(i -> bloomFilter.put("user" + i + "@example.com"));
+
+        assertThat(IntStream.range(0, VALUES).allMatch(i -> bloomFilter.mightContain("user" + i + "@example.com"))).isTrue();
+    }
+
+    @Test
+    void keepsFalsePositiveRateNearTarget() {
+        BloomFilter bloomFilter = new BloomFilter(VALUES, 0.01);
+        IntStream.range(0, VALUES).forEach(i -> bloomFilter.put("user" + i + "@example.com"));
+
+        long falsePositives = IntStream.range(0, VALUES).filter(i -> bloomFilter.mightContain("other" + i + "@example.com")).count();
+        assertThat((double) falsePositives / VALUES).isLessThan(0.03);
+        assertThat(bloomFilter.expectedFalsePositiveProbability()).isBetween(0.001, 0.03);
+    }
+
+    @Test
+    void acceptsConcurrentInserts() throws InterruptedException {
+        BloomFilter bloomFilter = new BloomFilter(VALUES, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        IntStream.range(0, VALUES).forEach(i -> executor.execute(() -> bloomFilter.put("user" + i + "@example.com")));
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(IntStream.range(0, VALUES).allMatch(i -> bloomFilter.mightContain("user" + i + "@example.com"))).isTrue();
+    }
+
+}
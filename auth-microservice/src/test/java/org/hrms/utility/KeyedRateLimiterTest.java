@@ -0,0 +1,47 @@
+package org.hrms.utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyedRateLimiterTest {
+
+    @Test
+    void rejectsRequestsAfterCapacityIsUsed() {
+        KeyedRateLimiter rateLimiter = new KeyedRateLimiter(3, 1, 100);
+
+        assertThat(rateLimiter.tryAcquire("ayse@example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("ayse@example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("ayse@example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("ayse@example.com")).isFalse();
+    }
+
+    //Bir anahtarın kovasının boşalması diğer anahtarları etkilememeli.
+    @Test
+    void keepsSeparateBucketPerKey() {
+        KeyedRateLimiter rateLimiter = new KeyedRateLimiter(1, 1, 100);
+
+        assertThat(rateLimiter.tryAcquire("ayse@example.com")).isTrue();
+        assertThat(rateLimiter.tryAcquire("ayse@example.com")).isFalse();
+        assertThat(rateLimiter.tryAcquire("mehmet@example.com")).isTrue();
+        assertThat(rateLimiter.trackedKeys()).isEqualTo(2);
+    }
+
+    //Dakikada 60000 token milisaniyede bir token demek, kısa bir beklemeden sonra kova tekrar dolmuş olmalı.
+    @Test
+    void refillsTokensOverTime() throws InterruptedException {
+        KeyedRateLimiter rateLimiter = new KeyedRateLimiter(1, 60_000, 100);
+
+        assertThat(rateLimiter.tryAcquire("10.0.0.1")).isTrue();
+        Thread.sleep(20);
+        assertThat(rateLimiter.tryAcquire("10.0.0.1")).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidCapacity() {
+        assertThatThrownBy(() -> new KeyedRateLimiter(0, 1, 100)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeyedRateLimiter(5_000, 1, 100)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,91 @@
+package org.hrms.utility;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeyManagerTest {
+
+    @Test
+    void requiresSecretKeyOnlyForHs512() {
+        assertThatThrownBy(() -> signingKeyManager("HS512", "", Duration.ofDays(1)).init()).isInstanceOf(IllegalStateException.class);
+
+        SigningKeyManager rsaKeyManager = signingKeyManager("RS256", "", Duration.ofDays(1));
+        rsaKeyManager.init();
+        assertThat(rsaKeyManager.isAsymmetric()).isTrue();
+    }
+
+    //Sıradaki anahtar kullanılmadan önce yayınlanmalı ki doğrulayan servisler onu rotasyondan önce öğrenebilsin.
+    @Test
+    void publishesNextKeyBeforeUsingIt() {
+        SigningKeyManager signingKeyManager = signingKeyManager("RS256", "", Duration.ofDays(1));
+        signingKeyManager.init();
+        String kid = kid(sign(signingKeyManager));
+
+        signingKeyManager.rotateKeys();
+
+        assertThat(kids(signingKeyManager)).hasSize(2).contains(kid);
+        assertThat(kid(sign(signingKeyManager))).isEqualTo(kid);
+    }
+
+    @Test
+    void rotatesToPublishedKeyAndKeepsOldKeyForVerification() {
+        SigningKeyManager signingKeyManager = signingKeyManager("RS256", "", Duration.ZERO);
+        signingKeyManager.init();
+        String oldToken = sign(signingKeyManager);
+
+        signingKeyManager.rotateKeys();
+        String newToken = sign(signingKeyManager);
+
+        assertThat(kid(newToken)).isNotEqualTo(kid(oldToken));
+        assertThat(kids(signingKeyManager)).contains(kid(oldToken), kid(newToken)).hasSize(3);
+        JWT.require(signingKeyManager.algorithm()).build().verify(oldToken);
+        JWT.require(signingKeyManager.algorithm()).build().verify(newToken);
+    }
+
+    @Test
+    void removesRetiredKeysAfterRetention() {
+        SigningKeyManager signingKeyManager = signingKeyManager("RS256", "", Duration.ZERO);
+        signingKeyManager.retention = Duration.ofMillis(-1);
+        signingKeyManager.init();
+        String oldKid = kid(sign(signingKeyManager));
+
+        signingKeyManager.rotateKeys();
+
+        assertThat(kids(signingKeyManager)).doesNotContain(oldKid).hasSize(2);
+        assertThat(signingKeyManager.getPublicKeyById(oldKid)).isNull();
+    }
+
+    private static SigningKeyManager signingKeyManager(String algorithm, String secretKey, Duration rotationInterval) {
+        SigningKeyManager signingKeyManager = new SigningKeyManager();
+        signingKeyManager.algorithmName = algorithm;
+        signingKeyManager.secretKey = secretKey;
+        signingKeyManager.configuredPrivateKey = "";
+        signingKeyManager.rotationInterval = rotationInterval;
+        signingKeyManager.retention = Duration.ofMinutes(30);
+        return signingKeyManager;
+    }
+
+    private static String sign(SigningKeyManager signingKeyManager) {
+        return JWT.create().withClaim("id", 1L).sign(signingKeyManager.signingAlgorithm());
+    }
+
+    private static String kid(String token) {
+        DecodedJWT decodedJWT = JWT.decode(token);
+        return decodedJWT.getKeyId();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> kids(SigningKeyManager signingKeyManager) {
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) signingKeyManager.jwks().get("keys");
+        return keys.stream().map(key -> (String) key.get("kid")).toList();
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.hrms.messaging;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * Listener'ların platform ve virtual thread üzerinde saniyede işleyebildiği mesaj sayısını ölçen benchmark.
+ * RabbitMQ yerine bellekteki bir kuyruk kullanılıyor. Her consumer SimpleMessageListenerContainer'daki gibi kendi thread'inde kuyruktan mesaj alıp
+ * listener'ı çağırıyor. Thread'ler ListenerContainerCustomizer.consumerExecutor ile, yani servislerde kullanılan executor ile açılıyor.
+ * Listener, mail gönderimi gibi bloklayan bir işi latencyMillis kadar bekleyerek taklit ediyor.
+ * Sonuçlar mesaj/saniye olarak raporlanıyor. virtual parametresi true olan ölçümler Java 21 ile çalıştırılmalıdır.
+ * Çalıştırmak için: gradle :common-messaging:jmh -PjmhArgs="ListenerThroughputBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ListenerThroughputBenchmark {
+
+    private static final int MESSAGES = 2000;
+
+    @Param({"4", "64", "1000"})
+    private int concurrency;
+
+    @Param({"false", "true"})
+    private boolean virtual;
+
+    @Param({"2"})
+    private long latencyMillis;
+
+    private final BlockingQueue<Object> broker = new LinkedBlockingQueue<>();
+    private final AtomicReference<CountDownLatch> processed = new AtomicReference<>();
+    private volatile boolean running;
+
+    @Setup(Level.Trial)
+    public void startConsumers() {
+        if (virtual && !ListenerContainerCustomizer.supportsVirtualThreads()) {
+            throw new IllegalStateException("Virtual thread benchmarks need Java 21");
+        }
+        running = true;
+        SimpleAsyncTaskExecutor executor = ListenerContainerCustomizer.consumerExecutor("benchmarkQueue", virtual);
+        for (int i = 0; i < concurrency; i++) {
+            executor.execute(this::consume);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopConsumers() {
+        running = false;
+        for (int i = 0; i < concurrency; i++) {
+            broker.add(Boolean.FALSE);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void deliver() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(MESSAGES);
+        processed.set(latch);
+        for (int i = 0; i < MESSAGES; i++) {
+            broker.add(i);
+        }
+        latch.await();
+    }
+
+    private void consume() {
+        try {
+            while (running) {
+                Object message = broker.take();
+                if (message == Boolean.FALSE) {
+                    return;
+                }
+                Thread.sleep(latencyMillis);
+                processed.get().countDown();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.hrms.messaging;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Model sınıflarını Java serileştirmesi yerine CBOR(Concise Binary Object Representation) formatında gönderen mesaj dönüştürücümüz.
+ * CBOR, JSON ile aynı veri modelini kullanan ikili(binary) bir formattır. Java serileştirmesine göre çok daha küçük ve hızlıdır,
+ * sınıfın kendisi değil sadece alanları yazıldığı için servislerdeki model sınıflarının birebir aynı olması gerekmiyor.
+ * Mesajın content-type başlığı application/cbor olarak, model sınıfının adı __TypeId__ başlığına, şema sürümü de x-schema-version başlığına yazılıyor.
+ * Okurken @RabbitListener metodunun parametre tipi biliniyorsa o tip kullanılıyor, bilinmiyorsa __TypeId__ başlığındaki sınıf güvenilir paketlerdeyse kullanılıyor.
+ */
+public class CborMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE = "application/cbor";
+    public static final String TYPE_ID_HEADER = "__TypeId__";
+    public static final String SCHEMA_VERSION_HEADER = "x-schema-version";
+
+    private final ObjectMapper objectMapper;
+    private final List<String> trustedPackages;
+    private final Map<Class<?>, Integer> schemaVersions = new ConcurrentHashMap<>();
+    private final ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+    public CborMessageConverter(List<String> trustedPackages) {
+        this.objectMapper = CBORMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.trustedPackages = trustedPackages;
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(object);
+            messageProperties.setContentType(CONTENT_TYPE);
+            messageProperties.setContentLength(bytes.length);
+            messageProperties.setHeader(TYPE_ID_HEADER, object.getClass().getName());
+            messageProperties.setHeader(SCHEMA_VERSION_HEADER, schemaVersion(object.getClass()));
+            return new Message(bytes, messageProperties);
+        } catch (IOException e) {
+            throw new MessageConversionException("Message could not be encoded as CBOR", e);
+        }
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        MessageProperties properties = message.getMessageProperties();
+        JavaType targetType = targetType(properties);
+        Object version = properties.getHeaders().get(SCHEMA_VERSION_HEADER);
+        if (version != null && Integer.parseInt(version.toString()) != schemaVersion(targetType.getRawClass())) {
+            throw new MessageConversionException("Unsupported schema version " + version + " for " + targetType.getRawClass().getName());
+        }
+        try {
+            return objectMapper.readValue(message.getBody(), targetType);
+        } catch (IOException e) {
+            throw new MessageConversionException("CBOR message could not be decoded", e);
+        }
+    }
+
+    private JavaType targetType(MessageProperties properties) {
+        Type inferredType = properties.getInferredArgumentType();
+        if (inferredType != null && inferredType != Object.class) {
+            return objectMapper.constructType(inferredType);
+        }
+        Object typeId = properties.getHeaders().get(TYPE_ID_HEADER);
+        if (typeId == null) {
+            throw new MessageConversionException("Message has no " + TYPE_ID_HEADER + " header and no inferred type");
+        }
+        String className = typeId.toString();
+        if (!trustedPackages.contains(ClassUtils.getPackageName(className))) {
+            throw new MessageConversionException("Type " + className + " is not in a trusted package");
+        }
+        try {
+            return objectMapper.constructType(ClassUtils.forName(className, classLoader));
+        } catch (ClassNotFoundException e) {
+            throw new MessageConversionException("Type " + className + " could not be found", e);
+        }
+    }
+
+    private int schemaVersion(Class<?> type) {
+        return schemaVersions.computeIfAbsent(type, item -> {
+            SchemaVersion schemaVersion = item.getAnnotation(SchemaVersion.class);
+            return schemaVersion == null ? 1 : schemaVersion.value();
+        });
+    }
+
+}
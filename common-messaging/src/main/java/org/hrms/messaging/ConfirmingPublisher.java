@@ -0,0 +1,134 @@
+package org.hrms.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Mesajları publisher confirm ile gönderen sınıfımız.
+ * Her gönderime bir CorrelationData ekleniyor ve RabbitMQ'nun onayı(ack/nack) beklenmeden bir sonraki mesaj gönderilebiliyor,
+ * yani mesajlar arka arkaya gönderilip onaylar geldikçe ilgili future tamamlanıyor.
+ * nack gelen, kuyruğa yönlendirilemeyip geri dönen(returned) ya da bağlantı hatası yüzünden gönderilemeyen mesajlar
+ * maxAttempts sayısına kadar artan bekleme süreleriyle(backoff) tekrar gönderiliyor. Tekrar denemeler RabbitMQ'nun callback thread'ini
+ * bekletmemek için ayrı bir thread üzerinde yapılıyor.
+ * Onay bekleyen mesaj sayısı(in_flight), onay süresi(confirm) ve tekrar deneme sayıları Micrometer üzerinden yayınlanıyor.
+ */
+public class ConfirmingPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MessagingProperties.Publisher properties;
+    private final ScheduledExecutorService retryScheduler;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Timer ackTimer;
+    private final Timer nackTimer;
+    private final Counter retryCounter;
+    private final Counter failureCounter;
+
+    public ConfirmingPublisher(RabbitTemplate rabbitTemplate, MessagingProperties.Publisher properties, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.properties = properties;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "publisher-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("hrms.messaging.publish.in_flight", inFlight, AtomicInteger::get)
+                .description("Messages sent and still waiting for a publisher confirm")
+                .register(meterRegistry);
+        this.ackTimer = Timer.builder("hrms.messaging.publish.confirm").tag("result", "ack").register(meterRegistry);
+        this.nackTimer = Timer.builder("hrms.messaging.publish.confirm").tag("result", "nack").register(meterRegistry);
+        this.retryCounter = Counter.builder("hrms.messaging.publish.retries").register(meterRegistry);
+        this.failureCounter = Counter.builder("hrms.messaging.publish.failures").register(meterRegistry);
+    }
+
+    //Mesajı gönderiyoruz, dönen future mesaj onaylandığında tamamlanıyor. Bütün denemeler başarısız olursa future hata ile tamamlanıyor.
+    public CompletableFuture<Void> send(String exchange, String routingKey, Message message) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        attempt(exchange, routingKey, message, 1, properties.getMaxAttempts(), result);
+        return result;
+    }
+
+    //Tek deneme yapan gönderim. OutboxRelay onaylanmayan mesajları tabloda tutup kendisi tekrar denediği için bu metodu kullanıyor.
+    public CompletableFuture<Void> sendOnce(String exchange, String routingKey, Message message) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        attempt(exchange, routingKey, message, 1, 1, result);
+        return result;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public void shutdown() {
+        retryScheduler.shutdownNow();
+    }
+
+    private void attempt(String exchange, String routingKey, Message message, int attempt, int maxAttempts, CompletableFuture<Void> result) {
+        CorrelationData correlationData = new CorrelationData();
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+            rabbitTemplate.send(exchange, routingKey, message, correlationData);
+        } catch (AmqpException e) {
+            inFlight.decrementAndGet();
+            retryOrFail(exchange, routingKey, message, attempt, maxAttempts, result, e);
+            return;
+        }
+
+        //Bağlantıda publisher confirm açık değilse onay gelmeyeceği için mesajı gönderildiği anda başarılı sayıyoruz.
+        if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+            inFlight.decrementAndGet();
+            result.complete(null);
+            return;
+        }
+
+        correlationData.getFuture().whenComplete((confirm, error) -> {
+            inFlight.decrementAndGet();
+            long elapsed = System.nanoTime() - start;
+            ReturnedMessage returned = correlationData.getReturned();
+            if (error == null && confirm.isAck() && returned == null) {
+                ackTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                result.complete(null);
+                return;
+            }
+            nackTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            String reason = error != null ? error.getMessage()
+                    : returned != null ? "returned: " + returned.getReplyText()
+                    : "nack: " + confirm.getReason();
+            retryOrFail(exchange, routingKey, message, attempt, maxAttempts, result, new AmqpException(reason));
+        });
+    }
+
+    private void retryOrFail(String exchange, String routingKey, Message message, int attempt, int maxAttempts,
+                             CompletableFuture<Void> result, AmqpException cause) {
+        if (attempt >= maxAttempts) {
+            failureCounter.increment();
+            result.completeExceptionally(cause);
+            return;
+        }
+        retryCounter.increment();
+        try {
+            retryScheduler.schedule(() -> attempt(exchange, routingKey, message, attempt + 1, maxAttempts, result),
+                    backoff(attempt), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failureCounter.increment();
+            result.completeExceptionally(cause);
+        }
+    }
+
+    //Bekleme süresi her denemede multiplier ile çarpılarak artıyor ama maxBackoff değerini geçmiyor.
+    private long backoff(int attempt) {
+        double delay = properties.getInitialBackoff().toMillis() * Math.pow(properties.getMultiplier(), attempt - 1);
+        return (long) Math.min(delay, properties.getMaxBackoff().toMillis());
+    }
+
+}
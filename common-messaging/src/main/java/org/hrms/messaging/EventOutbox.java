@@ -0,0 +1,18 @@
+package org.hrms.messaging;
+
+import java.util.Collection;
+
+/*
+ * Olayları RabbitMQ'ya hemen göndermek yerine önce veritabanına yazan yapıların ortak arayüzü.
+ * Tanımlı bir EventOutbox varsa EventPublisher mesajı buraya bırakıyor ve mesaj daha sonra arka planda RabbitMQ'ya aktarılıyor.
+ * Arayüzü JPA sınıflarından bağımsız tuttuk, böylece MongoDB kullanan servisler kütüphaneyi JPA olmadan da kullanabiliyor.
+ */
+public interface EventOutbox {
+
+    void enqueue(EventType eventType, Object payload);
+
+    default void enqueueAll(EventType eventType, Collection<?> payloads) {
+        payloads.forEach(payload -> enqueue(eventType, payload));
+    }
+
+}
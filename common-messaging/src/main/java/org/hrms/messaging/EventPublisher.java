@@ -0,0 +1,130 @@
+package org.hrms.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/*
+ * Olayları EventType listesindeki exchange ve routing key bilgisiyle gönderen sınıfımız.
+ * Servis yml dosyasında publishes altında belirtmediği bir olayı göndermeye çalışırsa hata fırlatıyoruz,
+ * çünkü bu olay için exchange ve kuyruk açılışta tanımlanmamıştır ve mesaj sessizce kaybolabilir.
+ * hrms.messaging.outbox.enabled değeri true ise mesaj doğrudan gönderilmiyor, o anki transaction içinde outbox tablosuna yazılıyor.
+ * hrms.messaging.outbox.excluded altındaki olaylar tabloya yazılmıyor, transaction commit edildikten sonra doğrudan gönderiliyor. Transaction yoksa hemen gönderiliyor.
+ * Olay partition kullanan bir gruptaysa(EventStream) exchange ve routing key PartitionRouter ile seçiliyor.
+ * Her mesaja gönderim zamanı ve x-trace-id başlığı MessageTrace ile yazılıyor.
+ * Doğrudan gönderimde mesajlar ConfirmingPublisher ile gönderiliyor, metot RabbitMQ'nun onayını beklemeden dönüyor.
+ * Dönen future mesaj onaylandığında ya da outbox tablosuna yazıldığında tamamlanıyor.
+ * Gönderilemeyen mesajların sayısı ConfirmingPublisher'ın hrms.messaging.publish.failures metriğinde, hangi mesajın gönderilemediği ise log'da görülebiliyor.
+ */
+@Slf4j
+public class EventPublisher {
+
+    private final ConfirmingPublisher confirmingPublisher;
+    private final MessageConverter messageConverter;
+    private final Set<EventType> publishes;
+    private final EventOutbox outbox;
+    private final Set<EventType> outboxExcluded;
+    private final PartitionRouter partitionRouter;
+
+    public EventPublisher(ConfirmingPublisher confirmingPublisher, MessageConverter messageConverter, Set<EventType> publishes, EventOutbox outbox,
+                          Set<EventType> outboxExcluded, PartitionRouter partitionRouter) {
+        this.confirmingPublisher = confirmingPublisher;
+        this.messageConverter = messageConverter;
+        this.publishes = publishes.isEmpty() ? EnumSet.noneOf(EventType.class) : EnumSet.copyOf(publishes);
+        this.outbox = outbox;
+        this.outboxExcluded = outboxExcluded.isEmpty() ? EnumSet.noneOf(EventType.class) : EnumSet.copyOf(outboxExcluded);
+        this.partitionRouter = partitionRouter;
+    }
+
+    public CompletableFuture<Void> publish(EventType eventType, Object payload) {
+        checkPublishes(eventType);
+        if (outbox == null) {
+            return send(eventType, payload);
+        }
+        if (outboxExcluded.contains(eventType)) {
+            return sendAfterCommit(eventType, List.of(payload));
+        }
+        outbox.enqueue(eventType, payload);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * Toplu işlemlerde kullanılan metot. Outbox açıksa bütün mesajlar tek transaction içinde tabloya yazılıyor.
+     * Doğrudan gönderimde ise mesajlar onay beklenmeden arka arkaya gönderiliyor ve dönen future bütün onaylar gelince tamamlanıyor.
+     */
+    public CompletableFuture<Void> publishAll(EventType eventType, Collection<?> payloads) {
+        checkPublishes(eventType);
+        if (outbox == null) {
+            return sendAll(eventType, payloads);
+        }
+        if (outboxExcluded.contains(eventType)) {
+            return sendAfterCommit(eventType, payloads);
+        }
+        outbox.enqueueAll(eventType, payloads);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    //Transaction geri alınırsa mesajlar hiç gönderilmiyor ve dönen future iptal ediliyor.
+    private CompletableFuture<Void> sendAfterCommit(EventType eventType, Collection<?> payloads) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return sendAll(eventType, payloads);
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        List<?> pending = List.copyOf(payloads);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    sendAll(eventType, pending).whenComplete((ignored, error) -> {
+                        if (error != null) {
+                            result.completeExceptionally(error);
+                        } else {
+                            result.complete(null);
+                        }
+                    });
+                } else {
+                    result.cancel(false);
+                }
+            }
+        });
+        return result;
+    }
+
+    private CompletableFuture<Void> sendAll(EventType eventType, Collection<?> payloads) {
+        return CompletableFuture.allOf(payloads.stream()
+                .map(payload -> send(eventType, payload))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private void checkPublishes(EventType eventType) {
+        if (!publishes.contains(eventType)) {
+            throw new IllegalStateException(eventType + " is not listed in hrms.messaging.publishes");
+        }
+    }
+
+    private CompletableFuture<Void> send(EventType eventType, Object payload) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setMessageId(UUID.randomUUID().toString());
+        MessageTrace.stamp(messageProperties);
+        partitionRouter.apply(eventType, payload, messageProperties);
+        Message message = messageConverter.toMessage(payload, messageProperties);
+        return confirmingPublisher.send(PartitionRouter.exchange(eventType, messageProperties), PartitionRouter.routingKey(eventType, messageProperties), message)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.warn("{} message {} could not be published: {}", eventType, messageProperties.getMessageId(), error.getMessage());
+                    }
+                });
+    }
+
+}
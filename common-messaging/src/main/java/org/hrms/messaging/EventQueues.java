@@ -0,0 +1,31 @@
+package org.hrms.messaging;
+
+/*
+ * Servislerin dinlediği kuyrukların adları. @RabbitListener(queues = ...) içinde sabit değer kullanılması gerektiği için kuyruk adlarını burada topluyoruz.
+ * Kuyruk adları önceki sürümdeki adlarla aynı bırakıldı, böylece RabbitMQ üzerinde bekleyen mesajlar kaybolmuyor.
+ */
+public final class EventQueues {
+
+    public static final String GUEST_REGISTER = "guestRegisterQueue";
+    public static final String COMPANY_REGISTER = "companyRegisterQueue";
+    public static final String MAIL_SEND = "mailQueue";
+    public static final String MAIL_FORGOT_PASSWORD = "mailForgotPasswordQueue";
+    public static final String MAIL_CREATE_EMPLOYEE = "mailCreateEmployeeQueue";
+    public static final String AUTH_UPDATE = "authUpdateQueue";
+    public static final String AUTH_DELETE = "authDeleteQueue";
+    public static final String ADMIN_SAVE = "adminSaveQueue";
+    public static final String ADMIN_SET_AUTH_ID = "adminSetAuthIdQueue";
+    public static final String EMPLOYEE_CREATE = "managerAddEmployeeQueue";
+    public static final String EMPLOYEE_SET_AUTH_ID = "employeeSetAuthIdQueue";
+    public static final String EMPLOYEE_FORGOT_PASSWORD = "employeeForgotPasswordQueue";
+    public static final String GUEST_ACTIVATE_STATUS = "guestActivateStatusQueue";
+    public static final String GUEST_FORGOT_PASSWORD = "guestForgotPasswordQueue";
+    public static final String MANAGER_ACTIVATE_STATUS = "managerActivateStatusQueue";
+    public static final String MANAGER_FORGOT_PASSWORD = "managerForgotPasswordQueue";
+    public static final String MANAGER_SET_COMPANY_ID = "managerSetCompanyIdQueue";
+    public static final String COMPANY_SET_MANAGER_ID = "companySetManagerIdQueue";
+
+    private EventQueues() {
+    }
+
+}
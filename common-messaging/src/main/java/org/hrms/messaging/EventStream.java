@@ -0,0 +1,50 @@
+package org.hrms.messaging;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/*
+ * Aynı kayıt(entity) için sırasının korunması gereken olay grupları.
+ * Örneğin aynı authId için gönderilen AUTH_UPDATE ve AUTH_DELETE olayları ayrı kuyruklarda ve birden fazla consumer ile işlenirse sırası bozulabiliyor.
+ * Gruptaki olaylar x-consistent-hash tipindeki exchange'e @PartitionKey alanının değeri routing key olacak şekilde gönderiliyor.
+ * Exchange routing key'in hash değerine göre mesajı partition kuyruklarından birine(authPartition.0, authPartition.1...) koyuyor, böylece aynı kaydın olayları hep aynı kuyruğa gidiyor.
+ * Partition kuyrukları single active consumer olarak tanımlandığı için her kuyruğu aynı anda tek consumer işliyor ve kuyruk içindeki sıra korunuyor.
+ * Partition kuyruklarında hata alan mesajlar grubun kendi tekrar kuyruklarında(authPartition.retry.1...) bekliyor ve süre dolunca tekrar x-consistent-hash exchange'ine dönüyor.
+ * Tekrar kuyruklarına fanout tipindeki retryExchange üzerinden partition key routing key olarak verilerek gönderiliyor, dead letter sırasında bu routing key korunduğu için
+ * mesaj aynı partition kuyruğuna geri geliyor. Böylece tekrar denenen mesaj aynı kaydın sonraki mesajlarıyla farklı kuyruklarda aynı anda işlenmiyor.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EventStream {
+
+    AUTH("authPartitionExchange", "authPartition", EnumSet.of(EventType.AUTH_UPDATE, EventType.AUTH_DELETE));
+
+    private final String exchange;
+    private final String queuePrefix;
+    private final Set<EventType> events;
+
+    public String partitionQueue(int partition) {
+        return queuePrefix + "." + partition;
+    }
+
+    //tier değeri 1'den başlar.
+    public String retryQueue(int tier) {
+        return queuePrefix + ".retry." + tier;
+    }
+
+    public String retryExchange(int tier) {
+        return exchange + ".retry." + tier;
+    }
+
+    public static Optional<EventStream> of(EventType eventType) {
+        return Arrays.stream(values())
+                .filter(item -> item.events.contains(eventType))
+                .findFirst();
+    }
+
+}
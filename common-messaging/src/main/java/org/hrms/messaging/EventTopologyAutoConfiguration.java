@@ -0,0 +1,187 @@
+package org.hrms.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hrms.messaging.partition.PartitionListenerConfigurer;
+import org.hrms.messaging.partition.PartitionRebalancer;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.hrms.messaging.partition.PartitionedEventListener;
+import org.springframework.amqp.core.*;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Servisin yml dosyasında belirttiği olaylar için RabbitMQ üzerinde exchange, kuyruk ve binding tanımlarını yapan konfigürasyon sınıfımız.
+ * Önceden her servis bütün exchange ve kuyrukları tanımlıyordu, artık sadece gönderdiği ve dinlediği olaylar için tanımlama yapılıyor.
+ * Gönderilen olayların kuyrukları da tanımlanıyor, böylece dinleyen servis henüz açılmamış olsa bile mesajlar kuyrukta bekliyor.
+ * Declarables içindeki tanımlar Spring Boot'un oluşturduğu RabbitAdmin tarafından bağlantı kurulduğunda RabbitMQ'ya gönderiliyor.
+ * Dinlenen olaylar için ayrıca hrms.messaging.retry.delays içindeki her süreye bir tekrar kuyruğu ve bir parking kuyruğu tanımlanıyor.
+ * Tekrar kuyruklarını dinleyen bir consumer yok, mesaj x-message-ttl süresi dolunca dead letter olarak varsayılan exchange üzerinden ana kuyruğa geri dönüyor.
+ * hrms.messaging.partitioning.streams altında tanımlı olay grupları(EventStream) için x-consistent-hash tipinde exchange tanımlanıyor.
+ * Partition kuyrukları single active consumer olarak tanımlanıp exchange'e eşit ağırlıkla("1") bağlanıyor. Kuyruklar gönderen servislerde de tanımlandığı için
+ * partition sayısı gönderen ve dinleyen servislerde aynı verilmelidir, aksi halde exchange'e fazladan kuyruk bağlanır.
+ * Grubun olaylarını dinleyen servislerde partition mesajları için ayrıca tekrar kuyrukları tanımlanıyor. Bunlar süre dolunca mesajı olayın kuyruğuna değil
+ * x-consistent-hash exchange'ine bırakıyor. x-dead-letter-routing-key verilmediği için mesajın routing key'i(partition key) korunuyor.
+ * Mesaj gönderimi için ConfirmingPublisher ve EventPublisher bean'leri de burada tanımlanıyor.
+ */
+@AutoConfiguration(after = {RabbitAutoConfiguration.class, CompositeMeterRegistryAutoConfiguration.class})
+@ConditionalOnClass(RabbitTemplate.class)
+@EnableConfigurationProperties(MessagingProperties.class)
+public class EventTopologyAutoConfiguration {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchListenerContainerFactory";
+
+    @Bean
+    public Declarables eventTopology(MessagingProperties messagingProperties) {
+        Set<EventType> events = EnumSet.noneOf(EventType.class);
+        events.addAll(messagingProperties.getPublishes());
+        events.addAll(messagingProperties.getConsumes());
+
+        Map<String, DirectExchange> exchanges = new LinkedHashMap<>();
+        List<Declarable> declarables = new ArrayList<>();
+        for (EventType eventType : events) {
+            DirectExchange exchange = exchanges.computeIfAbsent(eventType.getExchange(), DirectExchange::new);
+            Queue queue = new Queue(eventType.getQueue());
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(exchange).with(eventType.getRoutingKey()));
+        }
+        for (EventType eventType : messagingProperties.getConsumes()) {
+            List<Duration> delays = messagingProperties.getRetry().getDelays();
+            for (int tier = 1; tier <= delays.size(); tier++) {
+                declarables.add(QueueBuilder.durable(eventType.retryQueue(tier))
+                        .ttl((int) delays.get(tier - 1).toMillis())
+                        .deadLetterExchange("")
+                        .deadLetterRoutingKey(eventType.getQueue())
+                        .build());
+            }
+            declarables.add(QueueBuilder.durable(eventType.parkingQueue()).build());
+        }
+        for (Map.Entry<EventStream, Integer> entry : messagingProperties.getPartitioning().getStreams().entrySet()) {
+            EventStream stream = entry.getKey();
+            if (Collections.disjoint(stream.getEvents(), events)) {
+                continue;
+            }
+            CustomExchange exchange = new CustomExchange(stream.getExchange(), "x-consistent-hash", true, false);
+            declarables.add(exchange);
+            for (int partition = 0; partition < entry.getValue(); partition++) {
+                Queue queue = QueueBuilder.durable(stream.partitionQueue(partition)).singleActiveConsumer().build();
+                declarables.add(queue);
+                declarables.add(BindingBuilder.bind(queue).to(exchange).with("1").noargs());
+            }
+            if (Collections.disjoint(stream.getEvents(), messagingProperties.getConsumes())) {
+                continue;
+            }
+            List<Duration> delays = messagingProperties.getRetry().getDelays();
+            for (int tier = 1; tier <= delays.size(); tier++) {
+                FanoutExchange retryExchange = new FanoutExchange(stream.retryExchange(tier));
+                Queue retryQueue = QueueBuilder.durable(stream.retryQueue(tier))
+                        .ttl((int) delays.get(tier - 1).toMillis())
+                        .deadLetterExchange(stream.getExchange())
+                        .build();
+                declarables.add(retryExchange);
+                declarables.add(retryQueue);
+                declarables.add(BindingBuilder.bind(retryQueue).to(retryExchange));
+            }
+        }
+        declarables.addAll(0, exchanges.values());
+        return new Declarables(declarables);
+    }
+
+    @Bean
+    @ConditionalOnBean(RabbitTemplate.class)
+    @ConditionalOnMissingBean
+    public ConfirmingPublisher confirmingPublisher(RabbitTemplate rabbitTemplate, MessagingProperties messagingProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ConfirmingPublisher(rabbitTemplate, messagingProperties.getPublisher(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @ConditionalOnBean(RabbitTemplate.class)
+    @ConditionalOnMissingBean
+    public EventPublisher eventPublisher(ConfirmingPublisher confirmingPublisher, RabbitTemplate rabbitTemplate, MessagingProperties messagingProperties,
+                                         ObjectProvider<EventOutbox> outbox, PartitionRouter partitionRouter) {
+        return new EventPublisher(confirmingPublisher, rabbitTemplate.getMessageConverter(), messagingProperties.getPublishes(), outbox.getIfAvailable(),
+                messagingProperties.getOutbox().getExcluded(), partitionRouter);
+    }
+
+    @Bean
+    @ConditionalOnBean(RabbitTemplate.class)
+    @ConditionalOnMissingBean
+    public RetryTierRecoverer retryTierRecoverer(ConfirmingPublisher confirmingPublisher, RabbitTemplate rabbitTemplate, MessagingProperties messagingProperties,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RetryTierRecoverer(confirmingPublisher, rabbitTemplate.getMessageConverter(), messagingProperties.getRetry(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @ConditionalOnBean(RabbitTemplate.class)
+    @ConditionalOnMissingBean
+    public ParkingLotService parkingLotService(RabbitTemplate rabbitTemplate) {
+        return new ParkingLotService(rabbitTemplate);
+    }
+
+    /*
+     * Mesajları tek tek değil toplu olarak dinlemek isteyen listener'lar için container factory.
+     * @RabbitListener(containerFactory = BATCH_LISTENER_CONTAINER_FACTORY) ile kullanılır ve metot List<Message<T>> ile birlikte Channel parametresi alır.
+     * batchSize kadar mesaj gelince ya da batchTimeout süresi dolunca metot çağrılıyor. Onaylama(ack) manuel olduğu için her mesaj listener içinde ayrı ayrı onaylanmalıdır.
+     */
+    @Bean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    @ConditionalOnBean(ConnectionFactory.class)
+    @ConditionalOnMissingBean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory,
+                                                                              MessagingProperties messagingProperties, ObjectProvider<ListenerContainerCustomizer> customizer) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(messagingProperties.getBatchListener().getBatchSize());
+        factory.setReceiveTimeout(messagingProperties.getBatchListener().getBatchTimeout().toMillis());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        customizer.ifAvailable(factory::setContainerCustomizer);
+        return factory;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PartitionRouter partitionRouter(MessagingProperties messagingProperties) {
+        return new PartitionRouter(messagingProperties.getPartitioning().getStreams().keySet());
+    }
+
+    @Bean
+    @ConditionalOnBean(RabbitTemplate.class)
+    @ConditionalOnMissingBean
+    public PartitionRebalancer partitionRebalancer(RabbitListenerEndpointRegistry registry, RabbitTemplate rabbitTemplate, MessagingProperties messagingProperties) {
+        return new PartitionRebalancer(registry, rabbitTemplate, messagingProperties.getPartitioning().getRebalanceInterval());
+    }
+
+    //Servis PartitionedEventListener tanımladıysa her partition kuyruğu için batchListenerContainerFactory ile ayrı bir container oluşturuluyor.
+    @Bean
+    @ConditionalOnBean(name = BATCH_LISTENER_CONTAINER_FACTORY)
+    public PartitionListenerConfigurer partitionListenerConfigurer(ObjectProvider<PartitionedEventListener> listeners, MessagingProperties messagingProperties,
+                                                                   RabbitTemplate rabbitTemplate, PartitionRebalancer partitionRebalancer,
+                                                                   @Qualifier(BATCH_LISTENER_CONTAINER_FACTORY) SimpleRabbitListenerContainerFactory containerFactory) {
+        return new PartitionListenerConfigurer(listeners.orderedStream().toList(), messagingProperties.getPartitioning().getStreams(),
+                rabbitTemplate.getMessageConverter(), containerFactory, partitionRebalancer);
+    }
+
+}
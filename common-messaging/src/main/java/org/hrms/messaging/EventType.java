@@ -0,0 +1,58 @@
+package org.hrms.messaging;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/*
+ * Servisler arasında RabbitMQ ile gönderilen bütün olayların(event) listesi.
+ * Her olayın hangi exchange'e, hangi routing key ile gönderildiği ve hangi kuyrukta dinlendiği tek bir yerde tanımlanıyor.
+ * Servisler yml dosyasında hrms.messaging.publishes ve hrms.messaging.consumes altında sadece kullandıkları olayları belirtiyor
+ * ve açılışta sadece bu olaylar için exchange, kuyruk ve binding tanımlanıyor.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EventType {
+
+    GUEST_REGISTER("guestExchange", "guestRegisterBindingKey", EventQueues.GUEST_REGISTER),
+    COMPANY_REGISTER("managerExchange", "companyRegisterBindingKey", EventQueues.COMPANY_REGISTER),
+    MAIL_SEND("mailExchange", "mailBindingKey", EventQueues.MAIL_SEND),
+    MAIL_FORGOT_PASSWORD("mailExchange", "mailForgotPasswordBindingKey", EventQueues.MAIL_FORGOT_PASSWORD),
+    MAIL_CREATE_EMPLOYEE("mailExchange", "mailCreateEmployeeBindingKey", EventQueues.MAIL_CREATE_EMPLOYEE),
+    AUTH_UPDATE("authExchange", "authUpdateBindingKey", EventQueues.AUTH_UPDATE),
+    AUTH_DELETE("authExchange", "authDeleteBindingKey", EventQueues.AUTH_DELETE),
+    ADMIN_SAVE("authExchange", "adminSaveBindingKey", EventQueues.ADMIN_SAVE),
+    ADMIN_SET_AUTH_ID("adminExchange", "adminSetAuthIdBindingKey", EventQueues.ADMIN_SET_AUTH_ID),
+    EMPLOYEE_CREATE("authExchange", "managerAddEmployeeBindingKey", EventQueues.EMPLOYEE_CREATE),
+    EMPLOYEE_SET_AUTH_ID("employeeExchange", "employeeSetAuthIdBindingKey", EventQueues.EMPLOYEE_SET_AUTH_ID),
+    EMPLOYEE_FORGOT_PASSWORD("employeeExchange", "employeeForgotPasswordBindingKey", EventQueues.EMPLOYEE_FORGOT_PASSWORD),
+    GUEST_ACTIVATE_STATUS("guestExchange", "guestActivateStatusBindingKey", EventQueues.GUEST_ACTIVATE_STATUS),
+    GUEST_FORGOT_PASSWORD("guestExchange", "guestForgotPasswordBindingKey", EventQueues.GUEST_FORGOT_PASSWORD),
+    MANAGER_ACTIVATE_STATUS("managerExchange", "managerActivateStatusBindingKey", EventQueues.MANAGER_ACTIVATE_STATUS),
+    MANAGER_FORGOT_PASSWORD("managerExchange", "managerForgotPasswordBindingKey", EventQueues.MANAGER_FORGOT_PASSWORD),
+    MANAGER_SET_COMPANY_ID("managerExchange", "managerSetCompanyIdBindingKey", EventQueues.MANAGER_SET_COMPANY_ID),
+    COMPANY_SET_MANAGER_ID("companyExchange", "companySetManagerIdBindingKey", EventQueues.COMPANY_SET_MANAGER_ID);
+
+    private final String exchange;
+    private final String routingKey;
+    private final String queue;
+
+    //Geçici hata alan mesajların bekletildiği tekrar(retry) kuyruğunun adı. tier değeri 1'den başlar.
+    public String retryQueue(int tier) {
+        return queue + ".retry." + tier;
+    }
+
+    //Bütün denemeleri tükenen ya da kalıcı hata alan mesajların elle incelenmek üzere bırakıldığı kuyruk(parking lot).
+    public String parkingQueue() {
+        return queue + ".parking";
+    }
+
+    public static Optional<EventType> fromQueue(String queue) {
+        return Arrays.stream(values())
+                .filter(item -> item.queue.equals(queue))
+                .findFirst();
+    }
+
+}
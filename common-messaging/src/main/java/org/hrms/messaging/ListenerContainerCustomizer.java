@@ -0,0 +1,90 @@
+package org.hrms.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.aop.Advice;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+ * @RabbitListener ile oluşturulan her container'a hrms.messaging.listeners altındaki kuyruk ayarlarını uygulayan sınıfımız.
+ * Spring Boot, context içinde tek bir ContainerCustomizer bean'i varsa onu varsayılan container factory'ye veriyor ve her container oluşturulduğunda çağırıyor.
+ * Container'ın dinlediği kuyruk adından ilgili olayı(EventType) buluyoruz, ayarı olmayan kuyruklar genel ayarlarla çalışmaya devam ediyor.
+ * Tek tek dinlenen bütün container'lara adviceChain ekleniyor: hata alan mesajları RetryTierRecoverer'a yönlendiren retry advice'ı ve
+ * aynı mesajın tekrar işlenmesini engelleyen IdempotentListenerAdvice. Retry advice'ı en dışta olduğu için tekrar işlenme kontrolündeki hatalar da yönlendiriliyor.
+ * Toplu(batch) listener'lar mesajları kendileri onayladığı için hataları ve tekrar gelen mesajları da kendileri ele alıyor, bu container'lara batchAdviceChain ekleniyor.
+ * ListenerMetricsAdvice iki zincirde de bulunuyor. Tek tek dinlenen container'larda retry advice'ının içinde olduğu için hata alan çağrılar failure olarak ölçülüyor.
+ * Proje Java 19 hedeflediği için Spring Boot'un spring.threads.virtual.enabled ayarı yerine virtual thread'leri kuyruk bazında burada açıyoruz.
+ * SimpleAsyncTaskExecutor her consumer için yeni bir thread açıyor, setVirtualThreads(true) ile bu thread'ler virtual thread oluyor.
+ */
+@Slf4j
+public class ListenerContainerCustomizer implements ContainerCustomizer<SimpleMessageListenerContainer> {
+
+    private final Map<EventType, MessagingProperties.Listener> listeners;
+    private final Advice[] adviceChain;
+    private final Advice[] batchAdviceChain;
+
+    public ListenerContainerCustomizer(Map<EventType, MessagingProperties.Listener> listeners, List<Advice> adviceChain, List<Advice> batchAdviceChain) {
+        this.listeners = listeners;
+        this.adviceChain = adviceChain.toArray(Advice[]::new);
+        this.batchAdviceChain = batchAdviceChain.toArray(Advice[]::new);
+    }
+
+    @Override
+    public void configure(SimpleMessageListenerContainer container) {
+        Advice[] chain = container.isConsumerBatchEnabled() ? batchAdviceChain : adviceChain;
+        if (chain.length > 0) {
+            container.setAdviceChain(chain);
+        }
+        for (String queue : container.getQueueNames()) {
+            EventType.fromQueue(queue)
+                    .map(listeners::get)
+                    .ifPresent(listener -> apply(container, queue, listener));
+        }
+    }
+
+    private void apply(SimpleMessageListenerContainer container, String queue, MessagingProperties.Listener listener) {
+        if (listener.getConcurrency() != null && listener.getMaxConcurrency() != null
+                && listener.getMaxConcurrency() < listener.getConcurrency()) {
+            throw new IllegalStateException("max-concurrency must not be less than concurrency for " + queue);
+        }
+        //maxConcurrency değeri concurrency'den küçük olamayacağı için önce maxConcurrency değerini veriyoruz.
+        if (listener.getMaxConcurrency() != null) {
+            container.setMaxConcurrentConsumers(listener.getMaxConcurrency());
+        }
+        if (listener.getConcurrency() != null) {
+            container.setConcurrentConsumers(listener.getConcurrency());
+        }
+        if (listener.getPrefetch() != null) {
+            container.setPrefetchCount(listener.getPrefetch());
+        }
+        if (listener.getBatchSize() != null) {
+            container.setBatchSize(listener.getBatchSize());
+        }
+        if (listener.getBatchTimeout() != null) {
+            container.setReceiveTimeout(listener.getBatchTimeout().toMillis());
+        }
+        if (Boolean.TRUE.equals(listener.getVirtualThreads())) {
+            if (supportsVirtualThreads()) {
+                container.setTaskExecutor(consumerExecutor(queue, true));
+            } else {
+                log.warn("Virtual threads need Java 21, listeners of {} run on platform threads on Java {}", queue, Runtime.version().feature());
+            }
+        }
+    }
+
+    public static boolean supportsVirtualThreads() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    //Container'ın varsayılan executor'ı da SimpleAsyncTaskExecutor olduğu için virtual false iken davranış değişmiyor.
+    public static SimpleAsyncTaskExecutor consumerExecutor(String queue, boolean virtual) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(queue + "-");
+        executor.setVirtualThreads(virtual);
+        return executor;
+    }
+
+}
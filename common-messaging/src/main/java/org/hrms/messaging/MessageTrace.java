@@ -0,0 +1,51 @@
+package org.hrms.messaging;
+
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.Date;
+import java.util.UUID;
+
+/*
+ * Gönderilen olaylara gönderim zamanını(timestamp) ve x-trace-id başlığını yazan sınıfımız.
+ * Gönderim zamanı sayesinde dinleyen servis mesajın kuyrukta ne kadar beklediğini ölçebiliyor.
+ * Listener içinde yeni bir olay gönderilirse(örneğin kayıt olayını dinleyen servisin mail olayı göndermesi) gelen mesajın trace id değeri yeni mesaja da yazılıyor.
+ * Bu sayede bir kaydın bütün servislerdeki yolculuğu aynı trace id ile loglardan takip edilebiliyor. Listener dışında gönderilen her olay yeni bir trace id alıyor.
+ * Gelen mesajın trace id değeri listener çağrılmadan önce ListenerMetricsAdvice tarafından thread'e yazılıyor ve listener dönünce siliniyor.
+ */
+public final class MessageTrace {
+
+    public static final String TRACE_ID_HEADER = "x-trace-id";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private MessageTrace() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void set(String traceId) {
+        if (traceId == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(traceId);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    //Daha önce yazılmış değerleri(örneğin outbox tablosundan okunan mesajın değerlerini) değiştirmiyoruz.
+    public static void stamp(MessageProperties messageProperties) {
+        if (messageProperties.getTimestamp() == null) {
+            messageProperties.setTimestamp(new Date());
+        }
+        if (messageProperties.getHeader(TRACE_ID_HEADER) == null) {
+            String traceId = CURRENT.get();
+            messageProperties.setHeader(TRACE_ID_HEADER, traceId == null ? UUID.randomUUID().toString() : traceId);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.hrms.messaging;
+
+import org.aopalliance.aop.Advice;
+import org.hrms.messaging.idempotency.IdempotentListenerAdvice;
+import org.hrms.messaging.metrics.ListenerMetricsAdvice;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * RabbitMQ kullanan servislerde mesaj dönüştürücüyü otomatik olarak tanımlayan konfigürasyon sınıfımız.
+ * Spring Boot, context içinde tek bir MessageConverter bean'i varsa onu hem RabbitTemplate'e hem de @RabbitListener container'larına otomatik olarak veriyor.
+ * ContentTypeDelegatingMessageConverter gelen mesajın content-type başlığına bakarak uygun dönüştürücüyü seçiyor.
+ * Gönderirken ise hrms.messaging.content-type ile belirtilen dönüştürücü kullanılıyor.
+ * Java serileştirmesiyle gönderilmiş eski mesajlar da okunabiliyor ama sadece güvenilir paketlerdeki sınıflara izin veriliyor.
+ * Listener container'ların kuyruk bazındaki concurrency ve prefetch ayarları da ListenerContainerCustomizer ile burada veriliyor.
+ * Aynı messageId ile tekrar gelen mesajlar IdempotentListenerAdvice ile listener çağrılmadan onaylanıyor.
+ * Hata alan mesajlar aynı kuyruğa hemen geri bırakılmak yerine tek denemeden sonra RetryTierRecoverer ile tekrar kuyruklarına yönlendiriliyor.
+ * Listener süreleri ve mesajların kuyrukta bekleme süreleri ListenerMetricsAdvice ile ölçülüyor.
+ */
+@AutoConfiguration(before = RabbitAutoConfiguration.class)
+@ConditionalOnClass(RabbitTemplate.class)
+@EnableConfigurationProperties(MessagingProperties.class)
+public class MessagingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(MessageConverter.class)
+    public ContentTypeDelegatingMessageConverter messageConverter(MessagingProperties messagingProperties) {
+        CborMessageConverter cborMessageConverter = new CborMessageConverter(messagingProperties.getTrustedPackages());
+        Jackson2JsonMessageConverter jsonMessageConverter = new Jackson2JsonMessageConverter(messagingProperties.getTrustedPackages().toArray(String[]::new));
+        SimpleMessageConverter serializedMessageConverter = new SimpleMessageConverter();
+        List<String> allowedPatterns = new ArrayList<>(List.of("java.lang.*", "java.util.*", "java.time.*", "java.math.*"));
+        messagingProperties.getTrustedPackages().forEach(item -> allowedPatterns.add(item + ".*"));
+        serializedMessageConverter.setAllowedListPatterns(allowedPatterns);
+
+        MessageConverter defaultConverter = switch (messagingProperties.getContentType()) {
+            case MessageProperties.CONTENT_TYPE_JSON -> jsonMessageConverter;
+            case MessageProperties.CONTENT_TYPE_SERIALIZED_OBJECT -> serializedMessageConverter;
+            default -> cborMessageConverter;
+        };
+        ContentTypeDelegatingMessageConverter messageConverter = new ContentTypeDelegatingMessageConverter(defaultConverter);
+        messageConverter.addDelegate(CborMessageConverter.CONTENT_TYPE, cborMessageConverter);
+        messageConverter.addDelegate(MessageProperties.CONTENT_TYPE_JSON, jsonMessageConverter);
+        messageConverter.addDelegate(MessageProperties.CONTENT_TYPE_SERIALIZED_OBJECT, serializedMessageConverter);
+        return messageConverter;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(ContainerCustomizer.class)
+    public ListenerContainerCustomizer listenerContainerCustomizer(MessagingProperties messagingProperties, ObjectProvider<RetryTierRecoverer> retryTierRecoverer,
+                                                                  ObjectProvider<IdempotentListenerAdvice> idempotentListenerAdvice,
+                                                                  ObjectProvider<ListenerMetricsAdvice> listenerMetricsAdvice) {
+        List<Advice> adviceChain = new ArrayList<>();
+        List<Advice> batchAdviceChain = new ArrayList<>();
+        retryTierRecoverer.ifAvailable(recoverer -> adviceChain.add(RetryInterceptorBuilder.stateless().maxAttempts(1).recoverer(recoverer).build()));
+        listenerMetricsAdvice.ifAvailable(advice -> {
+            adviceChain.add(advice);
+            batchAdviceChain.add(advice);
+        });
+        idempotentListenerAdvice.ifAvailable(adviceChain::add);
+        return new ListenerContainerCustomizer(messagingProperties.getListeners(), adviceChain, batchAdviceChain);
+    }
+
+}
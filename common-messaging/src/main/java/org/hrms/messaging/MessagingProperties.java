@@ -0,0 +1,132 @@
+package org.hrms.messaging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * yml dosyasındaki "hrms.messaging" ile başlayan değerleri bu sınıfın değişkenlerine bağlıyoruz.
+ * contentType, gönderilen mesajların hangi formatta yazılacağını belirtir(application/cbor, application/json ya da application/x-java-serialized-object).
+ * Gelen mesajlar ise formatından bağımsız olarak content-type başlığına göre okunuyor, bu sayede servisler farklı zamanlarda geçiş yapabiliyor.
+ * trustedPackages, mesaj başlığındaki sınıf adından nesne oluşturulmasına izin verilen paketlerdir. Alt paketler kapsanmadığı için her paket ayrı ayrı yazılmalıdır.
+ * publishes ve consumes, servisin gönderdiği ve dinlediği olaylardır(EventType). Açılışta sadece bu olayların exchange, kuyruk ve binding tanımları yapılıyor.
+ */
+@Data
+@ConfigurationProperties(prefix = "hrms.messaging")
+public class MessagingProperties {
+    private String contentType = CborMessageConverter.CONTENT_TYPE;
+    private List<String> trustedPackages = List.of("org.hrms.rabbitmq.model", "org.hrms.repository.enums", "org.hrms.security");
+    private Set<EventType> publishes = new LinkedHashSet<>();
+    private Set<EventType> consumes = new LinkedHashSet<>();
+    private Outbox outbox = new Outbox();
+    private Publisher publisher = new Publisher();
+    private Map<EventType, Listener> listeners = new EnumMap<>(EventType.class);
+    private BatchListener batchListener = new BatchListener();
+    private Retry retry = new Retry();
+    private Idempotency idempotency = new Idempotency();
+    private Partitioning partitioning = new Partitioning();
+    private Metrics metrics = new Metrics();
+
+    /*
+     * enabled true ise gönderilen olaylar önce tbl_outbox_message tablosuna yazılır, OutboxRelay bu tabloyu pollInterval aralığıyla boşaltır.
+     * batchSize, tek transaction içinde okunup gönderilen en fazla mesaj sayısıdır. confirmTimeout, RabbitMQ'dan onay(publisher confirm) beklenecek en uzun süredir.
+     * maxAttempts kez gönderilip onaylanmayan mesaj tekrar denenmez, deadLetteredDate sütunu doldurularak tabloda elle incelenmek üzere bırakılır.
+     * excluded altındaki olaylar tabloya yazılmaz, transaction commit edildikten sonra doğrudan gönderilir. Şifre gibi veritabanında saklanmaması gereken
+     * bilgileri taşıyan olaylar için kullanılır. Bu olaylar commit ile gönderim arasında servis kapanırsa ya da RabbitMQ'ya ulaşılamazsa kaybolabilir.
+     */
+    @Data
+    public static class Outbox {
+        private boolean enabled = false;
+        private int batchSize = 100;
+        private Duration pollInterval = Duration.ofSeconds(1);
+        private Duration confirmTimeout = Duration.ofSeconds(5);
+        private int maxAttempts = 10;
+        private Set<EventType> excluded = new LinkedHashSet<>();
+    }
+
+    /*
+     * ConfirmingPublisher ayarları. nack gelen ya da gönderilemeyen mesajlar maxAttempts sayısına kadar tekrar gönderilir.
+     * İlk tekrar initialBackoff kadar bekledikten sonra yapılır, sonraki beklemeler multiplier ile çarpılarak maxBackoff değerine kadar artar.
+     */
+    @Data
+    public static class Publisher {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private double multiplier = 2.0;
+        private Duration maxBackoff = Duration.ofSeconds(5);
+    }
+
+    /*
+     * Kuyruk bazında listener container ayarları. listeners altında olay adıyla(EventType) verilen değerler sadece o olayın kuyruğunu dinleyen container'a uygulanır.
+     * Boş bırakılan değerler için spring.rabbitmq.listener.simple altındaki genel ayarlar geçerli olur.
+     * concurrency başlangıçtaki consumer sayısı, maxConcurrency yoğunlukta çıkılabilecek en fazla consumer sayısıdır.
+     * prefetch bir consumer'a onay beklemeden gönderilecek mesaj sayısı, batchSize ise tek ack ile onaylanan mesaj sayısıdır.
+     * Toplu dinleyen(batch) listener'larda batchSize bir seferde alınan en fazla mesaj sayısı, batchTimeout ise batch dolmasa bile beklenecek en uzun süredir.
+     * virtualThreads true ise consumer'lar virtual thread üzerinde çalışır. Servis Java 21'den eski bir JVM ile çalışıyorsa uyarı yazılıp platform thread'ler kullanılır.
+     */
+    @Data
+    public static class Listener {
+        private Integer concurrency;
+        private Integer maxConcurrency;
+        private Integer prefetch;
+        private Integer batchSize;
+        private Duration batchTimeout;
+        private Boolean virtualThreads;
+    }
+
+    //batchListenerContainerFactory ile oluşturulan toplu listener'ların varsayılan ayarları. Kuyruk bazında listeners altından değiştirilebilir.
+    @Data
+    public static class BatchListener {
+        private int batchSize = 50;
+        private Duration batchTimeout = Duration.ofMillis(200);
+    }
+
+    /*
+     * Dinlenen kuyruklarda hata alan mesajların tekrar deneme ayarları. delays içindeki her süre için bir tekrar kuyruğu(retry tier) tanımlanır.
+     * Geçici hata alan mesaj sıradaki tekrar kuyruğunda o süre kadar bekledikten sonra ana kuyruğa geri döner, bütün kuyruklar denendiyse parking kuyruğuna bırakılır.
+     * permanentExceptions içindeki hata sınıfları(ve alt sınıfları) kalıcı hata sayılır, tekrar denenmeden doğrudan parking kuyruğuna gönderilir.
+     */
+    @Data
+    public static class Retry {
+        private List<Duration> delays = List.of(Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(5));
+        private List<String> permanentExceptions = List.of("org.springframework.amqp.support.converter.MessageConversionException");
+    }
+
+    /*
+     * Tekrar gelen mesajların ikinci kez işlenmesini engelleyen yapının ayarları. İşlenen messageId değerleri window süresi boyunca tutulur.
+     * recentCapacity bellekte tutulan son messageId sayısıdır. Veritabanındaki süresi dolan kayıtlar purgeInterval aralığıyla silinir.
+     */
+    @Data
+    public static class Idempotency {
+        private boolean enabled = true;
+        private Duration window = Duration.ofHours(24);
+        private int recentCapacity = 10000;
+        private Duration purgeInterval = Duration.ofMinutes(10);
+    }
+
+    /*
+     * Sırası korunması gereken olay gruplarının(EventStream) partition ayarları. streams altında grup adıyla partition(kuyruk) sayısı verilir.
+     * Olayı gönderen ve dinleyen servislerde aynı değer verilmelidir. Dinleyen servis instance'ları arasındaki dağılım rebalanceInterval aralığıyla kontrol edilir.
+     */
+    @Data
+    public static class Partitioning {
+        private Map<EventStream, Integer> streams = new EnumMap<>(EventStream.class);
+        private Duration rebalanceInterval = Duration.ofSeconds(30);
+    }
+
+    /*
+     * Kuyruk metriklerinin ayarları. Servisin gönderdiği ve dinlediği kuyrukların mesaj ve consumer sayıları queuePollInterval aralığıyla RabbitMQ'dan okunur.
+     * hrms.messaging.metrics.enabled: false verilerek listener süreleri ve kuyruk metrikleri kapatılabilir.
+     */
+    @Data
+    public static class Metrics {
+        private boolean enabled = true;
+        private Duration queuePollInterval = Duration.ofSeconds(15);
+    }
+}
@@ -0,0 +1,64 @@
+package org.hrms.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.GetResponse;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Parking kuyruğunda bekleyen mesajları ana kuyruğa geri gönderen sınıfımız.
+ * Hatanın sebebi giderildikten sonra(örneğin mail sunucusu düzeldiğinde) mesajlar admin endpoint'i üzerinden toplu olarak tekrar işlenebiliyor.
+ * Mesajı parking kuyruğundan onaylamadan alıp ana kuyruğa gönderiyoruz, gönderim başarılı olunca parking kuyruğundaki mesajı onaylıyoruz.
+ * Bu sayede gönderim sırasında hata olursa mesaj parking kuyruğunda kalmaya devam ediyor. Tekrar sayısı ve hata başlıkları sıfırlanıyor.
+ * Partition kuyruklarından gelen mesajlarda x-partition-key başlığı bulunuyor. Bu mesajlar olayın kuyruğuna değil PartitionRouter ile grubun exchange'ine gönderiliyor,
+ * böylece aynı kaydın diğer mesajlarıyla aynı partition kuyruğuna dönüyor ve kayıt bazındaki sıra korunuyor.
+ */
+public class ParkingLotService {
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public ParkingLotService(RabbitTemplate rabbitTemplate) {
+        this.rabbitTemplate = rabbitTemplate;
+    }
+
+    //Parking kuyruğundaki en fazla limit kadar mesajı ana kuyruğa gönderir ve gönderilen mesaj sayısını döner.
+    public int replay(EventType eventType, int limit) {
+        return rabbitTemplate.execute(channel -> {
+            channel.confirmSelect();
+            int replayed = 0;
+            while (replayed < limit) {
+                GetResponse response = channel.basicGet(eventType.parkingQueue(), false);
+                if (response == null) {
+                    break;
+                }
+                Map<String, Object> headers = response.getProps().getHeaders() == null ? new HashMap<>() : new HashMap<>(response.getProps().getHeaders());
+                headers.remove(RetryTierRecoverer.RETRY_COUNT_HEADER);
+                headers.remove(RetryTierRecoverer.EXCEPTION_HEADER);
+                headers.remove(RetryTierRecoverer.ORIGINAL_QUEUE_HEADER);
+                AMQP.BasicProperties properties = response.getProps().builder().headers(headers).build();
+                Object partitionKey = headers.get(PartitionRouter.PARTITION_KEY_HEADER);
+                if (partitionKey == null) {
+                    channel.basicPublish("", eventType.getQueue(), properties, response.getBody());
+                } else {
+                    MessageProperties messageProperties = new MessageProperties();
+                    messageProperties.setHeader(PartitionRouter.PARTITION_KEY_HEADER, partitionKey.toString());
+                    channel.basicPublish(PartitionRouter.exchange(eventType, messageProperties), PartitionRouter.routingKey(eventType, messageProperties),
+                            properties, response.getBody());
+                }
+                channel.waitForConfirmsOrDie(5000);
+                channel.basicAck(response.getEnvelope().getDeliveryTag(), false);
+                replayed++;
+            }
+            return replayed;
+        });
+    }
+
+    public long parkedCount(EventType eventType) {
+        return rabbitTemplate.execute(channel -> channel.messageCount(eventType.parkingQueue()));
+    }
+
+}
@@ -0,0 +1,16 @@
+package org.hrms.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * Model sınıfında olayın hangi partition kuyruğuna gideceğini belirleyen alanı işaretlemek için kullandığımız anotasyon.
+ * Alanın değeri consistent-hash exchange'e routing key olarak veriliyor, böylece aynı değere sahip olaylar(örneğin aynı authId) hep aynı kuyruğa gidiyor.
+ * Alanın değeri null ise olay partition kullanılmadan olayın kendi kuyruğuna gönderiliyor.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PartitionKey {
+}
@@ -0,0 +1,156 @@
+package org.hrms.messaging;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+/*
+ * Listener içinde hata alan mesajları tekrar kuyruklarına(retry tier) ya da parking kuyruğuna yönlendiren sınıfımız.
+ * Önceden hata alan mesaj hemen aynı kuyruğa geri bırakıldığı için hata devam ettiği sürece mesaj durmadan tekrar işleniyordu.
+ * Artık geçici hata alan mesaj sıradaki tekrar kuyruğuna gönderiliyor, kuyruktaki bekleme süresi(x-message-ttl) dolunca RabbitMQ mesajı ana kuyruğa geri bırakıyor.
+ * Kalıcı hata alan(permanentExceptions) ya da bütün tekrar kuyruklarını dolaşmış mesajlar parking kuyruğuna bırakılıyor ve admin endpoint'i ile tekrar gönderilene kadar orada bekliyor.
+ * Partition kuyruklarından gelen mesajlar olayın tekrar kuyruğuna değil grubun(EventStream) tekrar kuyruğuna gidiyor ve süre dolunca aynı partition kuyruğuna dönüyor.
+ * Olayın kendi kuyruğuna dönseydi aynı kaydın sonraki mesajlarıyla farklı consumer'larda aynı anda işlenebilir ve kayıt bazındaki sıra bozulurdu.
+ * Kaç kez denendiği x-retry-count, hangi kuyruktan geldiği x-original-queue ve son hata x-exception başlığına yazılıyor.
+ * Yönlendirme yapılamazsa hata fırlatıyoruz, bu durumda mesaj onaylanmadığı için kaybolmuyor ve tekrar kuyruğa bırakılıyor.
+ * Tekrar sayıları metriklerde tutulduğu için tekrar kuyruğuna giden mesajlar sadece debug seviyesinde, parking kuyruğuna düşen mesajlar ise warn seviyesinde log'lanıyor.
+ */
+@Slf4j
+public class RetryTierRecoverer implements MessageRecoverer {
+
+    public static final String RETRY_COUNT_HEADER = "x-retry-count";
+    public static final String ORIGINAL_QUEUE_HEADER = "x-original-queue";
+    public static final String EXCEPTION_HEADER = "x-exception";
+
+    private static final int MAX_EXCEPTION_LENGTH = 500;
+
+    private final ConfirmingPublisher confirmingPublisher;
+    private final MessageConverter messageConverter;
+    private final int tiers;
+    private final List<Class<?>> permanentExceptions = new ArrayList<>();
+    private final MeterRegistry meterRegistry;
+
+    public RetryTierRecoverer(ConfirmingPublisher confirmingPublisher, MessageConverter messageConverter,
+                              MessagingProperties.Retry properties, MeterRegistry meterRegistry) {
+        this.confirmingPublisher = confirmingPublisher;
+        this.messageConverter = messageConverter;
+        this.tiers = properties.getDelays().size();
+        this.meterRegistry = meterRegistry;
+        //Servisin classpath'inde bulunmayan hata sınıflarını(örneğin mail-service'te olmayan bir sınıf) görmezden geliyoruz.
+        for (String className : properties.getPermanentExceptions()) {
+            if (ClassUtils.isPresent(className, getClass().getClassLoader())) {
+                permanentExceptions.add(ClassUtils.resolveClassName(className, getClass().getClassLoader()));
+            }
+        }
+    }
+
+    //@RabbitListener ile tek tek dinlenen kuyruklarda container, listener hata fırlattığında bu metodu çağırıyor. Metot sorunsuz dönerse mesaj onaylanıyor.
+    @Override
+    public void recover(Message message, Throwable cause) {
+        MessageProperties messageProperties = message.getMessageProperties();
+        route(messageProperties.getConsumerQueue(), message, retryCount(messageProperties.getHeader(RETRY_COUNT_HEADER)), cause);
+    }
+
+    /*
+     * Toplu(batch) listener'lar mesajları kendileri onayladığı için hata alan mesajı bu metotla yönlendirip ardından onaylamalıdır.
+     * Listener'a gelen mesaj zaten nesneye çevrilmiş olduğu için gönderirken tekrar MessageConverter ile byte dizisine çeviriyoruz.
+     * Gönderim zamanı ve x-trace-id başlığı korunuyor, böylece tekrar denenen mesajın toplam bekleme süresi de ölçülebiliyor.
+     */
+    public void recover(org.springframework.messaging.Message<?> message, Throwable cause) {
+        MessageHeaders headers = message.getHeaders();
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setMessageId(headers.get(AmqpHeaders.MESSAGE_ID, String.class));
+        messageProperties.setTimestamp(headers.get(AmqpHeaders.TIMESTAMP, Date.class));
+        for (String header : List.of(PartitionRouter.EVENT_TYPE_HEADER, PartitionRouter.PARTITION_KEY_HEADER, MessageTrace.TRACE_ID_HEADER)) {
+            if (headers.containsKey(header)) {
+                messageProperties.setHeader(header, headers.get(header));
+            }
+        }
+        Message amqpMessage = messageConverter.toMessage(message.getPayload(), messageProperties);
+        route(headers.get(AmqpHeaders.CONSUMER_QUEUE, String.class), amqpMessage, retryCount(headers.get(RETRY_COUNT_HEADER)), cause);
+    }
+
+    public boolean isPermanent(Throwable cause) {
+        for (Throwable item = cause; item != null; item = item.getCause()) {
+            for (Class<?> permanentException : permanentExceptions) {
+                if (permanentException.isInstance(item)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void route(String queue, Message message, int retryCount, Throwable cause) {
+        //Partition kuyruklarından gelen mesajların olayı x-event-type, partition key'i ise x-partition-key başlığında yazıyor.
+        Optional<EventType> queueEventType = EventType.fromQueue(queue);
+        Object eventTypeHeader = message.getMessageProperties().getHeader(PartitionRouter.EVENT_TYPE_HEADER);
+        EventType eventType = queueEventType
+                .or(() -> Optional.ofNullable(eventTypeHeader).map(Object::toString).map(EventType::valueOf))
+                .orElseThrow(() -> new AmqpRejectAndDontRequeueException("No retry queues declared for " + queue, cause));
+        Object partitionKey = message.getMessageProperties().getHeader(PartitionRouter.PARTITION_KEY_HEADER);
+        Optional<EventStream> stream = queueEventType.isPresent() || partitionKey == null ? Optional.empty() : EventStream.of(eventType);
+        boolean parked = isPermanent(cause) || retryCount >= tiers;
+
+        //Varsayılan exchange("") kuyruk adını routing key olarak kullandığı için mesaj doğrudan hedef kuyruğa gidiyor.
+        String exchange = "";
+        String routingKey;
+        String target;
+        if (parked) {
+            routingKey = target = eventType.parkingQueue();
+        } else if (stream.isPresent()) {
+            exchange = stream.get().retryExchange(retryCount + 1);
+            routingKey = partitionKey.toString();
+            target = stream.get().retryQueue(retryCount + 1);
+        } else {
+            routingKey = target = eventType.retryQueue(retryCount + 1);
+        }
+
+        MessageProperties messageProperties = message.getMessageProperties();
+        messageProperties.setHeader(RETRY_COUNT_HEADER, retryCount + 1);
+        messageProperties.setHeader(ORIGINAL_QUEUE_HEADER, queue);
+        String description = describe(cause);
+        messageProperties.setHeader(EXCEPTION_HEADER, description);
+        try {
+            confirmingPublisher.sendOnce(exchange, routingKey, message).join();
+        } catch (CompletionException e) {
+            throw new AmqpException("Message could not be moved to " + target, e.getCause());
+        }
+        meterRegistry.counter(parked ? "hrms.messaging.consume.parked" : "hrms.messaging.consume.retried", "queue", queue).increment();
+        if (parked) {
+            log.warn("Message {} from {} parked in {}: {}", messageProperties.getMessageId(), queue, target, description);
+        } else {
+            log.debug("Message {} from {} moved to {}: {}", messageProperties.getMessageId(), queue, target, description);
+        }
+    }
+
+    //Hata zincirindeki en içteki hatayı yazıyoruz, çünkü listener hataları ListenerExecutionFailedException içine sarılarak geliyor.
+    private static String describe(Throwable cause) {
+        Throwable root = cause;
+        while (root != null && root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String description = root == null ? "unknown" : root.getClass().getName() + ": " + root.getMessage();
+        return description.length() > MAX_EXCEPTION_LENGTH ? description.substring(0, MAX_EXCEPTION_LENGTH) : description;
+    }
+
+    private static int retryCount(Object header) {
+        return header instanceof Number number ? number.intValue() : 0;
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.hrms.messaging;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * RabbitMQ ile gönderilen model sınıflarının şema sürümünü belirtmek için kullandığımız anotasyon.
+ * Model sınıfına yeni bir alan eklemek sürümü değiştirmeyi gerektirmez, bilinmeyen alanlar okunurken görmezden geliniyor.
+ * Bir alanın adı ya da tipi değiştiği gibi geriye uyumsuz durumlarda sürüm artırılmalıdır. Bu durumda eski sürümü bekleyen servis mesajı yanlış okumak yerine reddeder.
+ * Bütün model sınıfları sürümlerini açıkça belirtiyor. Sürüm artırılırken mesajı gönderen ve alan servislerdeki aynı isimli model sınıflarının ikisi de güncellenmelidir.
+ * Anotasyon kullanılmayan modellerin sürümü 1 kabul ediliyor.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SchemaVersion {
+
+    int value() default 1;
+
+}
@@ -0,0 +1,80 @@
+package org.hrms.messaging.idempotency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hrms.messaging.EventTopologyAutoConfiguration;
+import org.hrms.messaging.MessagingProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * Dinlenen mesajların tekrar işlenmesini engelleyen yapıyı tanımlayan konfigürasyon sınıfımız.
+ * Servisin kullandığı veritabanına göre JpaProcessedMessageStore ya da MongoProcessedMessageStore tanımlanıyor, veritabanı yoksa sadece bellek kullanılıyor.
+ * IdempotentListenerAdvice, ListenerContainerCustomizer tarafından tek tek dinlenen bütün container'ların advice zincirine ekleniyor.
+ * hrms.messaging.idempotency.enabled: false verilerek kapatılabilir.
+ */
+@AutoConfiguration(after = {HibernateJpaAutoConfiguration.class, MongoDataAutoConfiguration.class,
+        CompositeMeterRegistryAutoConfiguration.class, EventTopologyAutoConfiguration.class})
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnProperty(prefix = "hrms.messaging.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(MessagingProperties.class)
+public class IdempotencyAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MessageDeduplicator messageDeduplicator(ObjectProvider<ProcessedMessageStore> store, MessagingProperties messagingProperties,
+                                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        return new MessageDeduplicator(store.getIfAvailable(), messagingProperties.getIdempotency(), meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    //Transaction yöneticisi olmayan servislerde(mail-service ve MongoDB kullanan servisler) listener transaction açılmadan çağrılıyor.
+    @Bean
+    @ConditionalOnMissingBean
+    public IdempotentListenerAdvice idempotentListenerAdvice(MessageDeduplicator messageDeduplicator, ObjectProvider<PlatformTransactionManager> transactionManager) {
+        PlatformTransactionManager manager = transactionManager.getIfUnique();
+        return new IdempotentListenerAdvice(messageDeduplicator, manager == null ? null : new TransactionTemplate(manager));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(EntityManagerFactory.class)
+    static class JpaStoreConfiguration {
+
+        @Bean
+        @ConditionalOnBean(EntityManagerFactory.class)
+        @ConditionalOnMissingBean(ProcessedMessageStore.class)
+        public JpaProcessedMessageStore processedMessageStore(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+            return new JpaProcessedMessageStore(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory), new TransactionTemplate(transactionManager));
+        }
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MongoTemplate.class)
+    static class MongoStoreConfiguration {
+
+        @Bean
+        @ConditionalOnBean(MongoTemplate.class)
+        @ConditionalOnMissingBean(ProcessedMessageStore.class)
+        public MongoProcessedMessageStore processedMessageStore(MongoTemplate mongoTemplate, MessagingProperties messagingProperties) {
+            return new MongoProcessedMessageStore(mongoTemplate, messagingProperties.getIdempotency().getWindow());
+        }
+
+    }
+
+}
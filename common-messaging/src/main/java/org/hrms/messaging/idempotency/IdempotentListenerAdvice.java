@@ -0,0 +1,67 @@
+package org.hrms.messaging.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hrms.messaging.EventType;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ReflectionUtils;
+
+/*
+ * Listener container'ın advice zincirine eklenen ve her mesajda listener çağrılmadan önce çalışan sınıfımız.
+ * Mesajın messageId değeri daha önce işlenmişse listener çağrılmıyor ve mesaj onaylanıyor, işlenmemişse listener çağrılıp mesaj işlendi olarak kaydediliyor.
+ * JPA kullanan servislerde listener ve kayıt işlemi tek transaction içinde yapılıyor. Listener hata alırsa kayıt da geri alındığı için mesaj tekrar denendiğinde işlenebiliyor.
+ * Aynı mesajı iki consumer aynı anda işlerse ikinci transaction tablodaki birincil anahtar yüzünden commit edilemiyor ve mesaj tekrar kuyruğuna gidiyor.
+ * Olay kataloğunda(EventType) olmayan kuyruklar ve messageId başlığı olmayan eski mesajlar kontrol edilmeden işleniyor.
+ * Atlanan mesajların sayısı hrms.messaging.consume.duplicates metriğinde tutuluyor, tek tek görmek gerekirse debug log'u açılabilir.
+ */
+@Slf4j
+public class IdempotentListenerAdvice implements MethodInterceptor {
+
+    private final MessageDeduplicator messageDeduplicator;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdempotentListenerAdvice(MessageDeduplicator messageDeduplicator, TransactionTemplate transactionTemplate) {
+        this.messageDeduplicator = messageDeduplicator;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    //Container'ın çağırdığı metot invokeListener(Channel channel, Object data) olduğu için mesaj ikinci parametrede geliyor.
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        if (arguments.length < 2 || !(arguments[1] instanceof Message message)) {
+            return invocation.proceed();
+        }
+        MessageProperties messageProperties = message.getMessageProperties();
+        String messageId = messageProperties.getMessageId();
+        String queue = messageProperties.getConsumerQueue();
+        if (messageId == null || EventType.fromQueue(queue).isEmpty()) {
+            return invocation.proceed();
+        }
+        if (transactionTemplate == null) {
+            return process(invocation, messageId, queue);
+        }
+        return transactionTemplate.execute(status -> {
+            try {
+                return process(invocation, messageId, queue);
+            } catch (Throwable e) {
+                ReflectionUtils.rethrowRuntimeException(e);
+                return null;
+            }
+        });
+    }
+
+    private Object process(MethodInvocation invocation, String messageId, String queue) throws Throwable {
+        if (messageDeduplicator.isProcessed(messageId)) {
+            log.debug("Duplicate message {} from {} skipped", messageId, queue);
+            return null;
+        }
+        Object result = invocation.proceed();
+        messageDeduplicator.markProcessed(messageId, queue);
+        return result;
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.hrms.messaging.idempotency;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/*
+ * İşlenmiş mesajları tbl_processed_message tablosunda tutan ProcessedMessageStore.
+ * PostgreSQL'de TTL olmadığı için süresi dolan kayıtlar MessageDeduplicator tarafından düzenli aralıklarla tek sorguyla siliniyor.
+ */
+public class JpaProcessedMessageStore implements ProcessedMessageStore {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaProcessedMessageStore(EntityManager entityManager, TransactionTemplate transactionTemplate) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public boolean exists(String messageId) {
+        return entityManager.find(ProcessedMessage.class, messageId) != null;
+    }
+
+    @Override
+    public void save(String messageId, String queue) {
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.persist(new ProcessedMessage(messageId, queue, System.currentTimeMillis())));
+    }
+
+    @Override
+    public void saveAll(Map<String, String> queueByMessageId) {
+        long now = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> queueByMessageId.forEach((messageId, queue) ->
+                entityManager.persist(new ProcessedMessage(messageId, queue, now))));
+    }
+
+    @Override
+    public void purgeExpired(long cutoff) {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("delete from ProcessedMessage p where p.processedDate < :cutoff")
+                .setParameter("cutoff", cutoff)
+                .executeUpdate());
+    }
+
+}
@@ -0,0 +1,140 @@
+package org.hrms.messaging.idempotency;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.messaging.MessagingProperties;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Aynı mesajın(messageId) birden fazla kez işlenmesini engelleyen sınıfımız.
+ * Mesaj önce bellekteki son işlenen mesajlar listesinde(RecentMessageIds), orada yoksa ProcessedMessageStore içinde aranıyor.
+ * Veritabanı olmayan servislerde(mail-service) sadece bellekteki liste kullanılıyor, bu durumda servis yeniden başlatılınca liste sıfırlanıyor.
+ * İşlenen mesaj transaction içindeyse bellekteki listeye commit sonrasında ekleniyor, böylece rollback olan mesaj tekrar geldiğinde işlenebiliyor.
+ * Kayıtlar window süresi boyunca tutuluyor, süresi dolan kayıtlar purgeInterval aralığıyla siliniyor.
+ */
+@Slf4j
+public class MessageDeduplicator {
+
+    private final ProcessedMessageStore store;
+    private final RecentMessageIds recent;
+    private final long windowMillis;
+    private final ScheduledExecutorService purgeScheduler;
+    private final Counter duplicateCounter;
+
+    public MessageDeduplicator(ProcessedMessageStore store, MessagingProperties.Idempotency properties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.windowMillis = properties.getWindow().toMillis();
+        this.recent = new RecentMessageIds(properties.getRecentCapacity(), windowMillis);
+        this.duplicateCounter = Counter.builder("hrms.messaging.consume.duplicates").register(meterRegistry);
+        this.purgeScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "processed-message-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (store != null) {
+            long period = properties.getPurgeInterval().toMillis();
+            purgeScheduler.scheduleWithFixedDelay(this::purgeExpired, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isProcessed(String messageId) {
+        if (recent.contains(messageId)) {
+            duplicateCounter.increment();
+            return true;
+        }
+        if (store != null && store.exists(messageId)) {
+            recent.add(messageId);
+            duplicateCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void markProcessed(String messageId, String queue) {
+        if (store != null) {
+            store.save(messageId, queue);
+        }
+        remember(List.of(messageId));
+    }
+
+    /*
+     * Toplu(batch) listener'lar için. Daha önce işlenmiş mesajları onaylayıp listeden çıkarıyor ve işlenmesi gereken mesajları dönüyor.
+     * messageId başlığı olmayan eski mesajlar kontrol edilmeden işlenmeye devam ediyor.
+     */
+    public <T> List<Message<T>> removeProcessed(List<Message<T>> messages, Channel channel) throws IOException {
+        List<Message<T>> fresh = new ArrayList<>(messages.size());
+        for (Message<T> message : messages) {
+            String messageId = message.getHeaders().get(AmqpHeaders.MESSAGE_ID, String.class);
+            if (messageId != null && isProcessed(messageId)) {
+                channel.basicAck(message.getHeaders().get(AmqpHeaders.DELIVERY_TAG, Long.class), false);
+            } else {
+                fresh.add(message);
+            }
+        }
+        return fresh;
+    }
+
+    /*
+     * Toplu listener'da başarıyla işlenen mesajları onaylamadan önce tek seferde kaydediyoruz.
+     * Listener'ın veritabanı işlemiyle aynı transaction içinde çağrılmalıdır, böylece kayıt ve işlem birlikte commit ya da rollback oluyor.
+     */
+    public void markProcessed(List<? extends Message<?>> messages) {
+        Map<String, String> queueByMessageId = new LinkedHashMap<>();
+        for (Message<?> message : messages) {
+            String messageId = message.getHeaders().get(AmqpHeaders.MESSAGE_ID, String.class);
+            if (messageId != null) {
+                queueByMessageId.put(messageId, message.getHeaders().get(AmqpHeaders.CONSUMER_QUEUE, String.class));
+            }
+        }
+        if (queueByMessageId.isEmpty()) {
+            return;
+        }
+        if (store != null) {
+            store.saveAll(queueByMessageId);
+        }
+        remember(queueByMessageId.keySet());
+    }
+
+    public void shutdown() {
+        purgeScheduler.shutdownNow();
+    }
+
+    //Transaction içindeysek mesajlar bellekteki listeye commit sonrasında ekleniyor.
+    private void remember(Collection<String> messageIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<String> pending = List.copyOf(messageIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.forEach(recent::add);
+                }
+            });
+        } else {
+            messageIds.forEach(recent::add);
+        }
+    }
+
+    private void purgeExpired() {
+        try {
+            store.purgeExpired(System.currentTimeMillis() - windowMillis);
+        } catch (RuntimeException e) {
+            log.warn("Processed messages could not be purged: {}", e.getMessage());
+        }
+    }
+
+}
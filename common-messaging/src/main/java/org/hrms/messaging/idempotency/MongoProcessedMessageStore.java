@@ -0,0 +1,39 @@
+package org.hrms.messaging.idempotency;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.util.Date;
+
+/*
+ * MongoDB kullanan servislerde(company-service, user-microservice) işlenmiş mesajları processed_message koleksiyonunda tutan ProcessedMessageStore.
+ * messageId değeri _id alanına yazıldığı için aynı mesaj iki kez kaydedilemiyor.
+ * processedDate alanına TTL index tanımlandığı için süresi dolan kayıtları MongoDB kendisi siliyor.
+ */
+public class MongoProcessedMessageStore implements ProcessedMessageStore {
+
+    static final String COLLECTION = "processed_message";
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoProcessedMessageStore(MongoTemplate mongoTemplate, Duration window) {
+        this.mongoTemplate = mongoTemplate;
+        mongoTemplate.indexOps(COLLECTION).ensureIndex(new Index().on("processedDate", Sort.Direction.ASC).expire(window));
+    }
+
+    @Override
+    public boolean exists(String messageId) {
+        return mongoTemplate.exists(Query.query(Criteria.where("_id").is(messageId)), COLLECTION);
+    }
+
+    @Override
+    public void save(String messageId, String queue) {
+        mongoTemplate.insert(new Document("_id", messageId).append("queue", queue).append("processedDate", new Date()), COLLECTION);
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.hrms.messaging.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * JPA kullanan servislerde işlenmiş mesajların tutulduğu tablomuz. messageId birincil anahtar olduğu için aynı mesaj iki kez kaydedilemiyor.
+ * Süresi dolan kayıtları silerken processed_date sütunu kullanıldığı için bu sütuna index tanımlıyoruz.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Table(name = "tbl_processed_message", indexes = @Index(name = "idx_processed_message_date", columnList = "processed_date"))
+public class ProcessedMessage {
+
+    @Id
+    @Column(length = 36)
+    private String messageId;
+
+    @Column(length = 100)
+    private String queue;
+
+    @Column(name = "processed_date", nullable = false)
+    private Long processedDate;
+
+}
@@ -0,0 +1,25 @@
+package org.hrms.messaging.idempotency;
+
+import java.util.Map;
+
+/*
+ * İşlenmiş mesajların messageId değerlerini kalıcı olarak tutan yapı.
+ * JPA kullanan servislerde tbl_processed_message tablosu, MongoDB kullanan servislerde processed_message koleksiyonu kullanılıyor.
+ * save metodu çağıran transaction'a katılır, bu sayede mesajın işlendiği bilgisi listener'ın yaptığı değişikliklerle birlikte commit ya da rollback oluyor.
+ */
+public interface ProcessedMessageStore {
+
+    boolean exists(String messageId);
+
+    void save(String messageId, String queue);
+
+    //Toplu listener'larda işlenen mesajları tek seferde kaydetmek için. Anahtar messageId, değer kuyruk adıdır.
+    default void saveAll(Map<String, String> queueByMessageId) {
+        queueByMessageId.forEach(this::save);
+    }
+
+    //cutoff(epoch milisaniye) değerinden önce işlenmiş kayıtları siler. TTL index kullanan MongoDB'de silme işini veritabanı kendisi yapıyor.
+    default void purgeExpired(long cutoff) {
+    }
+
+}
@@ -0,0 +1,42 @@
+package org.hrms.messaging.idempotency;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Son işlenen messageId değerlerini bellekte tutan sabit boyutlu halka(ring) yapısı.
+ * Dizi dolunca en eski kayıt yenisiyle değiştiriliyor, böylece bellek kullanımı capacity değeriyle sınırlı kalıyor.
+ * Tekrar gelen mesajların büyük kısmı kısa süre içinde geldiği için çoğu kontrol veritabanına gitmeden burada sonuçlanıyor.
+ */
+class RecentMessageIds {
+
+    private final String[] ring;
+    private final Map<String, Long> index;
+    private final long windowMillis;
+    private int position;
+
+    RecentMessageIds(int capacity, long windowMillis) {
+        this.ring = new String[capacity];
+        this.index = new HashMap<>(capacity * 2);
+        this.windowMillis = windowMillis;
+    }
+
+    synchronized boolean contains(String messageId) {
+        Long processedAt = index.get(messageId);
+        return processedAt != null && System.currentTimeMillis() - processedAt < windowMillis;
+    }
+
+    synchronized void add(String messageId) {
+        if (index.containsKey(messageId)) {
+            return;
+        }
+        String evicted = ring[position];
+        if (evicted != null) {
+            index.remove(evicted);
+        }
+        ring[position] = messageId;
+        index.put(messageId, System.currentTimeMillis());
+        position = (position + 1) % ring.length;
+    }
+
+}
@@ -0,0 +1,96 @@
+package org.hrms.messaging.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.hrms.messaging.MessageTrace;
+import org.springframework.amqp.core.Message;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Listener container'ın advice zincirine eklenen ve her @RabbitListener çağrısının sürelerini ölçen sınıfımız.
+ * hrms.messaging.consume.dwell: mesajın gönderilmesinden listener'a gelene kadar geçen süre. Outbox ve tekrar kuyruklarında geçen süre de buna dahildir.
+ * hrms.messaging.consume.handler: listener metodunun çalışma süresi. outcome etiketi listener hata fırlatırsa failure, fırlatmazsa success oluyor.
+ * Toplu(batch) listener'larda dwell her mesaj için ayrı, handler ise bütün batch için bir kez ölçülüyor.
+ * Tek tek dinlenen mesajlarda gelen x-trace-id değeri listener çalıştığı sürece MessageTrace'e yazılıyor, listener içinde gönderilen olaylar aynı değeri taşıyor.
+ * Gönderim zamanı(timestamp) olmayan eski mesajlar için dwell ölçülmüyor.
+ * Timer'lar her mesajda Timer.builder ile yeniden kurulup registry'de aranmasın diye kuyruk ve outcome bazında bir kez oluşturulup saklanıyor.
+ */
+public class ListenerMetricsAdvice implements MethodInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final QueueDepthMonitor queueDepthMonitor;
+    private final Map<String, Timer> dwellTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> successTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> failureTimers = new ConcurrentHashMap<>();
+
+    public ListenerMetricsAdvice(MeterRegistry meterRegistry, QueueDepthMonitor queueDepthMonitor) {
+        this.meterRegistry = meterRegistry;
+        this.queueDepthMonitor = queueDepthMonitor;
+    }
+
+    //Container'ın çağırdığı metot invokeListener(Channel channel, Object data) olduğu için mesaj ya da batch içindeki mesaj listesi ikinci parametrede geliyor.
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] arguments = invocation.getArguments();
+        List<?> messages = arguments.length < 2 ? List.of()
+                : arguments[1] instanceof Message message ? List.of(message)
+                : arguments[1] instanceof List<?> list ? list : List.of();
+        if (messages.isEmpty() || !(messages.get(0) instanceof Message first)) {
+            return invocation.proceed();
+        }
+        String queue = first.getMessageProperties().getConsumerQueue();
+        recordDwell(queue, messages);
+        if (messages.size() == 1) {
+            MessageTrace.set(first.getMessageProperties().getHeader(MessageTrace.TRACE_ID_HEADER));
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean failed = false;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            failed = true;
+            throw e;
+        } finally {
+            sample.stop(failed ? handlerTimer(failureTimers, queue, "failure") : handlerTimer(successTimers, queue, "success"));
+            MessageTrace.clear();
+        }
+    }
+
+    private Timer handlerTimer(Map<String, Timer> timers, String queue, String outcome) {
+        return timers.computeIfAbsent(queue, name -> Timer.builder("hrms.messaging.consume.handler")
+                .description("Time spent in the listener")
+                .tag("queue", name)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private void recordDwell(String queue, List<?> messages) {
+        long now = System.currentTimeMillis();
+        Timer timer = dwellTimers.computeIfAbsent(queue, name -> Timer.builder("hrms.messaging.consume.dwell")
+                .description("Time between publishing a message and its delivery to the listener")
+                .tag("queue", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        long lastDwell = -1;
+        for (Object item : messages) {
+            Date timestamp = item instanceof Message message ? message.getMessageProperties().getTimestamp() : null;
+            if (timestamp != null) {
+                lastDwell = Math.max(0, now - timestamp.getTime());
+                timer.record(lastDwell, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (lastDwell >= 0 && queueDepthMonitor != null) {
+            queueDepthMonitor.delivered(queue, lastDwell);
+        }
+    }
+
+}
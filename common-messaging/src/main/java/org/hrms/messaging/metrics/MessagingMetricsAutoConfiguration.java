@@ -0,0 +1,77 @@
+package org.hrms.messaging.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hrms.messaging.EventStream;
+import org.hrms.messaging.EventTopologyAutoConfiguration;
+import org.hrms.messaging.EventType;
+import org.hrms.messaging.MessagingProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * Mesajların uçtan uca gecikmesini ölçen yapıyı tanımlayan konfigürasyon sınıfımız.
+ * ListenerMetricsAdvice, ListenerContainerCustomizer tarafından tek tek ve toplu dinlenen bütün container'ların advice zincirine ekleniyor.
+ * QueueDepthMonitor servisin gönderdiği ve dinlediği olayların ana kuyruklarını, dinlenen olayların tekrar ve parking kuyruklarını ve partition kuyruklarını izliyor.
+ * Metrikler /actuator/prometheus endpoint'inden okunuyor. hrms.messaging.metrics.enabled: false verilerek kapatılabilir.
+ */
+@AutoConfiguration(after = {CompositeMeterRegistryAutoConfiguration.class, EventTopologyAutoConfiguration.class})
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnProperty(prefix = "hrms.messaging.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(MessagingProperties.class)
+public class MessagingMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(RabbitTemplate.class)
+    @ConditionalOnMissingBean
+    public QueueDepthMonitor queueDepthMonitor(RabbitTemplate rabbitTemplate, MessagingProperties messagingProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new QueueDepthMonitor(rabbitTemplate, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), monitoredQueues(messagingProperties),
+                messagingProperties.getMetrics().getQueuePollInterval());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ListenerMetricsAdvice listenerMetricsAdvice(ObjectProvider<MeterRegistry> meterRegistry, ObjectProvider<QueueDepthMonitor> queueDepthMonitor) {
+        return new ListenerMetricsAdvice(meterRegistry.getIfAvailable(SimpleMeterRegistry::new), queueDepthMonitor.getIfAvailable());
+    }
+
+    //Sadece EventTopologyAutoConfiguration'ın tanımladığı kuyrukları izliyoruz, tanımlı olmayan bir kuyruğu sorgulamak kanalın kapanmasına sebep oluyor.
+    private static Set<String> monitoredQueues(MessagingProperties messagingProperties) {
+        Set<EventType> events = EnumSet.noneOf(EventType.class);
+        events.addAll(messagingProperties.getPublishes());
+        events.addAll(messagingProperties.getConsumes());
+
+        Set<String> queues = new LinkedHashSet<>();
+        events.forEach(eventType -> queues.add(eventType.getQueue()));
+        for (EventType eventType : messagingProperties.getConsumes()) {
+            for (int tier = 1; tier <= messagingProperties.getRetry().getDelays().size(); tier++) {
+                queues.add(eventType.retryQueue(tier));
+            }
+            queues.add(eventType.parkingQueue());
+        }
+        for (Map.Entry<EventStream, Integer> entry : messagingProperties.getPartitioning().getStreams().entrySet()) {
+            if (Collections.disjoint(entry.getKey().getEvents(), events)) {
+                continue;
+            }
+            for (int partition = 0; partition < entry.getValue(); partition++) {
+                queues.add(entry.getKey().partitionQueue(partition));
+            }
+        }
+        return queues;
+    }
+
+}
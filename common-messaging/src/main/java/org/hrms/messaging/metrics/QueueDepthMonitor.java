@@ -0,0 +1,98 @@
+package org.hrms.messaging.metrics;
+
+import com.rabbitmq.client.AMQP;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Kuyruklardaki mesaj sayısını(depth), consumer sayısını ve dinlenen kuyrukların gecikmesini(lag) gauge olarak yayınlayan sınıfımız.
+ * Gauge değeri her Prometheus isteğinde RabbitMQ'ya sorulursa istek sayısı kadar bağlantı açılacağı için değerleri arka planda pollInterval aralığıyla okuyup bellekte tutuyoruz.
+ * Sayılar queueDeclarePassive ile okunuyor, bu çağrı kuyruğu oluşturmuyor, sadece mesaj ve consumer sayısını dönüyor.
+ * Gecikme(hrms.messaging.consume.lag), kuyruktan son alınan mesajın kuyrukta beklediği süredir. Kuyruk boşaldığında sıfırlanıyor,
+ * böylece son mesaj gecikmeli gelmiş olsa bile boş bir kuyruk gecikmeli görünmüyor.
+ */
+@Slf4j
+public class QueueDepthMonitor {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, QueueStats> queues = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public QueueDepthMonitor(RabbitTemplate rabbitTemplate, MeterRegistry meterRegistry, Collection<String> queueNames, Duration pollInterval) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.meterRegistry = meterRegistry;
+        queueNames.forEach(this::stats);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "queue-depth-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = pollInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::poll, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    //ListenerMetricsAdvice her mesajda kuyrukta bekleme süresini buraya bildiriyor.
+    public void delivered(String queue, long dwellMillis) {
+        stats(queue).lagMillis.set(Math.max(0, dwellMillis));
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void poll() {
+        queues.forEach((queue, stats) -> {
+            try {
+                AMQP.Queue.DeclareOk declareOk = rabbitTemplate.execute(channel -> channel.queueDeclarePassive(queue));
+                if (declareOk != null) {
+                    stats.depth.set(declareOk.getMessageCount());
+                    stats.consumers.set(declareOk.getConsumerCount());
+                    if (declareOk.getMessageCount() == 0) {
+                        stats.lagMillis.set(0);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Depth of {} could not be read: {}", queue, e.getMessage());
+            }
+        });
+    }
+
+    private QueueStats stats(String queue) {
+        return queues.computeIfAbsent(queue, name -> {
+            QueueStats stats = new QueueStats();
+            Gauge.builder("hrms.messaging.queue.depth", stats.depth, AtomicLong::get)
+                    .description("Messages ready in the queue")
+                    .tag("queue", name)
+                    .register(meterRegistry);
+            Gauge.builder("hrms.messaging.queue.consumers", stats.consumers, AtomicLong::get)
+                    .description("Consumers attached to the queue")
+                    .tag("queue", name)
+                    .register(meterRegistry);
+            Gauge.builder("hrms.messaging.consume.lag", stats.lagMillis, value -> value.get() / 1000.0)
+                    .description("Time the last consumed message waited in the queue")
+                    .tag("queue", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            return stats;
+        });
+    }
+
+    private static class QueueStats {
+        private final AtomicLong depth = new AtomicLong();
+        private final AtomicLong consumers = new AtomicLong();
+        private final AtomicLong lagMillis = new AtomicLong();
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.hrms.messaging.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hrms.messaging.EventOutbox;
+import org.hrms.messaging.EventType;
+import org.hrms.messaging.MessageTrace;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/*
+ * Olayları tbl_outbox_message tablosuna yazan EventOutbox sınıfımız.
+ * Çağıran metot bir transaction içindeyse (@Transactional) mesaj o transaction'a katılıyor, değilse mesaj kendi transaction'ı içinde yazılıyor.
+ * Transaction commit edildikten sonra OutboxRelay'i uyandırıyoruz, böylece mesaj bir sonraki poll süresini beklemeden gönderiliyor
+ * ama istek RabbitMQ'nun cevabını beklemiyor.
+ */
+public class JpaEventOutbox implements EventOutbox {
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageConverter messageConverter;
+    private final OutboxRelay outboxRelay;
+    private final PartitionRouter partitionRouter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public JpaEventOutbox(EntityManager entityManager, TransactionTemplate transactionTemplate, MessageConverter messageConverter, OutboxRelay outboxRelay,
+                          PartitionRouter partitionRouter) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.messageConverter = messageConverter;
+        this.outboxRelay = outboxRelay;
+        this.partitionRouter = partitionRouter;
+    }
+
+    @Override
+    public void enqueue(EventType eventType, Object payload) {
+        //Partition başlıkları headers sütununa yazıldığı için OutboxRelay mesajı aynı exchange ve routing key ile gönderebiliyor.
+        //x-trace-id başlığı da aynı sütunda tutuluyor, gönderim zamanı olarak ise createdDate kullanılıyor.
+        MessageProperties messageProperties = new MessageProperties();
+        MessageTrace.stamp(messageProperties);
+        partitionRouter.apply(eventType, payload, messageProperties);
+        Message message = messageConverter.toMessage(payload, messageProperties);
+        OutboxMessage outboxMessage = OutboxMessage.builder()
+                .eventType(eventType)
+                .messageId(UUID.randomUUID().toString())
+                .contentType(message.getMessageProperties().getContentType())
+                .headers(writeHeaders(message.getMessageProperties()))
+                .body(message.getBody())
+                .createdDate(System.currentTimeMillis())
+                .build();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.persist(outboxMessage);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        });
+    }
+
+    private String writeHeaders(MessageProperties messageProperties) {
+        try {
+            return objectMapper.writeValueAsString(messageProperties.getHeaders());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Message headers could not be written...", e);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package org.hrms.messaging.outbox;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hrms.messaging.ConfirmingPublisher;
+import org.hrms.messaging.EventTopologyAutoConfiguration;
+import org.hrms.messaging.MessagingProperties;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/*
+ * JPA kullanan servislerde hrms.messaging.outbox.enabled değeri true ise outbox yapısını tanımlayan konfigürasyon sınıfımız.
+ * Tanımlanan JpaEventOutbox bean'i EventPublisher tarafından kullanılıyor, böylece producer sınıflarında bir değişiklik yapmaya gerek kalmıyor.
+ * MongoDB kullanan servislerde JPA sınıfları bulunmadığı için bu konfigürasyon devreye girmiyor ve mesajlar eskisi gibi doğrudan gönderiliyor.
+ */
+@AutoConfiguration(after = {RabbitAutoConfiguration.class, HibernateJpaAutoConfiguration.class, EventTopologyAutoConfiguration.class})
+@ConditionalOnClass({RabbitTemplate.class, EntityManagerFactory.class})
+@ConditionalOnProperty(prefix = "hrms.messaging.outbox", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(MessagingProperties.class)
+public class OutboxAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean({ConfirmingPublisher.class, EntityManagerFactory.class})
+    public OutboxRelay outboxRelay(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+                                   ConfirmingPublisher confirmingPublisher, MessagingProperties messagingProperties) {
+        return new OutboxRelay(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                new TransactionTemplate(transactionManager), confirmingPublisher, messagingProperties.getOutbox());
+    }
+
+    @Bean
+    @ConditionalOnBean(OutboxRelay.class)
+    public JpaEventOutbox eventOutbox(EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+                                      RabbitTemplate rabbitTemplate, OutboxRelay outboxRelay, PartitionRouter partitionRouter) {
+        return new JpaEventOutbox(SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                new TransactionTemplate(transactionManager), rabbitTemplate.getMessageConverter(), outboxRelay, partitionRouter);
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.hrms.messaging.outbox;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hrms.messaging.EventType;
+
+/*
+ * RabbitMQ'ya gönderilmeyi bekleyen olayları tutan outbox tablomuz.
+ * Mesaj, servisin kendi kaydıyla aynı transaction içinde yazılıyor. Transaction geri alınırsa mesaj da yazılmamış oluyor,
+ * commit edilirse OutboxRelay mesajı RabbitMQ'ya aktarıp onay aldıktan sonra tablodan siliyor.
+ * Payload yazılırken mesaj dönüştürücüden geçirildiği için body sütununda kuyruğa gidecek hali(CBOR, JSON...) tutuluyor.
+ * attempts, mesajın gönderilip onaylanmadığı deneme sayısıdır. Deneme sayısı hrms.messaging.outbox.max-attempts değerine ulaşan ya da okunamayan mesajların
+ * deadLetteredDate sütunu dolduruluyor. Bu mesajlar artık gönderilmiyor ve sonraki mesajların gönderimini engellemiyor, elle incelenip silinmeleri gerekiyor.
+ * Servislerin ana sınıfı org.hrms paketinde olduğu için bu entity JPA kullanan servislerde ayrıca bir tanım yapmadan taranıyor.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Entity
+@Builder
+@Table(name = "tbl_outbox_message")
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private EventType eventType;
+
+    @Column(nullable = false, length = 36)
+    private String messageId;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Column(length = 1000)
+    private String headers;
+
+    @Column(nullable = false)
+    private byte[] body;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    private Long deadLetteredDate;
+
+    private Long createdDate;
+
+}
@@ -0,0 +1,193 @@
+package org.hrms.messaging.outbox;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.messaging.ConfirmingPublisher;
+import org.hrms.messaging.EventType;
+import org.hrms.messaging.MessagingProperties;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * tbl_outbox_message tablosundaki mesajları RabbitMQ'ya aktaran sınıfımız.
+ * Tek bir arka plan thread'i tabloyu pollInterval aralığıyla kontrol ediyor, bir transaction commit edildiğinde ise wakeUp() ile hemen uyandırılıyor.
+ * Mesajlar batchSize kadar toplu okunuyor, ConfirmingPublisher ile arka arkaya gönderiliyor ve onaylar(publisher confirm) birlikte bekleniyor,
+ * böylece her mesaj için ayrı ayrı RabbitMQ'nun cevabını beklemiyoruz. Sadece onaylanan mesajlar tablodan siliniyor.
+ * Satırlar "FOR UPDATE SKIP LOCKED" ile kilitlendiği için servisin birden fazla örneği aynı anda çalışsa da aynı mesajı iki kez göndermiyor.
+ * Gönderim sonrası ve silme öncesi servis kapanırsa mesaj tekrar gönderilebilir(at-least-once), aynı messageId ile gittiği için dinleyen taraf tekrarı ayırt edebilir.
+ * maxAttempts kez onaylanmayan ya da okunamayan mesajlar deadLetteredDate ile işaretlenip gönderilmeye çalışılmıyor, böylece sürekli hata alan tek bir mesaj tabloyu tıkamıyor.
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    //Hibernate'te lock timeout değerinin -2 olması SKIP LOCKED anlamına geliyor.
+    private static final int SKIP_LOCKED = -2;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfirmingPublisher confirmingPublisher;
+    private final MessagingProperties.Outbox properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean(false);
+
+    private volatile ScheduledExecutorService scheduler;
+
+    public OutboxRelay(EntityManager entityManager, TransactionTemplate transactionTemplate, ConfirmingPublisher confirmingPublisher, MessagingProperties.Outbox properties) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.confirmingPublisher = confirmingPublisher;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = properties.getPollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::drain, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService current = scheduler;
+        scheduler = null;
+        if (current != null) {
+            current.shutdown();
+            try {
+                current.awaitTermination(properties.getConfirmTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    //Aynı anda gelen uyandırma istekleri tek bir drain çağrısında birleştiriliyor.
+    public void wakeUp() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null && wakeUpScheduled.compareAndSet(false, true)) {
+            try {
+                current.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                wakeUpScheduled.set(false);
+            }
+        }
+    }
+
+    //Tablo boşalana ya da bir mesaj onaylanmayana kadar batch batch gönderiyoruz. Onaylanmayan mesajlar bir sonraki çalışmada tekrar deneniyor.
+    void drain() {
+        wakeUpScheduled.set(false);
+        try {
+            Integer relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed != null && relayed == properties.getBatchSize());
+        } catch (Exception e) {
+            log.warn("Outbox messages could not be relayed: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> batch = entityManager.createQuery("select o from OutboxMessage o where o.deadLetteredDate is null order by o.id", OutboxMessage.class)
+                .setMaxResults(properties.getBatchSize())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint("jakarta.persistence.lock.timeout", SKIP_LOCKED)
+                .getResultList();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<OutboxMessage, CompletableFuture<Void>> sent = new LinkedHashMap<>();
+        for (OutboxMessage outboxMessage : batch) {
+            EventType eventType = outboxMessage.getEventType();
+            Message message;
+            try {
+                message = toMessage(outboxMessage);
+            } catch (IllegalStateException e) {
+                //Başlıkları okunamayan mesaj tekrar denense de gönderilemeyeceği için hemen işaretleniyor.
+                deadLetter(outboxMessage, e.getMessage());
+                continue;
+            }
+            MessageProperties messageProperties = message.getMessageProperties();
+            sent.put(outboxMessage, confirmingPublisher.sendOnce(PartitionRouter.exchange(eventType, messageProperties),
+                    PartitionRouter.routingKey(eventType, messageProperties), message));
+        }
+
+        List<Long> confirmedIds = new ArrayList<>();
+        boolean retryPending = false;
+        long deadline = System.nanoTime() + properties.getConfirmTimeout().toNanos();
+        for (Map.Entry<OutboxMessage, CompletableFuture<Void>> entry : sent.entrySet()) {
+            OutboxMessage outboxMessage = entry.getKey();
+            if (isConfirmed(entry.getValue(), deadline)) {
+                confirmedIds.add(outboxMessage.getId());
+                continue;
+            }
+            outboxMessage.setAttempts(outboxMessage.getAttempts() + 1);
+            if (outboxMessage.getAttempts() >= properties.getMaxAttempts()) {
+                deadLetter(outboxMessage, "not confirmed after " + outboxMessage.getAttempts() + " attempts");
+            } else {
+                retryPending = true;
+            }
+        }
+
+        if (!confirmedIds.isEmpty()) {
+            entityManager.createQuery("delete from OutboxMessage o where o.id in :ids")
+                    .setParameter("ids", confirmedIds)
+                    .executeUpdate();
+        }
+        //Tekrar denenecek mesaj varsa RabbitMQ'ya ulaşılamıyor olabilir, bu yüzden sonraki batch'e geçmeden bir sonraki çalışmayı bekliyoruz.
+        return retryPending ? -1 : batch.size();
+    }
+
+    private void deadLetter(OutboxMessage outboxMessage, String reason) {
+        outboxMessage.setDeadLetteredDate(System.currentTimeMillis());
+        log.error("Outbox message {} ({}) dead-lettered: {}", outboxMessage.getMessageId(), outboxMessage.getEventType(), reason);
+    }
+
+    //nack gelen, geri dönen(returned) ya da confirmTimeout süresinde onaylanmayan mesajlar tabloda kalıyor ve bir sonraki çalışmada tekrar gönderiliyor.
+    private boolean isConfirmed(CompletableFuture<Void> confirmation, long deadline) {
+        try {
+            confirmation.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Message toMessage(OutboxMessage outboxMessage) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(outboxMessage.getContentType());
+        messageProperties.setMessageId(outboxMessage.getMessageId());
+        messageProperties.setTimestamp(new Date(outboxMessage.getCreatedDate()));
+        if (outboxMessage.getHeaders() != null) {
+            try {
+                objectMapper.readValue(outboxMessage.getHeaders(), new TypeReference<Map<String, Object>>() {})
+                        .forEach(messageProperties::setHeader);
+            } catch (Exception e) {
+                throw new IllegalStateException("Message headers could not be read...", e);
+            }
+        }
+        return new Message(outboxMessage.getBody(), messageProperties);
+    }
+
+}
@@ -0,0 +1,84 @@
+package org.hrms.messaging.partition;
+
+import org.hrms.messaging.EventStream;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.converter.MessagingMessageConverter;
+import org.springframework.messaging.Message;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * PartitionedEventListener bean'leri için her partition kuyruğuna ayrı bir listener container tanımlayan sınıfımız.
+ * Kuyruk sayısı yml dosyasından geldiği için container'ları @RabbitListener yerine programatik olarak tanımlıyoruz.
+ * Her container'da tek consumer(concurrency 1-1) bulunuyor. Kuyruklar single active consumer olduğu için diğer instance'lardaki consumer'lar
+ * o kuyruk için bekleme durumunda kalıyor ve aktif consumer'ın instance'ı kapanırsa RabbitMQ sıradaki consumer'ı aktif yapıyor.
+ * Container id değeri partition kuyruğunun adıdır, PartitionRebalancer container'lara bu id ile ulaşıyor.
+ */
+public class PartitionListenerConfigurer implements RabbitListenerConfigurer {
+
+    private final List<PartitionedEventListener> listeners;
+    private final Map<EventStream, Integer> streams;
+    private final MessageConverter messageConverter;
+    private final RabbitListenerContainerFactory<?> containerFactory;
+    private final PartitionRebalancer partitionRebalancer;
+
+    public PartitionListenerConfigurer(List<PartitionedEventListener> listeners, Map<EventStream, Integer> streams, MessageConverter messageConverter,
+                                       RabbitListenerContainerFactory<?> containerFactory, PartitionRebalancer partitionRebalancer) {
+        this.listeners = listeners;
+        this.streams = streams;
+        this.messageConverter = messageConverter;
+        this.containerFactory = containerFactory;
+        this.partitionRebalancer = partitionRebalancer;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        MessagingMessageConverter messagingMessageConverter = new MessagingMessageConverter();
+        messagingMessageConverter.setPayloadConverter(messageConverter);
+        for (PartitionedEventListener listener : listeners) {
+            Integer partitions = streams.get(listener.stream());
+            if (partitions == null) {
+                continue;
+            }
+            for (int partition = 0; partition < partitions; partition++) {
+                String queue = listener.stream().partitionQueue(partition);
+                SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+                endpoint.setId(queue);
+                endpoint.setQueueNames(queue);
+                endpoint.setConcurrency("1-1");
+                endpoint.setBatchListener(true);
+                endpoint.setMessageListener(batchListener(listener, queue, messagingMessageConverter));
+                registrar.registerEndpoint(endpoint, containerFactory);
+            }
+            partitionRebalancer.register(listener.stream(), partitions);
+        }
+    }
+
+    //Gelen AMQP mesajlarını model sınıfına çevirip başlıklarıyla birlikte listener'a veriyoruz. Model sınıfı __TypeId__ başlığından bulunuyor.
+    @SuppressWarnings("unchecked")
+    private MessageListener batchListener(PartitionedEventListener listener, String queue, MessagingMessageConverter messagingMessageConverter) {
+        return (ChannelAwareBatchMessageListener) (messages, channel) -> {
+            partitionRebalancer.delivered(queue);
+            List<Message<Object>> converted = new ArrayList<>(messages.size());
+            for (org.springframework.amqp.core.Message message : messages) {
+                converted.add((Message<Object>) messagingMessageConverter.fromMessage(message));
+            }
+            try {
+                listener.onEvents(converted, channel);
+            } catch (IOException e) {
+                throw new AmqpIOException(e);
+            }
+        };
+    }
+
+}
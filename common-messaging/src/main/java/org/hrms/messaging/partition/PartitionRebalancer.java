@@ -0,0 +1,99 @@
+package org.hrms.messaging.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.messaging.EventStream;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Partition kuyruklarının instance'lar arasında dengeli dağılmasını sağlayan sınıfımız.
+ * Single active consumer'da kuyruğa ilk bağlanan consumer aktif oluyor, yani ilk açılan instance bütün partition'ları işliyor ve sonradan açılan instance'lar beklemede kalıyor.
+ * Her instance kuyrukta bir consumer açtığı için partition kuyruğundaki consumer sayısı çalışan instance sayısını veriyor.
+ * Bu instance son rebalanceInterval süresi içinde düşen paydan(partition sayısı / instance sayısı) fazla partition'dan mesaj aldıysa fazla olan container'ları durdurup tekrar başlatıyor.
+ * Durdurulan consumer kuyruktan ayrılınca RabbitMQ sıradaki instance'ın consumer'ını aktif yapıyor, tekrar başlatılan consumer ise sıranın sonuna geçiyor.
+ * Onaylanmamış mesajlar kuyruğa sırasıyla geri döndüğü için kayıt bazındaki sıra bozulmuyor. Instance kapandığında ise RabbitMQ partition'ı kendisi başka instance'a veriyor.
+ */
+@Slf4j
+public class PartitionRebalancer {
+
+    private final RabbitListenerEndpointRegistry registry;
+    private final RabbitTemplate rabbitTemplate;
+    private final long intervalMillis;
+    private final Map<EventStream, Integer> streams = new EnumMap<>(EventStream.class);
+    private final Map<String, Long> lastDelivery = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    public PartitionRebalancer(RabbitListenerEndpointRegistry registry, RabbitTemplate rabbitTemplate, Duration rebalanceInterval) {
+        this.registry = registry;
+        this.rabbitTemplate = rabbitTemplate;
+        this.intervalMillis = rebalanceInterval.toMillis();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "partition-rebalancer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    synchronized void register(EventStream stream, int partitions) {
+        if (streams.isEmpty()) {
+            scheduler.scheduleWithFixedDelay(this::rebalance, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        streams.put(stream, partitions);
+    }
+
+    void delivered(String queue) {
+        lastDelivery.put(queue, System.currentTimeMillis());
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    synchronized void rebalance() {
+        for (Map.Entry<EventStream, Integer> entry : streams.entrySet()) {
+            try {
+                rebalance(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                log.warn("Partitions of {} could not be rebalanced: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void rebalance(EventStream stream, int partitions) {
+        Long instances = rabbitTemplate.execute(channel -> channel.consumerCount(stream.partitionQueue(0)));
+        if (instances == null || instances <= 1) {
+            return;
+        }
+        long fairShare = (partitions + instances - 1) / instances;
+        long since = System.currentTimeMillis() - intervalMillis;
+        List<String> active = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            String queue = stream.partitionQueue(partition);
+            if (lastDelivery.getOrDefault(queue, 0L) >= since) {
+                active.add(queue);
+            }
+        }
+        for (int i = (int) fairShare; i < active.size(); i++) {
+            String queue = active.get(i);
+            MessageListenerContainer container = registry.getListenerContainer(queue);
+            if (container != null) {
+                container.stop();
+                lastDelivery.remove(queue);
+                container.start();
+                log.info("Partition {} released for {} instances", queue, instances);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.hrms.messaging.partition;
+
+import org.hrms.messaging.EventStream;
+import org.hrms.messaging.EventType;
+import org.hrms.messaging.PartitionKey;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Gönderilen olayın partition kuyruğuna mı yoksa olayın kendi kuyruğuna mı gideceğine karar veren sınıfımız.
+ * Olayın grubu(EventStream) hrms.messaging.partitioning.streams altında tanımlıysa model sınıfındaki @PartitionKey alanının değeri x-partition-key başlığına,
+ * olayın adı da x-event-type başlığına yazılıyor. Gönderimde exchange ve routing key bu başlıklara göre seçildiği için
+ * outbox tablosuna yazılan mesajlar da OutboxRelay tarafından aynı şekilde gönderiliyor.
+ * @PartitionKey alanları sınıf başına bir kez bulunup saklanıyor.
+ */
+public class PartitionRouter {
+
+    public static final String PARTITION_KEY_HEADER = "x-partition-key";
+    public static final String EVENT_TYPE_HEADER = "x-event-type";
+
+    private final Set<EventStream> streams;
+    private final Map<Class<?>, Optional<Field>> keyFields = new ConcurrentHashMap<>();
+
+    public PartitionRouter(Set<EventStream> streams) {
+        this.streams = streams.isEmpty() ? EnumSet.noneOf(EventStream.class) : EnumSet.copyOf(streams);
+    }
+
+    public void apply(EventType eventType, Object payload, MessageProperties messageProperties) {
+        Optional<EventStream> stream = EventStream.of(eventType).filter(streams::contains);
+        if (stream.isEmpty() || payload == null) {
+            return;
+        }
+        Object key = keyFields.computeIfAbsent(payload.getClass(), PartitionRouter::findKeyField)
+                .map(field -> ReflectionUtils.getField(field, payload))
+                .orElse(null);
+        if (key != null) {
+            messageProperties.setHeader(PARTITION_KEY_HEADER, key.toString());
+            messageProperties.setHeader(EVENT_TYPE_HEADER, eventType.name());
+        }
+    }
+
+    public static String exchange(EventType eventType, MessageProperties messageProperties) {
+        if (messageProperties.getHeader(PARTITION_KEY_HEADER) == null) {
+            return eventType.getExchange();
+        }
+        return EventStream.of(eventType).map(EventStream::getExchange).orElse(eventType.getExchange());
+    }
+
+    public static String routingKey(EventType eventType, MessageProperties messageProperties) {
+        Object key = messageProperties.getHeader(PARTITION_KEY_HEADER);
+        return key == null ? eventType.getRoutingKey() : key.toString();
+    }
+
+    private static Optional<Field> findKeyField(Class<?> type) {
+        for (Class<?> item = type; item != null && item != Object.class; item = item.getSuperclass()) {
+            for (Field field : item.getDeclaredFields()) {
+                if (field.isAnnotationPresent(PartitionKey.class)) {
+                    ReflectionUtils.makeAccessible(field);
+                    return Optional.of(field);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+}
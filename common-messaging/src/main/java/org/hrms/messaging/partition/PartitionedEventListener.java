@@ -0,0 +1,22 @@
+package org.hrms.messaging.partition;
+
+import com.rabbitmq.client.Channel;
+import org.hrms.messaging.EventStream;
+import org.springframework.messaging.Message;
+
+import java.io.IOException;
+import java.util.List;
+
+/*
+ * Bir olay grubunun(EventStream) partition kuyruklarını dinleyen sınıfların uyguladığı interface.
+ * Her partition kuyruğu için ayrı bir batch listener container oluşturuluyor ve mesajlar kuyruktaki sırasıyla onEvents metoduna veriliyor.
+ * Bir listede farklı olaylar(örneğin AUTH_UPDATE ve AUTH_DELETE) karışık olarak gelebilir, olayın adı x-event-type başlığındadır.
+ * Onaylama(ack) manuel olduğu için her mesaj listener içinde onaylanmalıdır.
+ */
+public interface PartitionedEventListener {
+
+    EventStream stream();
+
+    void onEvents(List<Message<Object>> messages, Channel channel) throws IOException;
+
+}
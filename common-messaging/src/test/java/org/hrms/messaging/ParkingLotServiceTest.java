@@ -0,0 +1,78 @@
+package org.hrms.messaging;
+
+import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.Envelope;
+import com.rabbitmq.client.GetResponse;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.core.ChannelCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ParkingLotServiceTest {
+
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final Channel channel = mock(Channel.class);
+    private final ParkingLotService parkingLotService = new ParkingLotService(rabbitTemplate);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(rabbitTemplate.execute(any(ChannelCallback.class))).thenAnswer(invocation -> invocation.<ChannelCallback<?>>getArgument(0).doInRabbit(channel));
+    }
+
+    @Test
+    void replaysToEventQueue() throws Exception {
+        when(channel.basicGet(EventType.MAIL_SEND.parkingQueue(), false)).thenReturn(parked(7, Map.of(RetryTierRecoverer.RETRY_COUNT_HEADER, 3)), (GetResponse) null);
+
+        assertThat(parkingLotService.replay(EventType.MAIL_SEND, 10)).isEqualTo(1);
+
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).basicPublish(eq(""), eq(EventType.MAIL_SEND.getQueue()), properties.capture(), any());
+        assertThat(properties.getValue().getHeaders()).doesNotContainKey(RetryTierRecoverer.RETRY_COUNT_HEADER);
+        verify(channel).basicAck(7, false);
+    }
+
+    //Partition kuyruğundan parking kuyruğuna düşen mesaj aynı kaydın diğer mesajlarıyla aynı partition'a dönmeli.
+    @Test
+    void replaysPartitionedMessagesThroughStreamExchange() throws Exception {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(PartitionRouter.PARTITION_KEY_HEADER, "42");
+        headers.put(PartitionRouter.EVENT_TYPE_HEADER, EventType.AUTH_UPDATE.name());
+        headers.put(RetryTierRecoverer.ORIGINAL_QUEUE_HEADER, EventStream.AUTH.partitionQueue(1));
+        when(channel.basicGet(EventType.AUTH_UPDATE.parkingQueue(), false)).thenReturn(parked(9, headers), (GetResponse) null);
+
+        assertThat(parkingLotService.replay(EventType.AUTH_UPDATE, 10)).isEqualTo(1);
+
+        ArgumentCaptor<AMQP.BasicProperties> properties = ArgumentCaptor.forClass(AMQP.BasicProperties.class);
+        verify(channel).basicPublish(eq(EventStream.AUTH.getExchange()), eq("42"), properties.capture(), any());
+        assertThat(properties.getValue().getHeaders()).containsEntry(PartitionRouter.PARTITION_KEY_HEADER, "42")
+                .doesNotContainKey(RetryTierRecoverer.ORIGINAL_QUEUE_HEADER);
+        verify(channel).basicAck(9, false);
+    }
+
+    @Test
+    void stopsAtLimit() throws Exception {
+        when(channel.basicGet(EventType.MAIL_SEND.parkingQueue(), false)).thenReturn(parked(1, Map.of()), parked(2, Map.of()), parked(3, Map.of()));
+
+        assertThat(parkingLotService.replay(EventType.MAIL_SEND, 2)).isEqualTo(2);
+    }
+
+    private static GetResponse parked(long deliveryTag, Map<String, Object> headers) {
+        AMQP.BasicProperties properties = new AMQP.BasicProperties.Builder().headers(headers).build();
+        return new GetResponse(new Envelope(deliveryTag, false, "", EventType.MAIL_SEND.parkingQueue()), properties, new byte[]{1}, 0);
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.hrms.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hrms.messaging.partition.PartitionRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryTierRecovererTest {
+
+    private static final String PARTITION_QUEUE = EventStream.AUTH.partitionQueue(0);
+
+    private final ConfirmingPublisher confirmingPublisher = mock(ConfirmingPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RetryTierRecoverer recoverer;
+
+    //Varsayılan ayarlarda 3 tekrar kuyruğu var ve MessageConversionException kalıcı hata sayılıyor.
+    @BeforeEach
+    void setUp() {
+        when(confirmingPublisher.sendOnce(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        recoverer = new RetryTierRecoverer(confirmingPublisher, new SimpleMessageConverter(), new MessagingProperties.Retry(), meterRegistry);
+    }
+
+    @Test
+    void movesFirstFailureToFirstTier() {
+        Message message = message(EventType.AUTH_UPDATE.getQueue(), null);
+
+        recoverer.recover(message, new IllegalStateException("database is down"));
+
+        verify(confirmingPublisher).sendOnce("", EventType.AUTH_UPDATE.retryQueue(1), message);
+        assertThat((Object) message.getMessageProperties().getHeader(RetryTierRecoverer.RETRY_COUNT_HEADER)).isEqualTo(1);
+        assertThat((Object) message.getMessageProperties().getHeader(RetryTierRecoverer.ORIGINAL_QUEUE_HEADER)).isEqualTo(EventType.AUTH_UPDATE.getQueue());
+        assertThat((String) message.getMessageProperties().getHeader(RetryTierRecoverer.EXCEPTION_HEADER)).contains("database is down");
+        assertThat(meterRegistry.counter("hrms.messaging.consume.retried", "queue", EventType.AUTH_UPDATE.getQueue()).count()).isEqualTo(1);
+    }
+
+    @Test
+    void movesRetriedMessageToNextTier() {
+        Message message = message(EventType.MAIL_SEND.getQueue(), 2);
+
+        recoverer.recover(message, new IllegalStateException("smtp timeout"));
+
+        verify(confirmingPublisher).sendOnce("", EventType.MAIL_SEND.retryQueue(3), message);
+        assertThat((Object) message.getMessageProperties().getHeader(RetryTierRecoverer.RETRY_COUNT_HEADER)).isEqualTo(3);
+    }
+
+    @Test
+    void parksMessageAfterLastTier() {
+        Message message = message(EventType.MAIL_SEND.getQueue(), 3);
+
+        recoverer.recover(message, new IllegalStateException("smtp timeout"));
+
+        verify(confirmingPublisher).sendOnce("", EventType.MAIL_SEND.parkingQueue(), message);
+        assertThat(meterRegistry.counter("hrms.messaging.consume.parked", "queue", EventType.MAIL_SEND.getQueue()).count()).isEqualTo(1);
+    }
+
+    //Kalıcı hata listener'ın sardığı hatanın içinde gelse de tanınmalı.
+    @Test
+    void parksPermanentFailuresWithoutRetrying() {
+        Message message = message(EventType.MAIL_SEND.getQueue(), null);
+
+        recoverer.recover(message, new RuntimeException(new MessageConversionException("bad payload")));
+
+        verify(confirmingPublisher).sendOnce("", EventType.MAIL_SEND.parkingQueue(), message);
+    }
+
+    //Partition kuyruğundan gelen mesaj aynı partition'a dönebilmesi için grubun tekrar exchange'ine partition key ile gönderilmeli.
+    @Test
+    void keepsPartitionKeyForPartitionQueues() {
+        Message message = message(PARTITION_QUEUE, 1);
+        message.getMessageProperties().setHeader(PartitionRouter.EVENT_TYPE_HEADER, EventType.AUTH_DELETE.name());
+        message.getMessageProperties().setHeader(PartitionRouter.PARTITION_KEY_HEADER, "42");
+
+        recoverer.recover(message, new IllegalStateException("database is down"));
+
+        verify(confirmingPublisher).sendOnce(EventStream.AUTH.retryExchange(2), "42", message);
+    }
+
+    @Test
+    void parksPartitionedMessagesInEventParkingQueue() {
+        Message message = message(PARTITION_QUEUE, 3);
+        message.getMessageProperties().setHeader(PartitionRouter.EVENT_TYPE_HEADER, EventType.AUTH_DELETE.name());
+        message.getMessageProperties().setHeader(PartitionRouter.PARTITION_KEY_HEADER, "42");
+
+        recoverer.recover(message, new IllegalStateException("database is down"));
+
+        verify(confirmingPublisher).sendOnce("", EventType.AUTH_DELETE.parkingQueue(), message);
+    }
+
+    @Test
+    void rejectsMessagesFromUnknownQueues() {
+        Message message = message("unknownQueue", null);
+
+        assertThatThrownBy(() -> recoverer.recover(message, new IllegalStateException("failed")))
+                .isInstanceOf(AmqpRejectAndDontRequeueException.class);
+    }
+
+    //Mesaj tekrar kuyruğuna taşınamazsa hata fırlatılmalı ki mesaj onaylanıp kaybolmasın.
+    @Test
+    void failsWhenMessageCannotBeMoved() {
+        when(confirmingPublisher.sendOnce(anyString(), anyString(), any())).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("nack")));
+        Message message = message(EventType.MAIL_SEND.getQueue(), null);
+
+        assertThatThrownBy(() -> recoverer.recover(message, new IllegalStateException("smtp timeout")))
+                .isInstanceOf(AmqpException.class)
+                .hasMessageContaining(EventType.MAIL_SEND.retryQueue(1));
+    }
+
+    @Test
+    void copiesPartitionHeadersFromBatchMessages() {
+        org.springframework.messaging.Message<String> message = org.springframework.messaging.support.MessageBuilder.withPayload("payload")
+                .setHeader(org.springframework.amqp.support.AmqpHeaders.CONSUMER_QUEUE, PARTITION_QUEUE)
+                .setHeader(PartitionRouter.EVENT_TYPE_HEADER, EventType.AUTH_UPDATE.name())
+                .setHeader(PartitionRouter.PARTITION_KEY_HEADER, "42")
+                .build();
+
+        recoverer.recover(message, new IllegalStateException("database is down"));
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(confirmingPublisher).sendOnce(eq(EventStream.AUTH.retryExchange(1)), eq("42"), captor.capture());
+        assertThat((Object) captor.getValue().getMessageProperties().getHeader(PartitionRouter.PARTITION_KEY_HEADER)).isEqualTo("42");
+    }
+
+    private static Message message(String queue, Integer retryCount) {
+        MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setConsumerQueue(queue);
+        messageProperties.setMessageId("message-1");
+        if (retryCount != null) {
+            messageProperties.setHeader(RetryTierRecoverer.RETRY_COUNT_HEADER, retryCount);
+        }
+        return new Message("payload".getBytes(), messageProperties);
+    }
+
+}
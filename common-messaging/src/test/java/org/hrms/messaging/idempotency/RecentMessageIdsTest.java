@@ -0,0 +1,54 @@
+package org.hrms.messaging.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentMessageIdsTest {
+
+    private static final long HOUR = 3_600_000;
+
+    @Test
+    void remembersAddedIds() {
+        RecentMessageIds recentMessageIds = new RecentMessageIds(3, HOUR);
+        recentMessageIds.add("message-1");
+
+        assertThat(recentMessageIds.contains("message-1")).isTrue();
+        assertThat(recentMessageIds.contains("message-2")).isFalse();
+    }
+
+    //Halka dolunca en eski kayıt yenisine yer açmak için siliniyor.
+    @Test
+    void evictsOldestIdWhenFull() {
+        RecentMessageIds recentMessageIds = new RecentMessageIds(2, HOUR);
+        recentMessageIds.add("message-1");
+        recentMessageIds.add("message-2");
+        recentMessageIds.add("message-3");
+
+        assertThat(recentMessageIds.contains("message-1")).isFalse();
+        assertThat(recentMessageIds.contains("message-2")).isTrue();
+        assertThat(recentMessageIds.contains("message-3")).isTrue();
+    }
+
+    //Zaten tutulan bir id tekrar eklenirse halkada yer kaplamamalı ve başka bir id'yi silmemeli.
+    @Test
+    void ignoresIdsAlreadyPresent() {
+        RecentMessageIds recentMessageIds = new RecentMessageIds(2, HOUR);
+        recentMessageIds.add("message-1");
+        recentMessageIds.add("message-2");
+        recentMessageIds.add("message-2");
+
+        assertThat(recentMessageIds.contains("message-1")).isTrue();
+        assertThat(recentMessageIds.contains("message-2")).isTrue();
+    }
+
+    @Test
+    void forgetsIdsOutsideWindow() throws InterruptedException {
+        RecentMessageIds recentMessageIds = new RecentMessageIds(2, 10);
+        recentMessageIds.add("message-1");
+        Thread.sleep(30);
+
+        assertThat(recentMessageIds.contains("message-1")).isFalse();
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.hrms.messaging.partition;
+
+import org.hrms.messaging.EventStream;
+import org.hrms.messaging.EventType;
+import org.hrms.messaging.PartitionKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PartitionRouterTest {
+
+    private final PartitionRouter partitionRouter = new PartitionRouter(Set.of(EventStream.AUTH));
+
+    @Test
+    void routesPartitionedEventsByPartitionKey() {
+        MessageProperties messageProperties = route(EventType.AUTH_UPDATE, new AuthModel(42L));
+
+        assertThat((Object) messageProperties.getHeader(PartitionRouter.PARTITION_KEY_HEADER)).isEqualTo("42");
+        assertThat((Object) messageProperties.getHeader(PartitionRouter.EVENT_TYPE_HEADER)).isEqualTo("AUTH_UPDATE");
+        assertThat(PartitionRouter.exchange(EventType.AUTH_UPDATE, messageProperties)).isEqualTo(EventStream.AUTH.getExchange());
+        assertThat(PartitionRouter.routingKey(EventType.AUTH_UPDATE, messageProperties)).isEqualTo("42");
+    }
+
+    //x-consistent-hash exchange'i routing key'i hash'lediği için aynı kaydın bütün olayları aynı routing key ile gitmeli.
+    @Test
+    void givesSameRoutingKeyToEveryEventOfSameRecord() {
+        String update = PartitionRouter.routingKey(EventType.AUTH_UPDATE, route(EventType.AUTH_UPDATE, new AuthModel(42L)));
+        String delete = PartitionRouter.routingKey(EventType.AUTH_DELETE, route(EventType.AUTH_DELETE, new DeleteModel(42L)));
+        String other = PartitionRouter.routingKey(EventType.AUTH_UPDATE, route(EventType.AUTH_UPDATE, new AuthModel(43L)));
+
+        assertThat(delete).isEqualTo(update);
+        assertThat(other).isNotEqualTo(update);
+        assertThat(PartitionRouter.exchange(EventType.AUTH_DELETE, route(EventType.AUTH_DELETE, new DeleteModel(42L))))
+                .isEqualTo(PartitionRouter.exchange(EventType.AUTH_UPDATE, route(EventType.AUTH_UPDATE, new AuthModel(42L))));
+    }
+
+    @Test
+    void keepsEventQueueWhenStreamIsNotPartitioned() {
+        MessageProperties messageProperties = new MessageProperties();
+        new PartitionRouter(Set.of()).apply(EventType.AUTH_UPDATE, new AuthModel(42L), messageProperties);
+
+        assertThat((Object) messageProperties.getHeader(PartitionRouter.PARTITION_KEY_HEADER)).isNull();
+        assertThat(PartitionRouter.exchange(EventType.AUTH_UPDATE, messageProperties)).isEqualTo(EventType.AUTH_UPDATE.getExchange());
+        assertThat(PartitionRouter.routingKey(EventType.AUTH_UPDATE, messageProperties)).isEqualTo(EventType.AUTH_UPDATE.getRoutingKey());
+    }
+
+    @Test
+    void keepsEventQueueForEventsOutsideStreams() {
+        MessageProperties messageProperties = route(EventType.MAIL_SEND, new AuthModel(42L));
+
+        assertThat((Object) messageProperties.getHeader(PartitionRouter.PARTITION_KEY_HEADER)).isNull();
+        assertThat(PartitionRouter.exchange(EventType.MAIL_SEND, messageProperties)).isEqualTo(EventType.MAIL_SEND.getExchange());
+    }
+
+    @Test
+    void keepsEventQueueWhenKeyIsMissing() {
+        assertThat((Object) route(EventType.AUTH_UPDATE, new AuthModel(null)).getHeader(PartitionRouter.PARTITION_KEY_HEADER)).isNull();
+        assertThat((Object) route(EventType.AUTH_UPDATE, "no key").getHeader(PartitionRouter.PARTITION_KEY_HEADER)).isNull();
+    }
+
+    private MessageProperties route(EventType eventType, Object payload) {
+        MessageProperties messageProperties = new MessageProperties();
+        partitionRouter.apply(eventType, payload, messageProperties);
+        return messageProperties;
+    }
+
+    static class AuthModel {
+        @PartitionKey
+        private final Long authId;
+
+        AuthModel(Long authId) {
+            this.authId = authId;
+        }
+    }
+
+    //@PartitionKey alanı üst sınıfta tanımlı olsa da bulunmalı.
+    static class DeleteModel extends AuthModel {
+        DeleteModel(Long authId) {
+            super(authId);
+        }
+    }
+
+}
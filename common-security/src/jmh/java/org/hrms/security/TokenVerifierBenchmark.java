@@ -0,0 +1,81 @@
+package org.hrms.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Token doğrulamanın istek başına maliyetini ölçen benchmark.
+ * rebuildVerifierPerCall: eski JwtTokenManager gibi her çağrıda Algorithm ve JWTVerifier oluşturup HMAC kontrolü yapıyor.
+ * sharedVerifier: bir kez oluşturulan JWTVerifier ile her çağrıda HMAC kontrolü yapıyor.
+ * cachedVerifier: TokenVerifier ile aynı token'ı tekrar doğruluyor, ilk çağrıdan sonra sonuç VerifiedTokenCache'ten geliyor.
+ * cachedVerifierAtCapacity: önbellek boyutunun iki katı kadar farklı token'ı sırayla doğruluyor, önbellek sürekli dolu ve kayıt çıkarılıyor.
+ * Çalıştırmak için: gradle :common-security:jmh -PjmhArgs="TokenVerifierBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenVerifierBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+    private static final String ISSUER = "hrms";
+    private static final int CACHE_SIZE = 1000;
+
+    private String token;
+    private String[] tokens;
+    private com.auth0.jwt.JWTVerifier sharedVerifier;
+    private TokenVerifier cachedVerifier;
+    private TokenVerifier fullCacheVerifier;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Algorithm algorithm = Algorithm.HMAC512(SECRET);
+        token = createToken(algorithm, 1L);
+        tokens = new String[CACHE_SIZE * 2];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = createToken(algorithm, i);
+        }
+        sharedVerifier = JWT.require(algorithm).withIssuer(ISSUER).build();
+        cachedVerifier = new TokenVerifier(algorithm, ISSUER, CACHE_SIZE);
+        fullCacheVerifier = new TokenVerifier(algorithm, ISSUER, CACHE_SIZE);
+    }
+
+    @Benchmark
+    public Object rebuildVerifierPerCall() {
+        return JWT.require(Algorithm.HMAC512(SECRET)).withIssuer(ISSUER).build().verify(token);
+    }
+
+    @Benchmark
+    public Object sharedVerifier() {
+        return sharedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public Object cachedVerifier() {
+        return cachedVerifier.verify(token);
+    }
+
+    @Benchmark
+    public Object cachedVerifierAtCapacity() {
+        next = (next + 1) % tokens.length;
+        return fullCacheVerifier.verify(tokens[next]);
+    }
+
+    private static String createToken(Algorithm algorithm, long id) {
+        return JWT.create()
+                .withClaim("id", id)
+                .withClaim("role", "EMPLOYEE")
+                .withClaim("code", "code-" + id)
+                .withIssuer(ISSUER)
+                .withExpiresAt(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .sign(algorithm);
+    }
+
+}
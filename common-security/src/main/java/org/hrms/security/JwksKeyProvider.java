@@ -0,0 +1,154 @@
+package org.hrms.security;
+
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * auth-microservice'in JWKS endpoint'inden açık anahtarları çekip bellekte tutan sınıfımız.
+ * Anahtarlar arka planda refreshInterval aralığıyla yenileniyor. Aralığa eklenen küçük rastgele sapma(jitter) ile bütün servislerin aynı anda istek atması engelleniyor.
+ * Token'da bilinmeyen bir kid gelirse (anahtar yeni döndürülmüşse) listeyi hemen yeniliyoruz. Bu yenileme aynı anda sadece bir thread tarafından
+ * ve en fazla minRefreshInterval aralığında bir yapılıyor, böylece geçersiz kid içeren isteklerin auth-microservice'e yük bindirmesi engelleniyor.
+ * Devam eden yenileme CompletableFuture olarak paylaşılıyor. O sırada bilinmeyen kid ile gelen istekler boş dönmek yerine yenilemenin bitmesini bekliyor,
+ * böylece yeni döndürülmüş anahtarla imzalanan token'lar yenileme sırasında 401 ile reddedilmiyor.
+ */
+@Slf4j
+public class JwksKeyProvider implements RSAKeyProvider {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI jwksUri;
+    private final Duration minRefreshInterval;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<CompletableFuture<Void>> inFlightRefresh = new AtomicReference<>();
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<String, RSAPublicKey> keys = Map.of();
+    private volatile long lastRefresh;
+
+    public JwksKeyProvider(String jwksUri, Duration refreshInterval, Duration minRefreshInterval) {
+        this.jwksUri = URI.create(jwksUri);
+        this.minRefreshInterval = minRefreshInterval;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(REQUEST_TIMEOUT).build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = refreshInterval.toMillis();
+        long jitter = ThreadLocalRandom.current().nextLong(Math.max(1, period / 10));
+        scheduler.scheduleWithFixedDelay(this::refresh, 0, period + jitter, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) {
+        RSAPublicKey key = keys.get(keyId);
+        if (key != null) {
+            return key;
+        }
+        CompletableFuture<Void> pendingRefresh = inFlightRefresh.get();
+        if (pendingRefresh == null) {
+            if (System.currentTimeMillis() - lastRefresh < minRefreshInterval.toMillis()) {
+                return null;
+            }
+            pendingRefresh = refresh();
+        }
+        await(pendingRefresh);
+        return keys.get(keyId);
+    }
+
+    //Servisler sadece doğrulama yaptığı için özel anahtara(private key) ihtiyaç duymuyor.
+    @Override
+    public RSAPrivateKey getPrivateKey() {
+        return null;
+    }
+
+    @Override
+    public String getPrivateKeyId() {
+        return null;
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /*
+     * Aynı anda sadece bir thread'in yenileme yapmasını sağlıyoruz. Yenilemeyi başlatan thread isteği kendisi atıyor,
+     * o sırada gelen diğer çağrılar aynı CompletableFuture'ı alıyor ve isterse bitmesini bekleyebiliyor.
+     */
+    CompletableFuture<Void> refresh() {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlightRefresh.compareAndExchange(null, refresh);
+        if (running != null) {
+            return running;
+        }
+        try {
+            HttpRequest request = HttpRequest.newBuilder(jwksUri).timeout(REQUEST_TIMEOUT).GET().build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == 200) {
+                keys = parse(response.body());
+            } else {
+                log.warn("JWKS could not be refreshed from {}: HTTP {}", jwksUri, response.statusCode());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("JWKS could not be refreshed from {}: {}", jwksUri, e.getMessage());
+        } finally {
+            lastRefresh = System.currentTimeMillis();
+            inFlightRefresh.set(null);
+            refresh.complete(null);
+        }
+        return refresh;
+    }
+
+    //Yenileme en fazla bağlantı ve istek zaman aşımı kadar sürebildiği için bu süreden fazla beklemiyoruz.
+    private static void await(CompletableFuture<Void> refresh) {
+        try {
+            refresh.get(REQUEST_TIMEOUT.multipliedBy(2).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Waiting for JWKS refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private Map<String, RSAPublicKey> parse(String body) throws Exception {
+        Map<String, RSAPublicKey> parsedKeys = new HashMap<>();
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        for (JsonNode jwk : objectMapper.readTree(body).path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText())) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+            parsedKeys.put(jwk.path("kid").asText(), (RSAPublicKey) keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return Map.copyOf(parsedKeys);
+    }
+
+}
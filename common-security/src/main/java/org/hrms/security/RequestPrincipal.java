@@ -0,0 +1,30 @@
+package org.hrms.security;
+
+import lombok.Getter;
+
+/*
+ * İsteği yapan kullanıcının token içinden çıkarılan id ve role bilgilerini tutan sınıfımız.
+ * Bu sınıf request scope olarak tanımlanıyor yani her HTTP isteği için ayrı bir nesne oluşturuluyor ve istek bitince siliniyor.
+ * TokenAuthenticationFilter, Authorization başlığındaki token'ı doğruladıktan sonra authenticate() metoduyla bu nesneyi dolduruyor.
+ * Controller ve service sınıflarında bu sınıfı enjekte ederek isteği kimin yaptığını veritabanına gitmeden öğrenebiliyoruz.
+ */
+@Getter
+public class RequestPrincipal {
+
+    private Long id;
+    private String role;
+    private String code;
+    private boolean authenticated;
+
+    public void authenticate(TokenClaims claims) {
+        this.id = claims.getId();
+        this.role = claims.getRole();
+        this.code = claims.getCode();
+        this.authenticated = true;
+    }
+
+    public boolean hasRole(String role) {
+        return authenticated && role.equals(this.role);
+    }
+
+}
@@ -0,0 +1,33 @@
+package org.hrms.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/*
+ * @ConfigurationProperties anotasyonu, yml dosyasındaki "hrms.security" ile başlayan değerleri bu sınıfın değişkenlerine toplu olarak bağlamak için kullanılır.
+ * algorithm değişkeni token'ların hangi algoritmayla imzalandığını belirtir. HS512 için secretKey, RS256 için publicKey(Base64 X.509) kullanılır.
+ * tokenCacheSize değişkeni doğrulanmış token önbelleğinde en fazla kaç kayıt tutulacağını belirtir.
+ * RS256 kullanılırken jwksUri tanımlanırsa açık anahtarlar auth-microservice'in JWKS endpoint'inden çekilir ve jwksRefreshInterval aralığıyla yenilenir.
+ * jwksMinRefreshInterval, bilinmeyen bir kid geldiğinde yapılacak iki yenileme arasında beklenecek en kısa süredir.
+ * revocationExchange iptal edilen token'ların yayınlandığı fanout exchange'in adıdır, revocationUri ise servis açılırken mevcut iptallerin çekileceği adrestir.
+ * internalToken servisler arası çağrılarda X-Internal-Token başlığında gönderilen ortak anahtardır. auth-microservice iptal listesini bu anahtarı göndermeyen isteklere vermiyor.
+ */
+@Data
+@ConfigurationProperties(prefix = "hrms.security")
+public class SecurityProperties {
+    public static final String INTERNAL_TOKEN_HEADER = "X-Internal-Token";
+
+    private String algorithm = "HS512";
+    private String secretKey;
+    private String publicKey;
+    private String issuer;
+    private int tokenCacheSize = 10000;
+    private String jwksUri;
+    private Duration jwksRefreshInterval = Duration.ofMinutes(5);
+    private Duration jwksMinRefreshInterval = Duration.ofSeconds(30);
+    private String revocationExchange = "tokenRevocationExchange";
+    private String revocationUri;
+    private String internalToken;
+}
@@ -0,0 +1,39 @@
+package org.hrms.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/*
+ * Her HTTP isteğinde bir kez çalışan filtremiz. İstekte "Authorization: Bearer <token>" başlığı varsa token'ı TokenVerifier ile yerel olarak doğruluyor.
+ * Token geçerliyse claim'leri RequestPrincipal nesnesine aktarıyor. Başlık yoksa ya da token geçersiz veya süresi dolmuşsa RequestPrincipal doğrulanmamış kalıyor.
+ * Her iki durumda da istek zincirdeki bir sonraki filtreye geçiyor. Token'ı zorunlu tutmak controller tarafının kararıdır.
+ * Bu sayede eski bir access token'ı göndermeye devam eden istemciler /login, /refresh ve /activate gibi herkese açık endpoint'lere yine ulaşabiliyor.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final TokenVerifier tokenVerifier;
+    private final RequestPrincipal requestPrincipal;
+
+    public TokenAuthenticationFilter(TokenVerifier tokenVerifier, RequestPrincipal requestPrincipal) {
+        this.tokenVerifier = tokenVerifier;
+        this.requestPrincipal = requestPrincipal;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith(BEARER_PREFIX)) {
+            tokenVerifier.verify(header.substring(BEARER_PREFIX.length())).ifPresent(requestPrincipal::authenticate);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+}
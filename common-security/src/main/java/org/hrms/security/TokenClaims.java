@@ -0,0 +1,22 @@
+package org.hrms.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * Doğrulanmış bir token'ın içinden çıkardığımız claim'leri(id, role, code) tek seferde tutan değişmez(immutable) sınıfımız.
+ * Token bir kez parse edildikten sonra bu nesne önbellekte saklanıyor ve aynı token için tekrar HMAC kontrolü yapılmadan kullanılıyor.
+ * expiresAt değeri token'ın geçerlilik süresinin bittiği zamanı milisaniye olarak tutuyor ve önbellekten silme kararında kullanılıyor.
+ */
+@Getter
+@AllArgsConstructor
+public class TokenClaims {
+    private final Long id;
+    private final String role;
+    private final String code;
+    private final long expiresAt;
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
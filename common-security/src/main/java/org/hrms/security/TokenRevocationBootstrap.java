@@ -0,0 +1,58 @@
+package org.hrms.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+
+/*
+ * Servis yeniden başladığında bellekteki iptal listesi boş geldiği için, uygulama ayağa kalktığında
+ * auth-microservice'ten süresi dolmamış iptalleri bir kez çekip listeye ekliyoruz. Sonraki iptaller RabbitMQ üzerinden geliyor.
+ * İptal listesi sadece servisler arası ortak anahtarı(internalToken) gönderen isteklere verildiği için istekte X-Internal-Token başlığı gönderiliyor.
+ */
+@Slf4j
+public class TokenRevocationBootstrap implements ApplicationListener<ApplicationReadyEvent> {
+
+    private final String revocationUri;
+    private final String internalToken;
+    private final TokenRevocationList revocationList;
+
+    public TokenRevocationBootstrap(String revocationUri, String internalToken, TokenRevocationList revocationList) {
+        this.revocationUri = revocationUri;
+        this.internalToken = internalToken;
+        this.revocationList = revocationList;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        try {
+            HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(revocationUri)).timeout(Duration.ofSeconds(5)).GET();
+            if (internalToken != null) {
+                request.header(SecurityProperties.INTERNAL_TOKEN_HEADER, internalToken);
+            }
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("Revoked tokens could not be loaded from {}: HTTP {}", revocationUri, response.statusCode());
+                return;
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = new ObjectMapper().readTree(response.body()).fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                revocationList.revoke(field.getKey(), field.getValue().asLong());
+            }
+        } catch (Exception e) {
+            log.warn("Revoked tokens could not be loaded from {}: {}", revocationUri, e.getMessage());
+        }
+    }
+
+}
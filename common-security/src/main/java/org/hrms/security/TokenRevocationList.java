@@ -0,0 +1,67 @@
+package org.hrms.security;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Süresi dolmadan iptal edilen token'ların code değerlerini bellekte tutan sınıfımız.
+ * revokedCodes haritası sayesinde bir code'un iptal edilip edilmediğini O(1) sürede ve veritabanına gitmeden kontrol edebiliyoruz.
+ * Kayıtlar token'ın bitiş süresine göre dakikalık kovalara(bucket) ayrılıyor. Süresi dolan kovalar tek seferde silindiği için
+ * liste hiçbir zaman geçerliliğini yitirmiş token'ları biriktirmiyor ve bütün haritayı taramaya gerek kalmıyor.
+ */
+public class TokenRevocationList {
+
+    private static final long BUCKET_MILLIS = 60_000L;
+
+    private final Map<String, Long> revokedCodes = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+    private volatile long lastPurge;
+
+    public void revoke(String code, long expiresAt) {
+        if (code == null || expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedCodes.put(code, expiresAt);
+        buckets.computeIfAbsent(expiresAt / BUCKET_MILLIS, key -> ConcurrentHashMap.newKeySet()).add(code);
+        purgeExpired();
+    }
+
+    public boolean isRevoked(String code) {
+        if (code == null) {
+            return false;
+        }
+        purgeExpired();
+        Long expiresAt = revokedCodes.get(code);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public Map<String, Long> snapshot() {
+        return Map.copyOf(revokedCodes);
+    }
+
+    public int size() {
+        return revokedCodes.size();
+    }
+
+    //En fazla dakikada bir, süresi tamamen dolmuş kovaları ve içindeki code'ları siliyoruz.
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        if (now - lastPurge < BUCKET_MILLIS) {
+            return;
+        }
+        lastPurge = now;
+        long currentBucket = now / BUCKET_MILLIS;
+        buckets.keySet().removeIf(bucket -> {
+            if (bucket >= currentBucket) {
+                return false;
+            }
+            Set<String> codes = buckets.get(bucket);
+            if (codes != null) {
+                codes.forEach(code -> revokedCodes.computeIfPresent(code, (key, expiresAt) -> expiresAt <= now ? null : expiresAt));
+            }
+            return true;
+        });
+    }
+
+}
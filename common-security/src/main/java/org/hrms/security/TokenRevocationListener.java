@@ -0,0 +1,23 @@
+package org.hrms.security;
+
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+
+/*
+ * auth-microservice'in yayınladığı token iptal mesajlarını dinleyen sınıfımız.
+ * Her servis örneği fanout exchange'e kendi adına özel(anonymous) bir kuyruk bağladığı için mesaj bütün örneklere ayrı ayrı ulaşıyor
+ * ve her örnek kendi bellekteki iptal listesini güncelliyor.
+ */
+public class TokenRevocationListener {
+
+    private final TokenRevocationList revocationList;
+
+    public TokenRevocationListener(TokenRevocationList revocationList) {
+        this.revocationList = revocationList;
+    }
+
+    @RabbitListener(queues = "#{tokenRevocationQueue.name}")
+    public void revokeFromQueue(TokenRevokedModel model) {
+        revocationList.revoke(model.getCode(), model.getExpiresAt());
+    }
+
+}
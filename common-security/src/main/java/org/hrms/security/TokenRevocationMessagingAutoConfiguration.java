@@ -0,0 +1,44 @@
+package org.hrms.security;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+
+/*
+ * Servis RabbitMQ kullanıyorsa token iptal mesajlarını almak için gerekli exchange, kuyruk ve binding tanımlarını yapıyoruz.
+ * FanoutExchange, gelen mesajı routingKey'e bakmadan kendisine bağlı bütün kuyruklara gönderir.
+ * AnonymousQueue her servis örneği için rastgele isimli, bağlantı kapanınca silinen bir kuyruk oluşturur.
+ */
+@AutoConfiguration(after = TokenVerificationAutoConfiguration.class)
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnBean(TokenRevocationList.class)
+public class TokenRevocationMessagingAutoConfiguration {
+
+    @Bean
+    FanoutExchange tokenRevocationExchange(SecurityProperties properties) {
+        return new FanoutExchange(properties.getRevocationExchange());
+    }
+
+    @Bean
+    Queue tokenRevocationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    Binding bindingTokenRevocation(Queue tokenRevocationQueue, FanoutExchange tokenRevocationExchange) {
+        return BindingBuilder.bind(tokenRevocationQueue).to(tokenRevocationExchange);
+    }
+
+    @Bean
+    TokenRevocationListener tokenRevocationListener(TokenRevocationList revocationList) {
+        return new TokenRevocationListener(revocationList);
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.hrms.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/*
+ * Bir token iptal edildiğinde bütün servislere RabbitMQ üzerinden yayınlanan model sınıfımız.
+ * Model bu kütüphanede bulunduğu için mesajı gönderen ve alan bütün servislerde package ismine kadar aynı sınıf kullanılmış oluyor.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevokedModel implements Serializable {
+    private String code;
+    private Long expiresAt;
+}
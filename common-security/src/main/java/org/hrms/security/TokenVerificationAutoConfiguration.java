@@ -0,0 +1,99 @@
+package org.hrms.security;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/*
+ * @AutoConfiguration anotasyonu, bu kütüphaneyi bağımlılık olarak ekleyen her servisin ekstra bir ayar yapmadan aşağıdaki bean'leri almasını sağlar.
+ * Sınıfın adı META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports dosyasına yazıldığı için Spring Boot tarafından otomatik olarak yükleniyor.
+ * @ConditionalOnProperty ile yml dosyasında hrms.security.issuer tanımlı değilse hiçbir bean oluşturulmuyor.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SecurityProperties.class)
+@ConditionalOnProperty(prefix = "hrms.security", name = "issuer")
+public class TokenVerificationAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenVerifier tokenVerifier(SecurityProperties properties, ObjectProvider<JwksKeyProvider> jwksKeyProvider, TokenRevocationList revocationList) {
+        return new TokenVerifier(verificationAlgorithm(properties, jwksKeyProvider.getIfAvailable()), properties.getIssuer(), properties.getTokenCacheSize(), revocationList);
+    }
+
+    //İptal edilen token'ların code değerlerini bellekte tutan listemiz. Bütün doğrulamalarda bu liste kontrol ediliyor.
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenRevocationList tokenRevocationList() {
+        return new TokenRevocationList();
+    }
+
+    //revocationUri tanımlıysa uygulama ayağa kalktığında mevcut iptalleri auth-microservice'ten çekiyoruz.
+    @Bean
+    @ConditionalOnProperty(prefix = "hrms.security", name = "revocation-uri")
+    public TokenRevocationBootstrap tokenRevocationBootstrap(SecurityProperties properties, TokenRevocationList revocationList) {
+        return new TokenRevocationBootstrap(properties.getRevocationUri(), properties.getInternalToken(), revocationList);
+    }
+
+    //RS256 kullanılıyorsa ve jwksUri tanımlıysa açık anahtarları JWKS endpoint'inden çekip bellekte tutacak sınıfı oluşturuyoruz.
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hrms.security", name = "jwks-uri")
+    public JwksKeyProvider jwksKeyProvider(SecurityProperties properties) {
+        return new JwksKeyProvider(properties.getJwksUri(), properties.getJwksRefreshInterval(), properties.getJwksMinRefreshInterval());
+    }
+
+    //Her HTTP isteği için ayrı bir RequestPrincipal nesnesi oluşturulmasını sağlıyoruz.
+    @Bean
+    @RequestScope
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public RequestPrincipal requestPrincipal() {
+        return new RequestPrincipal();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<TokenAuthenticationFilter> tokenAuthenticationFilter(TokenVerifier tokenVerifier, RequestPrincipal requestPrincipal) {
+        FilterRegistrationBean<TokenAuthenticationFilter> registration = new FilterRegistrationBean<>(new TokenAuthenticationFilter(tokenVerifier, requestPrincipal));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 100);
+        return registration;
+    }
+
+    //HS512 için ortak secretKey, RS256 için ise JWKS'ten çekilen ya da yml dosyasında verilen açık anahtar(public key) ile doğrulama yapıyoruz.
+    private Algorithm verificationAlgorithm(SecurityProperties properties, JwksKeyProvider jwksKeyProvider) {
+        switch (properties.getAlgorithm()) {
+            case "HS512" -> {
+                return Algorithm.HMAC512(properties.getSecretKey());
+            }
+            case "RS256" -> {
+                if (jwksKeyProvider != null) {
+                    return Algorithm.RSA256(jwksKeyProvider);
+                }
+                return Algorithm.RSA256(readPublicKey(properties.getPublicKey()), null);
+            }
+            default -> throw new IllegalStateException("Unsupported token algorithm: " + properties.getAlgorithm());
+        }
+    }
+
+    private RSAPublicKey readPublicKey(String base64Key) {
+        try {
+            byte[] encoded = Base64.getMimeDecoder().decode(base64Key);
+            return (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(encoded));
+        } catch (Exception e) {
+            throw new IllegalStateException("Public key could not be read...", e);
+        }
+    }
+
+}
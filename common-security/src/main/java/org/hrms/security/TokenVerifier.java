@@ -0,0 +1,60 @@
+package org.hrms.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.Optional;
+
+/*
+ * Bütün servislerin token'ları auth-microservice'e gitmeden ve veritabanına bakmadan kendi içinde doğrulamasını sağlayan sınıfımız.
+ * Algorithm ve JWTVerifier thread-safe olduğu için constructor içinde bir kez oluşturuyoruz ve bütün isteklerde aynı nesneyi kullanıyoruz.
+ * Doğrulanan token'ların claim'lerini VerifiedTokenCache içinde token'ın süresi bitene kadar tutuyoruz.
+ */
+public class TokenVerifier {
+
+    private final JWTVerifier verifier;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList revocationList;
+
+    public TokenVerifier(Algorithm algorithm, String issuer, int tokenCacheSize) {
+        this(algorithm, issuer, tokenCacheSize, new TokenRevocationList());
+    }
+
+    public TokenVerifier(Algorithm algorithm, String issuer, int tokenCacheSize, TokenRevocationList revocationList) {
+        this.verifier = JWT.require(algorithm).withIssuer(issuer).build();
+        this.verifiedTokenCache = new VerifiedTokenCache(tokenCacheSize);
+        this.revocationList = revocationList;
+    }
+
+    /*
+     * Token'ı doğrulayıp içindeki id, role ve code claim'lerini tek seferde dönüyoruz. Token doğrulanamazsa Optional.empty() dönüyoruz.
+     * Token'ın code değeri iptal listesindeyse token imza olarak geçerli olsa bile kabul etmiyoruz. Bu kontrol önbellekten gelen token'lar için de yapılıyor.
+     */
+    public Optional<TokenClaims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        TokenClaims cachedClaims = verifiedTokenCache.get(token);
+        if (cachedClaims != null) {
+            return revocationList.isRevoked(cachedClaims.getCode()) ? Optional.empty() : Optional.of(cachedClaims);
+        }
+        try {
+            DecodedJWT decodedJWT = verifier.verify(token);
+            if (decodedJWT == null || decodedJWT.getExpiresAt() == null) {
+                return Optional.empty();
+            }
+            TokenClaims claims = new TokenClaims(
+                    decodedJWT.getClaim("id").asLong(),
+                    decodedJWT.getClaim("role").asString(),
+                    decodedJWT.getClaim("code").asString(),
+                    decodedJWT.getExpiresAt().getTime());
+            verifiedTokenCache.put(token, claims);
+            return revocationList.isRevoked(claims.getCode()) ? Optional.empty() : Optional.of(claims);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+}
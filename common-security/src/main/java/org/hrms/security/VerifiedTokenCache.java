@@ -0,0 +1,78 @@
+package org.hrms.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Daha önce doğrulanmış token'ları tutan sınırlı boyutlu önbellek sınıfımız.
+ * Token'ın kendisini anahtar olarak tutmak yerine SHA-256 özetini(digest) anahtar olarak kullanıyoruz. Bu şekilde bellekte ham token saklanmamış oluyor.
+ * Önbellek olarak Caffeine kullanıyoruz. Her kayıt token'ın süresi bittiği anda(expiresAt) önbellekten düşüyor.
+ * Önbellek dolduğunda yeni token'ı reddetmek yerine Caffeine en az kullanılan kayıtları(süresi dolmamış olsalar bile) çıkarıyor,
+ * böylece dolu önbellekte her istekte bütün kayıtları taramak gerekmiyor ve yeni oturumlar da önbelleğe girebiliyor.
+ */
+public class VerifiedTokenCache {
+
+    private final Cache<String, TokenClaims> cache;
+
+    public VerifiedTokenCache(int maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    public TokenClaims get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    public void put(String token, TokenClaims claims) {
+        cache.put(digest(token), claims);
+    }
+
+    //Caffeine süresi dolan kayıtları okuma ve yazma sırasında kendisi temizliyor, bu metot bekleyen temizliği hemen çalıştırmak için.
+    public void evictExpired() {
+        cache.cleanUp();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    //MessageDigest thread-safe olmadığı için her çağrıda yeni bir nesne alıyoruz.
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //Her kaydın önbellekte kalma süresi token'ın kalan geçerlilik süresi kadar oluyor.
+    private static class TokenExpiry implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenClaims claims, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, claims.getExpiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
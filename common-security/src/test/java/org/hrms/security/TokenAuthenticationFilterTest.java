@@ -0,0 +1,67 @@
+package org.hrms.security;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TokenAuthenticationFilterTest {
+
+    private final TokenVerifier tokenVerifier = mock(TokenVerifier.class);
+    private final RequestPrincipal requestPrincipal = new RequestPrincipal();
+    private final TokenAuthenticationFilter filter = new TokenAuthenticationFilter(tokenVerifier, requestPrincipal);
+
+    @Test
+    void authenticatesValidToken() throws ServletException, IOException {
+        when(tokenVerifier.verify("valid")).thenReturn(Optional.of(new TokenClaims(42L, "ADMIN", "code", Long.MAX_VALUE)));
+
+        MockFilterChain filterChain = filter("Bearer valid");
+
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(requestPrincipal.isAuthenticated()).isTrue();
+        assertThat(requestPrincipal.getId()).isEqualTo(42L);
+        assertThat(requestPrincipal.hasRole("ADMIN")).isTrue();
+    }
+
+    //Süresi dolmuş token ile /refresh'e gelen istek controller'a ulaşabilmeli, yetki kontrolü controller'da yapılıyor.
+    @Test
+    void leavesInvalidTokenUnauthenticated() throws ServletException, IOException {
+        when(tokenVerifier.verify("expired")).thenReturn(Optional.empty());
+
+        MockFilterChain filterChain = filter("Bearer expired");
+
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(requestPrincipal.isAuthenticated()).isFalse();
+        assertThat(requestPrincipal.hasRole("ADMIN")).isFalse();
+    }
+
+    @Test
+    void ignoresRequestsWithoutBearerToken() throws ServletException, IOException {
+        MockFilterChain filterChain = filter(null);
+
+        assertThat(filterChain.getRequest()).isNotNull();
+        assertThat(requestPrincipal.isAuthenticated()).isFalse();
+    }
+
+    private MockFilterChain filter(String authorization) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/refresh");
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        filter.doFilter(request, response, filterChain);
+        assertThat(response.getStatus()).isEqualTo(200);
+        return filterChain;
+    }
+
+}
@@ -8,6 +8,7 @@ import org.hrms.dto.response.FindAllCompaniesResponseDto;
 import org.hrms.dto.response.FindCompanyByCompanyNameResponseDto;
 import org.hrms.dto.response.FindCompanyByIdResponseDto;
 import org.hrms.service.CompanyService;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -77,9 +78,16 @@ public class CompanyController {
         return ResponseEntity.ok(companyService.softDelete(id));
     }
 
+    //after ve size gönderilmezse bütün aktif kayıtlar dönülüyor. Gönderilirse sonraki sayfanın after değeri X-Next-Cursor başlığında gönderiliyor, başlık yoksa son sayfaya gelinmiştir.
     @GetMapping(FIND_ALL)
-    public ResponseEntity<List<FindAllCompaniesResponseDto>> findAllCompanies(){
-        return ResponseEntity.ok(companyService.findAllCompanies());
+    public ResponseEntity<List<FindAllCompaniesResponseDto>> findAllCompanies(@RequestParam(required = false) String after, @RequestParam(required = false) Integer size){
+        Slice<FindAllCompaniesResponseDto> companyPage = companyService.findAllCompanies(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (companyPage.hasNext()) {
+            List<FindAllCompaniesResponseDto> content = companyPage.getContent();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(content.get(content.size() - 1).getId()));
+        }
+        return response.body(companyPage.getContent());
     }
 
     @GetMapping(FIND_BY_ID)
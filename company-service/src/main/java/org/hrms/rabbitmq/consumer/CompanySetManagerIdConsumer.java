@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.CompanySetManagerIdModel;
 import org.hrms.service.CompanyService;
@@ -21,10 +22,10 @@ public class CompanySetManagerIdConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.company-set-manager-id-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.COMPANY_SET_MANAGER_ID) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.company-set-manager-id-queue}")
+    @RabbitListener(queues = EventQueues.COMPANY_SET_MANAGER_ID)
     public void setManagerIdFromQueue(CompanySetManagerIdModel model){
         companyService.setManagerId(model);
     }
@@ -1,6 +1,7 @@
 package org.hrms.rabbitmq.model;
 
 import lombok.*;
+import org.hrms.messaging.SchemaVersion;
 import java.io.Serializable;
 
 /*
@@ -23,6 +24,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Data
 @Builder
+@SchemaVersion(1)
 public class ManagerSetCompanyIdModel implements Serializable {
     private String companyId;
     private String companyName;
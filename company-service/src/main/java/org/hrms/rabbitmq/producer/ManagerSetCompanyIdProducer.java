@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.ManagerSetCompanyIdModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,27 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class ManagerSetCompanyIdProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public ManagerSetCompanyIdProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public ManagerSetCompanyIdProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.manager-exchange}")
-    private String managerExchange;
-
-    @Value("${rabbitmq.manager-set-company-id-bindingKey}")
-    private String managerSetCompanyIdBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * ManagerSetCompanyIdProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için managerExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerSetCompanyIdBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan ManagerSetCompanyIdModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.MANAGER_SET_COMPANY_ID içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz ManagerSetCompanyIdModel'imizi ilgili kuyruk olan managerSetCompanyIdQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(ManagerSetCompanyIdModel managerSetCompanyIdModel){
-        rabbitTemplate.convertAndSend(managerExchange,managerSetCompanyIdBindingKey,managerSetCompanyIdModel);
+        eventPublisher.publish(EventType.MANAGER_SET_COMPANY_ID,managerSetCompanyIdModel);
     }
+
 }
@@ -2,6 +2,7 @@ package org.hrms.repository;
 
 import org.hrms.repository.entity.Company;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -27,5 +28,19 @@ public interface ICompanyRepository extends MongoRepository<Company, String> {
     Boolean existsByInfoEmail(String infoEmail);  //Parametre olarak girilen şirket emailinin veritabanında olup olmadığını kontrol ediyoruz.
     Optional<Company> findOptionalByCompanyName(String companyName); //Parametre olarak girilen şirket adına göre veritabanını kontrol edip geriye optional olarak bir Company dönüyor.
     Optional<Company> findOptionalByManagerId(Long managerId); //Parametre olarak girilen managerId'ye göre veritabanını kontrol edip geriye optional olarak bir Company dönüyor.
+    Boolean existsByManagerId(Long managerId); //Parametre olarak girilen managerId'nin veritabanında olup olmadığını kontrol ediyoruz.
+
+    /*
+     * Aşağıdaki sorgular sadece aktif(ACTIVE) şirketleri dönüyor. status: 'ACTIVE' koşulu sorguda yer aldığı için MongoDB CompanyService içinde oluşturulan koşullu(partial) indeksleri kullanabiliyor.
+     * Şirket bulunamazsa hiç olmadığını mı yoksa aktif olmadığını mı ayırt etmek için servis katmanında exists sorgusu kullanılıyor.
+     */
+    @Query("{ '_id': ?0, 'status': 'ACTIVE' }")
+    Optional<Company> findActiveById(String id);
+
+    @Query("{ 'managerId': ?0, 'status': 'ACTIVE' }")
+    Optional<Company> findActiveByManagerId(Long managerId);
+
+    @Query("{ 'companyName': ?0, 'status': 'ACTIVE' }")
+    Optional<Company> findActiveByCompanyName(String companyName);
 
 }
@@ -17,13 +17,20 @@ import org.hrms.repository.ICompanyRepository;
 import org.hrms.repository.entity.Company;
 import org.hrms.repository.enums.EStatus;
 import org.hrms.utility.ServiceManager;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /*
  * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
@@ -36,12 +43,16 @@ import java.util.stream.Collectors;
 @Service
 public class CompanyService extends ServiceManager<Company, String> {
 
+    private static final Query ACTIVE = Query.query(Criteria.where("status").is(EStatus.ACTIVE));
+
     private final ICompanyRepository repository;
+    private final MongoOperations mongoOperations;
     private final ManagerSetCompanyIdProducer managerSetCompanyIdProducer;
 
-    public CompanyService(MongoRepository<Company, String> mongoRepository, ICompanyRepository repository, ManagerSetCompanyIdProducer managerSetCompanyIdProducer) {
-        super(mongoRepository);
+    public CompanyService(MongoRepository<Company, String> mongoRepository, MongoOperations mongoOperations, ICompanyRepository repository, ManagerSetCompanyIdProducer managerSetCompanyIdProducer) {
+        super(mongoRepository, mongoOperations, Company.class);
         this.repository = repository;
+        this.mongoOperations = mongoOperations;
         this.managerSetCompanyIdProducer = managerSetCompanyIdProducer;
     }
 
@@ -159,62 +170,65 @@ public class CompanyService extends ServiceManager<Company, String> {
     }
 
 
-    public List<FindAllCompaniesResponseDto> findAllCompanies() {
-        return findAll().stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
-                .map(ICompanyMapper.INSTANCE::companyToFindAllCompaniesResponseDto)
-                .collect(Collectors.toList());
+    /*
+     * Aktif kayıtlar id sırasına göre dönülüyor. after ve size gönderilmezse eskisi gibi bütün aktif kayıtlar tek listede dönüyor.
+     * Parametrelerden biri gönderilirse sayfa sayfa dönülüyor, filtre veritabanına gönderildiği için bütün koleksiyon belleğe yüklenmiyor.
+     * after, bir önceki sayfanın son id değeridir. İlk sayfa için boş bırakılır.
+     */
+    public Slice<FindAllCompaniesResponseDto> findAllCompanies(String after, Integer size) {
+        return findSliceOrAll(ACTIVE, after, size)
+                .map(ICompanyMapper.INSTANCE::companyToFindAllCompaniesResponseDto);
     }
 
     public FindCompanyByIdResponseDto findCompanyById(String id) {
 
-        Optional<Company> optionalCompany = findById(id);
+        Optional<Company> optionalCompany = repository.findActiveById(id);
         if (optionalCompany.isEmpty()) {
-            throw new CompanyServiceException(ErrorType.COMPANY_NAME_NOT_FOUND);
+            throw new CompanyServiceException(repository.existsById(id) ? ErrorType.COMPANY_NOT_ACTIVE : ErrorType.COMPANY_NAME_NOT_FOUND);
         }
 
-        if(optionalCompany.get().getStatus() == EStatus.ACTIVE) {
-            return ICompanyMapper.INSTANCE.companyToFindCompanyByIdResponseDto(optionalCompany.get());
-        } else {
-            throw new CompanyServiceException(ErrorType.COMPANY_NOT_ACTIVE);
-        }
+        return ICompanyMapper.INSTANCE.companyToFindCompanyByIdResponseDto(optionalCompany.get());
     }
 
 
     public FindCompanyByIdResponseDto findCompanyByManagerId(Long managerId) {
 
-        Optional<Company> optionalCompany = repository.findOptionalByManagerId(managerId);
+        Optional<Company> optionalCompany = repository.findActiveByManagerId(managerId);
         if (optionalCompany.isEmpty()) {
-            throw new CompanyServiceException(ErrorType.COMPANY_NAME_NOT_FOUND);
+            throw new CompanyServiceException(repository.existsByManagerId(managerId) ? ErrorType.COMPANY_NOT_ACTIVE : ErrorType.COMPANY_NAME_NOT_FOUND);
         }
 
-        if(optionalCompany.get().getStatus() == EStatus.ACTIVE) {
-            return ICompanyMapper.INSTANCE.companyToFindCompanyByIdResponseDto(optionalCompany.get());
-        } else {
-            throw new CompanyServiceException(ErrorType.COMPANY_NOT_ACTIVE);
-        }
+        return ICompanyMapper.INSTANCE.companyToFindCompanyByIdResponseDto(optionalCompany.get());
     }
 
 
     public FindCompanyByCompanyNameResponseDto findCompanyByCompanyName(String companyName) {
 
-        Optional<Company> optionalCompany = repository.findOptionalByCompanyName(companyName);
+        Optional<Company> optionalCompany = repository.findActiveByCompanyName(companyName);
         if (optionalCompany.isEmpty()) {
-            throw new CompanyServiceException(ErrorType.COMPANY_NAME_NOT_FOUND);
+            throw new CompanyServiceException(repository.existsByCompanyName(companyName) ? ErrorType.COMPANY_NOT_ACTIVE : ErrorType.COMPANY_NAME_NOT_FOUND);
         }
 
-        if(optionalCompany.get().getStatus() == EStatus.ACTIVE) {
-            return ICompanyMapper.INSTANCE.companyToFindCompanyByCompanyNameResponseDto(optionalCompany.get());
-        } else {
-            throw new CompanyServiceException(ErrorType.COMPANY_NOT_ACTIVE);
-        }
+        return ICompanyMapper.INSTANCE.companyToFindCompanyByCompanyNameResponseDto(optionalCompany.get());
     }
 
+    //Aktif şirketleri belleğe yüklemeden veritabanında sayıyoruz.
     public Integer findNumbersOfCompanies() {
-        return findAll().stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
-                .toList()
-                .size();
+        return (int) count(ACTIVE);
+    }
+
+    /*
+     * Sadece aktif(ACTIVE) şirketleri içeren koşullu(partial) indeksleri oluşturuyoruz. findActiveBy... sorguları status: 'ACTIVE' koşulunu içerdiği için MongoDB bu indeksleri kullanabiliyor.
+     * (status, _id) indeksi ise aktif şirketlerin sayfa sayfa listelenmesi(findAllCompanies) ve sayılması(findNumbersOfCompanies) için kullanılıyor.
+     * spring.data.mongodb.auto-index-creation kapalı olduğu için indeksleri uygulama açılırken kendimiz oluşturuyoruz, indeks zaten varsa MongoDB tekrar oluşturmuyor.
+     */
+    @PostConstruct
+    private void createActiveIndexes() {
+        IndexOperations indexOperations = mongoOperations.indexOps(Company.class);
+        PartialIndexFilter activeOnly = PartialIndexFilter.of(Criteria.where("status").is(EStatus.ACTIVE.name()));
+        indexOperations.ensureIndex(new Index().on("managerId", Sort.Direction.ASC).named("idx_company_active_manager_id").partial(activeOnly));
+        indexOperations.ensureIndex(new Index().on("companyName", Sort.Direction.ASC).named("idx_company_active_company_name").partial(activeOnly));
+        indexOperations.ensureIndex(new Index().on("status", Sort.Direction.ASC).on("_id", Sort.Direction.ASC).named("idx_company_status_id"));
     }
 
     /*
@@ -1,7 +1,13 @@
 package org.hrms.utility;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.query.Query;
+
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 //ServiceManager sınıfının implement etmesi gereken metotları burada tanımlıyoruz.
 public interface IService<T,ID> {
@@ -12,4 +18,16 @@ public interface IService<T,ID> {
     void deleteById(ID id);
     List<T> findAll();
     Optional<T> findById(ID id);
+
+    //Bütün tabloyu belleğe yüklememek için okuma metotları sayfa(Page), id sırasına göre dilim(Slice) ya da akış(Stream) olarak dönüyor.
+    Page<T> findPage(Pageable pageable);
+    Page<T> findPage(Query query, Pageable pageable);
+    <P> Page<P> findPage(Query query, Pageable pageable, Class<P> projection);
+    Slice<T> findSlice(ID cursor, int size);
+    Slice<T> findSlice(Query query, ID cursor, int size);
+    <P> Slice<P> findSlice(Query query, ID cursor, int size, Class<P> projection);
+    Slice<T> findSliceOrAll(Query query, ID cursor, Integer size);
+    Stream<T> stream(Query query);
+    <P> Stream<P> stream(Query query, Class<P> projection);
+    long count(Query query);
 }
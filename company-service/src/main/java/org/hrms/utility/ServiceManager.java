@@ -1,9 +1,20 @@
 package org.hrms.utility;
 
 import org.hrms.repository.entity.BaseEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.support.PageableExecutionUtils;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /*
  * ServiceManager sınıfımızı bir servis yöneticisi olarak kullanıyoruz. Bu sınıf, T ve ID olmak üzere iki generic tip parametresi alır.
@@ -11,13 +22,27 @@ import java.util.Optional;
  * IService interface'ini implement ediyoruz ve bu interface genellikle bir entity sınıfı için CRUD işlemlerini (Create, Read, Update, Delete) tanımlayan bir interfacedir.
  * Override ettiğimiz metotları ilgili entityler için düzenliyoruz ve bu şekilde generic bir yapı oluşturarak yaptığımız servis yöneticisini istediğimiz entity ve id için kullanabiliyoruz.
  * Daha sonra aynı isimli yazdığımız metotlar olan MongoRepository içindeki ilgili metotlara parametremizi gönderiyoruz.
+ * Çok kayıt dönen okumalar için findAll() yerine findPage, findSlice ve stream metotları kullanılmalıdır, bu metotlarda filtre Query ile veritabanına gönderiliyor.
+ * Sorgular MongoOperations üzerinden yapıldığı için entity sınıfını(entityClass) constructor'da ayrıca alıyoruz.
+ * findSlice, skip yerine bir önceki dilimin son id değerinden(cursor) sonrasını id sırasıyla getiriyor. Bu sayede koleksiyon büyüdükçe sonraki sayfalar yavaşlamıyor.
+ * projection parametresi alan metotlar entity yerine verilen interface ya da DTO tipinde sonuç dönüyor ve sadece bu tipteki alanlar okunuyor.
  */
 public class ServiceManager<T extends BaseEntity,ID> implements IService<T,ID> {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String ID_FIELD = "id";
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final MongoRepository<T,ID> mongoRepository;
+    private final MongoOperations mongoOperations;
+    private final Class<T> entityClass;
 
-    public ServiceManager(MongoRepository<T, ID> mongoRepository) {
+    public ServiceManager(MongoRepository<T, ID> mongoRepository, MongoOperations mongoOperations, Class<T> entityClass) {
         this.mongoRepository = mongoRepository;
+        this.mongoOperations = mongoOperations;
+        this.entityClass = entityClass;
     }
 
     @Override
@@ -62,4 +87,83 @@ public class ServiceManager<T extends BaseEntity,ID> implements IService<T,ID> {
         return mongoRepository.findAll();
     }
 
+    @Override
+    public Page<T> findPage(Pageable pageable) {
+        return mongoRepository.findAll(pageable);
+    }
+
+    @Override
+    public Page<T> findPage(Query query, Pageable pageable) {
+        return findPage(query, pageable, entityClass);
+    }
+
+    //Sayfadaki kayıtlar ve toplam kayıt sayısı ayrı sorgularla alınıyor. Son sayfada ya da tek sayfalık sonuçlarda sayma sorgusu hiç çalıştırılmıyor.
+    @Override
+    public <P> Page<P> findPage(Query query, Pageable pageable, Class<P> projection) {
+        List<P> content = mongoOperations.query(entityClass).as(projection).matching(copy(query).with(pageable)).all();
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoOperations.count(copy(query), entityClass));
+    }
+
+    //Sayfalı istekte findSlice ile tek sayfa, sayfasız istekte bütün kayıtlar id sırasıyla ve hasNext değeri false olan tek bir dilim olarak dönüyor.
+    @Override
+    public Slice<T> findSliceOrAll(Query query, ID cursor, Integer size) {
+        if (!isPaged(cursor, size)) {
+            return new SliceImpl<>(mongoOperations.find(copy(query).with(Sort.by(ID_FIELD)), entityClass));
+        }
+        return findSlice(query, cursor, resolvePageSize(size));
+    }
+
+    @Override
+    public Slice<T> findSlice(ID cursor, int size) {
+        return findSlice(null, cursor, size);
+    }
+
+    @Override
+    public Slice<T> findSlice(Query query, ID cursor, int size) {
+        return findSlice(query, cursor, size, entityClass);
+    }
+
+    //size + 1 kayıt istiyoruz, fazladan gelen kayıt varsa bir sonraki dilim de vardır(hasNext).
+    @Override
+    public <P> Slice<P> findSlice(Query query, ID cursor, int size, Class<P> projection) {
+        Query sliceQuery = copy(query).with(Sort.by(ID_FIELD)).limit(size + 1);
+        if (cursor != null) {
+            sliceQuery.addCriteria(Criteria.where(ID_FIELD).gt(cursor));
+        }
+        List<P> content = mongoOperations.query(entityClass).as(projection).matching(sliceQuery).all();
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, PageRequest.ofSize(size), hasNext);
+    }
+
+    //Kayıtlar MongoDB imleci(cursor) üzerinden STREAM_BATCH_SIZE kadar parça parça okunuyor. Dönen Stream try-with-resources ile kapatılmalıdır, aksi halde imleç açık kalır.
+    @Override
+    public Stream<T> stream(Query query) {
+        return stream(query, entityClass);
+    }
+
+    @Override
+    public <P> Stream<P> stream(Query query, Class<P> projection) {
+        return mongoOperations.query(entityClass).as(projection).matching(copy(query).cursorBatchSize(STREAM_BATCH_SIZE)).stream();
+    }
+
+    @Override
+    public long count(Query query) {
+        return mongoOperations.count(copy(query), entityClass);
+    }
+
+    //Çağıranın verdiği Query nesnesini değiştirmemek için kopyası üzerinde sıralama, limit ve cursor koşulu ekliyoruz.
+    private static Query copy(Query query) {
+        return query == null ? new Query() : Query.of(query);
+    }
+
+    //after ve size gönderilmeyen listeleme isteklerinde eski davranış(bütün kayıtlar tek seferde) korunuyor. Biri gönderilirse istek sayfalı kabul ediliyor.
+    public static boolean isPaged(Object after, Integer size) {
+        return after != null || size != null;
+    }
+
+    //Sayfa boyutu gönderilmezse DEFAULT_PAGE_SIZE kullanılıyor, en fazla MAX_PAGE_SIZE olabiliyor.
+    public static int resolvePageSize(Integer size) {
+        return size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
 }
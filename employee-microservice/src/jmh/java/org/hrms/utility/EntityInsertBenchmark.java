@@ -0,0 +1,247 @@
+package org.hrms.utility;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hrms.repository.entity.BaseEntity;
+import org.hrms.repository.entity.Employee;
+import org.hrms.repository.enums.EGender;
+import org.hrms.repository.enums.ERole;
+import org.hrms.repository.enums.EStatus;
+import org.hrms.utility.EntityUpdateBenchmark.BenchmarkRepository;
+import org.hrms.utility.EntityUpdateBenchmark.JdbcCounter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/*
+ * Toplu çalışan kaydının(employee import) veritabanına yazılma maliyetini ölçen benchmark. Her çağrıda ROWS kadar yeni kayıt ServiceManager.saveAll ile kaydediliyor.
+ * ids parametresi: sequence -> pooled-lo sequence kullanan Employee, identity -> aynı kolonlara sahip ama id'si GenerationType.IDENTITY ile üretilen IdentityEmployee.
+ * IDENTITY'de id ancak INSERT çalıştıktan sonra öğrenildiği için Hibernate JDBC batch kullanamıyor ve her kayıt ayrı bir sorgu olarak gönderiliyor.
+ * Son çağrıda veritabanına gönderilen sorgu sayısı(executions), sequence sorguları(selects) ve INSERT hazırlama sayısı deneme sonunda JDBC satırında yazdırılıyor.
+ * Kayıtlar her çağrıdan sonra silindiği için tablo büyümüyor ve her çağrı aynı miktarda iş yapıyor.
+ * Çalıştırmak için: gradle :employee-microservice:jmh -PjmhArgs="EntityInsertBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"sequence", "identity"})
+    private String ids;
+
+    private ConfigurableApplicationContext context;
+    private Target<?> target;
+    private long executions;
+    private long selects;
+    private long inserts;
+
+    @Setup
+    public void setUp() {
+        //Servisin application.yml dosyası(PostgreSQL, config server) yüklenmesin diye spring.config.name olmayan bir dosya adı veriliyor.
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.config.name=entity-insert-benchmark",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:mem:entity-insert;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        //employee-microservice'in application.yml dosyasındaki JPA ayarları.
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "--spring.jpa.properties.hibernate.order_inserts=true",
+                        "--spring.jpa.properties.hibernate.order_updates=true",
+                        "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                        "--spring.jpa.properties.hrms.id.allocation_size=50");
+        target = ids.equals("sequence")
+                ? new Target<>(context.getBean(EmployeeRepository.class), Function.identity())
+                : new Target<>(context.getBean(IdentityEmployeeRepository.class), IdentityEmployee::from);
+    }
+
+    @Setup(Level.Invocation)
+    public void createRows() {
+        target.createRows();
+    }
+
+    //Sayaçlar kayıtlar silinmeden önce okunuyor, böylece silme sorgusu sonuca karışmıyor.
+    @TearDown(Level.Invocation)
+    public void deleteRows() {
+        executions = JdbcCounter.EXECUTIONS.get();
+        selects = JdbcCounter.SELECTS.get();
+        inserts = JdbcCounter.INSERTS.get();
+        target.repository.deleteAllInBatch();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("JDBC %s: rows=%d executions=%d selects=%d inserts=%d%n", ids, ROWS, executions, selects, inserts);
+        context.close();
+    }
+
+    @Benchmark
+    public void saveAll() {
+        JdbcCounter.reset();
+        target.saveAll();
+    }
+
+    //Ölçülen entity'nin repository'si ve ServiceManager'ı. Kayıtlar Employee olarak oluşturulup mapper ile entity'ye çevriliyor.
+    private class Target<T extends BaseEntity> {
+
+        private final BenchmarkRepository<T> repository;
+        private final ServiceManager<T, Long> serviceManager;
+        private final Function<Employee, T> mapper;
+        private List<T> rows;
+
+        private Target(BenchmarkRepository<T> repository, Function<Employee, T> mapper) {
+            this.repository = repository;
+            this.serviceManager = new ServiceManager<>(repository);
+            context.getAutowireCapableBeanFactory().autowireBean(serviceManager);
+            this.mapper = mapper;
+        }
+
+        private void createRows() {
+            rows = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                rows.add(mapper.apply(employee(i)));
+            }
+        }
+
+        private void saveAll() {
+            serviceManager.saveAll(rows);
+        }
+    }
+
+    private static Employee employee(int i) {
+        String number = String.format("%011d", i);
+        return Employee.builder()
+                .authId((long) i)
+                .companyId("company-" + i)
+                .email("employee" + i + "@example.com")
+                .phoneNumber(number)
+                .identityNumber(number)
+                .name("Ayşe")
+                .surname("Yılmaz")
+                .password("Employee-Password-1")
+                .address("Atatürk Caddesi No:1 Kadıköy İstanbul")
+                .companyName("HRMS")
+                .title("Yazılım Geliştirici")
+                .salary(45000.0)
+                .photo("https://example.com/photos/" + i + ".png")
+                .dateOfBirth(LocalDate.of(1990, 1, 1).plusDays(i))
+                .status(EStatus.ACTIVE)
+                .gender(EGender.FEMALE)
+                .build();
+    }
+
+    interface EmployeeRepository extends BenchmarkRepository<Employee> {
+    }
+
+    interface IdentityEmployeeRepository extends BenchmarkRepository<IdentityEmployee> {
+    }
+
+    //Employee ile aynı kolonlara sahip ama id'si eskisi gibi IDENTITY ile üretilen karşılaştırma entity'si.
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Entity
+    @Table(name = "tbl_employee_identity")
+    public static class IdentityEmployee extends BaseEntity {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+        @Column(unique = true)
+        private Long authId;
+        @Column(unique = true)
+        private String companyId;
+        @Column(unique = true, nullable = false, length = 40)
+        private String email;
+        @Column(unique = true, nullable = false, length = 11)
+        private String phoneNumber;
+        @Column(unique = true, nullable = false, length = 11)
+        private String identityNumber;
+        @Column(nullable = false, length = 40)
+        private String name;
+        @Column(nullable = false, length = 40)
+        private String surname;
+        @Column(nullable = false, length = 32)
+        private String password;
+        @Column(nullable = false, length = 100)
+        private String address;
+        @Column(nullable = false, length = 40)
+        private String companyName;
+        @Column(nullable = false, length = 40)
+        private String title;
+        @Column(nullable = false)
+        private Double salary;
+        private String photo;
+        private LocalDate dateOfBirth;
+        @Enumerated(EnumType.STRING)
+        private ERole role;
+        @Enumerated(EnumType.STRING)
+        private EStatus status;
+        @Enumerated(EnumType.STRING)
+        private EGender gender;
+
+        static IdentityEmployee from(Employee employee) {
+            IdentityEmployee identityEmployee = new IdentityEmployee();
+            identityEmployee.setAuthId(employee.getAuthId());
+            identityEmployee.setCompanyId(employee.getCompanyId());
+            identityEmployee.setEmail(employee.getEmail());
+            identityEmployee.setPhoneNumber(employee.getPhoneNumber());
+            identityEmployee.setIdentityNumber(employee.getIdentityNumber());
+            identityEmployee.setName(employee.getName());
+            identityEmployee.setSurname(employee.getSurname());
+            identityEmployee.setPassword(employee.getPassword());
+            identityEmployee.setAddress(employee.getAddress());
+            identityEmployee.setCompanyName(employee.getCompanyName());
+            identityEmployee.setTitle(employee.getTitle());
+            identityEmployee.setSalary(employee.getSalary());
+            identityEmployee.setPhoto(employee.getPhoto());
+            identityEmployee.setDateOfBirth(employee.getDateOfBirth());
+            identityEmployee.setRole(employee.getRole());
+            identityEmployee.setStatus(employee.getStatus());
+            identityEmployee.setGender(employee.getGender());
+            return identityEmployee;
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = {Employee.class, EntityInsertBenchmark.class})
+    @EnableJpaRepositories(basePackageClasses = EntityInsertBenchmark.class, considerNestedRepositories = true)
+    static class BenchmarkConfiguration {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? JdbcCounter.wrap(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+    }
+
+}
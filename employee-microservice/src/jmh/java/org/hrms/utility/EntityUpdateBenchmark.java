@@ -0,0 +1,359 @@
+package org.hrms.utility;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hrms.repository.entity.BaseEntity;
+import org.hrms.repository.entity.Employee;
+import org.hrms.repository.enums.EGender;
+import org.hrms.repository.enums.ERole;
+import org.hrms.repository.enums.EStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/*
+ * tbl_employee kayıtlarının güncellenme maliyetini ölçen benchmark. Veritabanı olarak PostgreSQL modundaki bellek içi H2 kullanılıyor.
+ * entity parametresi: dynamic -> @DynamicUpdate kullanan Employee, static -> aynı kolonlara sahip ama bütün kolonları yazan StaticEmployee.
+ * Her çağrıda ROWS kadar kaydın title alanı değiştiriliyor:
+ * saveManaged: transaction içinde okunan kayıtlar updatedDate yazılıp repository.save ile kaydediliyor(ServiceManager.update'in önceki hali).
+ * updateManaged: aynı güncelleme ServiceManager.update ile yapılıyor, save çağrılmıyor ve değişiklik dirty checking ile yazılıyor.
+ * updateUnchanged: title aynı değerle tekrar yazılıyor, ServiceManager.update kaydın değişmediğini görüp UPDATE göndermiyor.
+ * updateDetached: kayıtlar transaction dışında tek tek okunup ServiceManager.update ile kaydediliyor(merge).
+ * Süreye ek olarak son çağrıda veritabanına gönderilen sorgu sayısı(executions), SELECT ve UPDATE sorgusu hazırlama sayısı ve bağlanan parametre sayısı
+ * deneme sonunda JDBC satırında yazdırılıyor. Bağlanan parametre sayısı UPDATE sorgusunun genişliğini, executions ise JDBC batch'in kullanılıp kullanılmadığını gösteriyor.
+ * Çalıştırmak için: gradle :employee-microservice:jmh -PjmhArgs="EntityUpdateBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityUpdateBenchmark {
+
+    private static final int ROWS = 2000;
+
+    @Param({"dynamic", "static"})
+    private String entity;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private Target<?> target;
+    private int round;
+
+    @Setup
+    public void setUp() {
+        //Servisin application.yml dosyası(PostgreSQL, config server) yüklenmesin diye spring.config.name olmayan bir dosya adı veriliyor.
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.config.name=entity-update-benchmark",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=warn",
+                        "--spring.datasource.url=jdbc:h2:mem:entity-update;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        //employee-microservice'in application.yml dosyasındaki JPA ayarları.
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                        "--spring.jpa.properties.hibernate.order_inserts=true",
+                        "--spring.jpa.properties.hibernate.order_updates=true",
+                        "--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo",
+                        "--spring.jpa.properties.hrms.id.allocation_size=50");
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        target = entity.equals("dynamic")
+                ? new Target<>(context.getBean(EmployeeRepository.class), Function.identity(), Employee::getId, Employee::setTitle)
+                : new Target<>(context.getBean(StaticEmployeeRepository.class), StaticEmployee::from, StaticEmployee::getId, StaticEmployee::setTitle);
+        target.insert();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("JDBC %s: executions=%d selects=%d updates=%d boundParameters=%d%n",
+                entity, JdbcCounter.EXECUTIONS.get(), JdbcCounter.SELECTS.get(), JdbcCounter.UPDATES.get(), JdbcCounter.BOUND_PARAMETERS.get());
+        context.close();
+    }
+
+    @Benchmark
+    public void saveManaged() {
+        JdbcCounter.reset();
+        target.saveManaged("title-" + round++);
+    }
+
+    @Benchmark
+    public void updateManaged() {
+        JdbcCounter.reset();
+        target.updateManaged("title-" + round++);
+    }
+
+    @Benchmark
+    public void updateUnchanged() {
+        JdbcCounter.reset();
+        target.updateManaged("unchanged");
+    }
+
+    @Benchmark
+    public void updateDetached() {
+        JdbcCounter.reset();
+        target.updateDetached("title-" + round++);
+    }
+
+    //Ölçülen entity'nin repository'si, ServiceManager'ı ve alanlarına erişen metotlar. Kayıtlar Employee olarak oluşturulup mapper ile entity'ye çevriliyor.
+    private class Target<T extends BaseEntity> {
+
+        private final BenchmarkRepository<T> repository;
+        private final ServiceManager<T, Long> serviceManager;
+        private final Function<Employee, T> mapper;
+        private final Function<T, Long> idGetter;
+        private final BiConsumer<T, String> titleSetter;
+        private final List<Long> ids = new ArrayList<>(ROWS);
+
+        private Target(BenchmarkRepository<T> repository, Function<Employee, T> mapper, Function<T, Long> idGetter, BiConsumer<T, String> titleSetter) {
+            this.repository = repository;
+            //@PersistenceContext ile alınan EntityManager'ın enjekte edilmesi için ServiceManager context üzerinden dolduruluyor.
+            this.serviceManager = new ServiceManager<>(repository);
+            context.getAutowireCapableBeanFactory().autowireBean(serviceManager);
+            this.mapper = mapper;
+            this.idGetter = idGetter;
+            this.titleSetter = titleSetter;
+        }
+
+        private void insert() {
+            List<T> rows = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                rows.add(mapper.apply(employee(i)));
+            }
+            serviceManager.saveAll(rows).forEach(row -> ids.add(idGetter.apply(row)));
+        }
+
+        private void saveManaged(String title) {
+            transactionTemplate.executeWithoutResult(status -> repository.findAllById(ids).forEach(row -> {
+                titleSetter.accept(row, title);
+                row.setUpdatedDate(System.currentTimeMillis());
+                repository.save(row);
+            }));
+        }
+
+        private void updateManaged(String title) {
+            transactionTemplate.executeWithoutResult(status -> repository.findAllById(ids).forEach(row -> {
+                titleSetter.accept(row, title);
+                serviceManager.update(row);
+            }));
+        }
+
+        private void updateDetached(String title) {
+            for (Long id : ids) {
+                T row = repository.findById(id).orElseThrow();
+                titleSetter.accept(row, title);
+                serviceManager.update(row);
+            }
+        }
+    }
+
+    private static Employee employee(int i) {
+        String number = String.format("%011d", i);
+        return Employee.builder()
+                .authId((long) i)
+                .companyId("company-" + i)
+                .email("employee" + i + "@example.com")
+                .phoneNumber(number)
+                .identityNumber(number)
+                .name("Ayşe")
+                .surname("Yılmaz")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFW")
+                .address("Atatürk Caddesi No:1 Kadıköy İstanbul")
+                .companyName("HRMS")
+                .title("unchanged")
+                .salary(45000.0)
+                .photo("https://example.com/photos/" + i + ".png")
+                .dateOfBirth(LocalDate.of(1990, 1, 1).plusDays(i))
+                .status(EStatus.ACTIVE)
+                .gender(EGender.FEMALE)
+                .build();
+    }
+
+    @NoRepositoryBean
+    interface BenchmarkRepository<T> extends JpaRepository<T, Long>, JpaSpecificationExecutor<T> {
+    }
+
+    interface EmployeeRepository extends BenchmarkRepository<Employee> {
+    }
+
+    interface StaticEmployeeRepository extends BenchmarkRepository<StaticEmployee> {
+    }
+
+    //Employee ile aynı kolonlara sahip ama @DynamicUpdate kullanmayan karşılaştırma entity'si.
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @Entity
+    @Table(name = "tbl_employee_static")
+    public static class StaticEmployee extends BaseEntity {
+        @Id
+        @GeneratedValue(generator = "static_employee_id")
+        @GenericGenerator(name = "static_employee_id", type = PooledSequenceGenerator.class, parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tbl_employee_static_seq"))
+        private Long id;
+        @Column(unique = true)
+        private Long authId;
+        @Column(unique = true)
+        private String companyId;
+        @Column(unique = true, nullable = false, length = 40)
+        private String email;
+        @Column(unique = true, nullable = false, length = 11)
+        private String phoneNumber;
+        @Column(unique = true, nullable = false, length = 11)
+        private String identityNumber;
+        @Column(nullable = false, length = 40)
+        private String name;
+        @Column(nullable = false, length = 40)
+        private String surname;
+        @Column(nullable = false, length = 32)
+        private String password;
+        @Column(nullable = false, length = 100)
+        private String address;
+        @Column(nullable = false, length = 40)
+        private String companyName;
+        @Column(nullable = false, length = 40)
+        private String title;
+        @Column(nullable = false)
+        private Double salary;
+        private String photo;
+        private LocalDate dateOfBirth;
+        @Enumerated(EnumType.STRING)
+        private ERole role;
+        @Enumerated(EnumType.STRING)
+        private EStatus status;
+        @Enumerated(EnumType.STRING)
+        private EGender gender;
+
+        static StaticEmployee from(Employee employee) {
+            StaticEmployee staticEmployee = new StaticEmployee();
+            staticEmployee.setAuthId(employee.getAuthId());
+            staticEmployee.setCompanyId(employee.getCompanyId());
+            staticEmployee.setEmail(employee.getEmail());
+            staticEmployee.setPhoneNumber(employee.getPhoneNumber());
+            staticEmployee.setIdentityNumber(employee.getIdentityNumber());
+            staticEmployee.setName(employee.getName());
+            staticEmployee.setSurname(employee.getSurname());
+            staticEmployee.setPassword(employee.getPassword());
+            staticEmployee.setAddress(employee.getAddress());
+            staticEmployee.setCompanyName(employee.getCompanyName());
+            staticEmployee.setTitle(employee.getTitle());
+            staticEmployee.setSalary(employee.getSalary());
+            staticEmployee.setPhoto(employee.getPhoto());
+            staticEmployee.setDateOfBirth(employee.getDateOfBirth());
+            staticEmployee.setRole(employee.getRole());
+            staticEmployee.setStatus(employee.getStatus());
+            staticEmployee.setGender(employee.getGender());
+            return staticEmployee;
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = {Employee.class, EntityUpdateBenchmark.class})
+    @EnableJpaRepositories(basePackageClasses = EntityUpdateBenchmark.class, considerNestedRepositories = true)
+    static class BenchmarkConfiguration {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? JdbcCounter.wrap(dataSource, DataSource.class) : bean;
+                }
+            };
+        }
+    }
+
+    //DataSource'tan dönen bağlantı ve sorgu nesnelerini saran ve veritabanına giden çağrıları sayan proxy. EntityInsertBenchmark da bu sınıfı kullanıyor.
+    static final class JdbcCounter {
+
+        static final AtomicLong EXECUTIONS = new AtomicLong();
+        static final AtomicLong SELECTS = new AtomicLong();
+        static final AtomicLong UPDATES = new AtomicLong();
+        static final AtomicLong INSERTS = new AtomicLong();
+        static final AtomicLong BOUND_PARAMETERS = new AtomicLong();
+
+        private JdbcCounter() {
+        }
+
+        static void reset() {
+            EXECUTIONS.set(0);
+            SELECTS.set(0);
+            UPDATES.set(0);
+            INSERTS.set(0);
+            BOUND_PARAMETERS.set(0);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> T wrap(T target, Class<T> type) {
+            return (T) Proxy.newProxyInstance(EntityUpdateBenchmark.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (target instanceof Statement && name.startsWith("execute")) {
+                    EXECUTIONS.incrementAndGet();
+                }
+                //setInt(1, ...), setString(2, ...) gibi parametre bağlayan çağrılar. setFetchSize gibi ayar metotları tek parametre aldığı için sayılmıyor.
+                if (target instanceof PreparedStatement && name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    BOUND_PARAMETERS.incrementAndGet();
+                }
+                if (target instanceof Connection && name.equals("prepareStatement")) {
+                    String sql = ((String) args[0]).stripLeading().toLowerCase();
+                    if (sql.startsWith("select")) {
+                        SELECTS.incrementAndGet();
+                    } else if (sql.startsWith("update")) {
+                        UPDATES.incrementAndGet();
+                    } else if (sql.startsWith("insert")) {
+                        INSERTS.incrementAndGet();
+                    }
+                }
+                try {
+                    Object result = method.invoke(target, args);
+                    if (result instanceof PreparedStatement preparedStatement) {
+                        return wrap(preparedStatement, PreparedStatement.class);
+                    }
+                    if (result instanceof Statement statement) {
+                        return wrap(statement, Statement.class);
+                    }
+                    if (result instanceof Connection connection) {
+                        return wrap(connection, Connection.class);
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+    }
+
+}
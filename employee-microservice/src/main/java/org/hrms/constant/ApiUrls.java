@@ -9,8 +9,11 @@ public class ApiUrls {
     public static final String UPDATE="/update";
     public static final String DELETE_BY_ID = "/delete-by-id/{id}";
     public static final String FIND_ALL = "/find-all";
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     public static final String FIND_BY_ID = "/find-by-id/{id}";
     public static final String FIND_BY_AUTH_ID = "/find-by-auth-id/{authId}";
     public static final String FIND_BY_COMPANY_ID = "/find-by-company-id/{companyId}";
     public static final String FIND_BY_COMPANY_NAME = "/find-by-company-name";
+    public static final String IMPORT = "/import";
+    public static final String IMPORT_JOB = "/import/{jobId}";
 }
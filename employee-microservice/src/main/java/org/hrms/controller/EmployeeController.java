@@ -4,11 +4,16 @@ import lombok.RequiredArgsConstructor;
 import org.hrms.dto.request.EmployeeCreateRequestDto;
 import org.hrms.dto.request.EmployeeUpdateRequestDto;
 import org.hrms.dto.response.EmployeeCreateResponseDto;
+import org.hrms.dto.response.EmployeeImportJobResponseDto;
 import org.hrms.dto.response.FindAllEmployeesResponseDto;
 import org.hrms.dto.response.FindEmployeeByIdResponseDto;
+import org.hrms.service.EmployeeImportService;
 import org.hrms.service.EmployeeService;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -49,6 +54,7 @@ import static org.hrms.constant.ApiUrls.*;
 public class EmployeeController {
 
     private final EmployeeService employeeService;
+    private final EmployeeImportService employeeImportService;
 
     /*
      * @RequestBody anotasyonu HTTP isteğinin gövdesindeki (request body) verilerin, bir metot parametresine otomatik olarak bağlanmasını sağlar. POST ve PUT isteklerinde kullanılır.
@@ -61,6 +67,23 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.createEmployee(dto));
     }
 
+    //Dosya arka planda işleniyor, istek hemen 202 Accepted ve jobId ile dönüyor. İşin durumu IMPORT_JOB endpoint'inden takip ediliyor.
+    @PostMapping(value = IMPORT, consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<EmployeeImportJobResponseDto> importEmployees(@RequestParam("file") MultipartFile file){
+        return ResponseEntity.accepted().body(employeeImportService.submit(file));
+    }
+
+    //Satır sonuçları satır numarasına göre sayfa sayfa dönülüyor. Sonraki sayfanın after değeri X-Next-Cursor başlığında gönderiliyor.
+    @GetMapping(IMPORT_JOB)
+    public ResponseEntity<EmployeeImportJobResponseDto> findImportJob(@PathVariable String jobId, @RequestParam(required = false) Integer after, @RequestParam(required = false) Integer size){
+        EmployeeImportJobResponseDto importJob = employeeImportService.findImportJob(jobId, after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (importJob.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(importJob.getNextCursor()));
+        }
+        return response.body(importJob);
+    }
+
     @PatchMapping(UPDATE)
     public ResponseEntity<String> softUpdate(@RequestBody EmployeeUpdateRequestDto dto){
         return ResponseEntity.ok(employeeService.softUpdate(dto));
@@ -76,9 +99,16 @@ public class EmployeeController {
         return ResponseEntity.ok(employeeService.softDelete(id));
     }
 
+    //after ve size gönderilmezse bütün aktif kayıtlar dönülüyor. Gönderilirse sonraki sayfanın after değeri X-Next-Cursor başlığında gönderiliyor, başlık yoksa son sayfaya gelinmiştir.
     @GetMapping(FIND_ALL)
-    public ResponseEntity<List<FindAllEmployeesResponseDto>> findAllEmployees(){
-        return ResponseEntity.ok(employeeService.findAllEmployees());
+    public ResponseEntity<List<FindAllEmployeesResponseDto>> findAllEmployees(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer size){
+        Slice<FindAllEmployeesResponseDto> employeePage = employeeService.findAllEmployees(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (employeePage.hasNext()) {
+            List<FindAllEmployeesResponseDto> content = employeePage.getContent();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(content.get(content.size() - 1).getId()));
+        }
+        return response.body(employeePage.getContent());
     }
 
     @GetMapping(FIND_BY_ID)
@@ -64,6 +64,7 @@ public class EmployeeCreateRequestDto {
      * @Email anotasyonu bir kısıtlama anotasyonudur ve kullanıcının girdiği e-posta adresinin doğru formatını kontrol etmek için kullanılır.
      * message = "Please enter a valid email address." diyerekte geçerli bir e-posta adresi girilmezse bu mesajı içeren bir doğrulama hatası gönderir.
      */
+    @NotBlank(message = "Email field cannot be blank.")
     @Email(message = "Please enter a valid email address.")
     @Size(min = 3, max = 40, message = "Email must be between 3 and 40 characters.")
     private String email;
@@ -83,7 +84,7 @@ public class EmployeeCreateRequestDto {
     @Size(min = 3, max = 40, message = "Title must be between 3 and 40 characters.")
     private String title;
 
-    @NotBlank(message = "Salary field cannot be blank.")
+    @NotNull(message = "Salary field cannot be null.") //@NotBlank sadece metinsel alanlarda kullanılabildiği için Double alanda doğrulama sırasında hata veriyordu.
     private Double salary;
 
     @NotBlank(message = "Photo field cannot be blank.")
@@ -0,0 +1,35 @@
+package org.hrms.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hrms.repository.enums.EImportStatus;
+
+import java.util.List;
+
+/*
+ * Toplu içe aktarma işinin durumu. processedRows, succeededRows ve failedRows değerleri iş devam ederken artıyor, istemci bu değerlere bakarak ilerlemeyi takip edebiliyor.
+ * rows listesinde istenen satır numarasından(after) sonraki satırların sonuçları dönülüyor.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeImportJobResponseDto {
+    private String jobId;
+    private String fileName;
+    private EImportStatus status;
+    private Integer processedRows;
+    private Integer succeededRows;
+    private Integer failedRows;
+    private Long createdDate;
+    private Long finishedDate;
+    private String errorMessage;
+    private List<EmployeeImportRowResultDto> rows;
+
+    //Sonraki sayfanın after değeri. JSON'a yazılmıyor, controller bu değeri X-Next-Cursor başlığında gönderiyor.
+    @JsonIgnore
+    private Integer nextCursor;
+}
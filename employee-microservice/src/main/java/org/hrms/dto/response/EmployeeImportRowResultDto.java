@@ -0,0 +1,21 @@
+package org.hrms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+//Toplu içe aktarmada dosyadaki bir satırın sonucu. rowNumber dosyadaki satır numarasıdır, başlık satırı 1. satırdır.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class EmployeeImportRowResultDto {
+    private Integer rowNumber;
+    private Boolean success;
+    private Long employeeId;
+    private String email;
+    private List<String> errors;
+}
@@ -34,14 +34,25 @@ public enum ErrorType {
 
     COMPANY_NAME_NOT_FOUND(4001,"Company name not found..." ,HttpStatus.BAD_REQUEST),
     USER_NOT_FOUND(4004,"User not found..." ,HttpStatus.BAD_REQUEST),
+    IMPORT_JOB_NOT_FOUND(4005,"Import job not found..." ,HttpStatus.NOT_FOUND),
 
     INTERNAL_SERVER_ERROR(5001,"Internal Server Error...",HttpStatus.INTERNAL_SERVER_ERROR),
+    IMPORT_QUEUE_FULL(5002,"Too many import jobs are waiting, please try again later...",HttpStatus.SERVICE_UNAVAILABLE),
 
     PARAMETER_NOT_VALID(6001,"Parameter incorrect...",HttpStatus.BAD_REQUEST),
     INVALID_TOKEN(6002,"Invalid Token..." , HttpStatus.BAD_REQUEST),
     INVALID_TOKEN_FORMAT(6003,"Invalid token format...",HttpStatus.BAD_REQUEST),
     TOKEN_NOT_CREATED(6004,"Token could not be created...",HttpStatus.BAD_REQUEST),
-    INVALID_ROLE(6005,"Invalid Role: Password could not update in other database..." , HttpStatus.BAD_REQUEST);
+    INVALID_ROLE(6005,"Invalid Role: Password could not update in other database..." , HttpStatus.BAD_REQUEST),
+    IMPORT_FILE_NOT_SUPPORTED(6006,"Only .csv and .xlsx files can be imported...", HttpStatus.BAD_REQUEST),
+    IMPORT_FILE_NOT_READABLE(6007,"Import file could not be read...", HttpStatus.BAD_REQUEST),
+    IMPORT_EMAIL_REPEATED(6008,"This email address is repeated in the file...", HttpStatus.BAD_REQUEST),
+    IMPORT_PHONE_NUMBER_REPEATED(6009,"This phone number is repeated in the file...", HttpStatus.BAD_REQUEST),
+    IMPORT_IDENTITY_NUMBER_REPEATED(6010,"This identity number is repeated in the file...", HttpStatus.BAD_REQUEST),
+    IMPORT_SALARY_NOT_VALID(6011,"Salary must be a number...", HttpStatus.BAD_REQUEST),
+    IMPORT_OPTION_NOT_VALID(6012,"Value must be one of the allowed options...", HttpStatus.BAD_REQUEST),
+    IMPORT_DATE_NOT_VALID(6013,"Date of birth must be in yyyy-MM-dd or dd.MM.yyyy format...", HttpStatus.BAD_REQUEST),
+    IMPORT_ROW_NOT_SAVED(6014,"Row could not be saved...", HttpStatus.BAD_REQUEST);
 
 
     private int code;
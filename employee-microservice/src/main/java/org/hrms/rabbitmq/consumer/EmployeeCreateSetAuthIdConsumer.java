@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.EmployeeCreateSetAuthIdModel;
 import org.hrms.service.EmployeeService;
@@ -21,10 +22,10 @@ public class EmployeeCreateSetAuthIdConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.employee-set-authid-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.EMPLOYEE_SET_AUTH_ID) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.employee-set-authid-queue}")
+    @RabbitListener(queues = EventQueues.EMPLOYEE_SET_AUTH_ID)
     public void setAuthIdFromQueue(EmployeeCreateSetAuthIdModel model){
         employeeService.setAuthId(model);
     }
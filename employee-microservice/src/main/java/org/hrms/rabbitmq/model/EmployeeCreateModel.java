@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hrms.messaging.SchemaVersion;
 import org.hrms.repository.enums.EGender;
 import org.hrms.repository.enums.ERole;
 import org.hrms.repository.enums.EStatus;
@@ -30,6 +31,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Data
 @Builder
+@SchemaVersion(1)
 public class EmployeeCreateModel implements Serializable {
     private String name;
     private String surname;
@@ -1,10 +1,12 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.EmployeeCreateModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /*
  * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
  * Bu annotasyon, Spring uygulamalarında servis katmanı bileşenlerini tanımlamak ve işaretlemek için kullanılır.
@@ -12,28 +14,24 @@ import org.springframework.stereotype.Service;
 @Service
 public class EmployeeCreateProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public EmployeeCreateProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public EmployeeCreateProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.auth-exchange}")
-    private String authExchange;
-
-    @Value("${rabbitmq.manager-addEmployee-bindingKey}")
-    private String managerAddEmployeeBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * EmployeeCreateProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için authExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan authExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan managerAddEmployeeBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan EmployeeCreateModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.EMPLOYEE_CREATE içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz EmployeeCreateModel'imizi ilgili kuyruk olan managerAddEmployeeQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(EmployeeCreateModel employeeCreateModel){
-        rabbitTemplate.convertAndSend(authExchange,managerAddEmployeeBindingKey,employeeCreateModel);
+        eventPublisher.publish(EventType.EMPLOYEE_CREATE,employeeCreateModel);
+    }
+
+    //Toplu içe aktarmada bir grup mesajı tek seferde gönderiyoruz. Outbox açık olduğu için mesajlar çağıran metodun transaction'ı içinde tabloya yazılıyor.
+    public void convertAndSendAll(List<EmployeeCreateModel> employeeCreateModels){
+        eventPublisher.publishAll(EventType.EMPLOYEE_CREATE,employeeCreateModels);
     }
 
 }
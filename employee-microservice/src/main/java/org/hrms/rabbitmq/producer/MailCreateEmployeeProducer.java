@@ -1,10 +1,12 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.MailCreateEmployeeModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /*
  * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
  * Bu annotasyon, Spring uygulamalarında servis katmanı bileşenlerini tanımlamak ve işaretlemek için kullanılır.
@@ -12,27 +14,24 @@ import org.springframework.stereotype.Service;
 @Service
 public class MailCreateEmployeeProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public MailCreateEmployeeProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public MailCreateEmployeeProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.mail-exchange}")
-    private String mailExchange;
-
-    @Value("${rabbitmq.mail-create-employee-bindingKey}")
-    private String mailCreateEmployeeBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * MailForgotPasswordProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için mailExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan mailExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan mailCreateEmployeeBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan MailCreateEmployeeModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.MAIL_CREATE_EMPLOYEE içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz MailCreateEmployeeModel'imizi ilgili kuyruk olan mailCreateEmployeeQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(MailCreateEmployeeModel mailCreateEmployeeModel){
-        rabbitTemplate.convertAndSend(mailExchange,mailCreateEmployeeBindingKey,mailCreateEmployeeModel);
+        eventPublisher.publish(EventType.MAIL_CREATE_EMPLOYEE,mailCreateEmployeeModel);
     }
+
+    //Toplu içe aktarmada bir grup mesajı tek seferde gönderiyoruz. Outbox açık olduğu için mesajlar çağıran metodun transaction'ı içinde tabloya yazılıyor.
+    public void convertAndSendAll(List<MailCreateEmployeeModel> mailCreateEmployeeModels){
+        eventPublisher.publishAll(EventType.MAIL_CREATE_EMPLOYEE,mailCreateEmployeeModels);
+    }
+
 }
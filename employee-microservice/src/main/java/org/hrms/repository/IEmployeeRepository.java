@@ -1,9 +1,12 @@
 package org.hrms.repository;
 
 import org.hrms.repository.entity.Employee;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hrms.repository.view.UniqueFieldView;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +22,7 @@ import java.util.Optional;
  * Aşağıda yazılan metotlarda JpaRepository anlayacak şekilde doğru bir biçimde metot isimlendirilirse JpaRepository metot ismine göre veritabanında arama yaparak geriye istenilen değeri dönebilir.
  */
 @Repository
-public interface IEmployeeRepository extends JpaRepository<Employee,Long> {
+public interface IEmployeeRepository extends ISoftDeleteRepository<Employee,Long> {
 
     Boolean existsByEmail(String email);  //Parametre olarak girilen emailin veritabanında olup olmadığını kontrol ediyoruz.
     Boolean existsByPhoneNumber(String phoneNumber); //Parametre olarak girilen telefon numarasının veritabanında olup olmadığını kontrol ediyoruz.
@@ -32,4 +35,34 @@ public interface IEmployeeRepository extends JpaRepository<Employee,Long> {
     List<Employee> findEmployeesByCompanyName(String companyName); //Parametre olarak girilen şirket adına sahip kullanıcıların bilgilerini Employee listesi olarak dönüyor.
     Optional<Employee> findOptionalByEmail(String email); //Parametre olarak girilen email'e göre veritabanını kontrol edip geriye optional olarak bir Employee dönüyor.
 
+    /*
+     * Email, telefon numarası ve kimlik numarasından herhangi biri eşleşen kayıtları tek sorguda dönüyoruz.
+     * Güncelleme işleminde kaydın kendisini excludedId ile sorgudan çıkarıyoruz, böylece kullanıcının kendi değerleri çakışma olarak görülmüyor.
+     * Yeni kayıtta excludedId null olarak gönderilmelidir. null gönderilen alanlar hiçbir kayıtla eşleşmiyor.
+     */
+    @Query("select e.email as email, e.phoneNumber as phoneNumber, e.identityNumber as identityNumber from Employee e " +
+            "where (e.email = :email or e.phoneNumber = :phoneNumber or e.identityNumber = :identityNumber) " +
+            "and (:excludedId is null or e.id <> :excludedId)")
+    List<UniqueFieldView> findUniqueFieldConflicts(@Param("email") String email, @Param("phoneNumber") String phoneNumber,
+                                                   @Param("identityNumber") String identityNumber, @Param("excludedId") Long excludedId);
+
+    //Toplu içe aktarmada bir grup satırın email, telefon numarası ve kimlik numaralarını tek sorguda kontrol ediyoruz. Listeler boş gönderilmemelidir.
+    @Query("select e.email as email, e.phoneNumber as phoneNumber, e.identityNumber as identityNumber from Employee e " +
+            "where e.email in :emails or e.phoneNumber in :phoneNumbers or e.identityNumber in :identityNumbers")
+    List<UniqueFieldView> findUniqueFieldConflictsIn(@Param("emails") Collection<String> emails, @Param("phoneNumbers") Collection<String> phoneNumbers,
+                                                     @Param("identityNumbers") Collection<String> identityNumbers);
+
+    /*
+     * Aşağıdaki sorgular sadece aktif(ACTIVE) kayıtları dönüyor. Status değeri sabit olarak yazıldığı için sorgular db/active-indexes.sql içindeki koşullu indeksleri kullanıyor.
+     * Kayıt bulunamazsa kaydın hiç olmadığını mı yoksa aktif olmadığını mı ayırt etmek için servis katmanında exists sorgusu kullanılıyor.
+     */
+    @Query("select e from Employee e where e.authId = :authId and e.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    Optional<Employee> findActiveByAuthId(@Param("authId") Long authId);
+
+    @Query("select e from Employee e where e.companyId = :companyId and e.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    Optional<Employee> findActiveByCompanyId(@Param("companyId") String companyId);
+
+    @Query("select e from Employee e where e.companyName = :companyName and e.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    List<Employee> findActiveByCompanyName(@Param("companyName") String companyName);
+
 }
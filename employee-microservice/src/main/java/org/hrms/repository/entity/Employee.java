@@ -3,7 +3,12 @@ package org.hrms.repository.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.hrms.repository.enums.*;
+import org.hrms.utility.PooledSequenceGenerator;
 import java.time.LocalDate;
 
 /*
@@ -29,19 +34,23 @@ import java.time.LocalDate;
  *
  * @Table anotasyonu JPA (Java Persistence API) entegrasyonu ile kullanılan bir Java anotasyonudur ve postgre veritabanı tablolarıyla eşleştirmek için kullanılır ve sınıfın hangi veritabanı tablosuna karşılık geldiğini belirtir.
  * name = "tbl_employee" diyerek veritabanında tbl_employee adında bir tablo oluşturur ve sınıfın verilerini o tabloya kaydeder ve bu tablodan veri çeker.
+ *
+ * @DynamicUpdate anotasyonu Hibernate'in UPDATE sorgusuna bütün kolonları değil sadece değişen kolonları yazmasını sağlar. tbl_employee geniş bir tablo olduğu için örneğin sadece title güncellendiğinde diğer kolonlar yazılmaz.
  */
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Entity
+@DynamicUpdate
 @SuperBuilder
 @Table(name = "tbl_employee")
 public class Employee extends BaseEntity{
 
-    //Bu iki anotasyonu kullanarak kullanıcıların veritabanı tarafından yönetilen otomatik artan eşsiz bir kimliğe sahip olmasını sağlıyoruz.
+    //Id değerleri tbl_employee_seq sequence'inden PooledSequenceGenerator ile blok blok alınıyor, böylece toplu kayıtlar JDBC batch ile tek seferde gönderilebiliyor.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "employee_id")
+    @GenericGenerator(name = "employee_id", type = PooledSequenceGenerator.class, parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tbl_employee_seq"))
     private Long id;
 
     @Column(unique = true)
@@ -71,7 +80,8 @@ public class Employee extends BaseEntity{
     @Column(nullable = false, length = 40)
     private String surname;
 
-    @Column(nullable = false, length = 32)
+    //auth-microservice şifreyi bcrypt hash'i olarak gönderiyor. Hash 60 karakter olduğu için sütun Auth'taki gibi 100 karakter.
+    @Column(nullable = false, length = 100)
     private String password;
 
     @Column(nullable = false, length = 100)
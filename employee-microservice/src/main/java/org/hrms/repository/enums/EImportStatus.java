@@ -0,0 +1,5 @@
+package org.hrms.repository.enums;
+
+public enum EImportStatus {
+    PENDING, RUNNING, COMPLETED, FAILED;
+}
@@ -0,0 +1,12 @@
+package org.hrms.repository.view;
+
+/*
+ * Eşsiz(unique) olması gereken sütunları tek sorguda kontrol ederken sadece bu sütunları çekmek için kullandığımız projection interface'imiz.
+ */
+public interface UniqueFieldView {
+
+    String getEmail();
+    String getPhoneNumber();
+    String getIdentityNumber();
+
+}
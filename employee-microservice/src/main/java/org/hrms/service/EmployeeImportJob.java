@@ -0,0 +1,91 @@
+package org.hrms.service;
+
+import org.hrms.dto.response.EmployeeImportJobResponseDto;
+import org.hrms.dto.response.EmployeeImportRowResultDto;
+import org.hrms.repository.enums.EImportStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Bir toplu içe aktarma işinin bellekteki durumu. İş arka planda tek bir thread tarafından güncelleniyor, durum sorguları ise istek thread'lerinden okunuyor.
+ * Bu yüzden sayaçlar atomic, satır sonuçları ise satır numarasına göre sıralı tutan ConcurrentSkipListMap içinde saklanıyor.
+ */
+class EmployeeImportJob {
+
+    private final String id;
+    private final String fileName;
+    private final long createdDate = System.currentTimeMillis();
+    private final AtomicInteger processedRows = new AtomicInteger();
+    private final AtomicInteger succeededRows = new AtomicInteger();
+    private final AtomicInteger failedRows = new AtomicInteger();
+    private final ConcurrentSkipListMap<Integer, EmployeeImportRowResultDto> rows = new ConcurrentSkipListMap<>();
+
+    private volatile EImportStatus status = EImportStatus.PENDING;
+    private volatile Long finishedDate;
+    private volatile String errorMessage;
+
+    EmployeeImportJob(String id, String fileName) {
+        this.id = id;
+        this.fileName = fileName;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    String getFileName() {
+        return fileName;
+    }
+
+    void start() {
+        status = EImportStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedDate = System.currentTimeMillis();
+        status = EImportStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        errorMessage = message;
+        finishedDate = System.currentTimeMillis();
+        status = EImportStatus.FAILED;
+    }
+
+    void record(EmployeeImportRowResultDto row) {
+        rows.put(row.getRowNumber(), row);
+        (row.getSuccess() ? succeededRows : failedRows).incrementAndGet();
+        processedRows.incrementAndGet();
+    }
+
+    boolean isExpired(long now, Duration retention) {
+        Long finished = finishedDate;
+        return finished != null && now - finished > retention.toMillis();
+    }
+
+    //after numaralı satırdan sonraki en fazla size satırın sonucunu dönüyoruz. Daha fazla satır varsa son satırın numarası nextCursor olarak yazılıyor.
+    EmployeeImportJobResponseDto toResponseDto(int after, int size) {
+        NavigableMap<Integer, EmployeeImportRowResultDto> tail = rows.tailMap(after, false);
+        List<EmployeeImportRowResultDto> page = tail.values().stream().limit(size).toList();
+        Integer nextCursor = page.size() == size && tail.higherKey(page.get(page.size() - 1).getRowNumber()) != null
+                ? page.get(page.size() - 1).getRowNumber() : null;
+        return EmployeeImportJobResponseDto.builder()
+                .jobId(id)
+                .fileName(fileName)
+                .status(status)
+                .processedRows(processedRows.get())
+                .succeededRows(succeededRows.get())
+                .failedRows(failedRows.get())
+                .createdDate(createdDate)
+                .finishedDate(finishedDate)
+                .errorMessage(errorMessage)
+                .rows(page)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+}
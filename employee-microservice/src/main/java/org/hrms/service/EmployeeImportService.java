@@ -0,0 +1,337 @@
+package org.hrms.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hrms.dto.request.EmployeeCreateRequestDto;
+import org.hrms.dto.response.EmployeeImportJobResponseDto;
+import org.hrms.dto.response.EmployeeImportRowResultDto;
+import org.hrms.exception.EmployeeServiceException;
+import org.hrms.exception.ErrorType;
+import org.hrms.repository.IEmployeeRepository;
+import org.hrms.repository.entity.Employee;
+import org.hrms.repository.enums.EGender;
+import org.hrms.repository.enums.EStatus;
+import org.hrms.repository.view.UniqueFieldView;
+import org.hrms.utility.EmployeeImportReader;
+import org.hrms.utility.ServiceManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/*
+ * Employee'leri .csv ya da .xlsx dosyasından toplu olarak içe aktaran servisimiz.
+ * Yüklenen dosya geçici bir dosyaya taşınıyor ve istek hemen bir jobId ile dönüyor. Dosya arka planda EmployeeImportReader ile satır satır okunuyor,
+ * bu sayede binlerce satırlık bir dosya belleğe alınmıyor ve istek thread'i dosya işlenene kadar beklemiyor.
+ * Satırlar chunk-size büyüklüğünde gruplar halinde işleniyor:
+ * 1. Satırlar paralel olarak EmployeeCreateRequestDto'ya çevriliyor ve Bean Validation ile doğrulanıyor.
+ * 2. Dosya içinde tekrar eden email, telefon ve kimlik numaraları işaretleniyor.
+ * 3. Grubun bütün email, telefon ve kimlik numaraları veritabanında tek bir sorguyla kontrol ediliyor.
+ * 4. Geçerli satırlar EmployeeService.createEmployees ile JDBC batch halinde kaydediliyor, auth ve mail mesajları aynı transaction içinde outbox'a toplu yazılıyor.
+ *    Outbox'taki mesajlar OutboxRelay tarafından gruplar halinde gönderilip RabbitMQ onayı(publisher confirm) alındıktan sonra siliniyor.
+ *    Grup kaydedilemezse(örneğin aynı anda başka bir istekle aynı email kaydedildiyse) satırlar tek tek kaydedilerek hatalı satır bulunuyor.
+ * Her satırın sonucu iş durumunda tutuluyor ve IMPORT_JOB endpoint'inden ilerleme ile birlikte sayfa sayfa okunabiliyor.
+ * İşler bellekte tutulduğu için servis yeniden başlatılırsa iş durumu kaybolur, bitmiş işler retention süresi sonunda siliniyor.
+ * Satır hataları ErrorType mesajlarından oluşuyor. Bean Validation hataları ise EmployeeCreateRequestDto'daki anotasyonların mesajlarıyla yazılıyor.
+ */
+@Slf4j
+@Service
+public class EmployeeImportService {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ofPattern("dd.MM.yyyy"));
+
+    private final EmployeeService employeeService;
+    private final IEmployeeRepository repository;
+    private final Validator validator;
+    private final ThreadPoolExecutor executor;
+    private final int chunkSize;
+    private final Duration retention;
+    private final Map<String, EmployeeImportJob> jobs = new ConcurrentHashMap<>();
+
+    public EmployeeImportService(EmployeeService employeeService, IEmployeeRepository repository, Validator validator,
+                                 @Value("${employeeserviceconfig.import.chunk-size:500}") int chunkSize,
+                                 @Value("${employeeserviceconfig.import.threads:2}") int threads,
+                                 @Value("${employeeserviceconfig.import.queue-capacity:10}") int queueCapacity,
+                                 @Value("${employeeserviceconfig.import.retention:PT1H}") Duration retention) {
+        this.employeeService = employeeService;
+        this.repository = repository;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "employee-import");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public EmployeeImportJobResponseDto submit(MultipartFile file) {
+
+        String fileName = file.getOriginalFilename();
+        if (file.isEmpty() || !EmployeeImportReader.supports(fileName)) {
+            throw new EmployeeServiceException(ErrorType.IMPORT_FILE_NOT_SUPPORTED);
+        }
+        removeExpiredJobs();
+
+        //Spring yüklenen dosyayı istek bitince sildiği için dosyayı kendi geçici dosyamıza taşıyoruz. Dosya zaten diskte olduğu için kopyalama yerine taşıma yapılıyor.
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("employee-import-", fileName.substring(fileName.lastIndexOf('.')));
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new EmployeeServiceException(ErrorType.IMPORT_FILE_NOT_READABLE, e.getMessage());
+        }
+
+        EmployeeImportJob job = new EmployeeImportJob(UUID.randomUUID().toString(), fileName);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, tempFile));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            deleteQuietly(tempFile);
+            throw new EmployeeServiceException(ErrorType.IMPORT_QUEUE_FULL);
+        }
+        return job.toResponseDto(0, 1);
+    }
+
+    public EmployeeImportJobResponseDto findImportJob(String jobId, Integer after, Integer size) {
+
+        removeExpiredJobs();
+        EmployeeImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new EmployeeServiceException(ErrorType.IMPORT_JOB_NOT_FOUND);
+        }
+        return job.toResponseDto(after == null ? 0 : after, ServiceManager.resolvePageSize(size));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(EmployeeImportJob job, Path file) {
+        job.start();
+        Set<String> seenValues = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        try {
+            EmployeeImportReader.read(file, job.getFileName(), (rowNumber, values) -> {
+                chunk.add(new ImportRow(rowNumber, values));
+                if (chunk.size() >= chunkSize) {
+                    processChunk(job, chunk, seenValues);
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk, seenValues);
+            }
+            job.complete();
+        } catch (Exception e) {
+            log.error("Employee import {} failed: {}", job.getId(), e.getMessage(), e);
+            job.fail(e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    private void processChunk(EmployeeImportJob job, List<ImportRow> chunk, Set<String> seenValues) {
+
+        //Dönüştürme ve doğrulama satırlar arasında bağımsız olduğu için paralel çalıştırılıyor.
+        chunk.parallelStream().forEach(this::validate);
+
+        List<ImportRow> validRows = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (row.errors.isEmpty()) {
+                checkRepeatedInFile(row, seenValues);
+            }
+            if (row.errors.isEmpty()) {
+                validRows.add(row);
+            }
+        }
+
+        checkExistingInDatabase(validRows);
+        validRows.removeIf(row -> !row.errors.isEmpty());
+        save(validRows);
+
+        chunk.forEach(row -> job.record(EmployeeImportRowResultDto.builder()
+                .rowNumber(row.rowNumber)
+                .success(row.errors.isEmpty())
+                .employeeId(row.employeeId)
+                .email(row.values.get("email"))
+                .errors(row.errors.isEmpty() ? null : List.copyOf(row.errors))
+                .build()));
+    }
+
+    private void validate(ImportRow row) {
+        EmployeeCreateRequestDto dto = EmployeeCreateRequestDto.builder()
+                .name(row.values.get("name"))
+                .surname(row.values.get("surname"))
+                .phoneNumber(row.values.get("phonenumber"))
+                .identityNumber(row.values.get("identitynumber"))
+                .email(row.values.get("email"))
+                .personalEmail(emptyToNull(row.values.get("personalemail")))
+                .address(row.values.get("address"))
+                .companyName(row.values.get("companyname"))
+                .title(row.values.get("title"))
+                .salary(parseSalary(row))
+                .photo(row.values.get("photo"))
+                .gender(parseEnum(row, "gender", EGender.class, null))
+                .status(parseEnum(row, "status", EStatus.class, EStatus.ACTIVE))
+                .dateOfBirth(parseDate(row))
+                .build();
+        for (ConstraintViolation<EmployeeCreateRequestDto> violation : validator.validate(dto)) {
+            row.errors.add(violation.getMessage());
+        }
+        row.dto = dto;
+    }
+
+    //Aynı email, telefon ya da kimlik numarası dosyada daha önceki bir satırda geçtiyse sonraki satırları hatalı sayıyoruz.
+    private void checkRepeatedInFile(ImportRow row, Set<String> seenValues) {
+        if (!seenValues.add("email:" + row.dto.getEmail())) {
+            row.errors.add(ErrorType.IMPORT_EMAIL_REPEATED.getMessage());
+        }
+        if (!seenValues.add("phone:" + row.dto.getPhoneNumber())) {
+            row.errors.add(ErrorType.IMPORT_PHONE_NUMBER_REPEATED.getMessage());
+        }
+        if (!seenValues.add("identity:" + row.dto.getIdentityNumber())) {
+            row.errors.add(ErrorType.IMPORT_IDENTITY_NUMBER_REPEATED.getMessage());
+        }
+    }
+
+    private void checkExistingInDatabase(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        Set<String> identityNumbers = new HashSet<>();
+        for (ImportRow row : rows) {
+            emails.add(row.dto.getEmail());
+            phoneNumbers.add(row.dto.getPhoneNumber());
+            identityNumbers.add(row.dto.getIdentityNumber());
+        }
+
+        Set<String> existingEmails = new HashSet<>();
+        Set<String> existingPhoneNumbers = new HashSet<>();
+        Set<String> existingIdentityNumbers = new HashSet<>();
+        for (UniqueFieldView conflict : repository.findUniqueFieldConflictsIn(emails, phoneNumbers, identityNumbers)) {
+            existingEmails.add(conflict.getEmail());
+            existingPhoneNumbers.add(conflict.getPhoneNumber());
+            existingIdentityNumbers.add(conflict.getIdentityNumber());
+        }
+
+        for (ImportRow row : rows) {
+            if (existingEmails.contains(row.dto.getEmail())) {
+                row.errors.add(ErrorType.EMAIL_ALREADY_EXISTS.getMessage());
+            }
+            if (existingPhoneNumbers.contains(row.dto.getPhoneNumber())) {
+                row.errors.add(ErrorType.PHONE_NUMBER_ALREADY_EXISTS.getMessage());
+            }
+            if (existingIdentityNumbers.contains(row.dto.getIdentityNumber())) {
+                row.errors.add(ErrorType.IDENTITY_NUMBER_ALREADY_EXISTS.getMessage());
+            }
+        }
+    }
+
+    private void save(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            List<Employee> employees = employeeService.createEmployees(rows.stream().map(row -> row.dto).toList());
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).employeeId = employees.get(i).getId();
+            }
+        } catch (RuntimeException e) {
+            if (rows.size() == 1) {
+                rows.get(0).errors.add(ErrorType.IMPORT_ROW_NOT_SAVED.getMessage() + " " + e.getMessage());
+                return;
+            }
+            rows.forEach(row -> save(List.of(row)));
+        }
+    }
+
+    private Double parseSalary(ImportRow row) {
+        String value = row.values.get("salary");
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            row.errors.add(ErrorType.IMPORT_SALARY_NOT_VALID.getMessage());
+            return null;
+        }
+    }
+
+    private <E extends Enum<E>> E parseEnum(ImportRow row, String column, Class<E> enumType, E defaultValue) {
+        String value = row.values.get(column);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(enumType, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            row.errors.add(ErrorType.IMPORT_OPTION_NOT_VALID.getMessage() + " " + column + ": " + Arrays.toString(enumType.getEnumConstants()));
+            return defaultValue;
+        }
+    }
+
+    private LocalDate parseDate(ImportRow row) {
+        String value = row.values.get("dateofbirth");
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value, format);
+            } catch (DateTimeParseException ignored) {
+                //Sonraki formatı deniyoruz.
+            }
+        }
+        row.errors.add(ErrorType.IMPORT_DATE_NOT_VALID.getMessage());
+        return null;
+    }
+
+    private void removeExpiredJobs() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> job.isExpired(now, retention));
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Import file {} could not be deleted: {}", file, e.getMessage());
+        }
+    }
+
+    //Dosyadaki bir satır ve işlenirken biriken sonuçları. errors listesine paralel doğrulama sırasında sadece kendi satırının thread'i yazıyor.
+    private static class ImportRow {
+        private final int rowNumber;
+        private final Map<String, String> values;
+        private final List<String> errors = new ArrayList<>();
+        private EmployeeCreateRequestDto dto;
+        private Long employeeId;
+
+        private ImportRow(int rowNumber, Map<String, String> values) {
+            this.rowNumber = rowNumber;
+            this.values = values;
+        }
+    }
+
+}
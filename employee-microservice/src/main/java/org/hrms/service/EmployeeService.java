@@ -14,14 +14,19 @@ import org.hrms.rabbitmq.producer.AuthUpdateProducer;
 import org.hrms.rabbitmq.producer.EmployeeCreateProducer;
 import org.hrms.rabbitmq.producer.MailCreateEmployeeProducer;
 import org.hrms.repository.IEmployeeRepository;
+import org.hrms.repository.ISoftDeleteRepository;
 import org.hrms.repository.entity.Employee;
+import org.hrms.repository.view.UniqueFieldView;
 import org.hrms.repository.enums.ERole;
 import org.hrms.repository.enums.EStatus;
 import org.hrms.utility.PasswordGenerator;
 import org.hrms.utility.ServiceManager;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -37,14 +42,16 @@ import java.util.stream.Collectors;
 @Service
 public class EmployeeService extends ServiceManager<Employee, Long> {
 
+    private static final Specification<Employee> ACTIVE = ISoftDeleteRepository.active();
+
     private final IEmployeeRepository repository;
     private final EmployeeCreateProducer employeeCreateProducer;
     private final AuthUpdateProducer authUpdateProducer;
     private final AuthDeleteProducer authDeleteProducer;
     private final MailCreateEmployeeProducer mailCreateEmployeeProducer;
 
-    public EmployeeService(JpaRepository<Employee, Long> jpaRepository, IEmployeeRepository repository, EmployeeCreateProducer employeeCreateProducer, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer, MailCreateEmployeeProducer mailCreateEmployeeProducer) {
-        super(jpaRepository);
+    public EmployeeService(IEmployeeRepository repository, EmployeeCreateProducer employeeCreateProducer, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer, MailCreateEmployeeProducer mailCreateEmployeeProducer) {
+        super(repository);
         this.repository = repository;
         this.employeeCreateProducer = employeeCreateProducer;
         this.authUpdateProducer = authUpdateProducer;
@@ -52,11 +59,10 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         this.mailCreateEmployeeProducer = mailCreateEmployeeProducer;
     }
 
+    @Transactional
     public EmployeeCreateResponseDto createEmployee(EmployeeCreateRequestDto dto) {
 
-        if(repository.existsByEmail(dto.getEmail()) || repository.existsByPhoneNumber(dto.getPhoneNumber()) || repository.existsByIdentityNumber(dto.getIdentityNumber())) {
-            throw new EmployeeServiceException(ErrorType.PARAMETER_ALREADY_EXISTS);
-        }
+        validateUniqueFields(dto.getEmail(), dto.getPhoneNumber(), dto.getIdentityNumber(), null);
 
         Employee employee = IEmployeeMapper.INSTANCE.employeeCreateRequestDtoToEmployee(dto);
         employee.setRole(ERole.EMPLOYEE);
@@ -64,13 +70,14 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         String randomPassword = PasswordGenerator.generatePassword();
         employee.setPassword(randomPassword);
 
+        //Önce employee'yi kaydediyoruz, mesajlar outbox tablosuna aynı transaction içinde yazıldığı için kayıt başarısız olursa hiçbir mesaj gönderilmiyor.
+        save(employee);
+
         EmployeeCreateModel employeeCreateModel = IEmployeeMapper.INSTANCE.employeeToEmployeeCreateModel(employee);
         employeeCreateProducer.convertAndSend(employeeCreateModel);
 
         //auth-microservice tarafına employee'yi gönderdiğimiz gibi company-service tarafına da göndermeliyiz. UNUTMA
 
-        save(employee);
-
         MailCreateEmployeeModel mailCreateEmployeeModel = MailCreateEmployeeModel.builder()
                 .personalEmail(dto.getPersonalEmail())
                 .email(employee.getEmail())
@@ -81,6 +88,40 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         return IEmployeeMapper.INSTANCE.employeeToEmployeeCreateResponseDto(employee);
     }
 
+    /*
+     * Toplu içe aktarmada doğrulanmış ve eşsiz alanları kontrol edilmiş bir grup employee'yi createEmployee ile aynı şekilde kaydediyoruz.
+     * Kayıtlar saveAll ile JDBC batch halinde yazılıyor, auth ve mail mesajları da aynı transaction içinde outbox tablosuna toplu olarak yazılıyor.
+     * Gruptaki bir kayıt veritabanında hata alırsa grubun tamamı geri alınıyor ve hiçbir mesaj gönderilmiyor.
+     */
+    @Transactional
+    public List<Employee> createEmployees(List<EmployeeCreateRequestDto> dtos) {
+
+        List<Employee> employees = new ArrayList<>(dtos.size());
+        for (EmployeeCreateRequestDto dto : dtos) {
+            Employee employee = IEmployeeMapper.INSTANCE.employeeCreateRequestDtoToEmployee(dto);
+            employee.setRole(ERole.EMPLOYEE);
+            employee.setPassword(PasswordGenerator.generatePassword());
+            employees.add(employee);
+        }
+        saveAll(employees);
+
+        List<EmployeeCreateModel> employeeCreateModels = new ArrayList<>(employees.size());
+        List<MailCreateEmployeeModel> mailCreateEmployeeModels = new ArrayList<>(employees.size());
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            employeeCreateModels.add(IEmployeeMapper.INSTANCE.employeeToEmployeeCreateModel(employee));
+            mailCreateEmployeeModels.add(MailCreateEmployeeModel.builder()
+                    .personalEmail(dtos.get(i).getPersonalEmail())
+                    .email(employee.getEmail())
+                    .password(employee.getPassword())
+                    .build());
+        }
+        employeeCreateProducer.convertAndSendAll(employeeCreateModels);
+        mailCreateEmployeeProducer.convertAndSendAll(mailCreateEmployeeModels);
+
+        return employees;
+    }
+
     public void setAuthId(EmployeeCreateSetAuthIdModel model){
 
         Optional<Employee> optionalEmployee = repository.findOptionalByEmail(model.getEmail());
@@ -94,6 +135,7 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         update(optionalEmployee.get());
     }
 
+    @Transactional
     public String softUpdate(EmployeeUpdateRequestDto dto) {
 
         Optional<Employee> optionalEmployee = findById(dto.getId());
@@ -106,9 +148,7 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
             throw new EmployeeServiceException(ErrorType.USER_ALREADY_DELETED);
         }
 
-        if (repository.existsByEmail(dto.getEmail()) || repository.existsByPhoneNumber(dto.getPhoneNumber()) || repository.existsByIdentityNumber(dto.getIdentityNumber())) {
-            throw new EmployeeServiceException(ErrorType.PARAMETER_ALREADY_EXISTS);
-        }
+        validateUniqueFields(dto.getEmail(), dto.getPhoneNumber(), dto.getIdentityNumber(), dto.getId());
 
         if (dto.getName() != null) {
             updatedEmployee.setName(dto.getName());
@@ -153,12 +193,15 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         update(updatedEmployee);
 
         AuthUpdateModel authUpdateModel = IEmployeeMapper.INSTANCE.employeeToAuthUpdateModel(updatedEmployee);
+        //Kayıttaki şifre her güncellemede gönderilirse auth servisi şifreyi boş yere tekrar hashliyor. Şifreyi yalnızca istekte değiştirildiyse gönderiyoruz.
+        authUpdateModel.setPassword(dto.getPassword());
         authUpdateProducer.convertAndSend(authUpdateModel);
 
         return "Successfully updated.";
     }
 
 
+    @Transactional
     public String softDelete(Long id) {
 
         Optional<Employee> optionalEmployee = findById(id);
@@ -182,53 +225,44 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         return deletedEmployee.getName() + " " + deletedEmployee.getSurname() + " user named has been deleted";
     }
 
-    public List<FindAllEmployeesResponseDto> findAllEmployees() {
-        return findAll().stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
-                .map(IEmployeeMapper.INSTANCE::employeeToFindAllEmployeesResponseDto)
-                .collect(Collectors.toList());
+    /*
+     * Aktif kayıtlar id sırasına göre dönülüyor. after ve size gönderilmezse eskisi gibi bütün aktif kayıtlar tek listede dönüyor.
+     * Parametrelerden biri gönderilirse sayfa sayfa dönülüyor, filtre veritabanına gönderildiği için bütün tablo belleğe yüklenmiyor.
+     * after, bir önceki sayfanın son id değeridir. İlk sayfa için boş bırakılır.
+     */
+    public Slice<FindAllEmployeesResponseDto> findAllEmployees(Long after, Integer size) {
+        return findSliceOrAll(ACTIVE, after, size)
+                .map(IEmployeeMapper.INSTANCE::employeeToFindAllEmployeesResponseDto);
     }
 
     public FindEmployeeByIdResponseDto findEmployeeById(Long id) {
 
-        Optional<Employee> optionalEmployee = findById(id);
+        Optional<Employee> optionalEmployee = repository.findActiveById(id);
         if (optionalEmployee.isEmpty()) {
-            throw new EmployeeServiceException(ErrorType.USER_NOT_FOUND);
+            throw new EmployeeServiceException(repository.existsById(id) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalEmployee.get().getStatus() == EStatus.ACTIVE) {
-            return IEmployeeMapper.INSTANCE.employeeToFindEmployeeByIdResponseDto(optionalEmployee.get());
-        } else {
-            throw new EmployeeServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IEmployeeMapper.INSTANCE.employeeToFindEmployeeByIdResponseDto(optionalEmployee.get());
     }
 
     public FindEmployeeByIdResponseDto findEmployeeByAuthId(Long authId) {
 
-        Optional<Employee> optionalEmployee = repository.findOptionalByAuthId(authId);
+        Optional<Employee> optionalEmployee = repository.findActiveByAuthId(authId);
         if (optionalEmployee.isEmpty()) {
-            throw new EmployeeServiceException(ErrorType.USER_NOT_FOUND);
+            throw new EmployeeServiceException(repository.existsByAuthId(authId) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalEmployee.get().getStatus() == EStatus.ACTIVE) {
-            return IEmployeeMapper.INSTANCE.employeeToFindEmployeeByIdResponseDto(optionalEmployee.get());
-        } else {
-            throw new EmployeeServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IEmployeeMapper.INSTANCE.employeeToFindEmployeeByIdResponseDto(optionalEmployee.get());
     }
 
     public FindEmployeeByIdResponseDto findEmployeeByCompanyId(String companyId) {
 
-        Optional<Employee> optionalEmployee = repository.findOptionalByCompanyId(companyId);
+        Optional<Employee> optionalEmployee = repository.findActiveByCompanyId(companyId);
         if (optionalEmployee.isEmpty()) {
-            throw new EmployeeServiceException(ErrorType.USER_NOT_FOUND);
+            throw new EmployeeServiceException(repository.existsByCompanyId(companyId) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalEmployee.get().getStatus() == EStatus.ACTIVE) {
-            return IEmployeeMapper.INSTANCE.employeeToFindEmployeeByIdResponseDto(optionalEmployee.get());
-        } else {
-            throw new EmployeeServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IEmployeeMapper.INSTANCE.employeeToFindEmployeeByIdResponseDto(optionalEmployee.get());
     }
 
     public List<FindAllEmployeesResponseDto> findEmployeesByCompanyName(String companyName) {
@@ -236,10 +270,9 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         if (!repository.existsByCompanyName(companyName)){
             throw new EmployeeServiceException(ErrorType.COMPANY_NAME_NOT_FOUND);
         }
-        List<Employee> employeesList = repository.findEmployeesByCompanyName(companyName);
+        List<Employee> employeesList = repository.findActiveByCompanyName(companyName);
 
         return employeesList.stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
                 .map(IEmployeeMapper.INSTANCE::employeeToFindAllEmployeesResponseDto)
                 .collect(Collectors.toList());
     }
@@ -254,4 +287,36 @@ public class EmployeeService extends ServiceManager<Employee, Long> {
         optionalEmployee.get().setPassword(model.getPassword());
         update(optionalEmployee.get());
     }
+
+    /*
+     * Eşsiz olması gereken alanları tek bir sorguyla kontrol ediyoruz ve çakışan alanları hata ile birlikte dönüyoruz.
+     * Tek bir alan çakışıyorsa o alana ait hata tipini, birden fazla alan çakışıyorsa PARAMETER_ALREADY_EXISTS hata tipini kullanıyoruz.
+     */
+    private void validateUniqueFields(String email, String phoneNumber, String identityNumber, Long excludedId) {
+
+        List<UniqueFieldView> conflicts = repository.findUniqueFieldConflicts(email, phoneNumber, identityNumber, excludedId);
+        if (conflicts.isEmpty()) {
+            return;
+        }
+
+        List<String> fields = new ArrayList<>();
+        if (email != null && conflicts.stream().anyMatch(item -> email.equals(item.getEmail()))) {
+            fields.add("email");
+        }
+        if (phoneNumber != null && conflicts.stream().anyMatch(item -> phoneNumber.equals(item.getPhoneNumber()))) {
+            fields.add("phoneNumber");
+        }
+        if (identityNumber != null && conflicts.stream().anyMatch(item -> identityNumber.equals(item.getIdentityNumber()))) {
+            fields.add("identityNumber");
+        }
+
+        ErrorType errorType = switch (fields.size() == 1 ? fields.get(0) : "") {
+            case "email" -> ErrorType.EMAIL_ALREADY_EXISTS;
+            case "phoneNumber" -> ErrorType.PHONE_NUMBER_ALREADY_EXISTS;
+            case "identityNumber" -> ErrorType.IDENTITY_NUMBER_ALREADY_EXISTS;
+            default -> ErrorType.PARAMETER_ALREADY_EXISTS;
+        };
+        throw new EmployeeServiceException(errorType, fields);
+    }
+
 }
@@ -0,0 +1,226 @@
+package org.hrms.utility;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * Toplu içe aktarma dosyalarını(.csv ve .xlsx) belleğe yüklemeden satır satır okuyan sınıfımız.
+ * İlk dolu satır başlık satırıdır. Sütunlar sırasına göre değil başlık adına göre eşleştiriliyor, başlıklardaki büyük/küçük harf, boşluk, "_" ve "-" karakterleri dikkate alınmıyor.
+ * Böylece "phoneNumber", "Phone Number" ve "phone_number" başlıkları aynı alana karşılık geliyor.
+ * CSV dosyaları BufferedReader ile okunuyor. Başlık satırında ";" varsa ve "," yoksa ayraç olarak ";" kullanılıyor(Türkçe Excel CSV'yi bu şekilde kaydediyor).
+ * XLSX dosyaları Apache POI'nin SAX tabanlı XSSFReader'ı ile okunuyor. XSSFWorkbook bütün sayfayı belleğe aldığı için kullanılmıyor, sadece ilk sayfa okunuyor.
+ * Tarih hücreleri yyyy-MM-dd olarak, sayı hücreleri ise binlik ayraç olmadan metne çevriliyor. Başında 0 olan telefon ve kimlik numaraları Excel'de metin hücresi olarak girilmelidir.
+ */
+public class EmployeeImportReader {
+
+    public static final String CSV = ".csv";
+    public static final String XLSX = ".xlsx";
+
+    //Her veri satırı için çağrılan metot. values başlık adlarının normalize edilmiş hali ile hücre değerlerini içeriyor.
+    @FunctionalInterface
+    public interface RowHandler {
+        void row(int rowNumber, Map<String, String> values);
+    }
+
+    private EmployeeImportReader() {
+    }
+
+    public static boolean supports(String fileName) {
+        String lowerCaseName = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        return lowerCaseName.endsWith(CSV) || lowerCaseName.endsWith(XLSX);
+    }
+
+    public static void read(Path file, String fileName, RowHandler handler) throws IOException {
+        if (fileName.toLowerCase(Locale.ROOT).endsWith(XLSX)) {
+            readXlsx(file, handler);
+        } else {
+            readCsv(file, handler);
+        }
+    }
+
+    public static String normalizeHeader(String header) {
+        return header == null ? "" : header.trim().toLowerCase(Locale.ROOT).replaceAll("[\\s_\\-]", "");
+    }
+
+    private static void readCsv(Path file, RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.mark(64 * 1024);
+            String firstLine = reader.readLine();
+            if (firstLine == null) {
+                return;
+            }
+            reader.reset();
+            char delimiter = firstLine.indexOf(';') >= 0 && firstLine.indexOf(',') < 0 ? ';' : ',';
+
+            List<String> headers = null;
+            int rowNumber = 0;
+            List<String> record;
+            while ((record = readCsvRecord(reader, delimiter)) != null) {
+                rowNumber++;
+                if (isBlank(record)) {
+                    continue;
+                }
+                if (headers == null) {
+                    //Excel UTF-8 CSV dosyalarının başına BOM karakteri ekliyor.
+                    record.set(0, record.get(0).replace("\uFEFF", ""));
+                    headers = record.stream().map(EmployeeImportReader::normalizeHeader).toList();
+                    continue;
+                }
+                handler.row(rowNumber, toValues(headers, record));
+            }
+        }
+    }
+
+    //Tırnak içindeki ayraçları, "" şeklinde yazılmış tırnakları ve birden fazla satıra yayılan değerleri destekleyen basit bir CSV kaydı okuyucusu.
+    private static List<String> readCsvRecord(BufferedReader reader, char delimiter) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == delimiter) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted || (line = reader.readLine()) == null) {
+                break;
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void readXlsx(Path file, RowHandler handler) throws IOException {
+        try (OPCPackage opcPackage = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(xssfReader.getStylesTable(), null, new ReadOnlySharedStringsTable(opcPackage),
+                        new SheetRowCollector(handler), new ImportDataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Excel file could not be read: " + e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, String> toValues(List<String> headers, List<String> cells) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < headers.size() && i < cells.size(); i++) {
+            if (!headers.get(i).isEmpty()) {
+                values.put(headers.get(i), cells.get(i).trim());
+            }
+        }
+        return values;
+    }
+
+    private static boolean isBlank(List<String> cells) {
+        return cells.stream().allMatch(cell -> cell == null || cell.isBlank());
+    }
+
+    //SAX ile gelen hücreleri satır satır toplayıp RowHandler'a veren sınıf. Boş hücreler dosyada yer almadığı için sütun indeksi hücre referansından(örneğin C5) hesaplanıyor.
+    private static class SheetRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+        private List<String> headers;
+        private int nextColumn;
+
+        private SheetRowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (isBlank(cells)) {
+                return;
+            }
+            if (headers == null) {
+                headers = cells.stream().map(EmployeeImportReader::normalizeHeader).toList();
+                return;
+            }
+            handler.row(rowNum + 1, toValues(headers, cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference == null ? nextColumn : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue == null ? "" : formattedValue);
+            nextColumn = column + 1;
+        }
+
+    }
+
+    //Hücrelerde görünen biçim yerine tarihleri yyyy-MM-dd, sayıları ise binlik ayraç ve para birimi olmadan metne çeviriyoruz.
+    private static class ImportDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return NumberToTextConverter.toText(value);
+        }
+
+    }
+
+}
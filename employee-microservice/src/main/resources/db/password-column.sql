@@ -0,0 +1,3 @@
+-- auth-microservice kayıt ve şifre sıfırlama olaylarında şifrenin bcrypt hash'ini gönderiyor. Hash 60 karakter olduğu için eski 32 karakterlik sütun genişletiliyor.
+-- ddl-auto: update mevcut sütunların uzunluğunu değiştirmediği için bu komut gerekiyor. Uzunluk zaten 100 ise komut bir şey değiştirmiyor.
+ALTER TABLE tbl_employee ALTER COLUMN password TYPE varchar(100);
@@ -0,0 +1,186 @@
+package org.hrms.service;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.hrms.dto.request.EmployeeCreateRequestDto;
+import org.hrms.dto.response.EmployeeImportJobResponseDto;
+import org.hrms.dto.response.EmployeeImportRowResultDto;
+import org.hrms.exception.EmployeeServiceException;
+import org.hrms.exception.ErrorType;
+import org.hrms.repository.IEmployeeRepository;
+import org.hrms.repository.entity.Employee;
+import org.hrms.repository.enums.EImportStatus;
+import org.hrms.repository.view.UniqueFieldView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EmployeeImportServiceTest {
+
+    private static final String HEADER = "name,surname,phoneNumber,identityNumber,email,address,companyName,title,salary,photo,gender,dateOfBirth\n";
+
+    private final EmployeeService employeeService = mock(EmployeeService.class);
+    private final IEmployeeRepository repository = mock(IEmployeeRepository.class);
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final AtomicLong ids = new AtomicLong();
+    private EmployeeImportService importService;
+
+    //Dosya içindeki tekrarların chunk'lar arasında da yakalandığını görmek için chunk boyutu küçük tutuluyor.
+    @BeforeEach
+    void setUp() {
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> invocation.<List<EmployeeCreateRequestDto>>getArgument(0).stream()
+                .map(dto -> Employee.builder().id(ids.incrementAndGet()).email(dto.getEmail()).build())
+                .toList());
+        importService = new EmployeeImportService(employeeService, repository, validatorFactory.getValidator(), 2, 1, 10, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+        validatorFactory.close();
+    }
+
+    @Test
+    void importsValidRows() throws InterruptedException {
+        EmployeeImportJobResponseDto job = importAndWait(HEADER
+                + row("ayse@example.com", "05550000001", "10000000001", "15000", "female", "1990-05-17")
+                + row("mehmet@example.com", "05550000002", "10000000002", "12500,50", "MALE", "17.05.1991"));
+
+        assertThat(job.getStatus()).isEqualTo(EImportStatus.COMPLETED);
+        assertThat(job.getSucceededRows()).isEqualTo(2);
+        assertThat(job.getFailedRows()).isZero();
+        assertThat(job.getRows()).extracting(EmployeeImportRowResultDto::getRowNumber).containsExactly(2, 3);
+        assertThat(job.getRows()).allSatisfy(row -> assertThat(row.getEmployeeId()).isNotNull());
+    }
+
+    @Test
+    void reportsInvalidValuesWithErrorTypeMessages() throws InterruptedException {
+        EmployeeImportJobResponseDto job = importAndWait(HEADER
+                + row("ayse@example.com", "05550000001", "10000000001", "many", "female", "1990-05-17")
+                + row("mehmet@example.com", "05550000002", "10000000002", "12500", "unknown", "1991-05-17")
+                + row("zeynep@example.com", "05550000003", "10000000003", "12500", "FEMALE", "17/05/1992")
+                + row("not-an-email", "0555", "10000000004", "12500", "FEMALE", "1992-05-17"));
+
+        Map<Integer, EmployeeImportRowResultDto> rows = byRowNumber(job);
+        assertThat(job.getFailedRows()).isEqualTo(4);
+        assertThat(rows.get(2).getErrors()).contains(ErrorType.IMPORT_SALARY_NOT_VALID.getMessage());
+        assertThat(rows.get(3).getErrors()).anySatisfy(error -> assertThat(error).startsWith(ErrorType.IMPORT_OPTION_NOT_VALID.getMessage()).contains("gender"));
+        assertThat(rows.get(4).getErrors()).contains(ErrorType.IMPORT_DATE_NOT_VALID.getMessage());
+        assertThat(rows.get(5).getErrors()).contains("Please enter a valid email address.", "Phone number must be 11 characters.");
+    }
+
+    //İlk satır kaydediliyor, aynı değerleri tekrar eden sonraki satırlar farklı chunk'ta olsalar da hatalı sayılıyor.
+    @Test
+    void rejectsValuesRepeatedInFile() throws InterruptedException {
+        EmployeeImportJobResponseDto job = importAndWait(HEADER
+                + row("ayse@example.com", "05550000001", "10000000001", "15000", "FEMALE", "1990-05-17")
+                + row("mehmet@example.com", "05550000002", "10000000002", "15000", "MALE", "1990-05-17")
+                + row("ayse@example.com", "05550000003", "10000000003", "15000", "FEMALE", "1990-05-17")
+                + row("zeynep@example.com", "05550000002", "10000000001", "15000", "FEMALE", "1990-05-17"));
+
+        Map<Integer, EmployeeImportRowResultDto> rows = byRowNumber(job);
+        assertThat(job.getSucceededRows()).isEqualTo(2);
+        assertThat(rows.get(4).getErrors()).containsExactly(ErrorType.IMPORT_EMAIL_REPEATED.getMessage());
+        assertThat(rows.get(5).getErrors()).containsExactly(ErrorType.IMPORT_PHONE_NUMBER_REPEATED.getMessage(), ErrorType.IMPORT_IDENTITY_NUMBER_REPEATED.getMessage());
+    }
+
+    @Test
+    void rejectsValuesAlreadyInDatabase() throws InterruptedException {
+        when(repository.findUniqueFieldConflictsIn(any(), any(), any())).thenReturn(List.of(uniqueFields("ayse@example.com", "05559999999", "19999999999")));
+
+        EmployeeImportJobResponseDto job = importAndWait(HEADER
+                + row("ayse@example.com", "05550000001", "10000000001", "15000", "FEMALE", "1990-05-17")
+                + row("mehmet@example.com", "05550000002", "10000000002", "15000", "MALE", "1990-05-17"));
+
+        Map<Integer, EmployeeImportRowResultDto> rows = byRowNumber(job);
+        assertThat(rows.get(2).getErrors()).containsExactly(ErrorType.EMAIL_ALREADY_EXISTS.getMessage());
+        assertThat(rows.get(3).getSuccess()).isTrue();
+    }
+
+    //Grup kaydedilemezse satırlar tek tek kaydedilerek sadece hatalı satır işaretlenmeli.
+    @Test
+    void retriesFailedChunkRowByRow() throws InterruptedException {
+        when(employeeService.createEmployees(anyList())).thenAnswer(invocation -> {
+            List<EmployeeCreateRequestDto> dtos = invocation.getArgument(0);
+            if (dtos.stream().anyMatch(dto -> dto.getEmail().equals("mehmet@example.com"))) {
+                throw new IllegalStateException("duplicate key");
+            }
+            return dtos.stream().map(dto -> Employee.builder().id(ids.incrementAndGet()).build()).toList();
+        });
+
+        EmployeeImportJobResponseDto job = importAndWait(HEADER
+                + row("ayse@example.com", "05550000001", "10000000001", "15000", "FEMALE", "1990-05-17")
+                + row("mehmet@example.com", "05550000002", "10000000002", "15000", "MALE", "1990-05-17"));
+
+        Map<Integer, EmployeeImportRowResultDto> rows = byRowNumber(job);
+        assertThat(rows.get(2).getSuccess()).isTrue();
+        assertThat(rows.get(3).getErrors()).containsExactly(ErrorType.IMPORT_ROW_NOT_SAVED.getMessage() + " duplicate key");
+    }
+
+    @Test
+    void rejectsUnsupportedFiles() {
+        MockMultipartFile file = new MockMultipartFile("file", "employees.txt", "text/plain", "name".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> importService.submit(file))
+                .isInstanceOf(EmployeeServiceException.class)
+                .hasMessage(ErrorType.IMPORT_FILE_NOT_SUPPORTED.getMessage());
+    }
+
+    private EmployeeImportJobResponseDto importAndWait(String csv) throws InterruptedException {
+        MockMultipartFile file = new MockMultipartFile("file", "employees.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+        String jobId = importService.submit(file).getJobId();
+        long deadline = System.currentTimeMillis() + 10_000;
+        EmployeeImportJobResponseDto job = importService.findImportJob(jobId, null, null);
+        while (job.getStatus() != EImportStatus.COMPLETED && job.getStatus() != EImportStatus.FAILED) {
+            assertThat(System.currentTimeMillis()).as("import job finished in time").isLessThan(deadline);
+            Thread.sleep(10);
+            job = importService.findImportJob(jobId, null, null);
+        }
+        return job;
+    }
+
+    private static Map<Integer, EmployeeImportRowResultDto> byRowNumber(EmployeeImportJobResponseDto job) {
+        return job.getRows().stream().collect(Collectors.toMap(EmployeeImportRowResultDto::getRowNumber, Function.identity()));
+    }
+
+    private static String row(String email, String phoneNumber, String identityNumber, String salary, String gender, String dateOfBirth) {
+        return String.join(",", "Ayşe", "Yılmaz", phoneNumber, identityNumber, email, "Kadıköy İstanbul", "Acme", "Developer",
+                "\"" + salary + "\"", "photo.png", gender, dateOfBirth) + "\n";
+    }
+
+    private static UniqueFieldView uniqueFields(String email, String phoneNumber, String identityNumber) {
+        return new UniqueFieldView() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getPhoneNumber() {
+                return phoneNumber;
+            }
+
+            @Override
+            public String getIdentityNumber() {
+                return identityNumber;
+            }
+        };
+    }
+
+}
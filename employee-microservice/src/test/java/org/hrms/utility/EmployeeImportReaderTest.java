@@ -0,0 +1,138 @@
+package org.hrms.utility;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeImportReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void supportsOnlyCsvAndXlsxFiles() {
+        assertThat(EmployeeImportReader.supports("employees.csv")).isTrue();
+        assertThat(EmployeeImportReader.supports("EMPLOYEES.XLSX")).isTrue();
+        assertThat(EmployeeImportReader.supports("employees.xls")).isFalse();
+        assertThat(EmployeeImportReader.supports(null)).isFalse();
+    }
+
+    @Test
+    void normalizesHeaders() {
+        assertThat(EmployeeImportReader.normalizeHeader(" Phone Number ")).isEqualTo("phonenumber");
+        assertThat(EmployeeImportReader.normalizeHeader("phone_number")).isEqualTo("phonenumber");
+        assertThat(EmployeeImportReader.normalizeHeader("date-of-birth")).isEqualTo("dateofbirth");
+    }
+
+    //Boş satırlar atlanıyor ama satır numaraları Excel'de görünen numaralarla aynı kalsın diye sayılıyor.
+    @Test
+    void readsCsvRowsByHeaderName() throws IOException {
+        Map<Integer, Map<String, String>> rows = readCsv("""
+                Name,Phone Number,email
+                Ayşe, 05551234567 ,ayse@example.com
+
+                Mehmet,05557654321,mehmet@example.com
+                """);
+
+        assertThat(rows).containsOnlyKeys(2, 4);
+        assertThat(rows.get(2)).containsEntry("name", "Ayşe").containsEntry("phonenumber", "05551234567").containsEntry("email", "ayse@example.com");
+        assertThat(rows.get(4)).containsEntry("name", "Mehmet");
+    }
+
+    //Türkçe Excel CSV dosyasını ";" ayracı ve başında BOM karakteri ile kaydediyor.
+    @Test
+    void readsSemicolonCsvWithByteOrderMark() throws IOException {
+        Map<Integer, Map<String, String>> rows = readCsv("\uFEFFname;salary\nAyşe;1500,50\n");
+
+        assertThat(rows.get(2)).containsEntry("name", "Ayşe").containsEntry("salary", "1500,50");
+    }
+
+    //Birden fazla satıra yayılan değer Excel'de tek satır göründüğü için satır numarası kayıt sayısına göre veriliyor.
+    @Test
+    void readsQuotedCsvFields() throws IOException {
+        Map<Integer, Map<String, String>> rows = readCsv("""
+                name,address,title
+                Ayşe,"Atatürk Cad. No:5, Kadıköy
+                İstanbul","Senior ""Java"" Developer"
+                Mehmet,Ankara,Developer
+                """);
+
+        assertThat(rows).containsOnlyKeys(2, 3);
+        assertThat(rows.get(2)).containsEntry("address", "Atatürk Cad. No:5, Kadıköy\nİstanbul").containsEntry("title", "Senior \"Java\" Developer");
+    }
+
+    //Telefon numarası metin hücresi olarak girildiği için baştaki 0 korunmalı, tarih ve sayı hücreleri görünen biçimden bağımsız okunmalı.
+    @Test
+    void readsXlsxCells() throws IOException {
+        Path file = tempDir.resolve("employees.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream outputStream = Files.newOutputStream(file)) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("dd.MM.yyyy"));
+            CellStyle moneyStyle = workbook.createCellStyle();
+            moneyStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0.00 ₺"));
+
+            XSSFSheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("Name");
+            header.createCell(1).setCellValue("Phone Number");
+            header.createCell(2).setCellValue("Salary");
+            header.createCell(3).setCellValue("Date Of Birth");
+
+            Row row = sheet.createRow(2);
+            row.createCell(0).setCellValue("Ayşe");
+            row.createCell(1).setCellValue("05551234567");
+            row.createCell(2).setCellValue(12500.5);
+            row.getCell(2).setCellStyle(moneyStyle);
+            row.createCell(3).setCellValue(LocalDate.of(1990, 5, 17));
+            row.getCell(3).setCellStyle(dateStyle);
+
+            //Boş hücreler dosyaya yazılmıyor, değerler yine de doğru sütuna yerleşmeli.
+            Row sparseRow = sheet.createRow(3);
+            sparseRow.createCell(0).setCellValue("Mehmet");
+            sparseRow.createCell(2).setCellValue(9000);
+            workbook.write(outputStream);
+        }
+
+        Map<Integer, Map<String, String>> rows = read(file, "employees.xlsx");
+
+        assertThat(rows).containsOnlyKeys(3, 4);
+        assertThat(rows.get(3)).containsEntry("name", "Ayşe").containsEntry("phonenumber", "05551234567")
+                .containsEntry("salary", "12500.5").containsEntry("dateofbirth", "1990-05-17");
+        assertThat(rows.get(4)).containsEntry("name", "Mehmet").containsEntry("phonenumber", "").containsEntry("salary", "9000")
+                .doesNotContainKey("dateofbirth");
+    }
+
+    private Map<Integer, Map<String, String>> readCsv(String content) throws IOException {
+        Path file = tempDir.resolve("employees.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return read(file, "employees.csv");
+    }
+
+    private static Map<Integer, Map<String, String>> read(Path file, String fileName) throws IOException {
+        Map<Integer, Map<String, String>> rows = new LinkedHashMap<>();
+        List<Integer> order = new ArrayList<>();
+        EmployeeImportReader.read(file, fileName, (rowNumber, values) -> {
+            order.add(rowNumber);
+            rows.put(rowNumber, values);
+        });
+        assertThat(order).isSorted();
+        return rows;
+    }
+
+}
@@ -5,6 +5,7 @@ import org.hrms.dto.request.GuestUpdateRequestDto;
 import org.hrms.dto.response.FindAllGuestsResponseDto;
 import org.hrms.dto.response.FindGuestByIdResponseDto;
 import org.hrms.service.GuestService;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
@@ -67,9 +68,16 @@ public class GuestController {
         return ResponseEntity.ok(guestService.softDelete(id));
     }
 
+    //after ve size gönderilmezse bütün aktif kayıtlar dönülüyor. Gönderilirse sonraki sayfanın after değeri X-Next-Cursor başlığında gönderiliyor, başlık yoksa son sayfaya gelinmiştir.
     @GetMapping(FIND_ALL)
-    public ResponseEntity<List<FindAllGuestsResponseDto>> findAllGuests(){
-        return ResponseEntity.ok(guestService.findAllGuests());
+    public ResponseEntity<List<FindAllGuestsResponseDto>> findAllGuests(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer size){
+        Slice<FindAllGuestsResponseDto> guestPage = guestService.findAllGuests(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (guestPage.hasNext()) {
+            List<FindAllGuestsResponseDto> content = guestPage.getContent();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(content.get(content.size() - 1).getId()));
+        }
+        return response.body(guestPage.getContent());
     }
 
     @GetMapping(FIND_BY_ID)
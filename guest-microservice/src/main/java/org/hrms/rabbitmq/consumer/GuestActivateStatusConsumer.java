@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.ActivateStatusModel;
 import org.hrms.service.GuestService;
@@ -18,7 +19,7 @@ public class GuestActivateStatusConsumer {
 
     private final GuestService guestService;
 
-    @RabbitListener(queues = "${rabbitmq.guest-activate-status-queue}")
+    @RabbitListener(queues = EventQueues.GUEST_ACTIVATE_STATUS)
     public void activateStatusFromQueue(ActivateStatusModel activateStatusModel){
         guestService.activeStatus(activateStatusModel.getAuthId());
     }
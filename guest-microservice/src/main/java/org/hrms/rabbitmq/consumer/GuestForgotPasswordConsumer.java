@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.exception.ErrorType;
 import org.hrms.exception.GuestServiceException;
@@ -26,10 +27,10 @@ public class GuestForgotPasswordConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.guest-forgot-password-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.GUEST_FORGOT_PASSWORD) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.guest-forgot-password-queue}")
+    @RabbitListener(queues = EventQueues.GUEST_FORGOT_PASSWORD)
     public void updatePasswordFromQueue(AuthForgotPasswordModel model){
         guestService.updatePassword(model);
     }
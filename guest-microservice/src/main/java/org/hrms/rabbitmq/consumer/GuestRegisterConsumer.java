@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.GuestRegisterModel;
 import org.hrms.repository.entity.Guest;
@@ -23,10 +24,10 @@ public class GuestRegisterConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.guest-register-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.GUEST_REGISTER) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.guest-register-queue}")
+    @RabbitListener(queues = EventQueues.GUEST_REGISTER)
     public void createGuestFromQueue(GuestRegisterModel model){
         Guest guest = Guest.builder()
                 .authId(model.getAuthId())
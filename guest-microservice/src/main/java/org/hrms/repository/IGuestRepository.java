@@ -1,7 +1,8 @@
 package org.hrms.repository;
 
 import org.hrms.repository.entity.Guest;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,10 +19,18 @@ import java.util.Optional;
  * Aşağıda yazılan metotlarda JpaRepository anlayacak şekilde doğru bir biçimde metot isimlendirilirse JpaRepository metot ismine göre veritabanında arama yaparak geriye istenilen değeri dönebilir.
  */
 @Repository
-public interface IGuestRepository extends JpaRepository<Guest,Long> {
+public interface IGuestRepository extends ISoftDeleteRepository<Guest,Long> {
 
     Boolean existsByEmail(String email);  //Parametre olarak girilen emailin veritabanında olup olmadığını kontrol ediyoruz.
     Boolean existsByPhoneNumber(String phoneNumber); //Parametre olarak girilen telefon numarasının veritabanında olup olmadığını kontrol ediyoruz.
+    Boolean existsByAuthId(Long authId); //Parametre olarak girilen authId veritabanında olup olmadığını kontrol ediyoruz.
     Optional<Guest> findOptionalByAuthId(Long authId); //Parametre olarak girilen authId'ye göre veritabanını kontrol edip geriye optional olarak bir Guest dönüyor.
 
+    /*
+     * Aşağıdaki sorgular sadece aktif(ACTIVE) kayıtları dönüyor. Status değeri sabit olarak yazıldığı için sorgular db/active-indexes.sql içindeki koşullu indeksleri kullanıyor.
+     * Kayıt bulunamazsa kaydın hiç olmadığını mı yoksa aktif olmadığını mı ayırt etmek için servis katmanında exists sorgusu kullanılıyor.
+     */
+    @Query("select g from Guest g where g.authId = :authId and g.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    Optional<Guest> findActiveByAuthId(@Param("authId") Long authId);
+
 }
@@ -3,7 +3,12 @@ package org.hrms.repository.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.hrms.repository.enums.*;
+import org.hrms.utility.PooledSequenceGenerator;
 
 /*
  * @EqualsAndHashCode sınıfın üst sınıfının(superclass) alanlarını da dahil ederek equals() ve hashCode() metotlarını otomatik olarak oluşturan bir anotasyondur.
@@ -28,19 +33,23 @@ import org.hrms.repository.enums.*;
  *
  * @Table anotasyonu JPA (Java Persistence API) entegrasyonu ile kullanılan bir Java anotasyonudur ve postgre veritabanı tablolarıyla eşleştirmek için kullanılır ve sınıfın hangi veritabanı tablosuna karşılık geldiğini belirtir.
  * name = "tbl_guest" diyerek veritabanında tbl_guest adında bir tablo oluşturur ve sınıfın verilerini o tabloya kaydeder ve bu tablodan veri çeker.
+ *
+ * @DynamicUpdate: UPDATE sorgusunda sadece değişen kolonlar yer alır, değişmeyen kolonlar veritabanına tekrar gönderilmez.
  */
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Entity
+@DynamicUpdate
 @SuperBuilder
 @Table(name = "tbl_guest")
 public class Guest extends BaseEntity{
 
-    //Bu iki anotasyonu kullanarak kullanıcıların veritabanı tarafından yönetilen otomatik artan eşsiz bir kimliğe sahip olmasını sağlıyoruz.
+    //Id değerleri tbl_guest_seq sequence'inden PooledSequenceGenerator ile blok blok alınıyor, böylece toplu kayıtlar JDBC batch ile tek seferde gönderilebiliyor.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "guest_id")
+    @GenericGenerator(name = "guest_id", type = PooledSequenceGenerator.class, parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tbl_guest_seq"))
     private Long id;
 
     @Column(unique = true)
@@ -64,7 +73,8 @@ public class Guest extends BaseEntity{
     @Column(nullable = false, length = 40)
     private String surname;
 
-    @Column(nullable = false, length = 32)
+    //auth-microservice şifreyi bcrypt hash'i olarak gönderiyor. Hash 60 karakter olduğu için sütun Auth'taki gibi 100 karakter.
+    @Column(nullable = false, length = 100)
     private String password;
 
     /*
@@ -12,14 +12,16 @@ import org.hrms.rabbitmq.model.AuthUpdateModel;
 import org.hrms.rabbitmq.producer.AuthDeleteProducer;
 import org.hrms.rabbitmq.producer.AuthUpdateProducer;
 import org.hrms.repository.IGuestRepository;
+import org.hrms.repository.ISoftDeleteRepository;
 import org.hrms.repository.entity.Guest;
 import org.hrms.repository.enums.EStatus;
 import org.hrms.utility.ServiceManager;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /*
  * @Service annotasyonu, Spring Framework'te servis sınıflarını işaretlemek için kullanılan bir anotasyondur.
@@ -32,17 +34,20 @@ import java.util.stream.Collectors;
 @Service
 public class GuestService extends ServiceManager<Guest, Long> {
 
+    private static final Specification<Guest> ACTIVE = ISoftDeleteRepository.active();
+
     private final IGuestRepository repository;
     private final AuthUpdateProducer authUpdateProducer;
     private final AuthDeleteProducer authDeleteProducer;
 
-    public GuestService(JpaRepository<Guest, Long> jpaRepository, IGuestRepository repository, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer) {
-        super(jpaRepository);
+    public GuestService(IGuestRepository repository, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer) {
+        super(repository);
         this.repository = repository;
         this.authUpdateProducer = authUpdateProducer;
         this.authDeleteProducer = authDeleteProducer;
     }
 
+    @Transactional
     public String softUpdate(GuestUpdateRequestDto dto) {
 
         Optional<Guest> optionalGuest = findById(dto.getId());
@@ -81,6 +86,8 @@ public class GuestService extends ServiceManager<Guest, Long> {
         update(updatedGuest);
 
         AuthUpdateModel authUpdateModel = IGuestMapper.INSTANCE.guestToAuthUpdateModel(updatedGuest);
+        //Misafir şifresini değiştirmediyse auth servisine şifre göndermiyoruz, böylece şifre gereksiz yere tekrar hashlenmiyor.
+        authUpdateModel.setPassword(dto.getPassword());
 //       AuthUpdateModel authUpdateModel = AuthUpdateModel.builder()
 //              .authId(updatedGuest.getAuthId())
 //              .name(updatedGuest.getName())
@@ -95,6 +102,7 @@ public class GuestService extends ServiceManager<Guest, Long> {
         return "Successfully updated.";
     }
 
+    @Transactional
     public String softDelete(Long id) {
 
         Optional<Guest> optionalGuest = findById(id);
@@ -119,39 +127,34 @@ public class GuestService extends ServiceManager<Guest, Long> {
 
     }
 
-    public List<FindAllGuestsResponseDto> findAllGuests() {
-        return findAll().stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
-                .map(IGuestMapper.INSTANCE::guestToFindAllGuestsResponseDto)
-                .collect(Collectors.toList());
+    /*
+     * Aktif kayıtlar id sırasına göre dönülüyor. after ve size gönderilmezse eskisi gibi bütün aktif kayıtlar tek listede dönüyor.
+     * Parametrelerden biri gönderilirse sayfa sayfa dönülüyor, filtre veritabanına gönderildiği için bütün tablo belleğe yüklenmiyor.
+     * after, bir önceki sayfanın son id değeridir. İlk sayfa için boş bırakılır.
+     */
+    public Slice<FindAllGuestsResponseDto> findAllGuests(Long after, Integer size) {
+        return findSliceOrAll(ACTIVE, after, size)
+                .map(IGuestMapper.INSTANCE::guestToFindAllGuestsResponseDto);
     }
 
     public FindGuestByIdResponseDto findGuestById(Long id) {
 
-        Optional<Guest> optionalGuest = findById(id);
+        Optional<Guest> optionalGuest = repository.findActiveById(id);
         if (optionalGuest.isEmpty()) {
-            throw new GuestServiceException(ErrorType.USER_NOT_FOUND);
+            throw new GuestServiceException(repository.existsById(id) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalGuest.get().getStatus() == EStatus.ACTIVE) {
-            return IGuestMapper.INSTANCE.guestToFindGuestByIdResponseDto(optionalGuest.get());
-        } else {
-            throw new GuestServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IGuestMapper.INSTANCE.guestToFindGuestByIdResponseDto(optionalGuest.get());
     }
 
     public FindGuestByIdResponseDto findGuestByAuthId(Long authId) {
 
-        Optional<Guest> optionalGuest = repository.findOptionalByAuthId(authId);
+        Optional<Guest> optionalGuest = repository.findActiveByAuthId(authId);
         if (optionalGuest.isEmpty()) {
-            throw new GuestServiceException(ErrorType.USER_NOT_FOUND);
+            throw new GuestServiceException(repository.existsByAuthId(authId) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalGuest.get().getStatus() == EStatus.ACTIVE) {
-            return IGuestMapper.INSTANCE.guestToFindGuestByIdResponseDto(optionalGuest.get());
-        } else {
-            throw new GuestServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IGuestMapper.INSTANCE.guestToFindGuestByIdResponseDto(optionalGuest.get());
     }
 
     public void activeStatus(Long authId) {
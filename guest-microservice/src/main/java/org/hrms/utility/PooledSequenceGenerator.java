@@ -0,0 +1,34 @@
+package org.hrms.utility;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/*
+ * Entity id değerlerini veritabanı sequence'inden blok blok(pooled-lo) alan id üretecimiz.
+ * GenerationType.IDENTITY kullanıldığında id değeri ancak INSERT çalıştıktan sonra öğrenilebildiği için Hibernate her kaydı ayrı ayrı ve hemen veritabanına gönderiyor, JDBC batch devre dışı kalıyor.
+ * Sequence ile id değeri INSERT'ten önce bilindiği için saveAll ile kaydedilen kayıtlar hibernate.jdbc.batch_size büyüklüğünde gruplar halinde gönderilebiliyor.
+ * pooled-lo optimizer'ı sequence'den okunan değeri bloğun ilk id değeri olarak kullanıyor ve sonraki allocation_size kadar id'yi veritabanına gitmeden bellekten veriyor.
+ * Blok büyüklüğü yml dosyasındaki spring.jpa.properties.hrms.id.allocation_size değerinden okunuyor. Değer değiştirilirse sequence'in INCREMENT BY değeri de aynı değere çekilmelidir.
+ */
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+
+    public static final String ALLOCATION_SIZE_SETTING = "hrms.id.allocation_size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        Integer allocationSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(ALLOCATION_SIZE_SETTING, StandardConverters.INTEGER, DEFAULT_ALLOCATION_SIZE);
+        parameters.putIfAbsent(INCREMENT_PARAM, String.valueOf(allocationSize));
+        parameters.putIfAbsent(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+}
@@ -1,9 +1,23 @@
 package org.hrms.utility;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hrms.repository.entity.BaseEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /*
  * ServiceManager sınıfımızı bir servis yöneticisi olarak kullanıyoruz. Bu sınıf, T ve ID olmak üzere iki generic tip parametresi alır.
@@ -11,13 +25,30 @@ import java.util.Optional;
  * IService interface'ini implement ediyoruz ve bu interface genellikle bir entity sınıfı için CRUD işlemlerini (Create, Read, Update, Delete) tanımlayan bir interfacedir.
  * Override ettiğimiz metotları ilgili entityler için düzenliyoruz ve bu şekilde generic bir yapı oluşturarak yaptığımız servis yöneticisini istediğimiz entity ve id için kullanabiliyoruz.
  * Daha sonra aynı isimli yazdığımız metotlar olan jpaRepository içindeki ilgili metotlara parametremizi gönderiyoruz.
+ * Çok kayıt dönen okumalar için findAll() yerine findPage, findSlice ve stream metotları kullanılmalıdır, bu metotlarda filtre Specification ile veritabanına gönderiliyor.
+ * Bu yüzden repository interface'inin JpaRepository ile birlikte JpaSpecificationExecutor'dan da miras alması gerekiyor.
+ * findSlice, OFFSET yerine bir önceki dilimin son id değerinden(cursor) sonrasını id sırasıyla getiriyor. Bu sayede tablo büyüdükçe sonraki sayfalar yavaşlamıyor.
+ * projection parametresi alan metotlar entity yerine verilen interface(örneğin repository.view paketindeki sınıflar) ya da DTO tipinde sonuç dönüyor.
+ * update metodu entity bu transaction içinde okunmuşsa(persistence context'te ise) save çağırmıyor. save bu durumda merge için gereksiz bir SELECT çalıştırabiliyor,
+ * yapılan değişiklikler zaten transaction sonunda Hibernate'in dirty checking'i ile veritabanına yazılıyor. Entity'lerdeki @DynamicUpdate sayesinde UPDATE sadece değişen kolonları içeriyor.
+ * Hiçbir alan değişmediyse updatedDate de değiştirilmiyor ve veritabanına hiç UPDATE gönderilmiyor. Transaction dışında okunan(detached) entity'ler eskisi gibi save ile merge ediliyor.
  */
 public class ServiceManager<T extends BaseEntity,ID> implements IService<T,ID> {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String ID_ATTRIBUTE = "id";
+
     private final JpaRepository<T,ID> jpaRepository;
+    private final JpaSpecificationExecutor<T> specificationExecutor;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
-    public ServiceManager(JpaRepository<T, ID> jpaRepository) {
+    public <R extends JpaRepository<T, ID> & JpaSpecificationExecutor<T>> ServiceManager(R jpaRepository) {
         this.jpaRepository = jpaRepository;
+        this.specificationExecutor = jpaRepository;
     }
 
     @Override
@@ -40,8 +71,14 @@ public class ServiceManager<T extends BaseEntity,ID> implements IService<T,ID> {
 
     @Override
     public T update(T t) {
-        t.setUpdatedDate(System.currentTimeMillis());
-        return jpaRepository.save(t);
+        if (!entityManager.contains(t)) {
+            t.setUpdatedDate(System.currentTimeMillis());
+            return jpaRepository.save(t);
+        }
+        if (isDirty(t)) {
+            t.setUpdatedDate(System.currentTimeMillis());
+        }
+        return t;
     }
 
     @Override
@@ -64,4 +101,104 @@ public class ServiceManager<T extends BaseEntity,ID> implements IService<T,ID> {
         return jpaRepository.findAll();
     }
 
+    @Override
+    public Page<T> findPage(Pageable pageable) {
+        return jpaRepository.findAll(pageable);
+    }
+
+    @Override
+    public Page<T> findPage(Specification<T> specification, Pageable pageable) {
+        return specificationExecutor.findAll(specification, pageable);
+    }
+
+    @Override
+    public <P> Page<P> findPage(Specification<T> specification, Pageable pageable, Class<P> projection) {
+        return specificationExecutor.findBy(orAll(specification), query -> query.as(projection).page(pageable));
+    }
+
+    //Sayfalı istekte findSlice ile tek sayfa, sayfasız istekte bütün kayıtlar id sırasıyla ve hasNext değeri false olan tek bir dilim olarak dönüyor.
+    @Override
+    public Slice<T> findSliceOrAll(Specification<T> specification, ID cursor, Integer size) {
+        if (!isPaged(cursor, size)) {
+            return new SliceImpl<>(specificationExecutor.findAll(orAll(specification), Sort.by(ID_ATTRIBUTE)));
+        }
+        return findSlice(specification, cursor, resolvePageSize(size));
+    }
+
+    @Override
+    public Slice<T> findSlice(ID cursor, int size) {
+        return findSlice(null, cursor, size);
+    }
+
+    //size + 1 kayıt istiyoruz, fazladan gelen kayıt varsa bir sonraki dilim de vardır(hasNext).
+    @Override
+    public Slice<T> findSlice(Specification<T> specification, ID cursor, int size) {
+        return toSlice(specificationExecutor.findBy(after(specification, cursor),
+                query -> query.sortBy(Sort.by(ID_ATTRIBUTE)).limit(size + 1).all()), size);
+    }
+
+    @Override
+    public <P> Slice<P> findSlice(Specification<T> specification, ID cursor, int size, Class<P> projection) {
+        return toSlice(specificationExecutor.findBy(after(specification, cursor),
+                query -> query.as(projection).sortBy(Sort.by(ID_ATTRIBUTE)).limit(size + 1).all()), size);
+    }
+
+    /*
+     * Kayıtlar veritabanı imleci(cursor) üzerinden hibernate.jdbc.fetch_size kadar parça parça okunuyor, bu yüzden metot @Transactional(readOnly = true) içinde çağrılmalı
+     * ve dönen Stream try-with-resources ile kapatılmalıdır. PostgreSQL transaction dışında fetch size değerini dikkate almıyor ve bütün sonucu belleğe alıyor.
+     */
+    @Override
+    public Stream<T> stream(Specification<T> specification) {
+        return specificationExecutor.findBy(orAll(specification), query -> query.stream());
+    }
+
+    @Override
+    public <P> Stream<P> stream(Specification<T> specification, Class<P> projection) {
+        return specificationExecutor.findBy(orAll(specification), query -> query.as(projection).stream());
+    }
+
+    @Override
+    public long count(Specification<T> specification) {
+        return specificationExecutor.count(specification);
+    }
+
+    //Entity'nin şu anki değerlerini persistence context'in okunduğu andaki kopyasıyla(loaded state) karşılaştırıyoruz. Flush sırasında Hibernate de aynı karşılaştırmayı yapıyor.
+    private boolean isDirty(T t) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityEntry entry = session.getPersistenceContextInternal().getEntry(t);
+        if (entry == null || entry.getLoadedState() == null) {
+            return true;
+        }
+        EntityPersister persister = entry.getPersister();
+        return persister.findDirty(persister.getPropertyValues(t), entry.getLoadedState(), t, session) != null;
+    }
+
+    //after ve size gönderilmeyen listeleme isteklerinde eski davranış(bütün kayıtlar tek seferde) korunuyor. Biri gönderilirse istek sayfalı kabul ediliyor.
+    public static boolean isPaged(Object after, Integer size) {
+        return after != null || size != null;
+    }
+
+    //Sayfa boyutu gönderilmezse DEFAULT_PAGE_SIZE kullanılıyor, en fazla MAX_PAGE_SIZE olabiliyor.
+    public static int resolvePageSize(Integer size) {
+        return size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    private Specification<T> orAll(Specification<T> specification) {
+        return specification == null ? (root, query, criteriaBuilder) -> null : specification;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Specification<T> after(Specification<T> specification, ID cursor) {
+        if (cursor == null) {
+            return orAll(specification);
+        }
+        Specification<T> afterCursor = (root, query, criteriaBuilder) -> criteriaBuilder.greaterThan(root.<Comparable>get(ID_ATTRIBUTE), (Comparable) cursor);
+        return specification == null ? afterCursor : specification.and(afterCursor);
+    }
+
+    private static <R> Slice<R> toSlice(List<R> content, int size) {
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, PageRequest.ofSize(size), hasNext);
+    }
+
 }
@@ -0,0 +1,7 @@
+-- Sadece aktif(ACTIVE) kayıtları içeren koşullu(partial) indeksler.
+-- Silinmiş ve onay bekleyen kayıtlar indekse girmediği için indeksler küçük kalıyor ve ISoftDeleteRepository sorguları sadece canlı kayıtlara dokunuyor.
+-- Tablolar Hibernate(ddl-auto: update) tarafından oluşturulduktan sonra spring.sql.init ile çalıştırılıyor, IF NOT EXISTS sayesinde her açılışta tekrar çalışabiliyor.
+
+CREATE INDEX IF NOT EXISTS idx_guest_active_auth_id ON tbl_guest (auth_id) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_guest_active_email ON tbl_guest (email) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_guest_active_id ON tbl_guest (id) WHERE status = 'ACTIVE';
@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.MailCreateEmployeeModel;
 import org.hrms.service.MailService;
@@ -21,10 +22,10 @@ public class MailCreateEmployeeConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.mail-create-employee-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.MAIL_CREATE_EMPLOYEE) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.mail-create-employee-queue}")
+    @RabbitListener(queues = EventQueues.MAIL_CREATE_EMPLOYEE)
     public void sendMailCreateEmployee(MailCreateEmployeeModel mailCreateEmployeeModel){
         mailService.sendMailCreateEmployee(mailCreateEmployeeModel);
     }
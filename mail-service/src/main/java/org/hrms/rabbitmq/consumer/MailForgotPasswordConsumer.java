@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.MailForgotPasswordModel;
 import org.hrms.service.MailService;
@@ -21,10 +22,10 @@ public class MailForgotPasswordConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.mail-forgot-password-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.MAIL_FORGOT_PASSWORD) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.mail-forgot-password-queue}")
+    @RabbitListener(queues = EventQueues.MAIL_FORGOT_PASSWORD)
     public void sendMailForgotPassword(MailForgotPasswordModel mailForgotPasswordModel){
         mailService.sendMailForgotPassword(mailForgotPasswordModel);
     }
@@ -5,6 +5,7 @@ import org.hrms.dto.request.ManagerUpdateRequestDto;
 import org.hrms.dto.response.FindAllManagersResponseDto;
 import org.hrms.dto.response.FindManagerByIdResponseDto;
 import org.hrms.service.ManagerService;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -69,9 +70,16 @@ public class ManagerController {
         return ResponseEntity.ok(managerService.softDelete(id));
     }
 
+    //after ve size gönderilmezse bütün aktif kayıtlar dönülüyor. Gönderilirse sonraki sayfanın after değeri X-Next-Cursor başlığında gönderiliyor, başlık yoksa son sayfaya gelinmiştir.
     @GetMapping(FIND_ALL)
-    public ResponseEntity<List<FindAllManagersResponseDto>> findAllManagers(){
-        return ResponseEntity.ok(managerService.findAllManagers());
+    public ResponseEntity<List<FindAllManagersResponseDto>> findAllManagers(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer size){
+        Slice<FindAllManagersResponseDto> managerPage = managerService.findAllManagers(after, size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (managerPage.hasNext()) {
+            List<FindAllManagersResponseDto> content = managerPage.getContent();
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(content.get(content.size() - 1).getId()));
+        }
+        return response.body(managerPage.getContent());
     }
 
     @GetMapping(FIND_BY_ID)
@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.CompanyRegisterModel;
 import org.hrms.repository.entity.Manager;
@@ -20,7 +21,7 @@ public class CompanyRegisterConsumer {
 
     private final ManagerService managerService;
 
-    @RabbitListener(queues = "${rabbitmq.company-register-queue}")
+    @RabbitListener(queues = EventQueues.COMPANY_REGISTER)
     public void createCompanyManagerFromQueue(CompanyRegisterModel model){
         Manager manager = Manager.builder()
                 .authId(model.getAuthId())
@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.ActivateStatusModel;
 import org.hrms.service.ManagerService;
@@ -18,7 +19,7 @@ public class ManagerActivateStatusConsumer {
 
     private final ManagerService managerService;
 
-    @RabbitListener(queues = "${rabbitmq.manager-activate-status-queue}")
+    @RabbitListener(queues = EventQueues.MANAGER_ACTIVATE_STATUS)
     public void activateStatusFromQueue(ActivateStatusModel activateStatusModel){
         managerService.activeStatus(activateStatusModel.getAuthId());
     }
@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.ManagerSetCompanyIdModel;
 import org.hrms.service.ManagerService;
@@ -21,10 +22,10 @@ public class ManagerSetCompanyIdConsumer {
     /*
      * @RabbitListener anotasyonu RabbitMQ mesaj kuyruklarından mesajları dinlemek için kullanılır.
      * Bu anotasyonla birlikte Bir RabbitMQ kuyruğu dinleyen mesaj alıcı(consumer) oluşturuyoruz.
-     * (queues = "${rabbitmq.manager-set-company-id-queue}") şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
+     * (queues = EventQueues.MANAGER_SET_COMPANY_ID) şeklinde queues içine parametre olarak girilen bütün kuyruklar dinleniyor.
      * Bu kuyruğa gelen her mesajda aşağıdaki metoda iletiliyor.
      */
-    @RabbitListener(queues = "${rabbitmq.manager-set-company-id-queue}")
+    @RabbitListener(queues = EventQueues.MANAGER_SET_COMPANY_ID)
     public void setCompanyIdFromQueue(ManagerSetCompanyIdModel  model){
         managerService.setCompanyId(model);
     }
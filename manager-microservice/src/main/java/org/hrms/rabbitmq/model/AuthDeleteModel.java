@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hrms.messaging.SchemaVersion;
+import org.hrms.messaging.PartitionKey;
 import org.hrms.repository.enums.EStatus;
 
 import java.io.Serializable;
@@ -23,12 +25,16 @@ import java.io.Serializable;
  * Model sınıflarını hem mesajı gönderen mikcoservice'te hem de mesajı alacak microservice'te aynı isimli sınıf olarak bulunması gerekiyor.
  * Model sınıflarının iki microservice'te de package ismine kadar aynı olacak şekilde bulunmaları gerekiyor.
  * Jackson2JsonMessageConverter yöntemini kullansaydık model sınıflarını Serializable interface'inden implement etmeye gerek kalmayacaktı.
+ *
+ * @PartitionKey ile işaretlenen authId değerine göre olay partition kuyruklarından birine gönderiliyor, böylece aynı kullanıcının olayları sırasıyla işleniyor.
  */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@SchemaVersion(1)
 public class AuthDeleteModel implements Serializable {
+    @PartitionKey
     private Long authId;
     private EStatus status;
 }
@@ -1,6 +1,7 @@
 package org.hrms.rabbitmq.model;
 
 import lombok.*;
+import org.hrms.messaging.SchemaVersion;
 
 import java.io.Serializable;
 
@@ -24,6 +25,7 @@ import java.io.Serializable;
 @AllArgsConstructor
 @Data
 @Builder
+@SchemaVersion(1)
 public class CompanySetManagerIdModel implements Serializable {
     private Long managerId;
     private String companyName;
@@ -1,8 +1,8 @@
 package org.hrms.rabbitmq.producer;
 
+import org.hrms.messaging.EventPublisher;
+import org.hrms.messaging.EventType;
 import org.hrms.rabbitmq.model.CompanySetManagerIdModel;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 /*
@@ -12,27 +12,19 @@ import org.springframework.stereotype.Service;
 @Service
 public class CompanySetManagerIdProducer {
 
-    private final RabbitTemplate rabbitTemplate;
+    private final EventPublisher eventPublisher;
 
-    public CompanySetManagerIdProducer(RabbitTemplate rabbitTemplate) {
-        this.rabbitTemplate = rabbitTemplate;
+    public CompanySetManagerIdProducer(EventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
     }
 
-    @Value("${rabbitmq.company-exchange}")
-    private String companyExchange;
-
-    @Value("${rabbitmq.company-set-manager-id-bindingKey}")
-    private String companySetManagerIdBindingKey;
-
     /*
-     * RabbitTemplate üzerinden çağırdığımız convertAndSend() metoduna gerekli parametreleri girerek mesajımızı ilgili microservice'e gönderiyoruz.
-     * ManagerSetCompanyIdProducer kullanarak göndereceğimiz mesajı ilgili kuyruklara gönderilmesini sağlamak için companyExchange'i kullanacağız.
-     * Exchange'imize isim olarak yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan companyExchange değişkenimizi tanımlıyoruz.
-     * Kullanacağımız bindingKey içinde yukarıda yml dosyasından yolunu vererek karşılık gelen değeri alan companySetManagerIdBindingKey değişkeni veriyoruz.
-     * Model olarakta göndermek istediğimiz model olan CompanySetManagerIdModel sınıfımızı veriyoruz.
+     * Mesajımızı common-messaging kütüphanesindeki EventPublisher üzerinden gönderiyoruz.
+     * Exchange ve bindingKey bilgileri EventType.COMPANY_SET_MANAGER_ID içinde tanımlı olduğu için burada ayrıca yml dosyasından okumuyoruz.
      * Bu şekilde serilize ettiğimiz CompanySetManagerIdModel'imizi ilgili kuyruk olan companySetManagerIdQueue kuyruğumuza göndermiş oluyoruz.
      */
     public void convertAndSend(CompanySetManagerIdModel companySetManagerIdModel){
-        rabbitTemplate.convertAndSend(companyExchange,companySetManagerIdBindingKey,companySetManagerIdModel);
+        eventPublisher.publish(EventType.COMPANY_SET_MANAGER_ID,companySetManagerIdModel);
     }
+
 }
@@ -1,7 +1,9 @@
 package org.hrms.repository;
 
 import org.hrms.repository.entity.Manager;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.hrms.repository.view.UniqueFieldView;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,7 +21,7 @@ import java.util.Optional;
  * Aşağıda yazılan metotlarda JpaRepository anlayacak şekilde doğru bir biçimde metot isimlendirilirse JpaRepository metot ismine göre veritabanında arama yaparak geriye istenilen değeri dönebilir.
  */
 @Repository
-public interface IManagerRepository extends JpaRepository<Manager,Long> {
+public interface IManagerRepository extends ISoftDeleteRepository<Manager,Long> {
 
     Boolean existsByEmail(String email);  //Parametre olarak girilen emailin veritabanında olup olmadığını kontrol ediyoruz.
     Boolean existsByPhoneNumber(String phoneNumber); //Parametre olarak girilen telefon numarasının veritabanında olup olmadığını kontrol ediyoruz.
@@ -31,4 +33,29 @@ public interface IManagerRepository extends JpaRepository<Manager,Long> {
     Boolean existsByCompanyName(String companyName); //Parametre olarak girilen şirket adının veritabanında olup olmadığını kontrol ediyoruz.
     List<Manager> findManagersByCompanyName(String companyName); //Parametre olarak girilen şirket adına sahip kullanıcıların bilgilerini Manager listesi olarak dönüyor.
     Optional<Manager> findOptionalByCompanyName(String companyName); //Parametre olarak girilen şirket adına göre veritabanını kontrol edip geriye optional olarak bir Manager dönüyor.
+
+    /*
+     * Email, telefon numarası ve kimlik numarasından herhangi biri eşleşen kayıtları tek sorguda dönüyoruz.
+     * Güncelleme işleminde kaydın kendisini excludedId ile sorgudan çıkarıyoruz, böylece kullanıcının kendi değerleri çakışma olarak görülmüyor.
+     * Yeni kayıtta excludedId null olarak gönderilmelidir. null gönderilen alanlar hiçbir kayıtla eşleşmiyor.
+     */
+    @Query("select m.email as email, m.phoneNumber as phoneNumber, m.identityNumber as identityNumber from Manager m " +
+            "where (m.email = :email or m.phoneNumber = :phoneNumber or m.identityNumber = :identityNumber) " +
+            "and (:excludedId is null or m.id <> :excludedId)")
+    List<UniqueFieldView> findUniqueFieldConflicts(@Param("email") String email, @Param("phoneNumber") String phoneNumber,
+                                                   @Param("identityNumber") String identityNumber, @Param("excludedId") Long excludedId);
+
+    /*
+     * Aşağıdaki sorgular sadece aktif(ACTIVE) kayıtları dönüyor. Status değeri sabit olarak yazıldığı için sorgular db/active-indexes.sql içindeki koşullu indeksleri kullanıyor.
+     * Kayıt bulunamazsa kaydın hiç olmadığını mı yoksa aktif olmadığını mı ayırt etmek için servis katmanında exists sorgusu kullanılıyor.
+     */
+    @Query("select m from Manager m where m.authId = :authId and m.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    Optional<Manager> findActiveByAuthId(@Param("authId") Long authId);
+
+    @Query("select m from Manager m where m.companyId = :companyId and m.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    Optional<Manager> findActiveByCompanyId(@Param("companyId") String companyId);
+
+    @Query("select m from Manager m where m.companyName = :companyName and m.status = org.hrms.repository.enums.EStatus.ACTIVE")
+    List<Manager> findActiveByCompanyName(@Param("companyName") String companyName);
+
 }
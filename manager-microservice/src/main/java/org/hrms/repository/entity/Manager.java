@@ -4,7 +4,12 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Digits;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import org.hrms.repository.enums.*;
+import org.hrms.utility.PooledSequenceGenerator;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -31,19 +36,23 @@ import java.util.List;
  *
  * @Table anotasyonu JPA (Java Persistence API) entegrasyonu ile kullanılan bir Java anotasyonudur ve postgre veritabanı tablolarıyla eşleştirmek için kullanılır ve sınıfın hangi veritabanı tablosuna karşılık geldiğini belirtir.
  * name = "tbl_manager" diyerek veritabanında tbl_manager adında bir tablo oluşturur ve sınıfın verilerini o tabloya kaydeder ve bu tablodan veri çeker.
+ *
+ * @DynamicUpdate anotasyonu ile güncellemelerde sadece değişen kolonlar yazılır. Şirket bilgisi ya da authId gibi tek alanın değiştiği güncellemelerde UPDATE sorgusu küçük kalır.
  */
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Data
 @Entity
+@DynamicUpdate
 @SuperBuilder
 @Table(name = "tbl_manager")
 public class Manager extends BaseEntity {
 
-    //Bu iki anotasyonu kullanarak kullanıcıların veritabanı tarafından yönetilen otomatik artan eşsiz bir kimliğe sahip olmasını sağlıyoruz.
+    //Id değerleri tbl_manager_seq sequence'inden PooledSequenceGenerator ile blok blok alınıyor, böylece toplu kayıtlar JDBC batch ile tek seferde gönderilebiliyor.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "manager_id")
+    @GenericGenerator(name = "manager_id", type = PooledSequenceGenerator.class, parameters = @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "tbl_manager_seq"))
     private Long id;
 
     @Column(unique = true)
@@ -73,7 +82,8 @@ public class Manager extends BaseEntity {
     @Column(nullable = false, length = 40)
     private String surname;
 
-    @Column(nullable = false, length = 32)
+    //auth-microservice şifreyi bcrypt hash'i olarak gönderiyor. Hash 60 karakter olduğu için sütun Auth'taki gibi 100 karakter.
+    @Column(nullable = false, length = 100)
     private String password;
 
     @Column(nullable = false, length = 100)
@@ -11,11 +11,16 @@ import org.hrms.rabbitmq.producer.AuthDeleteProducer;
 import org.hrms.rabbitmq.producer.AuthUpdateProducer;
 import org.hrms.rabbitmq.producer.CompanySetManagerIdProducer;
 import org.hrms.repository.IManagerRepository;
+import org.hrms.repository.ISoftDeleteRepository;
 import org.hrms.repository.entity.Manager;
+import org.hrms.repository.view.UniqueFieldView;
 import org.hrms.repository.enums.EStatus;
 import org.hrms.utility.ServiceManager;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,19 +36,22 @@ import java.util.stream.Collectors;
 @Service
 public class ManagerService extends ServiceManager<Manager, Long>  {
 
+    private static final Specification<Manager> ACTIVE = ISoftDeleteRepository.active();
+
     private final IManagerRepository repository;
     private final AuthUpdateProducer authUpdateProducer;
     private final AuthDeleteProducer authDeleteProducer;
     private final CompanySetManagerIdProducer companySetManagerIdProducer;
 
-    public ManagerService(JpaRepository<Manager, Long> jpaRepository, IManagerRepository repository, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer, CompanySetManagerIdProducer companySetManagerIdProducer) {
-        super(jpaRepository);
+    public ManagerService(IManagerRepository repository, AuthUpdateProducer authUpdateProducer, AuthDeleteProducer authDeleteProducer, CompanySetManagerIdProducer companySetManagerIdProducer) {
+        super(repository);
         this.repository = repository;
         this.authUpdateProducer = authUpdateProducer;
         this.authDeleteProducer = authDeleteProducer;
         this.companySetManagerIdProducer = companySetManagerIdProducer;
     }
 
+    @Transactional
     public String softUpdate(ManagerUpdateRequestDto dto) {
 
         Optional<Manager> optionalManager = findById(dto.getId());
@@ -56,9 +64,7 @@ public class ManagerService extends ServiceManager<Manager, Long>  {
             throw new ManagerServiceException(ErrorType.USER_ALREADY_DELETED);
         }
 
-        if (repository.existsByEmail(dto.getEmail()) || repository.existsByPhoneNumber(dto.getPhoneNumber()) || repository.existsByIdentityNumber(dto.getIdentityNumber())) {
-            throw new ManagerServiceException(ErrorType.PARAMETER_ALREADY_EXISTS);
-        }
+        validateUniqueFields(dto.getEmail(), dto.getPhoneNumber(), dto.getIdentityNumber(), dto.getId());
 
         if (dto.getName() != null) {
             updatedManager.setName(dto.getName());
@@ -108,6 +114,7 @@ public class ManagerService extends ServiceManager<Manager, Long>  {
         return "Successfully updated.";
     }
 
+    @Transactional
     public String softDelete(Long id) {
 
         Optional<Manager> optionalManager = findById(id);
@@ -131,53 +138,44 @@ public class ManagerService extends ServiceManager<Manager, Long>  {
         return deletedManager.getName() + " " + deletedManager.getSurname() + " user named has been deleted";
     }
 
-    public List<FindAllManagersResponseDto> findAllManagers() {
-        return findAll().stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
-                .map(IManagerMapper.INSTANCE::managerToFindAllManagersResponseDto)
-                .collect(Collectors.toList());
+    /*
+     * Aktif kayıtlar id sırasına göre dönülüyor. after ve size gönderilmezse eskisi gibi bütün aktif kayıtlar tek listede dönüyor.
+     * Parametrelerden biri gönderilirse sayfa sayfa dönülüyor, filtre veritabanına gönderildiği için bütün tablo belleğe yüklenmiyor.
+     * after, bir önceki sayfanın son id değeridir. İlk sayfa için boş bırakılır.
+     */
+    public Slice<FindAllManagersResponseDto> findAllManagers(Long after, Integer size) {
+        return findSliceOrAll(ACTIVE, after, size)
+                .map(IManagerMapper.INSTANCE::managerToFindAllManagersResponseDto);
     }
 
     public FindManagerByIdResponseDto findManagerById(Long id) {
 
-        Optional<Manager> optionalManager = findById(id);
+        Optional<Manager> optionalManager = repository.findActiveById(id);
         if (optionalManager.isEmpty()) {
-            throw new ManagerServiceException(ErrorType.USER_NOT_FOUND);
+            throw new ManagerServiceException(repository.existsById(id) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalManager.get().getStatus() == EStatus.ACTIVE) {
-            return IManagerMapper.INSTANCE.managerToFindManagerByIdResponseDto(optionalManager.get());
-        } else {
-            throw new ManagerServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IManagerMapper.INSTANCE.managerToFindManagerByIdResponseDto(optionalManager.get());
     }
 
     public FindManagerByIdResponseDto findManagerByAuthId(Long authId) {
 
-        Optional<Manager> optionalManager = repository.findOptionalByAuthId(authId);
+        Optional<Manager> optionalManager = repository.findActiveByAuthId(authId);
         if (optionalManager.isEmpty()) {
-            throw new ManagerServiceException(ErrorType.USER_NOT_FOUND);
+            throw new ManagerServiceException(repository.existsByAuthId(authId) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalManager.get().getStatus() == EStatus.ACTIVE) {
-            return IManagerMapper.INSTANCE.managerToFindManagerByIdResponseDto(optionalManager.get());
-        } else {
-            throw new ManagerServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IManagerMapper.INSTANCE.managerToFindManagerByIdResponseDto(optionalManager.get());
     }
 
     public FindManagerByIdResponseDto findManagerByCompanyId(String companyId) {
 
-        Optional<Manager> optionalManager = repository.findOptionalByCompanyId(companyId);
+        Optional<Manager> optionalManager = repository.findActiveByCompanyId(companyId);
         if (optionalManager.isEmpty()) {
-            throw new ManagerServiceException(ErrorType.USER_NOT_FOUND);
+            throw new ManagerServiceException(repository.existsByCompanyId(companyId) ? ErrorType.ACCOUNT_NOT_ACTIVE : ErrorType.USER_NOT_FOUND);
         }
 
-        if(optionalManager.get().getStatus() == EStatus.ACTIVE) {
-            return IManagerMapper.INSTANCE.managerToFindManagerByIdResponseDto(optionalManager.get());
-        } else {
-            throw new ManagerServiceException(ErrorType.ACCOUNT_NOT_ACTIVE);
-        }
+        return IManagerMapper.INSTANCE.managerToFindManagerByIdResponseDto(optionalManager.get());
     }
 
     public List<FindAllManagersResponseDto> findManagersByCompanyName(String companyName) {
@@ -185,10 +183,9 @@ public class ManagerService extends ServiceManager<Manager, Long>  {
         if (!repository.existsByCompanyName(companyName)){
             throw new ManagerServiceException(ErrorType.COMPANY_NAME_NOT_FOUND);
         }
-        List<Manager> managersList = repository.findManagersByCompanyName(companyName);
+        List<Manager> managersList = repository.findActiveByCompanyName(companyName);
 
         return managersList.stream()
-                .filter(item -> item.getStatus() == EStatus.ACTIVE)
                 .map(IManagerMapper.INSTANCE::managerToFindAllManagersResponseDto)
                 .collect(Collectors.toList());
     }
@@ -215,6 +212,7 @@ public class ManagerService extends ServiceManager<Manager, Long>  {
         update(optionalManager.get());
     }
 
+    @Transactional
     public void setCompanyId(ManagerSetCompanyIdModel model) {
 
         Optional<Manager> optionalManager = repository.findOptionalByCompanyName(model.getCompanyName());
@@ -232,4 +230,36 @@ public class ManagerService extends ServiceManager<Manager, Long>  {
                 .build();
         companySetManagerIdProducer.convertAndSend(companySetManagerIdModel);
     }
+
+    /*
+     * Eşsiz olması gereken alanları tek bir sorguyla kontrol ediyoruz ve çakışan alanları hata ile birlikte dönüyoruz.
+     * Tek bir alan çakışıyorsa o alana ait hata tipini, birden fazla alan çakışıyorsa PARAMETER_ALREADY_EXISTS hata tipini kullanıyoruz.
+     */
+    private void validateUniqueFields(String email, String phoneNumber, String identityNumber, Long excludedId) {
+
+        List<UniqueFieldView> conflicts = repository.findUniqueFieldConflicts(email, phoneNumber, identityNumber, excludedId);
+        if (conflicts.isEmpty()) {
+            return;
+        }
+
+        List<String> fields = new ArrayList<>();
+        if (email != null && conflicts.stream().anyMatch(item -> email.equals(item.getEmail()))) {
+            fields.add("email");
+        }
+        if (phoneNumber != null && conflicts.stream().anyMatch(item -> phoneNumber.equals(item.getPhoneNumber()))) {
+            fields.add("phoneNumber");
+        }
+        if (identityNumber != null && conflicts.stream().anyMatch(item -> identityNumber.equals(item.getIdentityNumber()))) {
+            fields.add("identityNumber");
+        }
+
+        ErrorType errorType = switch (fields.size() == 1 ? fields.get(0) : "") {
+            case "email" -> ErrorType.EMAIL_ALREADY_EXISTS;
+            case "phoneNumber" -> ErrorType.PHONE_NUMBER_ALREADY_EXISTS;
+            case "identityNumber" -> ErrorType.IDENTITY_NUMBER_ALREADY_EXISTS;
+            default -> ErrorType.PARAMETER_ALREADY_EXISTS;
+        };
+        throw new ManagerServiceException(errorType, fields);
+    }
+
 }
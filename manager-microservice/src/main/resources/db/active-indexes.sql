@@ -0,0 +1,9 @@
+-- Sadece aktif(ACTIVE) kayıtları içeren koşullu(partial) indeksler.
+-- Silinmiş ve onay bekleyen kayıtlar indekse girmediği için indeksler küçük kalıyor ve ISoftDeleteRepository sorguları sadece canlı kayıtlara dokunuyor.
+-- Tablolar Hibernate(ddl-auto: update) tarafından oluşturulduktan sonra spring.sql.init ile çalıştırılıyor, IF NOT EXISTS sayesinde her açılışta tekrar çalışabiliyor.
+
+CREATE INDEX IF NOT EXISTS idx_manager_active_auth_id ON tbl_manager (auth_id) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_manager_active_company_id ON tbl_manager (company_id) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_manager_active_company_name ON tbl_manager (company_name) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_manager_active_email ON tbl_manager (email) WHERE status = 'ACTIVE';
+CREATE INDEX IF NOT EXISTS idx_manager_active_id ON tbl_manager (id) WHERE status = 'ACTIVE';
@@ -0,0 +1,3 @@
+-- Id değerleri IDENTITY yerine tbl_manager_seq sequence'inden alınıyor. Tablo önceden IDENTITY ile doldurulduysa sequence mevcut en büyük id değerinin bir fazlasından başlatılıyor.
+-- is_called değeri sequence'den henüz hiç değer alınmadığını gösteriyor, sequence bir kez kullanıldıktan sonra bu komut hiçbir şey yapmıyor.
+SELECT setval('tbl_manager_seq', (SELECT COALESCE(MAX(id), 0) + 1 FROM tbl_manager), false) FROM tbl_manager_seq WHERE NOT is_called;
@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.CompanyRegisterModel;
 import org.hrms.repository.entity.User;
@@ -14,7 +15,7 @@ public class CompanyRegisterConsumer {
 
     private final UserService userService;
 
-    @RabbitListener(queues = "${rabbitmq.company-register-queue}")
+    @RabbitListener(queues = EventQueues.COMPANY_REGISTER)
     public void createCompanyManagerFromQueue(CompanyRegisterModel model){
         User user = User.builder()
                 .authId(model.getAuthId())
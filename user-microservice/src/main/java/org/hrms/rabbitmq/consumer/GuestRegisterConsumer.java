@@ -1,5 +1,6 @@
 package org.hrms.rabbitmq.consumer;
 
+import org.hrms.messaging.EventQueues;
 import lombok.RequiredArgsConstructor;
 import org.hrms.rabbitmq.model.GuestRegisterModel;
 import org.hrms.repository.entity.User;
@@ -14,7 +15,7 @@ public class GuestRegisterConsumer {
 
     private final UserService userService;
 
-    @RabbitListener(queues = "${rabbitmq.guest-register-queue}")
+    @RabbitListener(queues = EventQueues.GUEST_REGISTER)
     public void createGuestFromQueue(GuestRegisterModel model){
         User user = User.builder()
                 .authId(model.getAuthId())
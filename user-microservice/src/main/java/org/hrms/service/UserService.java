@@ -9,6 +9,7 @@ import org.hrms.repository.IUserRepository;
 import org.hrms.repository.entity.User;
 import org.hrms.repository.enums.ERole;
 import org.hrms.utility.ServiceManager;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Service;
 
@@ -20,8 +21,8 @@ import java.util.stream.Collectors;
 public class UserService extends ServiceManager<User,String> {
 
     private final IUserRepository userRepository;
-    public UserService(MongoRepository<User, String> repository, IUserRepository userRepository) {
-        super(repository);
+    public UserService(MongoRepository<User, String> repository, MongoOperations mongoOperations, IUserRepository userRepository) {
+        super(repository, mongoOperations, User.class);
         this.userRepository = userRepository;
     }
 
@@ -3,18 +3,36 @@ package org.hrms.utility;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.hrms.repository.entity.BaseEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.support.PageableExecutionUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Getter
 public class ServiceManager<T extends BaseEntity, ID> implements IService<T, ID> {
-    public ServiceManager(MongoRepository<T, ID> repository) {
+    public ServiceManager(MongoRepository<T, ID> repository, MongoOperations mongoOperations, Class<T> entityClass) {
         this.repository = repository;
+        this.mongoOperations = mongoOperations;
+        this.entityClass = entityClass;
     }
 
+    private static final String ID_FIELD = "id";
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final MongoRepository<T, ID> repository;
+    private final MongoOperations mongoOperations;
+    private final Class<T> entityClass;
 
     @Override
     public T save(T t) {
@@ -59,4 +77,64 @@ public class ServiceManager<T extends BaseEntity, ID> implements IService<T, ID>
     public Optional<T> findById(ID id) {
         return repository.findById(id);
     }
+
+    @Override
+    public Page<T> findPage(Pageable pageable) {
+        return repository.findAll(pageable);
+    }
+
+    @Override
+    public Page<T> findPage(Query query, Pageable pageable) {
+        return findPage(query, pageable, entityClass);
+    }
+
+    //Sayfadaki kayıtlar ve toplam kayıt sayısı ayrı sorgularla alınıyor. Son sayfada ya da tek sayfalık sonuçlarda sayma sorgusu hiç çalıştırılmıyor.
+    @Override
+    public <P> Page<P> findPage(Query query, Pageable pageable, Class<P> projection) {
+        List<P> content = mongoOperations.query(entityClass).as(projection).matching(copy(query).with(pageable)).all();
+        return PageableExecutionUtils.getPage(content, pageable, () -> mongoOperations.count(copy(query), entityClass));
+    }
+
+    @Override
+    public Slice<T> findSlice(ID cursor, int size) {
+        return findSlice(null, cursor, size);
+    }
+
+    @Override
+    public Slice<T> findSlice(Query query, ID cursor, int size) {
+        return findSlice(query, cursor, size, entityClass);
+    }
+
+    //size + 1 kayıt istiyoruz, fazladan gelen kayıt varsa bir sonraki dilim de vardır(hasNext).
+    @Override
+    public <P> Slice<P> findSlice(Query query, ID cursor, int size, Class<P> projection) {
+        Query sliceQuery = copy(query).with(Sort.by(ID_FIELD)).limit(size + 1);
+        if (cursor != null) {
+            sliceQuery.addCriteria(Criteria.where(ID_FIELD).gt(cursor));
+        }
+        List<P> content = mongoOperations.query(entityClass).as(projection).matching(sliceQuery).all();
+        boolean hasNext = content.size() > size;
+        return new SliceImpl<>(hasNext ? content.subList(0, size) : content, PageRequest.ofSize(size), hasNext);
+    }
+
+    //Kayıtlar MongoDB imleci(cursor) üzerinden STREAM_BATCH_SIZE kadar parça parça okunuyor. Dönen Stream try-with-resources ile kapatılmalıdır, aksi halde imleç açık kalır.
+    @Override
+    public Stream<T> stream(Query query) {
+        return stream(query, entityClass);
+    }
+
+    @Override
+    public <P> Stream<P> stream(Query query, Class<P> projection) {
+        return mongoOperations.query(entityClass).as(projection).matching(copy(query).cursorBatchSize(STREAM_BATCH_SIZE)).stream();
+    }
+
+    @Override
+    public long count(Query query) {
+        return mongoOperations.count(copy(query), entityClass);
+    }
+
+    //Çağıranın verdiği Query nesnesini değiştirmemek için kopyası üzerinde sıralama, limit ve cursor koşulu ekliyoruz.
+    private static Query copy(Query query) {
+        return query == null ? new Query() : Query.of(query);
+    }
 }